@@ -28,6 +28,7 @@ import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.config.InvalidConfigurationException;
 import com.hazelcast.config.ListenerConfig;
 import com.hazelcast.config.NearCacheConfig;
+import com.hazelcast.config.NearCachePreloaderConfig;
 import com.hazelcast.config.SSLConfig;
 import com.hazelcast.config.SerializationConfig;
 import com.hazelcast.config.SocketInterceptorConfig;
@@ -266,6 +267,8 @@ public class XmlClientConfigBuilder extends AbstractConfigBuilder {
                 nearCacheConfig.setLocalUpdatePolicy(policy);
             } else if ("eviction".equals(nodeName)) {
                 nearCacheConfig.setEvictionConfig(getEvictionConfig(child));
+            } else if ("preloader".equals(nodeName)) {
+                nearCacheConfig.setPreloaderConfig(getNearCachePreloaderConfig(child));
             }
         }
         clientConfig.addNearCacheConfig(name, nearCacheConfig);
@@ -294,6 +297,27 @@ public class XmlClientConfigBuilder extends AbstractConfigBuilder {
         return evictionConfig;
     }
 
+    private NearCachePreloaderConfig getNearCachePreloaderConfig(Node node) {
+        NearCachePreloaderConfig preloaderConfig = new NearCachePreloaderConfig();
+        String enabled = getAttribute(node, "enabled");
+        String directory = getAttribute(node, "directory");
+        String storeInitialDelaySeconds = getAttribute(node, "store-initial-delay-seconds");
+        String storeIntervalSeconds = getAttribute(node, "store-interval-seconds");
+        if (enabled != null) {
+            preloaderConfig.setEnabled(getBooleanValue(enabled.trim()));
+        }
+        if (directory != null) {
+            preloaderConfig.setDirectory(directory);
+        }
+        if (storeInitialDelaySeconds != null) {
+            preloaderConfig.setStoreInitialDelaySeconds(Integer.parseInt(storeInitialDelaySeconds));
+        }
+        if (storeIntervalSeconds != null) {
+            preloaderConfig.setStoreIntervalSeconds(Integer.parseInt(storeIntervalSeconds));
+        }
+        return preloaderConfig;
+    }
+
     private void handleLoadBalancer(Node node) {
         String type = getAttribute(node, "type");
         if ("random".equals(type)) {
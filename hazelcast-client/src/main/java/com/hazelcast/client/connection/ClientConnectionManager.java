@@ -23,6 +23,7 @@ import com.hazelcast.nio.Connection;
 import com.hazelcast.nio.ConnectionListenable;
 
 import java.io.IOException;
+import java.util.List;
 
 /**
  * Responsible for managing {@link com.hazelcast.client.connection.nio.ClientConnection} objects.
@@ -89,5 +90,13 @@ public interface ClientConnectionManager extends ConnectionListenable {
      */
     void handleClientMessage(ClientMessage message, Connection connection);
 
+    /**
+     * Handles listener events that were read from the network in one go
+     *
+     * @param events     to be processed, in the order they were read
+     * @param connection that the events come from
+     */
+    void handleEventBatch(List<ClientMessage> events, Connection connection);
+
     void addConnectionHeartbeatListener(ConnectionHeartbeatListener connectionHeartbeatListener);
 }
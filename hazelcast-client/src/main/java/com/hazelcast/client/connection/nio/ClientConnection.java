@@ -56,6 +56,8 @@ public class ClientConnection implements Connection {
     private final ILogger logger;
 
     private final AtomicInteger pendingPacketCount = new AtomicInteger(0);
+    @Probe
+    private final AtomicInteger pendingResponseCount = new AtomicInteger(0);
     private final ClientWriteHandler writeHandler;
     private final ClientReadHandler readHandler;
     private final SocketChannelWrapper socketChannelWrapper;
@@ -121,6 +123,24 @@ public class ClientConnection implements Connection {
         return pendingPacketCount.get();
     }
 
+    public void incrementPendingResponseCount() {
+        pendingResponseCount.incrementAndGet();
+    }
+
+    public void decrementPendingResponseCount() {
+        pendingResponseCount.decrementAndGet();
+    }
+
+    /**
+     * Returns the number of requests which have been written to this connection and are waiting for a response.
+     * It is used as an approximation of the load of the member on the other side of the connection.
+     *
+     * @return the number of requests waiting for a response
+     */
+    public int getPendingResponseCount() {
+        return pendingResponseCount.get();
+    }
+
     @Override
     public boolean write(OutboundFrame frame) {
         if (!live.get()) {
@@ -56,6 +56,7 @@ import com.hazelcast.nio.tcp.nonblocking.NonBlockingIOThreadOutOfMemoryHandler;
 import com.hazelcast.security.Credentials;
 import com.hazelcast.security.UsernamePasswordCredentials;
 import com.hazelcast.spi.properties.HazelcastProperties;
+import com.hazelcast.spi.properties.HazelcastProperty;
 import com.hazelcast.spi.serialization.SerializationService;
 import com.hazelcast.util.Clock;
 import com.hazelcast.util.ExceptionUtil;
@@ -64,6 +65,7 @@ import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.nio.channels.SocketChannel;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -77,6 +79,11 @@ import static com.hazelcast.client.config.SocketOptions.DEFAULT_BUFFER_SIZE_BYTE
 import static com.hazelcast.client.config.SocketOptions.KILO_BYTE;
 import static com.hazelcast.client.spi.properties.ClientProperty.HEARTBEAT_INTERVAL;
 import static com.hazelcast.client.spi.properties.ClientProperty.HEARTBEAT_TIMEOUT;
+import static com.hazelcast.client.spi.properties.ClientProperty.IO_INPUT_THREAD_COUNT;
+import static com.hazelcast.client.spi.properties.ClientProperty.IO_OUTPUT_THREAD_COUNT;
+import static com.hazelcast.util.HashUtil.hashToIndex;
+import static com.hazelcast.util.Preconditions.checkPositive;
+import static java.lang.String.format;
 
 /**
  * Implementation of {@link ClientConnectionManager}.
@@ -101,8 +108,8 @@ public class ClientConnectionManagerImpl implements ClientConnectionManager {
     private final HazelcastClientInstanceImpl client;
     private final SocketInterceptor socketInterceptor;
     private final SocketOptions socketOptions;
-    private NonBlockingIOThread inputThread;
-    private NonBlockingIOThread outputThread;
+    private NonBlockingIOThread[] inputThreads;
+    private NonBlockingIOThread[] outputThreads;
     private final SocketChannelWrapperFactory socketChannelWrapperFactory;
 
     private final ClientExecutionServiceImpl executionService;
@@ -148,19 +155,34 @@ public class ClientConnectionManagerImpl implements ClientConnectionManager {
     }
 
     protected void initializeSelectors(HazelcastClientInstanceImpl client) {
-        inputThread = new NonBlockingIOThread(
-                client.getThreadGroup(),
-                client.getName() + ".thread-in",
-                loggingService.getLogger(NonBlockingIOThread.class),
-                outOfMemoryHandler);
-        client.getMetricsRegistry().scanAndRegister(inputThread, "tcp." + inputThread.getName());
-
-        outputThread = new ClientNonBlockingOutputThread(
-                client.getThreadGroup(),
-                client.getName() + ".thread-out",
-                loggingService.getLogger(ClientNonBlockingOutputThread.class),
-                outOfMemoryHandler);
-        client.getMetricsRegistry().scanAndRegister(outputThread, "tcp." + outputThread.getName());
+        HazelcastProperties properties = client.getProperties();
+        inputThreads = new NonBlockingIOThread[getThreadCount(properties, IO_INPUT_THREAD_COUNT)];
+        for (int i = 0; i < inputThreads.length; i++) {
+            NonBlockingIOThread inputThread = new NonBlockingIOThread(
+                    client.getThreadGroup(),
+                    client.getName() + ".thread-in-" + i,
+                    loggingService.getLogger(NonBlockingIOThread.class),
+                    outOfMemoryHandler);
+            inputThreads[i] = inputThread;
+            client.getMetricsRegistry().scanAndRegister(inputThread, "tcp." + inputThread.getName());
+        }
+
+        outputThreads = new NonBlockingIOThread[getThreadCount(properties, IO_OUTPUT_THREAD_COUNT)];
+        for (int i = 0; i < outputThreads.length; i++) {
+            NonBlockingIOThread outputThread = new ClientNonBlockingOutputThread(
+                    client.getThreadGroup(),
+                    client.getName() + ".thread-out-" + i,
+                    loggingService.getLogger(ClientNonBlockingOutputThread.class),
+                    outOfMemoryHandler);
+            outputThreads[i] = outputThread;
+            client.getMetricsRegistry().scanAndRegister(outputThread, "tcp." + outputThread.getName());
+        }
+    }
+
+    private static int getThreadCount(HazelcastProperties properties, HazelcastProperty property) {
+        int threadCount = properties.getInteger(property);
+        return checkPositive(threadCount, format("%s should be greater than zero! Current value: %d",
+                property.getName(), threadCount));
     }
 
     private SocketInterceptor initSocketInterceptor(SocketInterceptorConfig sic) {
@@ -188,8 +210,12 @@ public class ClientConnectionManagerImpl implements ClientConnectionManager {
     }
 
     protected void startSelectors() {
-        inputThread.start();
-        outputThread.start();
+        for (NonBlockingIOThread inputThread : inputThreads) {
+            inputThread.start();
+        }
+        for (NonBlockingIOThread outputThread : outputThreads) {
+            outputThread.start();
+        }
     }
 
     @Override
@@ -207,8 +233,12 @@ public class ClientConnectionManagerImpl implements ClientConnectionManager {
     }
 
     protected void shutdownSelectors() {
-        inputThread.shutdown();
-        outputThread.shutdown();
+        for (NonBlockingIOThread inputThread : inputThreads) {
+            inputThread.shutdown();
+        }
+        for (NonBlockingIOThread outputThread : outputThreads) {
+            outputThread.shutdown();
+        }
     }
 
     public ClientConnection getConnection(Address target) {
@@ -345,8 +375,12 @@ public class ClientConnectionManagerImpl implements ClientConnectionManager {
             socketChannel.socket().connect(inetSocketAddress, connectionTimeout);
             SocketChannelWrapper socketChannelWrapper =
                     socketChannelWrapperFactory.wrapSocketChannel(socketChannel, true);
+            // connections are spread round-robin over the IO threads
+            int connectionId = connectionIdGen.incrementAndGet();
+            NonBlockingIOThread inputThread = inputThreads[hashToIndex(connectionId, inputThreads.length)];
+            NonBlockingIOThread outputThread = outputThreads[hashToIndex(connectionId, outputThreads.length)];
             final ClientConnection clientConnection = new ClientConnection(client, inputThread,
-                    outputThread, connectionIdGen.incrementAndGet(), socketChannelWrapper);
+                    outputThread, connectionId, socketChannelWrapper);
             socketChannel.configureBlocking(true);
             if (socketInterceptor != null) {
                 socketInterceptor.onConnect(socket);
@@ -390,10 +424,21 @@ public class ClientConnectionManagerImpl implements ClientConnectionManager {
             ClientListenerServiceImpl listenerService = (ClientListenerServiceImpl) client.getListenerService();
             listenerService.handleClientMessage(message, connection);
         } else {
+            conn.decrementPendingResponseCount();
             invocationService.handleClientMessage(message, connection);
         }
     }
 
+    @Override
+    public void handleEventBatch(List<ClientMessage> events, Connection connection) {
+        ClientConnection conn = (ClientConnection) connection;
+        for (int i = 0; i < events.size(); i++) {
+            conn.incrementPendingPacketCount();
+        }
+        ClientListenerServiceImpl listenerService = (ClientListenerServiceImpl) client.getListenerService();
+        listenerService.handleEventBatch(events, connection);
+    }
+
     class HeartBeat implements Runnable {
 
         @Override
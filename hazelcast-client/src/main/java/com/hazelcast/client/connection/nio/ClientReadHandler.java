@@ -28,6 +28,8 @@ import com.hazelcast.util.Clock;
 import java.io.EOFException;
 import java.nio.ByteBuffer;
 import java.nio.channels.SelectionKey;
+import java.util.ArrayList;
+import java.util.List;
 
 import static com.hazelcast.internal.metrics.ProbeLevel.DEBUG;
 import static com.hazelcast.internal.util.counters.SwCounter.newSwCounter;
@@ -44,6 +46,7 @@ public class ClientReadHandler
 
     private final ByteBuffer buffer;
     private final ClientMessageBuilder builder;
+    private final List<ClientMessage> events = new ArrayList<ClientMessage>();
     @Probe(name = "messagesRead")
     private final SwCounter messagesRead = newSwCounter();
     @Probe(name = "bytesRead")
@@ -60,7 +63,12 @@ public class ClientReadHandler
         builder = new ClientMessageBuilder(new ClientMessageBuilder.MessageHandler() {
             @Override
             public void handleMessage(ClientMessage message) {
-                connectionManager.handleClientMessage(message, connection);
+                if (message.isFlagSet(ClientMessage.LISTENER_EVENT_FLAG)) {
+                    // events are dispatched together once the whole buffer has been processed
+                    events.add(message);
+                } else {
+                    connectionManager.handleClientMessage(message, connection);
+                }
             }
         });
     }
@@ -93,6 +101,10 @@ public class ClientReadHandler
         buffer.flip();
 
         messagesRead.inc(builder.onData(buffer));
+        if (!events.isEmpty()) {
+            connectionManager.handleEventBatch(events, connection);
+            events.clear();
+        }
 
         if (buffer.hasRemaining()) {
             buffer.compact();
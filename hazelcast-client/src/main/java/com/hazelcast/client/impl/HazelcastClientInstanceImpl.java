@@ -354,12 +354,14 @@ public class HazelcastClientInstanceImpl implements HazelcastInstance, Serializa
         int eventQueueCapacity = properties.getInteger(ClientProperty.EVENT_QUEUE_CAPACITY);
         int eventThreadCount = properties.getInteger(ClientProperty.EVENT_THREAD_COUNT);
         final ClientNetworkConfig networkConfig = config.getNetworkConfig();
-        if (networkConfig.isSmartRouting()) {
-            return new ClientSmartListenerService(this, eventThreadCount, eventQueueCapacity);
-
-        } else {
+        if (!networkConfig.isSmartRouting()) {
             return new ClientNonSmartListenerService(this, eventThreadCount, eventQueueCapacity);
         }
+        if (properties.getInteger(ClientProperty.MAX_CONNECTED_MEMBERS) > 0) {
+            // not connected to every member, so listeners are registered cluster wide through a single member
+            return new ClientNonSmartListenerService(this, eventThreadCount, eventQueueCapacity, true);
+        }
+        return new ClientSmartListenerService(this, eventThreadCount, eventQueueCapacity);
     }
 
     private ClientExecutionServiceImpl initExecutionService() {
@@ -23,17 +23,14 @@ import com.hazelcast.config.EvictionPolicy;
 import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.config.NearCacheConfig;
 import com.hazelcast.map.impl.nearcache.NearCacheRecord;
+import com.hazelcast.map.impl.nearcache.NearCacheRecordMap;
 import com.hazelcast.monitor.impl.NearCacheStatsImpl;
 import com.hazelcast.spi.serialization.SerializationService;
 import com.hazelcast.util.Clock;
 import com.hazelcast.util.ExceptionUtil;
 
-import java.util.Comparator;
+import java.util.Iterator;
 import java.util.Map;
-import java.util.Set;
-import java.util.TreeSet;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -67,9 +64,8 @@ public class ClientHeapNearCache<K> implements NearCache<K, Object> {
     private final ClientContext context;
     private final AtomicBoolean canCleanUp;
     private final AtomicBoolean canEvict;
-    private final ConcurrentMap<K, NearCacheRecord> cache;
+    private final NearCacheRecordMap<K> cache;
     private final NearCacheStatsImpl stats;
-    private final Comparator<NearCacheRecord> selectedComparator;
 
     private volatile long lastCleanup;
 
@@ -85,8 +81,7 @@ public class ClientHeapNearCache<K> implements NearCache<K, Object> {
         timeToLiveMillis = TimeUnit.SECONDS.toMillis(nearCacheConfig.getTimeToLiveSeconds());
         invalidateOnChange = nearCacheConfig.isInvalidateOnChange();
         evictionPolicy = EvictionPolicy.valueOf(nearCacheConfig.getEvictionPolicy());
-        selectedComparator = NearCacheRecord.getComparator(evictionPolicy);
-        cache = new ConcurrentHashMap<K, NearCacheRecord>();
+        cache = new NearCacheRecordMap<K>(evictionPolicy);
         canCleanUp = new AtomicBoolean(true);
         canEvict = new AtomicBoolean(true);
         lastCleanup = Clock.currentTimeMillis();
@@ -124,16 +119,8 @@ public class ClientHeapNearCache<K> implements NearCache<K, Object> {
                 executionService.executeInternal(new Runnable() {
                     public void run() {
                         try {
-                            Set<NearCacheRecord> records = new TreeSet<NearCacheRecord>(selectedComparator);
-                            records.addAll(cache.values());
-                            int evictSize = (int) (cache.size() * EVICTION_FACTOR);
-                            int i = 0;
-                            for (NearCacheRecord record : records) {
-                                cache.remove(record.getKey());
-                                if (++i > evictSize) {
-                                    break;
-                                }
-                            }
+                            int evictSize = (int) (cache.size() * EVICTION_FACTOR) + 1;
+                            cache.evict(evictSize, null);
                         } finally {
                             canEvict.set(true);
                         }
@@ -251,6 +238,15 @@ public class ClientHeapNearCache<K> implements NearCache<K, Object> {
         clear();
     }
 
+    /**
+     * Returns an iterator over the keys which are currently in this near cache.
+     *
+     * @return the key iterator
+     */
+    public Iterator<K> keyIterator() {
+        return cache.keySet().iterator();
+    }
+
     @Override
     public boolean isInvalidateOnChange() {
         return invalidateOnChange;
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.client.map.impl.nearcache;
+
+import com.hazelcast.config.NearCachePreloaderConfig;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.nio.serialization.Data;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static com.hazelcast.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.nio.IOUtil.closeResource;
+import static com.hazelcast.nio.IOUtil.rename;
+import static com.hazelcast.nio.IOUtil.toFileName;
+
+/**
+ * Stores the keys of a near cache to a file and loads them back in batches.
+ * <p/>
+ * The file starts with a magic number and a format version, followed by the serialized keys as
+ * length-prefixed byte arrays. A new snapshot is written to a temporary file first and renamed
+ * afterwards, so a crash during storing never leaves a partial snapshot behind.
+ */
+public class NearCachePreloader {
+
+    /**
+     * Number of keys which are handed over to the {@link KeyBatchLoader} at once.
+     */
+    public static final int LOAD_BATCH_SIZE = 100;
+
+    static final int MAGIC_BYTES = 0xE1D1C0DE;
+    static final int FILE_FORMAT_VERSION = 1;
+
+    private static final String FILE_PREFIX = "nearcache-";
+    private static final String FILE_SUFFIX = ".store";
+    private static final String TMP_SUFFIX = "~";
+
+    private final ILogger logger;
+    private final File storeFile;
+    private final File tmpStoreFile;
+
+    public NearCachePreloader(String nearCacheName, NearCachePreloaderConfig preloaderConfig, ILogger logger) {
+        this.logger = logger;
+        String fileName = FILE_PREFIX + toFileName(nearCacheName) + FILE_SUFFIX;
+        String directory = preloaderConfig.getDirectory();
+        this.storeFile = directory.isEmpty() ? new File(fileName) : new File(directory, fileName);
+        this.tmpStoreFile = new File(storeFile.getPath() + TMP_SUFFIX);
+    }
+
+    /**
+     * Writes the given keys to the key storage file, replacing the previous snapshot.
+     *
+     * @param keys the keys to store
+     * @return the number of stored keys or {@code -1} if the keys could not be stored
+     */
+    public int storeKeys(Iterator<Data> keys) {
+        File parent = storeFile.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+            logger.warning("Could not create near cache key storage directory " + parent);
+            return -1;
+        }
+        int storedKeys = 0;
+        DataOutputStream out = null;
+        try {
+            out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmpStoreFile)));
+            out.writeInt(MAGIC_BYTES);
+            out.writeInt(FILE_FORMAT_VERSION);
+            while (keys.hasNext()) {
+                byte[] bytes = keys.next().toByteArray();
+                out.writeInt(bytes.length);
+                out.write(bytes);
+                storedKeys++;
+            }
+            out.close();
+            out = null;
+            rename(tmpStoreFile, storeFile);
+            return storedKeys;
+        } catch (Exception e) {
+            logger.warning("Could not store keys of near cache to " + storeFile, e);
+            closeResource(out);
+            out = null;
+            if (tmpStoreFile.exists() && !tmpStoreFile.delete()) {
+                logger.finest("Could not delete temporary near cache key storage file " + tmpStoreFile);
+            }
+            return -1;
+        } finally {
+            closeResource(out);
+        }
+    }
+
+    /**
+     * Reads the keys from the key storage file and passes them in batches of {@link #LOAD_BATCH_SIZE}
+     * to the given loader. Does nothing if there is no key storage file.
+     *
+     * @param loader the loader which fetches the values of the keys
+     * @return the number of loaded keys or {@code -1} if the keys could not be loaded
+     */
+    public int loadKeys(KeyBatchLoader loader) {
+        if (!storeFile.isFile()) {
+            return 0;
+        }
+        int loadedKeys = 0;
+        DataInputStream in = null;
+        try {
+            in = new DataInputStream(new BufferedInputStream(new FileInputStream(storeFile)));
+            if (in.readInt() != MAGIC_BYTES || in.readInt() != FILE_FORMAT_VERSION) {
+                logger.warning("Ignoring near cache key storage file with unknown format " + storeFile);
+                return -1;
+            }
+            long remainingBytes = storeFile.length() - 2 * INT_SIZE_IN_BYTES;
+            List<Data> batch = new ArrayList<Data>(LOAD_BATCH_SIZE);
+            Data key;
+            while ((key = readKey(in, remainingBytes)) != null) {
+                remainingBytes -= INT_SIZE_IN_BYTES + key.totalSize();
+                batch.add(key);
+                loadedKeys++;
+                if (batch.size() == LOAD_BATCH_SIZE) {
+                    loader.load(batch);
+                    batch = new ArrayList<Data>(LOAD_BATCH_SIZE);
+                }
+            }
+            if (!batch.isEmpty()) {
+                loader.load(batch);
+            }
+            return loadedKeys;
+        } catch (Exception e) {
+            logger.warning("Could not load keys of near cache from " + storeFile, e);
+            return -1;
+        } finally {
+            closeResource(in);
+        }
+    }
+
+    private static Data readKey(DataInputStream in, long remainingBytes) throws IOException {
+        int length;
+        try {
+            length = in.readInt();
+        } catch (EOFException e) {
+            return null;
+        }
+        // a corrupted length must not make us allocate more than the file can hold
+        if (length < 0 || length > remainingBytes - INT_SIZE_IN_BYTES) {
+            throw new IOException("Invalid key length " + length + ", only " + (remainingBytes - INT_SIZE_IN_BYTES)
+                    + " bytes left in the file");
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new HeapData(bytes);
+    }
+
+    File getStoreFile() {
+        return storeFile;
+    }
+
+    /**
+     * Fetches the values of a batch of preloaded keys.
+     */
+    public interface KeyBatchLoader {
+
+        /**
+         * Loads the values of the given keys into the near cache.
+         *
+         * @param keys the serialized keys
+         */
+        void load(List<Data> keys);
+    }
+}
@@ -50,6 +50,8 @@ import com.hazelcast.core.ReplicatedMap;
 import com.hazelcast.internal.util.ThreadLocalRandom;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.map.impl.DataAwareEntryEvent;
+import com.hazelcast.map.impl.nearcache.KeyStateMarker;
+import com.hazelcast.map.impl.nearcache.StaleReadPreventerNearCacheWrapper;
 import com.hazelcast.monitor.LocalReplicatedMapStats;
 import com.hazelcast.nio.serialization.Data;
 import com.hazelcast.query.Predicate;
@@ -69,6 +71,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.hazelcast.cache.impl.nearcache.NearCache.NULL_OBJECT;
+import static com.hazelcast.map.impl.nearcache.StaleReadPreventerNearCacheWrapper.wrapAsStaleReadPreventerNearCache;
 import static com.hazelcast.util.Preconditions.checkNotNull;
 
 /**
@@ -83,6 +86,7 @@ public class ClientReplicatedMapProxy<K, V> extends ClientProxy implements Repli
     protected static final String NULL_VALUE_IS_NOT_ALLOWED = "Null value is not allowed!";
 
     private volatile NearCache nearCache;
+    private volatile KeyStateMarker keyStateMarker;
     private volatile String invalidationListenerId;
     private final AtomicBoolean nearCacheInitialized = new AtomicBoolean();
 
@@ -115,6 +119,7 @@ public class ClientReplicatedMapProxy<K, V> extends ClientProxy implements Repli
         Data keyData = toData(key);
         ClientMessage request = ReplicatedMapPutCodec.encodeRequest(name, keyData, valueData, timeUnit.toMillis(ttl));
         ClientMessage response = invoke(request, keyData);
+        invalidateNearCache(key);
         ReplicatedMapPutCodec.ResponseParameters result = ReplicatedMapPutCodec.decodeResponse(response);
         return toObject(result.response);
     }
@@ -138,6 +143,14 @@ public class ClientReplicatedMapProxy<K, V> extends ClientProxy implements Repli
     @Override
     public boolean containsKey(Object key) {
         checkNotNull(key, NULL_KEY_IS_NOT_ALLOWED);
+        initNearCache();
+        if (nearCache != null) {
+            Object cached = nearCache.get(key);
+            if (cached != null) {
+                return !cached.equals(NULL_OBJECT);
+            }
+        }
+
         Data keyData = toData(key);
         ClientMessage request = ReplicatedMapContainsKeyCodec.encodeRequest(name, keyData);
         ClientMessage response = invoke(request, keyData);
@@ -169,6 +182,8 @@ public class ClientReplicatedMapProxy<K, V> extends ClientProxy implements Repli
             }
         }
 
+        boolean marked = nearCache != null && keyStateMarker.tryMark(key);
+
         Data keyData = toData(key);
         ClientMessage request = ReplicatedMapGetCodec.encodeRequest(name, keyData);
         ClientMessage response = invoke(request, keyData);
@@ -176,8 +191,8 @@ public class ClientReplicatedMapProxy<K, V> extends ClientProxy implements Repli
         ReplicatedMapGetCodec.ResponseParameters result = ReplicatedMapGetCodec.decodeResponse(response);
 
         V value = (V) toObject(result.response);
-        if (nearCache != null) {
-            nearCache.put(key, value);
+        if (marked) {
+            tryToPutNearCache(key, value);
         }
         return value;
     }
@@ -193,6 +208,7 @@ public class ClientReplicatedMapProxy<K, V> extends ClientProxy implements Repli
         Data keyData = toData(key);
         ClientMessage request = ReplicatedMapRemoveCodec.encodeRequest(name, keyData);
         ClientMessage response = invoke(request, keyData);
+        invalidateNearCache(key);
         ReplicatedMapRemoveCodec.ResponseParameters result = ReplicatedMapRemoveCodec.decodeResponse(response);
         return toObject(result.response);
     }
@@ -207,12 +223,18 @@ public class ClientReplicatedMapProxy<K, V> extends ClientProxy implements Repli
 
         ClientMessage request = ReplicatedMapPutAllCodec.encodeRequest(name, dataEntries);
         invoke(request);
+        for (K key : m.keySet()) {
+            invalidateNearCache(key);
+        }
     }
 
     @Override
     public void clear() {
         ClientMessage request = ReplicatedMapClearCodec.encodeRequest(name);
         invoke(request);
+        if (nearCache != null) {
+            nearCache.clear();
+        }
     }
 
     @Override
@@ -404,8 +426,11 @@ public class ClientReplicatedMapProxy<K, V> extends ClientProxy implements Repli
             if (nearCacheConfig == null) {
                 return;
             }
-            ClientHeapNearCache<Object> nearCache = new ClientHeapNearCache<Object>(name,
+            ClientHeapNearCache<Object> clientHeapNearCache = new ClientHeapNearCache<Object>(name,
                     getContext(), nearCacheConfig);
+            int partitionCount = getContext().getPartitionService().getPartitionCount();
+            NearCache nearCache = wrapAsStaleReadPreventerNearCache(clientHeapNearCache, partitionCount);
+            keyStateMarker = ((StaleReadPreventerNearCacheWrapper) nearCache).getKeyStateMarker();
             this.nearCache = nearCache;
             if (nearCache.isInvalidateOnChange()) {
                 addNearCacheInvalidateListener();
@@ -413,6 +438,23 @@ public class ClientReplicatedMapProxy<K, V> extends ClientProxy implements Repli
         }
     }
 
+    private void tryToPutNearCache(Object key, Object value) {
+        try {
+            nearCache.put(key, value);
+        } finally {
+            if (!keyStateMarker.tryUnmark(key)) {
+                invalidateNearCache(key);
+                keyStateMarker.forceUnmark(key);
+            }
+        }
+    }
+
+    private void invalidateNearCache(Object key) {
+        if (nearCache != null) {
+            nearCache.remove(key);
+        }
+    }
+
     private void addNearCacheInvalidateListener() {
         try {
             EventHandler handler = new ReplicatedMapAddNearCacheEventHandler();
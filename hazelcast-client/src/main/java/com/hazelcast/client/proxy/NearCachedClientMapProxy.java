@@ -23,11 +23,15 @@ import com.hazelcast.client.impl.protocol.codec.MapGetAllCodec;
 import com.hazelcast.client.impl.protocol.codec.MapRemoveCodec;
 import com.hazelcast.client.impl.protocol.codec.MapRemoveEntryListenerCodec;
 import com.hazelcast.client.map.impl.nearcache.ClientHeapNearCache;
+import com.hazelcast.client.map.impl.nearcache.NearCachePreloader;
 import com.hazelcast.client.spi.ClientContext;
+import com.hazelcast.client.spi.ClientExecutionService;
+import com.hazelcast.client.spi.ClientPartitionService;
 import com.hazelcast.client.spi.EventHandler;
 import com.hazelcast.client.spi.impl.ListenerMessageCodec;
 import com.hazelcast.client.util.ClientDelegatingFuture;
 import com.hazelcast.config.NearCacheConfig;
+import com.hazelcast.config.NearCachePreloaderConfig;
 import com.hazelcast.core.ExecutionCallback;
 import com.hazelcast.core.ICompletableFuture;
 import com.hazelcast.logging.ILogger;
@@ -42,11 +46,13 @@ import com.hazelcast.util.CollectionUtil;
 import com.hazelcast.util.MapUtil;
 import com.hazelcast.util.executor.CompletedFuture;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import static com.hazelcast.cache.impl.nearcache.NearCache.NULL_OBJECT;
@@ -69,6 +75,10 @@ public class NearCachedClientMapProxy<K, V> extends ClientMapProxy<K, V> {
     protected volatile String invalidationListenerId;
     private boolean invalidateOnChange;
 
+    private ClientHeapNearCache<Data> clientHeapNearCache;
+    private NearCachePreloader preloader;
+    private volatile boolean preloadDone;
+    private volatile ScheduledFuture<?> storeKeysFuture;
 
     public NearCachedClientMapProxy(String serviceName, String name) {
         super(serviceName, name);
@@ -86,7 +96,7 @@ public class NearCachedClientMapProxy<K, V> extends ClientMapProxy<K, V> {
         NearCacheConfig nearCacheConfig = context.getClientConfig().getNearCacheConfig(name);
 
         int partitionCount = context.getPartitionService().getPartitionCount();
-        ClientHeapNearCache<Data> clientHeapNearCache = new ClientHeapNearCache<Data>(name, getContext(), nearCacheConfig);
+        clientHeapNearCache = new ClientHeapNearCache<Data>(name, getContext(), nearCacheConfig);
         nearCache = wrapAsStaleReadPreventerNearCache(clientHeapNearCache, partitionCount);
         keyStateMarker = getKeyStateMarker();
 
@@ -94,6 +104,68 @@ public class NearCachedClientMapProxy<K, V> extends ClientMapProxy<K, V> {
         if (invalidateOnChange) {
             addNearCacheInvalidateListener();
         }
+
+        NearCachePreloaderConfig preloaderConfig = nearCacheConfig.getPreloaderConfig();
+        if (preloaderConfig.isEnabled()) {
+            initPreloader(preloaderConfig);
+        }
+    }
+
+    private void initPreloader(NearCachePreloaderConfig preloaderConfig) {
+        ClientExecutionService executionService = getContext().getExecutionService();
+        ILogger logger = getContext().getLoggingService().getLogger(NearCachePreloader.class);
+        preloader = new NearCachePreloader(name, preloaderConfig, logger);
+
+        executionService.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    preloadNearCache();
+                } finally {
+                    preloadDone = true;
+                }
+            }
+        });
+        storeKeysFuture = executionService.scheduleWithRepetition(new Runnable() {
+            @Override
+            public void run() {
+                // a partially pre-loaded near cache would overwrite the complete snapshot
+                if (preloadDone) {
+                    preloader.storeKeys(clientHeapNearCache.keyIterator());
+                }
+            }
+        }, preloaderConfig.getStoreInitialDelaySeconds(), preloaderConfig.getStoreIntervalSeconds(), TimeUnit.SECONDS);
+    }
+
+    /**
+     * Fetches the stored keys batch by batch. Every batch is grouped by partition and waits for its
+     * responses before the next one is sent, so pre-loading does not flood the cluster after a restart.
+     */
+    private void preloadNearCache() {
+        final ClientPartitionService partitionService = getContext().getPartitionService();
+        preloader.loadKeys(new NearCachePreloader.KeyBatchLoader() {
+            @Override
+            public void load(List<Data> keys) {
+                Map<Integer, List<Data>> partitionToKeyData = new HashMap<Integer, List<Data>>();
+                for (Data key : keys) {
+                    int partitionId = partitionService.getPartitionId(key);
+                    List<Data> keyList = partitionToKeyData.get(partitionId);
+                    if (keyList == null) {
+                        keyList = new ArrayList<Data>();
+                        partitionToKeyData.put(partitionId, keyList);
+                    }
+                    keyList.add(key);
+                }
+                getAllInternal(partitionToKeyData, new HashMap<K, V>());
+            }
+        });
+    }
+
+    private void cancelStoreKeys() {
+        ScheduledFuture<?> future = storeKeysFuture;
+        if (future != null) {
+            future.cancel(false);
+        }
     }
 
     @Override
@@ -386,6 +458,7 @@ public class NearCachedClientMapProxy<K, V> extends ClientMapProxy<K, V> {
 
     @Override
     protected void onDestroy() {
+        cancelStoreKeys();
         removeNearCacheInvalidationListener();
         nearCache.destroy();
 
@@ -394,6 +467,7 @@ public class NearCachedClientMapProxy<K, V> extends ClientMapProxy<K, V> {
 
     @Override
     protected void onShutdown() {
+        cancelStoreKeys();
         removeNearCacheInvalidationListener();
         nearCache.destroy();
 
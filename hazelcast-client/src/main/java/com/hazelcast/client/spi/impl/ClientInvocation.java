@@ -22,6 +22,7 @@ import com.hazelcast.client.impl.HazelcastClientInstanceImpl;
 import com.hazelcast.client.impl.protocol.ClientMessage;
 import com.hazelcast.client.spi.ClientExecutionService;
 import com.hazelcast.client.spi.ClientInvocationService;
+import com.hazelcast.client.spi.ClientPartitionService;
 import com.hazelcast.client.spi.EventHandler;
 import com.hazelcast.core.HazelcastInstanceNotActiveException;
 import com.hazelcast.core.HazelcastOverloadException;
@@ -29,7 +30,10 @@ import com.hazelcast.core.LifecycleService;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.nio.Address;
 import com.hazelcast.nio.Connection;
+import com.hazelcast.spi.exception.PartitionMigratingException;
 import com.hazelcast.spi.exception.RetryableHazelcastException;
+import com.hazelcast.spi.exception.TargetNotMemberException;
+import com.hazelcast.spi.exception.WrongTargetException;
 import com.hazelcast.spi.properties.HazelcastProperties;
 
 import java.io.IOException;
@@ -55,6 +59,7 @@ public class ClientInvocation implements Runnable {
     private final LifecycleService lifecycleService;
     private final ClientInvocationService invocationService;
     private final ClientExecutionService executionService;
+    private final ClientPartitionService partitionService;
     private final ClientMessage clientMessage;
 
     private final Address address;
@@ -73,6 +78,7 @@ public class ClientInvocation implements Runnable {
         this.lifecycleService = client.getLifecycleService();
         this.invocationService = client.getInvocationService();
         this.executionService = client.getClientExecutionService();
+        this.partitionService = client.getClientPartitionService();
         this.clientMessage = clientMessage;
         this.partitionId = partitionId;
         this.address = address;
@@ -177,6 +183,9 @@ public class ClientInvocation implements Runnable {
             }
         }
         if (exception instanceof RetryableHazelcastException) {
+            if (partitionId != UNASSIGNED_PARTITION && isPartitionRoutingException(exception)) {
+                ((ClientPartitionServiceImpl) partitionService).onInvocationRejected(partitionId);
+            }
             if (clientMessage.isRetryable() || invocationService.isRedoOperation()) {
                 if (handleRetry()) {
                     return;
@@ -254,6 +263,12 @@ public class ClientInvocation implements Runnable {
         return sendConnection;
     }
 
+    private static boolean isPartitionRoutingException(Throwable t) {
+        return t instanceof WrongTargetException
+                || t instanceof PartitionMigratingException
+                || t instanceof TargetNotMemberException;
+    }
+
     public static boolean isRetryable(Throwable t) {
         return t instanceof IOException || t instanceof HazelcastInstanceNotActiveException;
     }
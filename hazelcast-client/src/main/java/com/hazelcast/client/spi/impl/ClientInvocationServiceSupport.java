@@ -47,9 +47,13 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 
 import static com.hazelcast.client.spi.properties.ClientProperty.MAX_CONCURRENT_INVOCATIONS;
+import static com.hazelcast.client.spi.properties.ClientProperty.RESPONSE_THREAD_COUNT;
 import static com.hazelcast.instance.OutOfMemoryErrorDispatcher.onOutOfMemory;
 import static com.hazelcast.spi.exception.TargetDisconnectedException.newTargetDisconnectedExceptionCausedByHeartBeat;
 import static com.hazelcast.spi.impl.operationservice.impl.AsyncResponseHandler.getIdleStrategy;
+import static com.hazelcast.util.HashUtil.hashToIndex;
+import static com.hazelcast.util.Preconditions.checkPositive;
+import static java.lang.String.format;
 
 
 abstract class ClientInvocationServiceSupport implements ClientInvocationService {
@@ -63,7 +67,8 @@ abstract class ClientInvocationServiceSupport implements ClientInvocationService
     protected ClientExecutionService executionService;
     protected ClientListenerServiceImpl clientListenerService;
     protected final ILogger invocationLogger;
-    private ResponseThread responseThread;
+    private final int responseThreadCount;
+    private ResponseThread[] responseThreads;
 
     @Probe(name = "pendingCalls", level = ProbeLevel.MANDATORY)
     private ConcurrentMap<Long, ClientInvocation> callIdMap
@@ -78,6 +83,9 @@ abstract class ClientInvocationServiceSupport implements ClientInvocationService
         int maxAllowedConcurrentInvocations = client.getProperties().getInteger(MAX_CONCURRENT_INVOCATIONS);
         callIdSequence = new CallIdSequence.CallIdSequenceFailFast(maxAllowedConcurrentInvocations);
         invocationLogger = client.getLoggingService().getLogger(ClientInvocationService.class);
+        int threadCount = client.getProperties().getInteger(RESPONSE_THREAD_COUNT);
+        responseThreadCount = checkPositive(threadCount, format("%s should be greater than zero! Current value: %d",
+                RESPONSE_THREAD_COUNT.getName(), threadCount));
 
         client.getMetricsRegistry().scanAndRegister(this, "invocations");
     }
@@ -89,9 +97,13 @@ abstract class ClientInvocationServiceSupport implements ClientInvocationService
         clientListenerService = (ClientListenerServiceImpl) client.getListenerService();
         partitionService = client.getClientPartitionService();
         clientExceptionFactory = initClientExceptionFactory();
-        responseThread = new ResponseThread(client.getThreadGroup(), client.getName() + ".response-",
-                client.getClientConfig().getClassLoader());
-        responseThread.start();
+        responseThreads = new ResponseThread[responseThreadCount];
+        for (int i = 0; i < responseThreads.length; i++) {
+            ResponseThread responseThread = new ResponseThread(client.getThreadGroup(), client.getName() + ".response-" + i,
+                    client.getClientConfig().getClassLoader());
+            responseThreads[i] = responseThread;
+            responseThread.start();
+        }
         executionService.scheduleWithRepetition(new CleanResourcesTask(), 1, 1, TimeUnit.SECONDS);
     }
 
@@ -131,7 +143,12 @@ abstract class ClientInvocationServiceSupport implements ClientInvocationService
 
     private boolean writeToConnection(ClientConnection connection, ClientMessage clientMessage) {
         clientMessage.addFlag(ClientMessage.BEGIN_AND_END_FLAGS);
-        return connection.write(clientMessage);
+        connection.incrementPendingResponseCount();
+        if (!connection.write(clientMessage)) {
+            connection.decrementPendingResponseCount();
+            return false;
+        }
+        return true;
     }
 
     private boolean isAllowedToSendRequest(ClientConnection connection, ClientInvocation invocation) {
@@ -177,7 +194,9 @@ abstract class ClientInvocationServiceSupport implements ClientInvocationService
 
     public void shutdown() {
         isShutdown = true;
-        responseThread.interrupt();
+        for (ResponseThread responseThread : responseThreads) {
+            responseThread.interrupt();
+        }
         Iterator<ClientInvocation> iterator = callIdMap.values().iterator();
         while (iterator.hasNext()) {
             ClientInvocation invocation = iterator.next();
@@ -241,35 +260,20 @@ abstract class ClientInvocationServiceSupport implements ClientInvocationService
 
     @Override
     public void handleClientMessage(ClientMessage message, Connection connection) {
-        responseThread.responseQueue.add(new ClientPacket((ClientConnection) connection, message));
-    }
-
-    private static class ClientPacket {
-        private final ClientConnection clientConnection;
-        private final ClientMessage clientMessage;
-
-        public ClientPacket(ClientConnection clientConnection, ClientMessage clientMessage) {
-            this.clientConnection = clientConnection;
-            this.clientMessage = clientMessage;
-        }
-
-        public ClientConnection getClientConnection() {
-            return clientConnection;
-        }
-
-        public ClientMessage getClientMessage() {
-            return clientMessage;
-        }
+        // responses are striped over the response threads so futures can be completed in parallel
+        int index = hashToIndex((int) message.getCorrelationId(), responseThreads.length);
+        message.setConnection(connection);
+        responseThreads[index].responseQueue.add(message);
     }
 
     private class ResponseThread extends Thread {
-        private final BlockingQueue<ClientPacket> responseQueue;
+        private final BlockingQueue<ClientMessage> responseQueue;
 
         ResponseThread(ThreadGroup threadGroup, String name, ClassLoader classLoader) {
             super(threadGroup, name);
             setContextClassLoader(classLoader);
 
-            this.responseQueue = new MPSCQueue<ClientPacket>(this, getIdleStrategy(client.getProperties(), IDLE_STRATEGY));
+            this.responseQueue = new MPSCQueue<ClientMessage>(this, getIdleStrategy(client.getProperties(), IDLE_STRATEGY));
         }
 
         @Override
@@ -285,9 +289,9 @@ abstract class ClientInvocationServiceSupport implements ClientInvocationService
 
         private void doRun() {
             while (true) {
-                ClientPacket task;
+                ClientMessage message;
                 try {
-                    task = responseQueue.take();
+                    message = responseQueue.take();
                 } catch (InterruptedException e) {
                     if (isShutdown) {
                         return;
@@ -298,16 +302,19 @@ abstract class ClientInvocationServiceSupport implements ClientInvocationService
                 if (isShutdown) {
                     return;
                 }
-                process(task);
+                process(message);
             }
         }
 
-        private void process(ClientPacket packet) {
-            final ClientConnection conn = packet.getClientConnection();
+        private void process(ClientMessage message) {
+            final ClientConnection conn = (ClientConnection) message.getConnection();
+            // the message is handed to the invocation as its response,
+            // so it must not keep the connection reachable once it has been dispatched
+            message.setConnection(null);
             try {
-                handleClientMessage(packet.getClientMessage());
+                handleClientMessage(message);
             } catch (Exception e) {
-                invocationLogger.severe("Failed to process task: " + packet + " on responseThread :" + getName(), e);
+                invocationLogger.severe("Failed to process message: " + message + " on responseThread :" + getName(), e);
             } finally {
                 conn.decrementPendingPacketCount();
             }
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.client.spi.impl;
+
+import com.hazelcast.client.spi.ClientClusterService;
+import com.hazelcast.core.Member;
+import com.hazelcast.nio.Address;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static com.hazelcast.util.HashUtil.MurmurHash3_fmix;
+
+/**
+ * Selects the members a smart client keeps connections to when the number of connected members is limited,
+ * see {@link com.hazelcast.client.spi.properties.ClientProperty#MAX_CONNECTED_MEMBERS}.
+ * <p/>
+ * The members are ranked by rendezvous hashing of a per-client seed and the member uuid. Every client ends up
+ * with a different selection, and a membership change only affects the clients that had the changed member
+ * selected. The selection is recomputed lazily whenever the member list of the cluster service has changed.
+ */
+final class ClientMemberSubset {
+
+    private final ClientClusterService clusterService;
+    private final int size;
+    private final int seed = new Random().nextInt();
+    private volatile Selection selection = new Selection(null, Collections.<Address>emptyList());
+
+    ClientMemberSubset(ClientClusterService clusterService, int size) {
+        this.clusterService = clusterService;
+        this.size = size;
+    }
+
+    /**
+     * @return the addresses of the selected members, in rank order
+     */
+    List<Address> getAddresses() {
+        Collection<Member> members = clusterService.getMemberList();
+        Selection current = selection;
+        if (current.members != members) {
+            current = new Selection(members, select(members));
+            selection = current;
+        }
+        return current.addresses;
+    }
+
+    private List<Address> select(Collection<Member> members) {
+        List<Member> ranked = new ArrayList<Member>(members);
+        Collections.sort(ranked, new Comparator<Member>() {
+            @Override
+            public int compare(Member m1, Member m2) {
+                int w1 = weight(m1);
+                int w2 = weight(m2);
+                return w1 > w2 ? -1 : (w1 == w2 ? 0 : 1);
+            }
+        });
+        int count = Math.min(size, ranked.size());
+        List<Address> addresses = new ArrayList<Address>(count);
+        for (int i = 0; i < count; i++) {
+            addresses.add(ranked.get(i).getAddress());
+        }
+        return Collections.unmodifiableList(addresses);
+    }
+
+    private int weight(Member member) {
+        return MurmurHash3_fmix(seed ^ member.getUuid().hashCode());
+    }
+
+    private static final class Selection {
+        final Collection<Member> members;
+        final List<Address> addresses;
+
+        Selection(Collection<Member> members, List<Address> addresses) {
+            this.members = members;
+            this.addresses = addresses;
+        }
+    }
+}
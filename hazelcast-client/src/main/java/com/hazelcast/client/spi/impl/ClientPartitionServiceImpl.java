@@ -33,9 +33,9 @@ import com.hazelcast.partition.NoDataMemberInClusterException;
 import com.hazelcast.util.EmptyStatement;
 import com.hazelcast.util.HashUtil;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.RejectedExecutionException;
@@ -56,7 +56,7 @@ public final class ClientPartitionServiceImpl
 
     private final HazelcastClientInstanceImpl client;
 
-    private final ConcurrentHashMap<Integer, Address> partitions = new ConcurrentHashMap<Integer, Address>(271, 0.75f, 1);
+    private volatile PartitionTable partitionTable = new PartitionTable(0, new Address[0]);
 
     private final AtomicBoolean updating = new AtomicBoolean(false);
 
@@ -147,27 +147,75 @@ public final class ClientPartitionServiceImpl
     private boolean processPartitionResponse(ClientGetPartitionsCodec.ResponseParameters response) {
         logger.finest("Processing partition response.");
         List<Map.Entry<Address, List<Integer>>> partitions = response.partitions;
+        int count = 0;
+        for (Map.Entry<Address, List<Integer>> entry : partitions) {
+            for (int partitionId : entry.getValue()) {
+                count = Math.max(count, partitionId + 1);
+            }
+        }
+        if (count == 0) {
+            return false;
+        }
+
+        Address[] owners = new Address[count];
         for (Map.Entry<Address, List<Integer>> entry : partitions) {
             Address address = entry.getKey();
-            for (Integer partition : entry.getValue()) {
-                this.partitions.put(partition, address);
+            for (int partitionId : entry.getValue()) {
+                owners[partitionId] = address;
             }
         }
-        partitionCount = this.partitions.size();
-        return partitions.size() > 0;
+        updatePartitionTable(owners);
+        return true;
+    }
+
+    private synchronized void updatePartitionTable(Address[] owners) {
+        PartitionTable current = partitionTable;
+        if (Arrays.equals(current.owners, owners)) {
+            return;
+        }
+        partitionTable = new PartitionTable(current.version + 1, owners);
+        partitionCount = owners.length;
+        if (logger.isFinestEnabled()) {
+            logger.finest("Applied partition table version " + (current.version + 1));
+        }
+    }
+
+    /**
+     * Refreshes the partition table after an invocation has been rejected by the member it was routed to,
+     * e.g. because the partition has been migrated. This corrects the routing right after a migration
+     * instead of waiting for the next periodic refresh.
+     *
+     * @param partitionId the partition of the rejected invocation
+     */
+    public void onInvocationRejected(int partitionId) {
+        if (logger.isFinestEnabled()) {
+            logger.finest("Invocation on partition " + partitionId + " was rejected, refreshing partition table");
+        }
+        refreshPartitions();
+    }
+
+    /**
+     * Returns the version of the partition table. The version is incremented every time the owner
+     * of at least one partition has changed.
+     *
+     * @return the partition table version
+     */
+    public int getPartitionTableVersion() {
+        return partitionTable.version;
     }
 
-    public void stop() {
-        partitions.clear();
+    public synchronized void stop() {
+        partitionTable = new PartitionTable(partitionTable.version, new Address[0]);
     }
 
     @Override
     public Address getPartitionOwner(int partitionId) {
-        Address address = partitions.get(partitionId);
+        Address address = partitionTable.getOwner(partitionId);
         if (address == null) {
             getPartitionsBlocking();
+            address = partitionTable.getOwner(partitionId);
         }
-        return partitions.get(partitionId);
+        return address;
     }
 
     @Override
@@ -226,6 +274,24 @@ public final class ClientPartitionServiceImpl
         }
     }
 
+    /**
+     * Immutable snapshot of the partition owners, indexed by partition id.
+     */
+    private static final class PartitionTable {
+
+        private final int version;
+        private final Address[] owners;
+
+        private PartitionTable(int version, Address[] owners) {
+            this.version = version;
+            this.owners = owners;
+        }
+
+        private Address getOwner(int partitionId) {
+            return partitionId >= 0 && partitionId < owners.length ? owners[partitionId] : null;
+        }
+    }
+
     private class RefreshTask implements Runnable {
         private ExecutorService executionService;
 
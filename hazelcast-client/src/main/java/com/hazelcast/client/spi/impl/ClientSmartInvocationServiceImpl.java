@@ -26,14 +26,25 @@ import com.hazelcast.nio.Address;
 import com.hazelcast.nio.Connection;
 
 import java.io.IOException;
+import java.util.List;
+
+import static com.hazelcast.client.spi.properties.ClientProperty.LOAD_AWARE_ROUTING_ENABLED;
+import static com.hazelcast.client.spi.properties.ClientProperty.MAX_CONNECTED_MEMBERS;
+import static com.hazelcast.util.HashUtil.hashToIndex;
 
 public final class ClientSmartInvocationServiceImpl extends ClientInvocationServiceSupport {
 
     private final LoadBalancer loadBalancer;
+    private final boolean loadAwareRouting;
+    private final ClientMemberSubset memberSubset;
 
     public ClientSmartInvocationServiceImpl(HazelcastClientInstanceImpl client, LoadBalancer loadBalancer) {
         super(client);
         this.loadBalancer = loadBalancer;
+        this.loadAwareRouting = client.getProperties().getBoolean(LOAD_AWARE_ROUTING_ENABLED);
+        int maxConnectedMembers = client.getProperties().getInteger(MAX_CONNECTED_MEMBERS);
+        this.memberSubset = maxConnectedMembers > 0
+                ? new ClientMemberSubset(client.getClientClusterService(), maxConnectedMembers) : null;
     }
 
     public void invokeOnPartitionOwner(ClientInvocation invocation, int partitionId) throws IOException {
@@ -42,7 +53,7 @@ public final class ClientSmartInvocationServiceImpl extends ClientInvocationServ
             throw new IOException("Partition does not have owner. partitionId : " + partitionId);
         }
         invocation.getClientMessage().setPartitionId(partitionId);
-        Connection connection = getConnection(owner);
+        Connection connection = getConnection(routeToConnectedMember(owner, partitionId));
         send(invocation, (ClientConnection) connection);
     }
 
@@ -52,8 +63,46 @@ public final class ClientSmartInvocationServiceImpl extends ClientInvocationServ
         if (randomAddress == null) {
             throw new IOException("Not address found to invoke ");
         }
-        final Connection connection = getConnection(randomAddress);
-        send(invocation, (ClientConnection) connection);
+        Address target = routeToConnectedMember(randomAddress, randomAddress.hashCode());
+        ClientConnection connection = (ClientConnection) getConnection(target);
+        if (loadAwareRouting) {
+            connection = selectLessLoaded(connection);
+        }
+        send(invocation, connection);
+    }
+
+    /**
+     * Picks a second member with the load balancer and returns the connection with fewer requests waiting for a
+     * response. Only already established connections are considered for the second choice, so routing never
+     * waits for a new connection to be set up.
+     */
+    private ClientConnection selectLessLoaded(ClientConnection connection) {
+        Address otherAddress = getRandomAddress();
+        if (otherAddress == null || otherAddress.equals(connection.getRemoteEndpoint())) {
+            return connection;
+        }
+        ClientConnection other = (ClientConnection) connectionManager.getConnection(otherAddress);
+        if (other == null || !other.isHeartBeating()) {
+            return connection;
+        }
+        return other.getPendingResponseCount() < connection.getPendingResponseCount() ? other : connection;
+    }
+
+    /**
+     * Returns the target itself, unless the number of connected members is limited and the target is neither one of
+     * the selected members nor the owner connection's member. In that case one of the selected members is picked
+     * based on the given hash; the member runs the request on the actual target.
+     */
+    Address routeToConnectedMember(Address target, int hash) {
+        if (memberSubset == null) {
+            return target;
+        }
+        List<Address> addresses = memberSubset.getAddresses();
+        if (addresses.isEmpty() || addresses.contains(target)
+                || target.equals(client.getClientClusterService().getOwnerConnectionAddress())) {
+            return target;
+        }
+        return addresses.get(hashToIndex(hash, addresses.size()));
     }
 
     @Override
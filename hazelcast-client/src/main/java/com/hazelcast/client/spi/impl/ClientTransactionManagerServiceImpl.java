@@ -21,6 +21,7 @@ import com.hazelcast.client.connection.nio.ClientConnection;
 import com.hazelcast.client.impl.HazelcastClientInstanceImpl;
 import com.hazelcast.client.proxy.txn.TransactionContextProxy;
 import com.hazelcast.client.proxy.txn.xa.XATransactionContextProxy;
+import com.hazelcast.client.spi.ClientInvocationService;
 import com.hazelcast.client.spi.ClientTransactionManagerService;
 import com.hazelcast.config.GroupConfig;
 import com.hazelcast.core.Member;
@@ -127,7 +128,13 @@ public class ClientTransactionManagerServiceImpl implements ClientTransactionMan
             throw new IllegalStateException(msg);
         }
 
-        return member.getAddress();
+        Address address = member.getAddress();
+        ClientInvocationService invocationService = client.getInvocationService();
+        if (invocationService instanceof ClientSmartInvocationServiceImpl) {
+            // stays within the members the client keeps connections to, if that number is limited
+            return ((ClientSmartInvocationServiceImpl) invocationService).routeToConnectedMember(address, address.hashCode());
+        }
+        return address;
     }
 
 
@@ -30,7 +30,9 @@ import com.hazelcast.util.executor.SingleExecutorThreadFactory;
 import com.hazelcast.util.executor.StripedExecutor;
 import com.hazelcast.util.executor.StripedRunnable;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
@@ -39,6 +41,8 @@ import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadFactory;
 import java.util.logging.Level;
 
+import static com.hazelcast.util.HashUtil.hashToIndex;
+
 public abstract class ClientListenerServiceImpl implements ClientListenerService {
 
     protected final HazelcastClientInstanceImpl client;
@@ -51,6 +55,7 @@ public abstract class ClientListenerServiceImpl implements ClientListenerService
             = new ConcurrentHashMap<Long, EventHandler>();
 
     private final StripedExecutor eventExecutor;
+    private final int eventThreadCount;
 
     public ClientListenerServiceImpl(HazelcastClientInstanceImpl client, int eventThreadCount, int eventQueueCapacity) {
         this.client = client;
@@ -60,6 +65,7 @@ public abstract class ClientListenerServiceImpl implements ClientListenerService
         logger = client.getLoggingService().getLogger(ClientListenerService.class);
         ThreadGroup threadGroup = client.getThreadGroup();
         String name = client.getName();
+        this.eventThreadCount = eventThreadCount;
         eventExecutor = new StripedExecutor(logger, name + ".event",
                 threadGroup, eventThreadCount, eventQueueCapacity);
         ClassLoader classLoader = client.getClientConfig().getClassLoader();
@@ -88,6 +94,40 @@ public abstract class ClientListenerServiceImpl implements ClientListenerService
         }
     }
 
+    /**
+     * Dispatches the events that were read from a connection in one go. The events are grouped by the
+     * event thread they are striped to and each group is handed over as a single task, so the order of
+     * the events per partition is kept while the per-event hand-off to the event threads is avoided.
+     *
+     * @param events     the events in the order they were read, the list is not retained
+     * @param connection the connection the events were read from
+     */
+    @SuppressWarnings("unchecked")
+    public void handleEventBatch(List<ClientMessage> events, Connection connection) {
+        ClientConnection clientConnection = (ClientConnection) connection;
+        if (events.size() == 1) {
+            handleClientMessage(events.get(0), clientConnection);
+            return;
+        }
+        List<ClientMessage>[] stripes = new List[eventThreadCount];
+        for (ClientMessage event : events) {
+            int index = hashToIndex(event.getPartitionId(), eventThreadCount);
+            if (stripes[index] == null) {
+                stripes[index] = new ArrayList<ClientMessage>();
+            }
+            stripes[index].add(event);
+        }
+        try {
+            for (List<ClientMessage> stripe : stripes) {
+                if (stripe != null) {
+                    eventExecutor.execute(new ClientEventBatchProcessor(stripe, clientConnection));
+                }
+            }
+        } catch (RejectedExecutionException e) {
+            logger.log(Level.WARNING, " event batch could not be handled ", e);
+        }
+    }
+
     public void shutdown() {
         eventExecutor.shutdown();
         ClientExecutionServiceImpl.shutdownExecutor("registrationExecutor", registrationExecutor, logger);
@@ -112,25 +152,55 @@ public abstract class ClientListenerServiceImpl implements ClientListenerService
 
         @Override
         public void run() {
-            try {
-                long correlationId = clientMessage.getCorrelationId();
-                final EventHandler eventHandler = eventHandlerMap.get(correlationId);
-                if (eventHandler == null) {
-                    logger.warning("No eventHandler for callId: " + correlationId + ", event: " + clientMessage
-                            + ", connection: " + connection);
-                    return;
-                }
+            handleEvent(clientMessage, connection);
+        }
 
-                eventHandler.handle(clientMessage);
-            } finally {
-                connection.decrementPendingPacketCount();
-            }
+        @Override
+        public int getKey() {
+            return clientMessage.getPartitionId();
+        }
+    }
+
+    private final class ClientEventBatchProcessor implements StripedRunnable {
+        final List<ClientMessage> events;
+        final ClientConnection connection;
 
+        private ClientEventBatchProcessor(List<ClientMessage> events, ClientConnection connection) {
+            this.events = events;
+            this.connection = connection;
+        }
+
+        @Override
+        public void run() {
+            for (ClientMessage event : events) {
+                try {
+                    handleEvent(event, connection);
+                } catch (Throwable t) {
+                    // a failing listener must not prevent the rest of the batch from being delivered
+                    logger.severe("Failed to handle event: " + event + ", connection: " + connection, t);
+                }
+            }
         }
 
         @Override
         public int getKey() {
-            return clientMessage.getPartitionId();
+            return events.get(0).getPartitionId();
+        }
+    }
+
+    private void handleEvent(ClientMessage clientMessage, ClientConnection connection) {
+        try {
+            long correlationId = clientMessage.getCorrelationId();
+            final EventHandler eventHandler = eventHandlerMap.get(correlationId);
+            if (eventHandler == null) {
+                logger.warning("No eventHandler for callId: " + correlationId + ", event: " + clientMessage
+                        + ", connection: " + connection);
+                return;
+            }
+
+            eventHandler.handle(clientMessage);
+        } finally {
+            connection.decrementPendingPacketCount();
         }
     }
 
@@ -31,8 +31,11 @@ import com.hazelcast.util.UuidUtil;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
@@ -41,10 +44,24 @@ public class ClientNonSmartListenerService extends ClientListenerServiceImpl imp
 
     private final Map<ClientRegistrationKey, ClientEventRegistration> registrations
             = new ConcurrentHashMap<ClientRegistrationKey, ClientEventRegistration>();
+    // registrations whose connection is lost, only accessed by the registration executor
+    private final Set<ClientRegistrationKey> orphanedRegistrations = new HashSet<ClientRegistrationKey>();
+    private final boolean multipleConnections;
 
     public ClientNonSmartListenerService(HazelcastClientInstanceImpl client,
                                          int eventThreadCount, int eventQueueCapacity) {
+        this(client, eventThreadCount, eventQueueCapacity, false);
+    }
+
+    /**
+     * @param multipleConnections {@code true} if the client keeps connections to more than one member; a registration
+     *                            whose connection is lost is then moved to another connection right away instead of
+     *                            waiting for a new connection to be added
+     */
+    public ClientNonSmartListenerService(HazelcastClientInstanceImpl client,
+                                         int eventThreadCount, int eventQueueCapacity, boolean multipleConnections) {
         super(client, eventThreadCount, eventQueueCapacity);
+        this.multipleConnections = multipleConnections;
     }
 
     @Override
@@ -127,31 +144,51 @@ public class ClientNonSmartListenerService extends ClientListenerServiceImpl imp
         registrationExecutor.submit(new Runnable() {
             @Override
             public void run() {
-                for (ClientRegistrationKey registrationKey : registrations.keySet()) {
-                    try {
-                        ClientEventRegistration registration = invoke(registrationKey);
-                        registrations.put(registrationKey, registration);
-                    } catch (Exception e) {
-                        logger.warning("Listener " + registrationKey + " could not be added ");
-                    }
-                }
+                reRegisterOrphanedRegistrations();
             }
         });
 
     }
 
     @Override
-    public void connectionRemoved(Connection connection) {
+    public void connectionRemoved(final Connection connection) {
         registrationExecutor.submit(new Runnable() {
             @Override
             public void run() {
+                Address endpoint = connection.getEndPoint();
                 for (Map.Entry<ClientRegistrationKey, ClientEventRegistration> entry : registrations.entrySet()) {
-                    removeEventHandler(entry.getValue().getCallId());
+                    ClientEventRegistration registration = entry.getValue();
+                    if (registration.getSubscriber().equals(endpoint)) {
+                        removeEventHandler(registration.getCallId());
+                        orphanedRegistrations.add(entry.getKey());
+                    }
+                }
+                if (multipleConnections) {
+                    reRegisterOrphanedRegistrations();
                 }
             }
         });
     }
 
+    private void reRegisterOrphanedRegistrations() {
+        Iterator<ClientRegistrationKey> iterator = orphanedRegistrations.iterator();
+        while (iterator.hasNext()) {
+            ClientRegistrationKey registrationKey = iterator.next();
+            if (!registrations.containsKey(registrationKey)) {
+                // deregistered in the meantime
+                iterator.remove();
+                continue;
+            }
+            try {
+                ClientEventRegistration registration = invoke(registrationKey);
+                registrations.put(registrationKey, registration);
+                iterator.remove();
+            } catch (Exception e) {
+                logger.warning("Listener " + registrationKey + " could not be added ");
+            }
+        }
+    }
+
     //For Testing
     public Collection<ClientEventRegistration> getActiveRegistrations(final String uuid) {
         Future<Collection<ClientEventRegistration>> future = registrationExecutor.submit(
@@ -86,6 +86,61 @@ public final class ClientProperty {
     public static final HazelcastProperty DISCOVERY_SPI_ENABLED
             = new HazelcastProperty("hazelcast.discovery.enabled", false);
 
+    /**
+     * The number of threads doing socket input and the number of threads doing socket output.
+     * <p/>
+     * Connections are spread over these threads, so a client connected to many members can use more than a
+     * single input and a single output thread. For individual control check {@link #IO_INPUT_THREAD_COUNT}
+     * and {@link #IO_OUTPUT_THREAD_COUNT}.
+     * <p/>
+     * The default is 1 (so 2 threads).
+     */
+    public static final HazelcastProperty IO_THREAD_COUNT
+            = new HazelcastProperty("hazelcast.client.io.thread.count", 1);
+
+    /**
+     * Controls the number of socket input threads. By default it is the same as {@link #IO_THREAD_COUNT}.
+     */
+    public static final HazelcastProperty IO_INPUT_THREAD_COUNT
+            = new HazelcastProperty("hazelcast.client.io.input.thread.count", IO_THREAD_COUNT);
+
+    /**
+     * Controls the number of socket output threads. By default it is the same as {@link #IO_THREAD_COUNT}.
+     */
+    public static final HazelcastProperty IO_OUTPUT_THREAD_COUNT
+            = new HazelcastProperty("hazelcast.client.io.output.thread.count", IO_THREAD_COUNT);
+
+    /**
+     * Number of the threads that process the responses and complete the invocation futures.
+     * <p/>
+     * Responses are striped over the threads by their correlation id.
+     */
+    public static final HazelcastProperty RESPONSE_THREAD_COUNT
+            = new HazelcastProperty("hazelcast.client.response.thread.count", 1);
+
+    /**
+     * Enables load aware routing of invocations which are not bound to a partition or a member.
+     * <p/>
+     * For such an invocation two members are picked with the configured {@link com.hazelcast.client.LoadBalancer}
+     * and the invocation is sent to the one with fewer requests waiting for a response on its connection.
+     * <p/>
+     * Load aware routing is disabled by default.
+     */
+    public static final HazelcastProperty LOAD_AWARE_ROUTING_ENABLED
+            = new HazelcastProperty("hazelcast.client.load.aware.routing.enabled", false);
+
+    /**
+     * Maximum number of members a smart client keeps connections to.
+     * <p/>
+     * The members are chosen by rendezvous hashing, so the clients spread evenly over the cluster. Requests for
+     * partitions owned by other members are sent to one of the chosen members, which invokes them on the partition
+     * owner. Listeners are registered cluster wide through a single member instead of on every member.
+     * <p/>
+     * The default is -1, the client connects to all members.
+     */
+    public static final HazelcastProperty MAX_CONNECTED_MEMBERS
+            = new HazelcastProperty("hazelcast.client.max.connected.members", -1);
+
     private ClientProperty() {
     }
 }
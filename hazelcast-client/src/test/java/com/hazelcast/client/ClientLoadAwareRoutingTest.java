@@ -0,0 +1,70 @@
+package com.hazelcast.client;
+
+import com.hazelcast.client.config.ClientConfig;
+import com.hazelcast.client.connection.ClientConnectionManager;
+import com.hazelcast.client.connection.nio.ClientConnection;
+import com.hazelcast.client.impl.HazelcastClientInstanceImpl;
+import com.hazelcast.client.spi.properties.ClientProperty;
+import com.hazelcast.client.test.TestHazelcastFactory;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+import com.hazelcast.test.AssertTask;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.client.impl.ClientTestUtil.getHazelcastClientInstanceImpl;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelTest.class})
+public class ClientLoadAwareRoutingTest extends HazelcastTestSupport {
+
+    private final TestHazelcastFactory hazelcastFactory = new TestHazelcastFactory();
+
+    @After
+    public void cleanup() {
+        hazelcastFactory.terminateAll();
+    }
+
+    @Test
+    public void testNonPartitionInvocations_withLoadAwareRouting() {
+        final HazelcastInstance server1 = hazelcastFactory.newHazelcastInstance();
+        final HazelcastInstance server2 = hazelcastFactory.newHazelcastInstance();
+
+        ClientConfig config = new ClientConfig();
+        config.setProperty(ClientProperty.LOAD_AWARE_ROUTING_ENABLED.getName(), "true");
+        HazelcastInstance client = hazelcastFactory.newHazelcastClient(config);
+
+        IMap<Integer, Integer> map = client.getMap(randomMapName());
+        for (int i = 0; i < 10; i++) {
+            map.put(i, i);
+        }
+        for (int i = 0; i < 100; i++) {
+            assertEquals(10, map.size());
+        }
+
+        HazelcastClientInstanceImpl clientImpl = getHazelcastClientInstanceImpl(client);
+        final ClientConnectionManager connectionManager = clientImpl.getConnectionManager();
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() throws Exception {
+                assertNoPendingResponses(connectionManager, server1);
+                assertNoPendingResponses(connectionManager, server2);
+            }
+        });
+    }
+
+    private static void assertNoPendingResponses(ClientConnectionManager connectionManager, HazelcastInstance server) {
+        ClientConnection connection = (ClientConnection) connectionManager
+                .getConnection(server.getCluster().getLocalMember().getAddress());
+        assertNotNull(connection);
+        assertEquals(0, connection.getPendingResponseCount());
+    }
+}
@@ -0,0 +1,121 @@
+package com.hazelcast.client;
+
+import com.hazelcast.client.config.ClientConfig;
+import com.hazelcast.client.connection.ClientConnectionManager;
+import com.hazelcast.client.spi.properties.ClientProperty;
+import com.hazelcast.client.test.TestHazelcastFactory;
+import com.hazelcast.core.EntryAdapter;
+import com.hazelcast.core.EntryEvent;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+import com.hazelcast.test.AssertTask;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelTest;
+import com.hazelcast.test.annotation.QuickTest;
+import com.hazelcast.transaction.TransactionContext;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.hazelcast.client.impl.ClientTestUtil.getHazelcastClientInstanceImpl;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelTest.class})
+public class ClientMaxConnectedMembersTest extends HazelcastTestSupport {
+
+    private static final int MEMBER_COUNT = 4;
+    private static final int ENTRY_COUNT = 1000;
+
+    private final TestHazelcastFactory hazelcastFactory = new TestHazelcastFactory();
+    private final HazelcastInstance[] members = new HazelcastInstance[MEMBER_COUNT];
+    private HazelcastInstance client;
+
+    @Before
+    public void setup() {
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            members[i] = hazelcastFactory.newHazelcastInstance();
+        }
+        ClientConfig config = new ClientConfig();
+        config.setProperty(ClientProperty.MAX_CONNECTED_MEMBERS.getName(), "1");
+        client = hazelcastFactory.newHazelcastClient(config);
+    }
+
+    @After
+    public void cleanup() {
+        hazelcastFactory.terminateAll();
+    }
+
+    @Test
+    public void testPartitionInvocations_servedByConnectedMembers() {
+        String mapName = randomMapName();
+        IMap<Integer, Integer> map = client.getMap(mapName);
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, i);
+        }
+
+        IMap<Integer, Integer> memberMap = members[0].getMap(mapName);
+        assertEquals(ENTRY_COUNT, memberMap.size());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            assertEquals(i, (int) map.get(i));
+        }
+        // the selected member and, if it is a different one, the owner connection's member
+        assertTrue(getConnectedMemberCount() <= 2);
+    }
+
+    @Test
+    public void testListener_receivesEventsOfAllPartitions() {
+        String mapName = randomMapName();
+        final AtomicInteger eventCount = new AtomicInteger();
+        client.getMap(mapName).addEntryListener(new EntryAdapter<Integer, Integer>() {
+            @Override
+            public void entryAdded(EntryEvent<Integer, Integer> event) {
+                eventCount.incrementAndGet();
+            }
+        }, false);
+
+        IMap<Integer, Integer> memberMap = members[MEMBER_COUNT - 1].getMap(mapName);
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            memberMap.put(i, i);
+        }
+
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() throws Exception {
+                assertEquals(ENTRY_COUNT, eventCount.get());
+            }
+        });
+        assertTrue(getConnectedMemberCount() <= 2);
+    }
+
+    @Test
+    public void testTransactions_servedByConnectedMembers() {
+        String mapName = randomMapName();
+        for (int i = 0; i < MEMBER_COUNT * 5; i++) {
+            TransactionContext context = client.newTransactionContext();
+            context.beginTransaction();
+            context.getMap(mapName).put(i, i);
+            context.commitTransaction();
+        }
+
+        assertEquals(MEMBER_COUNT * 5, client.getMap(mapName).size());
+        assertTrue(getConnectedMemberCount() <= 2);
+    }
+
+    private int getConnectedMemberCount() {
+        ClientConnectionManager connectionManager = getHazelcastClientInstanceImpl(client).getConnectionManager();
+        int count = 0;
+        for (HazelcastInstance member : members) {
+            if (connectionManager.getConnection(member.getCluster().getLocalMember().getAddress()) != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -26,6 +26,7 @@ import com.hazelcast.config.InvalidConfigurationException;
 import com.hazelcast.config.ListenerConfig;
 import com.hazelcast.config.MapIndexConfig;
 import com.hazelcast.config.NearCacheConfig;
+import com.hazelcast.config.NearCachePreloaderConfig;
 import com.hazelcast.config.QueryCacheConfig;
 import com.hazelcast.config.SerializationConfig;
 import com.hazelcast.config.SerializerConfig;
@@ -259,6 +260,24 @@ public class XmlClientConfigBuilderTest {
         assertEquals(EvictionPolicy.LFU, nearCacheConfig.getEvictionConfig().getEvictionPolicy());
     }
 
+    @Test
+    public void testNearCacheConfigWithPreloaderConfig() {
+        String xml = HAZELCAST_CLIENT_START_TAG
+                + "<near-cache name=\"preloaded\">"
+                + "  <preloader enabled=\"true\" directory=\"/tmp/nearcache\" store-initial-delay-seconds=\"30\""
+                + "             store-interval-seconds=\"60\"/>"
+                + "</near-cache>"
+                + "</hazelcast-client>";
+        ClientConfig clientConfig = buildConfig(xml);
+
+        NearCachePreloaderConfig preloaderConfig = clientConfig.getNearCacheConfig("preloaded").getPreloaderConfig();
+
+        assertTrue(preloaderConfig.isEnabled());
+        assertEquals("/tmp/nearcache", preloaderConfig.getDirectory());
+        assertEquals(30, preloaderConfig.getStoreInitialDelaySeconds());
+        assertEquals(60, preloaderConfig.getStoreIntervalSeconds());
+    }
+
     @Test
     public void testQueryCacheFullConfig() throws Exception {
         QueryCacheConfig queryCacheConfig = clientConfig.getQueryCacheConfigs().get("map-name").get("query-cache-name");
@@ -0,0 +1,95 @@
+package com.hazelcast.client.io;
+
+import com.hazelcast.client.HazelcastClient;
+import com.hazelcast.client.config.ClientConfig;
+import com.hazelcast.client.spi.properties.ClientProperty;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.ICompletableFuture;
+import com.hazelcast.core.IMap;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class ClientMultipleIOThreadsTest extends HazelcastTestSupport {
+
+    private static final int COUNT = 1000;
+
+    private IMap<Integer, Integer> map;
+
+    @Before
+    public void setup() {
+        Hazelcast.newHazelcastInstance();
+        Hazelcast.newHazelcastInstance();
+
+        ClientConfig clientConfig = new ClientConfig();
+        clientConfig.setProperty(ClientProperty.IO_INPUT_THREAD_COUNT.getName(), "3");
+        clientConfig.setProperty(ClientProperty.IO_OUTPUT_THREAD_COUNT.getName(), "2");
+        clientConfig.setProperty(ClientProperty.RESPONSE_THREAD_COUNT.getName(), "4");
+        HazelcastInstance client = HazelcastClient.newHazelcastClient(clientConfig);
+        map = client.getMap(randomMapName());
+    }
+
+    @After
+    public void tearDown() {
+        HazelcastClient.shutdownAll();
+        Hazelcast.shutdownAll();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testZeroInputThreads() {
+        ClientConfig clientConfig = new ClientConfig();
+        clientConfig.setProperty(ClientProperty.IO_INPUT_THREAD_COUNT.getName(), "0");
+        HazelcastClient.newHazelcastClient(clientConfig);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testZeroOutputThreads() {
+        ClientConfig clientConfig = new ClientConfig();
+        clientConfig.setProperty(ClientProperty.IO_OUTPUT_THREAD_COUNT.getName(), "0");
+        HazelcastClient.newHazelcastClient(clientConfig);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testZeroResponseThreads() {
+        ClientConfig clientConfig = new ClientConfig();
+        clientConfig.setProperty(ClientProperty.RESPONSE_THREAD_COUNT.getName(), "0");
+        HazelcastClient.newHazelcastClient(clientConfig);
+    }
+
+    @Test
+    public void testSyncOperations() {
+        for (int i = 0; i < COUNT; i++) {
+            map.put(i, i);
+        }
+
+        for (int i = 0; i < COUNT; i++) {
+            assertEquals(i, (int) map.get(i));
+        }
+    }
+
+    @Test
+    public void testAsyncOperations() throws Exception {
+        List<ICompletableFuture<Integer>> futures = new ArrayList<ICompletableFuture<Integer>>(COUNT);
+        for (int i = 0; i < COUNT; i++) {
+            futures.add(map.putAsync(i, i));
+        }
+        for (ICompletableFuture<Integer> future : futures) {
+            future.get();
+        }
+
+        assertEquals(COUNT, map.size());
+    }
+}
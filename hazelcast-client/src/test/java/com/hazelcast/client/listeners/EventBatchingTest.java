@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.client.listeners;
+
+import com.hazelcast.client.HazelcastClient;
+import com.hazelcast.config.Config;
+import com.hazelcast.core.EntryAdapter;
+import com.hazelcast.core.EntryEvent;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+import com.hazelcast.core.ITopic;
+import com.hazelcast.core.Message;
+import com.hazelcast.core.MessageListener;
+import com.hazelcast.spi.properties.GroupProperty;
+import com.hazelcast.test.AssertTask;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Runs on the real network, so the batched events go through the socket writer and the client read handler.
+ */
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class EventBatchingTest extends HazelcastTestSupport {
+
+    private static final int BATCH_SIZE = 10;
+
+    private HazelcastInstance client;
+
+    @Before
+    public void setup() {
+        Config config = new Config();
+        config.setProperty(GroupProperty.CLIENT_EVENT_BATCH_SIZE.getName(), String.valueOf(BATCH_SIZE));
+        config.setProperty(GroupProperty.CLIENT_EVENT_BATCH_FLUSH_INTERVAL_MILLIS.getName(), "50");
+        Hazelcast.newHazelcastInstance(config);
+        client = HazelcastClient.newHazelcastClient();
+    }
+
+    @After
+    public void cleanup() {
+        HazelcastClient.shutdownAll();
+        Hazelcast.shutdownAll();
+    }
+
+    @Test
+    public void testEntryEvents_deliveredInOrder() {
+        IMap<Integer, Integer> map = client.getMap(randomMapName());
+        final List<Integer> values = new CopyOnWriteArrayList<Integer>();
+        map.addEntryListener(new EntryAdapter<Integer, Integer>() {
+            @Override
+            public void onEntryEvent(EntryEvent<Integer, Integer> event) {
+                values.add(event.getValue());
+            }
+        }, true);
+
+        final int count = BATCH_SIZE * 10 + 3;
+        for (int i = 0; i < count; i++) {
+            map.put(1, i);
+        }
+
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() throws Exception {
+                assertEquals(count, values.size());
+            }
+        });
+        for (int i = 0; i < count; i++) {
+            assertEquals(i, (int) values.get(i));
+        }
+    }
+
+    @Test
+    public void testPartialBatch_flushedAfterInterval() {
+        ITopic<String> topic = client.getTopic(randomName());
+        final AtomicInteger received = new AtomicInteger();
+        topic.addMessageListener(new MessageListener<String>() {
+            @Override
+            public void onMessage(Message<String> message) {
+                received.incrementAndGet();
+            }
+        });
+
+        final int count = BATCH_SIZE / 2;
+        for (int i = 0; i < count; i++) {
+            topic.publish("message" + i);
+        }
+
+        assertEqualsEventually(new Callable<Integer>() {
+            @Override
+            public Integer call() throws Exception {
+                return received.get();
+            }
+        }, count);
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.client.map.impl.nearcache;
+
+import com.hazelcast.config.NearCachePreloaderConfig;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.logging.Logger;
+import com.hazelcast.nio.IOUtil;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelTest.class})
+public class NearCachePreloaderTest extends HazelcastTestSupport {
+
+    private final InternalSerializationService serializationService = new DefaultSerializationServiceBuilder().build();
+
+    private File directory;
+    private NearCachePreloader preloader;
+
+    @Before
+    public void setUp() throws IOException {
+        directory = new File(System.getProperty("java.io.tmpdir"), randomName());
+        NearCachePreloaderConfig preloaderConfig = new NearCachePreloaderConfig()
+                .setEnabled(true)
+                .setDirectory(directory.getAbsolutePath());
+        preloader = new NearCachePreloader("map:with/special*chars", preloaderConfig,
+                Logger.getLogger(NearCachePreloaderTest.class));
+    }
+
+    @After
+    public void tearDown() {
+        IOUtil.delete(directory);
+    }
+
+    @Test
+    public void storeAndLoadKeys() {
+        int keyCount = NearCachePreloader.LOAD_BATCH_SIZE * 2 + 50;
+        List<Data> keys = new ArrayList<Data>(keyCount);
+        for (int i = 0; i < keyCount; i++) {
+            keys.add(serializationService.toData("key-" + i));
+        }
+
+        assertEquals(keyCount, preloader.storeKeys(keys.iterator()));
+        assertTrue(preloader.getStoreFile().isFile());
+        assertEquals(directory.getAbsoluteFile(), preloader.getStoreFile().getAbsoluteFile().getParentFile());
+
+        RecordingKeyBatchLoader loader = new RecordingKeyBatchLoader();
+        assertEquals(keyCount, preloader.loadKeys(loader));
+
+        assertEquals(3, loader.batchSizes.size());
+        assertEquals(NearCachePreloader.LOAD_BATCH_SIZE, (int) loader.batchSizes.get(0));
+        assertEquals(NearCachePreloader.LOAD_BATCH_SIZE, (int) loader.batchSizes.get(1));
+        assertEquals(50, (int) loader.batchSizes.get(2));
+        assertEquals(keys, loader.keys);
+    }
+
+    @Test
+    public void storeKeys_replacesPreviousSnapshot() {
+        List<Data> keys = new ArrayList<Data>();
+        keys.add(serializationService.toData(1));
+        keys.add(serializationService.toData(2));
+        preloader.storeKeys(keys.iterator());
+
+        keys.remove(0);
+        preloader.storeKeys(keys.iterator());
+
+        RecordingKeyBatchLoader loader = new RecordingKeyBatchLoader();
+        assertEquals(1, preloader.loadKeys(loader));
+        assertEquals(keys, loader.keys);
+        assertFalse(new File(preloader.getStoreFile().getPath() + "~").exists());
+    }
+
+    @Test
+    public void loadKeys_withoutStoreFile() {
+        RecordingKeyBatchLoader loader = new RecordingKeyBatchLoader();
+
+        assertEquals(0, preloader.loadKeys(loader));
+        assertTrue(loader.batchSizes.isEmpty());
+    }
+
+    @Test
+    public void loadKeys_withUnknownFileFormat() throws IOException {
+        assertTrue(directory.mkdirs());
+        DataOutputStream out = new DataOutputStream(new FileOutputStream(preloader.getStoreFile()));
+        try {
+            out.writeInt(42);
+            out.writeInt(NearCachePreloader.FILE_FORMAT_VERSION);
+        } finally {
+            out.close();
+        }
+
+        RecordingKeyBatchLoader loader = new RecordingKeyBatchLoader();
+
+        assertEquals(-1, preloader.loadKeys(loader));
+        assertTrue(loader.batchSizes.isEmpty());
+    }
+
+    @Test
+    public void loadKeys_withNegativeKeyLength() throws IOException {
+        writeStoreFileWithKeyLength(-1);
+
+        RecordingKeyBatchLoader loader = new RecordingKeyBatchLoader();
+
+        assertEquals(-1, preloader.loadKeys(loader));
+        assertTrue(loader.batchSizes.isEmpty());
+    }
+
+    @Test
+    public void loadKeys_withKeyLengthExceedingFile() throws IOException {
+        writeStoreFileWithKeyLength(Integer.MAX_VALUE);
+
+        RecordingKeyBatchLoader loader = new RecordingKeyBatchLoader();
+
+        assertEquals(-1, preloader.loadKeys(loader));
+        assertTrue(loader.batchSizes.isEmpty());
+    }
+
+    private void writeStoreFileWithKeyLength(int keyLength) throws IOException {
+        assertTrue(directory.mkdirs());
+        DataOutputStream out = new DataOutputStream(new FileOutputStream(preloader.getStoreFile()));
+        try {
+            out.writeInt(NearCachePreloader.MAGIC_BYTES);
+            out.writeInt(NearCachePreloader.FILE_FORMAT_VERSION);
+            out.writeInt(keyLength);
+            out.write(new byte[16]);
+        } finally {
+            out.close();
+        }
+    }
+
+    private static class RecordingKeyBatchLoader implements NearCachePreloader.KeyBatchLoader {
+
+        private final List<Integer> batchSizes = new ArrayList<Integer>();
+        private final List<Data> keys = new ArrayList<Data>();
+
+        @Override
+        public void load(List<Data> batch) {
+            batchSizes.add(batch.size());
+            keys.addAll(batch);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.hazelcast.client.partitionservice;
+
+import com.hazelcast.client.spi.impl.ClientPartitionServiceImpl;
+import com.hazelcast.client.test.TestHazelcastFactory;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.Partition;
+import com.hazelcast.test.AssertTask;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.client.impl.ClientTestUtil.getHazelcastClientInstanceImpl;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelTest.class})
+public class ClientPartitionTableTest extends HazelcastTestSupport {
+
+    private final TestHazelcastFactory factory = new TestHazelcastFactory();
+
+    @After
+    public void after() {
+        factory.terminateAll();
+    }
+
+    @Test
+    public void testPartitionOwners_matchMemberPartitionTable() {
+        HazelcastInstance member = factory.newHazelcastInstance();
+        warmUpPartitions(member);
+        HazelcastInstance client = factory.newHazelcastClient();
+        ClientPartitionServiceImpl clientPartitionService = getClientPartitionService(client);
+
+        assertPartitionOwners(member, clientPartitionService);
+        assertEquals(getPartitionService(member).getPartitionCount(), clientPartitionService.getPartitionCount());
+        assertTrue(clientPartitionService.getPartitionTableVersion() > 0);
+    }
+
+    @Test
+    public void testRejectedInvocation_refreshesPartitionTable() {
+        HazelcastInstance member = factory.newHazelcastInstance();
+        warmUpPartitions(member);
+        HazelcastInstance client = factory.newHazelcastClient();
+        final ClientPartitionServiceImpl clientPartitionService = getClientPartitionService(client);
+        clientPartitionService.getPartitionOwner(0);
+        final int initialVersion = clientPartitionService.getPartitionTableVersion();
+
+        final HazelcastInstance member2 = factory.newHazelcastInstance();
+        waitAllForSafeState(member, member2);
+        clientPartitionService.onInvocationRejected(0);
+
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() throws Exception {
+                assertTrue(clientPartitionService.getPartitionTableVersion() > initialVersion);
+                assertPartitionOwners(member2, clientPartitionService);
+            }
+        });
+    }
+
+    @Test
+    public void testGetPartitionOwner_withInvalidPartitionId() {
+        factory.newHazelcastInstance();
+        HazelcastInstance client = factory.newHazelcastClient();
+        ClientPartitionServiceImpl clientPartitionService = getClientPartitionService(client);
+        clientPartitionService.getPartitionOwner(0);
+
+        assertNull(clientPartitionService.getPartitionOwner(-1));
+    }
+
+    private static void assertPartitionOwners(HazelcastInstance member, ClientPartitionServiceImpl clientPartitionService) {
+        for (Partition partition : member.getPartitionService().getPartitions()) {
+            assertEquals(partition.getOwner().getAddress(), clientPartitionService.getPartitionOwner(partition.getPartitionId()));
+        }
+    }
+
+    private static ClientPartitionServiceImpl getClientPartitionService(HazelcastInstance client) {
+        return (ClientPartitionServiceImpl) getHazelcastClientInstanceImpl(client).getClientPartitionService();
+    }
+}
@@ -730,6 +730,32 @@ public class ClientReplicatedMapTest extends HazelcastTestSupport {
         });
     }
 
+    @Test
+    public void testNearCache_readsOwnWrites() {
+        hazelcastFactory.newHazelcastInstance();
+        ClientConfig config = getClientConfigWithNearCacheInvalidationEnabled();
+        HazelcastInstance client = hazelcastFactory.newHazelcastClient(config);
+
+        ReplicatedMap<Integer, Integer> replicatedMap = client.getReplicatedMap(randomString());
+
+        replicatedMap.put(1, 1);
+        // puts key 1 to near cache
+        assertEquals(1, (int) replicatedMap.get(1));
+
+        replicatedMap.put(1, 2);
+        assertEquals(2, (int) replicatedMap.get(1));
+
+        replicatedMap.remove(1);
+        assertNull(replicatedMap.get(1));
+        assertFalse(replicatedMap.containsKey(1));
+
+        Map<Integer, Integer> entries = new HashMap<Integer, Integer>();
+        entries.put(1, 3);
+        replicatedMap.putAll(entries);
+        assertEquals(3, (int) replicatedMap.get(1));
+        assertTrue(replicatedMap.containsKey(1));
+    }
+
     @Test
     public void testClientPortableWithoutRegisteringToNode() {
         hazelcastFactory.newHazelcastInstance(buildConfig(InMemoryFormat.BINARY, 0));
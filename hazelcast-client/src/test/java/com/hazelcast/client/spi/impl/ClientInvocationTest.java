@@ -17,6 +17,9 @@
 package com.hazelcast.client.spi.impl;
 
 import com.hazelcast.client.HazelcastClientNotActiveException;
+import com.hazelcast.client.impl.HazelcastClientInstanceImpl;
+import com.hazelcast.client.impl.protocol.ClientMessage;
+import com.hazelcast.client.impl.protocol.codec.MapSizeCodec;
 import com.hazelcast.client.test.TestHazelcastFactory;
 import com.hazelcast.config.Config;
 import com.hazelcast.core.ExecutionCallback;
@@ -40,6 +43,8 @@ import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.locks.LockSupport;
 
+import static com.hazelcast.client.impl.ClientTestUtil.getHazelcastClientInstanceImpl;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 @RunWith(HazelcastParallelClassRunner.class)
@@ -149,6 +154,18 @@ public class ClientInvocationTest extends HazelcastTestSupport {
         assertOpenEventually("Not all of the requests failed", errorLatch);
     }
 
+    @Test
+    public void response_doesNotRetainConnection() throws Exception {
+        hazelcastFactory.newHazelcastInstance();
+        HazelcastInstance client = hazelcastFactory.newHazelcastClient();
+        HazelcastClientInstanceImpl clientImpl = getHazelcastClientInstanceImpl(client);
+
+        ClientMessage request = MapSizeCodec.encodeRequest(randomMapName());
+        ClientMessage response = new ClientInvocation(clientImpl, request).invoke().get();
+
+        assertNull(response.getConnection());
+    }
+
     private static class DummyEntryProcessor implements EntryProcessor {
         @Override
         public Object process(Map.Entry entry) {
@@ -26,6 +26,7 @@ import com.hazelcast.client.connection.nio.ClientConnectionManagerImpl;
 import com.hazelcast.client.impl.ClientConnectionManagerFactory;
 import com.hazelcast.client.impl.HazelcastClientInstanceImpl;
 import com.hazelcast.client.impl.protocol.ClientMessage;
+import com.hazelcast.client.impl.protocol.ClientMessageBatch;
 import com.hazelcast.client.spi.impl.AwsAddressTranslator;
 import com.hazelcast.client.spi.impl.DefaultAddressTranslator;
 import com.hazelcast.client.spi.impl.discovery.DiscoveryAddressTranslator;
@@ -318,13 +319,17 @@ public class TestClientRegistry {
 
         @Override
         public boolean write(OutboundFrame frame) {
-            final ClientMessage packet = (ClientMessage) frame;
-            if (isAlive()) {
-                ClientMessage newPacket = readFromPacket(packet);
-                responseConnection.handleClientMessage(newPacket);
-                return true;
+            if (!isAlive()) {
+                return false;
             }
-            return false;
+            if (frame instanceof ClientMessageBatch) {
+                for (ClientMessage packet : ((ClientMessageBatch) frame).getMessages()) {
+                    responseConnection.handleClientMessage(readFromPacket(packet));
+                }
+            } else {
+                responseConnection.handleClientMessage(readFromPacket((ClientMessage) frame));
+            }
+            return true;
         }
 
         @Override
@@ -17,6 +17,7 @@
 package com.hazelcast.client;
 
 import com.hazelcast.client.impl.client.ClientPrincipal;
+import com.hazelcast.client.impl.protocol.ClientMessage;
 import com.hazelcast.core.Client;
 import com.hazelcast.nio.Connection;
 import com.hazelcast.security.Credentials;
@@ -83,6 +84,15 @@ public interface ClientEndpoint extends Client {
 
     Connection getConnection();
 
+    /**
+     * Sends a listener event to the client. Depending on the configuration the event is written immediately
+     * or collected in a batch with other events for the same connection.
+     *
+     * @param eventMessage the encoded event
+     * @see com.hazelcast.spi.properties.GroupProperty#CLIENT_EVENT_BATCH_SIZE
+     */
+    void sendEvent(ClientMessage eventMessage);
+
     void setLoginContext(LoginContext lc);
 
     void authenticated(ClientPrincipal principal, Credentials credentials, boolean firstConnection);
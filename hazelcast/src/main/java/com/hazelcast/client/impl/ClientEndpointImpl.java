@@ -18,6 +18,7 @@ package com.hazelcast.client.impl;
 
 import com.hazelcast.client.ClientEndpoint;
 import com.hazelcast.client.impl.client.ClientPrincipal;
+import com.hazelcast.client.impl.protocol.ClientMessage;
 import com.hazelcast.core.ClientType;
 import com.hazelcast.core.HazelcastInstanceNotActiveException;
 import com.hazelcast.logging.ILogger;
@@ -49,6 +50,7 @@ public final class ClientEndpointImpl implements ClientEndpoint {
             = new ConcurrentHashMap<String, TransactionContext>();
     private final ConcurrentHashMap<String, Callable> removeListenerActions = new ConcurrentHashMap<String, Callable>();
     private final SocketAddress socketAddress;
+    private final ClientEventBatcher eventBatcher;
 
     private LoginContext loginContext;
     private ClientPrincipal principal;
@@ -65,6 +67,7 @@ public final class ClientEndpointImpl implements ClientEndpoint {
         } else {
             socketAddress = null;
         }
+        this.eventBatcher = clientEngine.newEventBatcher(conn);
     }
 
     @Override
@@ -72,6 +75,15 @@ public final class ClientEndpointImpl implements ClientEndpoint {
         return conn;
     }
 
+    @Override
+    public void sendEvent(ClientMessage eventMessage) {
+        if (eventBatcher == null) {
+            conn.write(eventMessage);
+        } else {
+            eventBatcher.offer(eventMessage);
+        }
+    }
+
     @Override
     public String getUuid() {
         return principal != null ? principal.getUuid() : null;
@@ -211,6 +223,9 @@ public final class ClientEndpointImpl implements ClientEndpoint {
 
     public void destroy() throws LoginException {
         clearAllListeners();
+        if (eventBatcher != null) {
+            eventBatcher.flush();
+        }
 
         LoginContext lc = loginContext;
         if (lc != null) {
@@ -61,6 +61,7 @@ import com.hazelcast.spi.impl.NodeEngineImpl;
 import com.hazelcast.spi.impl.operationservice.InternalOperationService;
 import com.hazelcast.spi.partition.IPartitionService;
 import com.hazelcast.spi.properties.GroupProperty;
+import com.hazelcast.spi.properties.HazelcastProperties;
 import com.hazelcast.spi.serialization.SerializationService;
 import com.hazelcast.transaction.TransactionManagerService;
 import com.hazelcast.util.executor.ExecutorType;
@@ -110,6 +111,8 @@ public class ClientEngineImpl implements ClientEngine, CoreService, PostJoinAwar
 
     private final MessageTaskFactory messageTaskFactory;
     private final ClientExceptionFactory clientExceptionFactory;
+    private final int eventBatchSize;
+    private final long eventBatchFlushIntervalMillis;
 
     public ClientEngineImpl(Node node) {
         this.logger = node.getLogger(ClientEngine.class);
@@ -120,9 +123,12 @@ public class ClientEngineImpl implements ClientEngine, CoreService, PostJoinAwar
         this.executor = newExecutor();
         this.messageTaskFactory = new CompositeMessageTaskFactory(this.nodeEngine);
         this.clientExceptionFactory = initClientExceptionFactory();
+        HazelcastProperties properties = node.getProperties();
+        this.eventBatchSize = properties.getInteger(GroupProperty.CLIENT_EVENT_BATCH_SIZE);
+        this.eventBatchFlushIntervalMillis = properties.getMillis(GroupProperty.CLIENT_EVENT_BATCH_FLUSH_INTERVAL_MILLIS);
 
         ClientHeartbeatMonitor heartBeatMonitor = new ClientHeartbeatMonitor(
-                endpointManager, this, nodeEngine.getExecutionService(), node.getProperties());
+                endpointManager, this, nodeEngine.getExecutionService(), properties);
         heartBeatMonitor.start();
     }
 
@@ -229,6 +235,19 @@ public class ClientEngineImpl implements ClientEngine, CoreService, PostJoinAwar
         return node.securityContext;
     }
 
+    /**
+     * Creates the event batcher for a client connection.
+     *
+     * @return the event batcher or {@code null} if event batching is disabled
+     */
+    ClientEventBatcher newEventBatcher(Connection connection) {
+        if (eventBatchSize <= 1) {
+            return null;
+        }
+        return new ClientEventBatcher(connection, nodeEngine.getExecutionService(), eventBatchSize,
+                eventBatchFlushIntervalMillis);
+    }
+
     public void bind(final ClientEndpoint endpoint) {
         final Connection conn = endpoint.getConnection();
         if (conn instanceof TcpIpConnection) {
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.client.impl;
+
+import com.hazelcast.client.impl.protocol.ClientMessage;
+import com.hazelcast.client.impl.protocol.ClientMessageBatch;
+import com.hazelcast.nio.Connection;
+import com.hazelcast.spi.ExecutionService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Collects the listener events that are sent to a single client connection and writes them to the connection
+ * in bursts, either when the batch is full or when the flush interval has passed since the first pending event.
+ * <p/>
+ * The pending events are written as a single {@link ClientMessageBatch} frame, so a burst costs one write queue
+ * hand-off and the socket writer packs the events into the same socket write. The client reads and dispatches
+ * them together. The events stay in publish order since the batch is drained by one thread at a time.
+ */
+final class ClientEventBatcher {
+
+    private final Connection connection;
+    private final ExecutionService executionService;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final Queue<ClientMessage> pendingEvents = new ConcurrentLinkedQueue<ClientMessage>();
+    private final AtomicInteger pendingEventCount = new AtomicInteger();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final Runnable flushTask = new Runnable() {
+        @Override
+        public void run() {
+            flushScheduled.set(false);
+            flush();
+        }
+    };
+
+    ClientEventBatcher(Connection connection, ExecutionService executionService, int batchSize,
+                       long flushIntervalMillis) {
+        this.connection = connection;
+        this.executionService = executionService;
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+    }
+
+    void offer(ClientMessage event) {
+        pendingEvents.offer(event);
+        if (pendingEventCount.incrementAndGet() >= batchSize) {
+            flush();
+        } else if (flushScheduled.compareAndSet(false, true)) {
+            executionService.schedule(flushTask, flushIntervalMillis, MILLISECONDS);
+        }
+    }
+
+    synchronized void flush() {
+        List<ClientMessage> events = new ArrayList<ClientMessage>(batchSize);
+        for (;;) {
+            ClientMessage event = pendingEvents.poll();
+            if (event == null) {
+                break;
+            }
+            pendingEventCount.decrementAndGet();
+            events.add(event);
+        }
+
+        if (events.size() == 1) {
+            connection.write(events.get(0));
+        } else if (!events.isEmpty()) {
+            connection.write(new ClientMessageBatch(events));
+        }
+    }
+
+    int getPendingEventCount() {
+        return pendingEventCount.get();
+    }
+}
@@ -22,6 +22,7 @@ import com.hazelcast.client.impl.protocol.util.MessageFlyweight;
 import com.hazelcast.client.impl.protocol.util.SafeBuffer;
 import com.hazelcast.client.impl.protocol.util.UnsafeBuffer;
 import com.hazelcast.nio.Bits;
+import com.hazelcast.nio.Connection;
 import com.hazelcast.nio.OutboundFrame;
 
 import java.nio.ByteBuffer;
@@ -112,6 +113,7 @@ public class ClientMessage
 
     private transient int writeOffset;
     private transient boolean isRetryable;
+    private transient Connection connection;
 
     protected ClientMessage() {
     }
@@ -382,6 +384,27 @@ public class ClientMessage
         this.isRetryable = isRetryable;
     }
 
+    /**
+     * Gets the Connection this ClientMessage was received from.
+     *
+     * @return the Connection. Could be null.
+     */
+    public Connection getConnection() {
+        return connection;
+    }
+
+    /**
+     * Sets the Connection this ClientMessage was received from.
+     * <p/>
+     * This is done on the reading side so the message can be handed over to another thread without
+     * wrapping it together with its connection.
+     *
+     * @param connection the connection.
+     */
+    public void setConnection(Connection connection) {
+        this.connection = connection;
+    }
+
     @Override
     public String toString() {
         int len = index();
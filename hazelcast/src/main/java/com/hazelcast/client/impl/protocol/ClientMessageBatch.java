@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.client.impl.protocol;
+
+import com.hazelcast.nio.OutboundFrame;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * A sequence of {@link ClientMessage}s that is written to a connection as a single {@link OutboundFrame}.
+ * <p/>
+ * The messages are written back to back as regular client message frames, so the receiving side doesn't need to
+ * know they were batched. Writing them as one frame needs a single write queue hand-off and lets the socket writer
+ * fill its buffer with all of them at once.
+ */
+public final class ClientMessageBatch implements OutboundFrame {
+
+    private final List<ClientMessage> messages;
+    private int writeIndex;
+
+    public ClientMessageBatch(List<ClientMessage> messages) {
+        this.messages = messages;
+    }
+
+    public List<ClientMessage> getMessages() {
+        return messages;
+    }
+
+    /**
+     * Writes the messages to the given buffer, continuing where the previous call stopped.
+     *
+     * @param dst the destination buffer
+     * @return true if all messages are completely written
+     */
+    public boolean writeTo(ByteBuffer dst) {
+        while (writeIndex < messages.size()) {
+            if (!messages.get(writeIndex).writeTo(dst)) {
+                return false;
+            }
+            writeIndex++;
+        }
+        // clear the write index so that the same batch can be resent if needed
+        writeIndex = 0;
+        return true;
+    }
+
+    @Override
+    public boolean isUrgent() {
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "ClientMessageBatch{size=" + messages.size() + ", writeIndex=" + writeIndex + '}';
+    }
+}
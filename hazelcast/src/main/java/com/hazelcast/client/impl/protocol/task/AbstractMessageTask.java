@@ -201,6 +201,10 @@ public abstract class AbstractMessageTask<P>
         resultClientMessage.setCorrelationId(clientMessage.getCorrelationId());
         resultClientMessage.addFlag(ClientMessage.BEGIN_AND_END_FLAGS);
         resultClientMessage.setVersion(ClientMessage.VERSION);
+        if (resultClientMessage.isFlagSet(ClientMessage.LISTENER_EVENT_FLAG)) {
+            endpoint.sendEvent(resultClientMessage);
+            return;
+        }
         final Connection connection = endpoint.getConnection();
         //TODO framing not implemented yet, should be split into frames before writing to connection
         connection.write(resultClientMessage);
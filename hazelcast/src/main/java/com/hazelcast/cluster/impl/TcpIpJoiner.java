@@ -52,7 +52,6 @@ import static com.hazelcast.util.AddressUtil.AddressHolder;
  */
 public class TcpIpJoiner extends AbstractJoiner {
 
-    private static final long JOIN_RETRY_WAIT_TIME = 1000L;
     private static final int LOOK_FOR_MASTER_MAX_TRY_COUNT = 20;
 
     private final int maxPortTryCount;
@@ -114,7 +113,7 @@ public class TcpIpJoiner extends AbstractJoiner {
                 connection = node.connectionManager.getOrConnect(targetAddress);
                 if (connection == null) {
                     //noinspection BusyWait
-                    Thread.sleep(JOIN_RETRY_WAIT_TIME);
+                    Thread.sleep(getJoinRetryWaitMillis());
                     continue;
                 }
                 if (logger.isFineEnabled()) {
@@ -122,7 +121,7 @@ public class TcpIpJoiner extends AbstractJoiner {
                 }
                 clusterJoinManager.sendJoinRequest(targetAddress, true);
                 //noinspection BusyWait
-                Thread.sleep(JOIN_RETRY_WAIT_TIME);
+                Thread.sleep(getJoinRetryWaitMillis());
             }
         } catch (final Exception e) {
             logger.warning(e);
@@ -269,7 +268,7 @@ public class TcpIpJoiner extends AbstractJoiner {
             }
 
             if (!node.joined()) {
-                Thread.sleep(JOIN_RETRY_WAIT_TIME);
+                Thread.sleep(getJoinRetryWaitMillis());
             }
         }
     }
@@ -287,7 +286,7 @@ public class TcpIpJoiner extends AbstractJoiner {
             if (sendMasterQuestion(possibleAddresses)) {
                 return true;
             }
-            Thread.sleep(JOIN_RETRY_WAIT_TIME);
+            Thread.sleep(getJoinRetryWaitMillis());
         }
         return false;
     }
@@ -299,10 +298,11 @@ public class TcpIpJoiner extends AbstractJoiner {
     @SuppressWarnings({"checkstyle:npathcomplexity", "checkstyle:cyclomaticcomplexity"})
     private void lookForMaster(Collection<Address> possibleAddresses) throws InterruptedException {
         int tryCount = 0;
-        while (node.getMasterAddress() == null && tryCount++ < LOOK_FOR_MASTER_MAX_TRY_COUNT) {
+        int maxTryCount = getJoinRetryCount(LOOK_FOR_MASTER_MAX_TRY_COUNT);
+        while (node.getMasterAddress() == null && tryCount++ < maxTryCount) {
             sendMasterQuestion(possibleAddresses);
             //noinspection BusyWait
-            Thread.sleep(JOIN_RETRY_WAIT_TIME);
+            Thread.sleep(getJoinRetryWaitMillis());
             if (isAllBlacklisted(possibleAddresses)) {
                 break;
             }
@@ -336,7 +336,7 @@ public class TcpIpJoiner extends AbstractJoiner {
             }
 
             //noinspection BusyWait
-            Thread.sleep(JOIN_RETRY_WAIT_TIME);
+            Thread.sleep(getJoinRetryWaitMillis());
         }
 
         if (!node.joined()) {
@@ -16,6 +16,7 @@
 
 package com.hazelcast.config;
 
+import com.hazelcast.map.compression.ValueCompressor;
 import com.hazelcast.map.eviction.MapEvictionPolicy;
 import com.hazelcast.map.eviction.LFUEvictionPolicy;
 import com.hazelcast.map.eviction.LRUEvictionPolicy;
@@ -150,6 +151,8 @@ public class MapConfig {
 
     private HotRestartConfig hotRestartConfig = new HotRestartConfig();
 
+    private ValueCompressor valueCompressor;
+
     private MapConfigReadOnly readOnly;
 
     // we use these 2 flags to detect a conflict between (deprecated) #setOptimizeQueries()
@@ -195,6 +198,7 @@ public class MapConfig {
                 ? new PartitioningStrategyConfig(config.getPartitioningStrategyConfig()) : null;
         this.quorumName = config.quorumName;
         this.hotRestartConfig = new HotRestartConfig(config.hotRestartConfig);
+        this.valueCompressor = config.valueCompressor;
     }
     //CHECKSTYLE:ON
 
@@ -491,6 +495,30 @@ public class MapConfig {
         return this;
     }
 
+    /**
+     * Returns the compressor used for the values of this map, or {@code null} if values are not compressed.
+     *
+     * @return the value compressor or {@code null}
+     */
+    public ValueCompressor getValueCompressor() {
+        return valueCompressor;
+    }
+
+    /**
+     * Sets the compressor used for the values of this map.
+     *
+     * Values are compressed when they are stored and decompressed on every read, trading CPU for memory.
+     * It only applies to maps with {@link InMemoryFormat#BINARY} in-memory-format.
+     *
+     * @param valueCompressor the value compressor or {@code null} to store values uncompressed
+     * @return the updated map configuration
+     * @see com.hazelcast.map.compression.LZValueCompressor
+     */
+    public MapConfig setValueCompressor(ValueCompressor valueCompressor) {
+        this.valueCompressor = valueCompressor;
+        return this;
+    }
+
     /**
      * Returns the map store configuration
      *
@@ -970,6 +998,7 @@ public class MapConfig {
                 + ", quorumName=" + quorumName
                 + ", queryCacheConfigs=" + queryCacheConfigs
                 + ", cacheDeserializedValues=" + cacheDeserializedValues
+                + ", valueCompressor=" + valueCompressor
                 + '}';
     }
 
@@ -16,6 +16,7 @@
 
 package com.hazelcast.config;
 
+import com.hazelcast.map.compression.ValueCompressor;
 import com.hazelcast.map.eviction.MapEvictionPolicy;
 
 import java.util.ArrayList;
@@ -162,6 +163,11 @@ public class MapConfigReadOnly extends MapConfig {
         throw new UnsupportedOperationException("This config is read-only map: " + getName());
     }
 
+    @Override
+    public MapConfig setValueCompressor(ValueCompressor valueCompressor) {
+        throw new UnsupportedOperationException("This config is read-only map: " + getName());
+    }
+
     public MapConfig setMapStoreConfig(MapStoreConfig mapStoreConfig) {
         throw new UnsupportedOperationException("This config is read-only map: " + getName());
     }
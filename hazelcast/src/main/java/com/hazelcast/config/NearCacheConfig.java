@@ -79,6 +79,8 @@ public class NearCacheConfig
     //      * LRU as eviction policy
     private EvictionConfig evictionConfig = new EvictionConfig();
 
+    private NearCachePreloaderConfig preloaderConfig = new NearCachePreloaderConfig();
+
     /**
      * Local Update Policy enum.
      */
@@ -133,6 +135,9 @@ public class NearCacheConfig
         if (config.evictionConfig != null) {
             this.evictionConfig = config.evictionConfig;
         }
+        if (config.preloaderConfig != null) {
+            this.preloaderConfig = new NearCachePreloaderConfig(config.preloaderConfig);
+        }
     }
 
     public NearCacheConfigReadOnly getAsReadOnly() {
@@ -390,6 +395,27 @@ public class NearCacheConfig
         return this;
     }
 
+    /**
+     * Gets the configuration of storing and pre-loading the keys of this near cache.
+     *
+     * @return the preloader config.
+     */
+    public NearCachePreloaderConfig getPreloaderConfig() {
+        return preloaderConfig;
+    }
+
+    /**
+     * Sets the configuration of storing and pre-loading the keys of this near cache.
+     * The stored keys are not part of the serialized form of this config.
+     *
+     * @param preloaderConfig the preloader config.
+     * @return This near cache config instance.
+     */
+    public NearCacheConfig setPreloaderConfig(NearCachePreloaderConfig preloaderConfig) {
+        this.preloaderConfig = checkNotNull(preloaderConfig, "Preloader config cannot be null !");
+        return this;
+    }
+
     @Override
     public void writeData(ObjectDataOutput out) throws IOException {
         out.writeUTF(name);
@@ -430,6 +456,7 @@ public class NearCacheConfig
                 + ", cacheLocalEntries=" + cacheLocalEntries
                 + ", localUpdatePolicy=" + localUpdatePolicy
                 + ", evictionConfig=" + evictionConfig
+                + ", preloaderConfig=" + preloaderConfig
                 + '}';
     }
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.config;
+
+import static com.hazelcast.util.Preconditions.checkNotNull;
+import static com.hazelcast.util.Preconditions.checkPositive;
+
+/**
+ * Configuration for storing and pre-loading near cache keys.
+ * <p/>
+ * When enabled, the keys of the near cache are periodically stored to a file in the configured directory.
+ * After a restart these keys are fetched from the cluster in batches, so the near cache is warm again without
+ * all requests falling through to the cluster at once.
+ */
+public class NearCachePreloaderConfig {
+
+    /**
+     * Default initial delay for the near cache key storage.
+     */
+    public static final int DEFAULT_STORE_INITIAL_DELAY_SECONDS = 600;
+
+    /**
+     * Default interval for the near cache key storage (in seconds).
+     */
+    public static final int DEFAULT_STORE_INTERVAL_SECONDS = 600;
+
+    private boolean enabled;
+    private String directory = "";
+    private int storeInitialDelaySeconds = DEFAULT_STORE_INITIAL_DELAY_SECONDS;
+    private int storeIntervalSeconds = DEFAULT_STORE_INTERVAL_SECONDS;
+
+    public NearCachePreloaderConfig() {
+    }
+
+    public NearCachePreloaderConfig(NearCachePreloaderConfig config) {
+        enabled = config.enabled;
+        directory = config.directory;
+        storeInitialDelaySeconds = config.storeInitialDelaySeconds;
+        storeIntervalSeconds = config.storeIntervalSeconds;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public NearCachePreloaderConfig setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        return this;
+    }
+
+    /**
+     * Gets the directory of the key storage files. An empty directory means the working directory.
+     *
+     * @return the directory of the key storage files
+     */
+    public String getDirectory() {
+        return directory;
+    }
+
+    public NearCachePreloaderConfig setDirectory(String directory) {
+        this.directory = checkNotNull(directory, "directory cannot be null!");
+        return this;
+    }
+
+    public int getStoreInitialDelaySeconds() {
+        return storeInitialDelaySeconds;
+    }
+
+    public NearCachePreloaderConfig setStoreInitialDelaySeconds(int storeInitialDelaySeconds) {
+        this.storeInitialDelaySeconds = checkPositive(storeInitialDelaySeconds,
+                "storeInitialDelaySeconds must be a positive number!");
+        return this;
+    }
+
+    public int getStoreIntervalSeconds() {
+        return storeIntervalSeconds;
+    }
+
+    public NearCachePreloaderConfig setStoreIntervalSeconds(int storeIntervalSeconds) {
+        this.storeIntervalSeconds = checkPositive(storeIntervalSeconds, "storeIntervalSeconds must be a positive number!");
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "NearCachePreloaderConfig{"
+                + "enabled=" + enabled
+                + ", directory='" + directory + '\''
+                + ", storeInitialDelaySeconds=" + storeInitialDelaySeconds
+                + ", storeIntervalSeconds=" + storeIntervalSeconds
+                + '}';
+    }
+}
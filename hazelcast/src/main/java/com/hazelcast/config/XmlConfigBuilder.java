@@ -27,6 +27,7 @@ import com.hazelcast.core.HazelcastException;
 import com.hazelcast.internal.eviction.impl.EvictionConfigHelper;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.logging.Logger;
+import com.hazelcast.map.compression.ValueCompressor;
 import com.hazelcast.map.eviction.MapEvictionPolicy;
 import com.hazelcast.mapreduce.TopologyChangedStrategy;
 import com.hazelcast.nio.ClassLoaderUtil;
@@ -1119,6 +1120,14 @@ public class XmlConfigBuilder extends AbstractConfigBuilder implements ConfigBui
                 } catch (Exception e) {
                     throw ExceptionUtil.rethrow(e);
                 }
+            } else if ("value-compressor-class-name".equals(nodeName)) {
+                String className = checkHasText(getTextContent(node), "value-compressor-class-name cannot be null or empty");
+                try {
+                    ValueCompressor valueCompressor = ClassLoaderUtil.newInstance(config.getClassLoader(), className);
+                    mapConfig.setValueCompressor(valueCompressor);
+                } catch (Exception e) {
+                    throw ExceptionUtil.rethrow(e);
+                }
             }
         }
         this.config.addMapConfig(mapConfig);
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.core;
+
+import com.hazelcast.spi.annotation.Beta;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+
+import static com.hazelcast.util.Preconditions.checkNotNull;
+import static com.hazelcast.util.Preconditions.checkPositive;
+
+/**
+ * The Pipelining can be used to speed up requests. It is build on top of asynchronous
+ * requests like e.g. {@link IMap#getAsync(Object)} or any other asynchronous call.
+ * <p/>
+ * The main purpose of the Pipelining is to control the number of concurrent requests
+ * when using asynchronous invocations. This can be done by setting the depth using
+ * the constructor. So you could set the depth to e.g 100 and do 1000 calls. That means
+ * that at any given moment, there will only be 100 concurrent requests. When the depth
+ * is reached, {@link #add(ICompletableFuture)} blocks until one of the in-flight
+ * requests completes. This prevents a bulk loader from queueing an unbounded number of
+ * requests and flooding the cluster or running out of memory.
+ * <p/>
+ * It depends on the situation what the optimal depth (number of invocations in flight)
+ * should be. If it is too high, you can run into memory related problems. If it is too
+ * low, it will provide little or no performance advantage at all.
+ * <p/>
+ * <pre>
+ *     Pipelining&lt;String&gt; pipelining = new Pipelining&lt;String&gt;(10);
+ *     for (long k = 0; k &lt; 100; k++) {
+ *         int key = random.nextInt(keyDomain);
+ *         pipelining.add(map.getAsync(key));
+ *     }
+ *     // wait for completion
+ *     List&lt;String&gt; results = pipelining.results();
+ * </pre>
+ * <p/>
+ * A Pipelining created with {@link #Pipelining(int)} keeps a reference to every added future until
+ * {@link #results()} is called, so the memory it uses grows with the number of requests. For a long
+ * running pipeline, e.g. a bulk load, use {@link #Pipelining(int, ExecutionCallback)} instead: the results
+ * are then passed to the callback as the requests complete and no futures are retained.
+ * <pre>
+ *     Pipelining&lt;String&gt; pipelining = new Pipelining&lt;String&gt;(10, callback);
+ *     for (long k = 0; k &lt; 1000000; k++) {
+ *         pipelining.add(map.putAsync(k, value));
+ *     }
+ *     pipelining.waitForCompletion();
+ * </pre>
+ * <p/>
+ * The Pipelining isn't threadsafe. So only a single thread should add requests to
+ * the Pipelining and wait for results.
+ *
+ * @param <E> the result type of the Pipelining
+ */
+@Beta
+public class Pipelining<E> {
+
+    private static final Executor CALLER_RUNS = new Executor() {
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+    };
+
+    private final int depth;
+    private final Semaphore semaphore;
+    private final List<ICompletableFuture<E>> futures;
+    private final ExecutionCallback<E> resultCallback;
+    private final ExecutionCallback<E> releaseCallback = new ExecutionCallback<E>() {
+        @Override
+        public void onResponse(E response) {
+            try {
+                if (resultCallback != null) {
+                    resultCallback.onResponse(response);
+                }
+            } finally {
+                semaphore.release();
+            }
+        }
+
+        @Override
+        public void onFailure(Throwable t) {
+            try {
+                if (resultCallback != null) {
+                    resultCallback.onFailure(t);
+                }
+            } finally {
+                semaphore.release();
+            }
+        }
+    };
+
+    /**
+     * Creates a Pipelining with the given depth that retains the futures, so the results can be retrieved using
+     * {@link #results()}.
+     *
+     * @param depth the maximum number of concurrent calls allowed in this Pipelining.
+     * @throws IllegalArgumentException if depth smaller than 1.
+     */
+    public Pipelining(int depth) {
+        this.depth = checkPositive(depth, "depth must be positive");
+        this.semaphore = new Semaphore(depth);
+        this.futures = new ArrayList<ICompletableFuture<E>>();
+        this.resultCallback = null;
+    }
+
+    /**
+     * Creates a Pipelining with the given depth that passes the results to the given callback as the requests
+     * complete, without retaining the futures.
+     * <p/>
+     * The callback is called on the thread completing the future, so it should not block.
+     *
+     * @param depth          the maximum number of concurrent calls allowed in this Pipelining.
+     * @param resultCallback the callback receiving the result or the failure of every request.
+     * @throws IllegalArgumentException if depth smaller than 1.
+     * @throws NullPointerException     if resultCallback is null.
+     */
+    public Pipelining(int depth, ExecutionCallback<E> resultCallback) {
+        this.depth = checkPositive(depth, "depth must be positive");
+        this.semaphore = new Semaphore(depth);
+        this.futures = null;
+        this.resultCallback = checkNotNull(resultCallback, "resultCallback can't be null");
+    }
+
+    /**
+     * Returns the results.
+     * <p/>
+     * The results are returned in the order the requests were done.
+     * <p/>
+     * This call waits till all requests have completed.
+     *
+     * @return the List of results.
+     * @throws Exception is something fails getting the results.
+     * @throws IllegalStateException if this Pipelining passes the results to a callback.
+     */
+    public List<E> results() throws Exception {
+        if (futures == null) {
+            throw new IllegalStateException("The results are passed to the result callback");
+        }
+        List<E> result = new ArrayList<E>(futures.size());
+        for (ICompletableFuture<E> f : futures) {
+            result.add(f.get());
+        }
+        return result;
+    }
+
+    /**
+     * Adds a future to this Pipelining or blocks until there is capacity to add the future to the Pipelining.
+     * <p/>
+     * This call blocks until there is space in the Pipelining, but it doesn't mean that the invocation that
+     * returned the ICompletableFuture got blocked.
+     *
+     * @param future the future to add.
+     * @return the future added.
+     * @throws InterruptedException if the Thread got interrupted while adding the request to the Pipelining.
+     * @throws NullPointerException if future is null.
+     */
+    public ICompletableFuture<E> add(ICompletableFuture<E> future) throws InterruptedException {
+        checkNotNull(future, "future can't be null");
+
+        semaphore.acquire();
+        if (futures != null) {
+            futures.add(future);
+        }
+        future.andThen(releaseCallback, CALLER_RUNS);
+        return future;
+    }
+
+    /**
+     * Waits till all added requests have completed, and with a result callback, till the callback has been
+     * called for every request.
+     *
+     * @throws InterruptedException if the Thread got interrupted while waiting.
+     */
+    public void waitForCompletion() throws InterruptedException {
+        semaphore.acquire(depth);
+        semaphore.release(depth);
+    }
+}
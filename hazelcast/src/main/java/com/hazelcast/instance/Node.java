@@ -55,6 +55,7 @@ import com.hazelcast.partition.PartitionLostListener;
 import com.hazelcast.internal.partition.impl.InternalMigrationListener;
 import com.hazelcast.security.Credentials;
 import com.hazelcast.security.SecurityContext;
+import com.hazelcast.spi.GracefulShutdownAwareService;
 import com.hazelcast.spi.annotation.PrivateApi;
 import com.hazelcast.spi.discovery.SimpleDiscoveryNode;
 import com.hazelcast.spi.discovery.impl.DefaultDiscoveryServiceProvider;
@@ -389,6 +390,7 @@ public class Node {
 
         if (!terminate) {
             final int maxWaitSeconds = properties.getSeconds(GRACEFUL_SHUTDOWN_MAX_WAIT);
+            notifyGracefulShutdownAwareServices(maxWaitSeconds);
             if (!partitionService.prepareToSafeShutdown(maxWaitSeconds, TimeUnit.SECONDS)) {
                 logger.warning("Graceful shutdown could not be completed in " + maxWaitSeconds + " seconds!");
             }
@@ -434,6 +436,20 @@ public class Node {
         }
     }
 
+    private void notifyGracefulShutdownAwareServices(int maxWaitSeconds) {
+        long deadline = Clock.currentTimeMillis() + TimeUnit.SECONDS.toMillis(maxWaitSeconds);
+        for (GracefulShutdownAwareService service : nodeEngine.getServices(GracefulShutdownAwareService.class)) {
+            long remaining = Math.max(deadline - Clock.currentTimeMillis(), 0);
+            try {
+                if (!service.onShutdown(remaining, TimeUnit.MILLISECONDS)) {
+                    logger.warning("Graceful shutdown of " + service + " could not be completed in time!");
+                }
+            } catch (Throwable t) {
+                logger.warning("Error while notifying " + service + " of graceful shutdown", t);
+            }
+        }
+    }
+
     private void shutdownServices(boolean terminate) {
         nodeExtension.beforeShutdown();
         phoneHome.shutdown();
@@ -56,6 +56,8 @@ import static com.hazelcast.util.FutureUtil.waitWithDeadline;
 public abstract class AbstractJoiner implements Joiner {
 
     private static final int JOIN_TRY_COUNT = 5;
+    private static final long JOIN_RETRY_WAIT_MILLIS = 1000L;
+    private static final long FAST_JOIN_RETRY_WAIT_MILLIS = 100L;
     private static final long MIN_WAIT_SECONDS_BEFORE_JOIN = 10;
     private static final long SPLIT_BRAIN_CONN_TIMEOUT = 5000;
     private static final long SPLIT_BRAIN_SLEEP_TIME = 10;
@@ -75,6 +77,7 @@ public abstract class AbstractJoiner implements Joiner {
     private final AtomicInteger tryCount = new AtomicInteger(0);
 
     private final long mergeNextRunDelayMs;
+    private final boolean fastJoinEnabled;
     private volatile Address targetAddress;
 
     private final FutureUtil.ExceptionHandler splitBrainMergeExceptionHandler = new FutureUtil.ExceptionHandler() {
@@ -95,6 +98,7 @@ public abstract class AbstractJoiner implements Joiner {
         this.clusterService = node.getClusterService();
         this.clusterJoinManager = clusterService.getClusterJoinManager();
         mergeNextRunDelayMs = node.getProperties().getMillis(GroupProperty.MERGE_NEXT_RUN_DELAY_SECONDS);
+        fastJoinEnabled = node.getProperties().getBoolean(GroupProperty.JOIN_FAST_ENABLED);
     }
 
     @Override
@@ -162,31 +166,58 @@ public abstract class AbstractJoiner implements Joiner {
     }
 
     private void ensureConnectionToAllMembers() {
-        boolean allConnected = false;
         if (node.joined()) {
             logger.fine("Waiting for all connections");
             int connectAllWaitSeconds = node.getProperties().getSeconds(GroupProperty.CONNECT_ALL_WAIT_SECONDS);
-            int checkCount = 0;
-            while (checkCount++ < connectAllWaitSeconds && !allConnected) {
+            long deadline = Clock.currentTimeMillis() + TimeUnit.SECONDS.toMillis(connectAllWaitSeconds);
+            // in the fast join mode the connections are initiated right away instead of after the first wait
+            boolean allConnected = fastJoinEnabled && connectToAllMembers();
+            while (!allConnected && Clock.currentTimeMillis() < deadline) {
                 try {
                     //noinspection BusyWait
-                    TimeUnit.SECONDS.sleep(1);
+                    Thread.sleep(getJoinRetryWaitMillis());
                 } catch (InterruptedException ignored) {
                     EmptyStatement.ignore(ignored);
                 }
 
-                allConnected = true;
-                Collection<Member> members = clusterService.getMembers();
-                for (Member member : members) {
-                    if (!member.localMember() && node.connectionManager.getOrConnect(member.getAddress()) == null) {
-                        allConnected = false;
-                        if (logger.isFineEnabled()) {
-                            logger.fine("Not-connected to " + member.getAddress());
-                        }
-                    }
+                allConnected = connectToAllMembers();
+            }
+        }
+    }
+
+    private boolean connectToAllMembers() {
+        boolean allConnected = true;
+        Collection<Member> members = clusterService.getMembers();
+        for (Member member : members) {
+            if (!member.localMember() && node.connectionManager.getOrConnect(member.getAddress()) == null) {
+                allConnected = false;
+                if (logger.isFineEnabled()) {
+                    logger.fine("Not-connected to " + member.getAddress());
                 }
             }
         }
+        return allConnected;
+    }
+
+    /**
+     * Returns the time to wait between two attempts to discover or join the master, which is shorter in the fast
+     * join mode (see {@link GroupProperty#JOIN_FAST_ENABLED}).
+     *
+     * @return the wait time in milliseconds
+     */
+    protected final long getJoinRetryWaitMillis() {
+        return fastJoinEnabled ? FAST_JOIN_RETRY_WAIT_MILLIS : JOIN_RETRY_WAIT_MILLIS;
+    }
+
+    /**
+     * Returns the number of attempts to make so that they take the same time as the given number of attempts in the
+     * normal join mode.
+     *
+     * @param tryCount the number of attempts in the normal join mode
+     * @return the number of attempts in the current join mode
+     */
+    protected final int getJoinRetryCount(int tryCount) {
+        return (int) (tryCount * JOIN_RETRY_WAIT_MILLIS / getJoinRetryWaitMillis());
     }
 
     protected final long getMaxJoinMillis() {
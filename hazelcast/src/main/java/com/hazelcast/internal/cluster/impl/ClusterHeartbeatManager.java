@@ -35,6 +35,8 @@ import com.hazelcast.util.EmptyStatement;
 
 import java.net.ConnectException;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
@@ -58,12 +60,19 @@ import static java.lang.String.format;
  * master-confirmation requests. Each slave node sends a master-confirmation periodically and
  * master node stores them with timestamps. A slave node which does not send master-confirmation in
  * a timeout will be kicked out of the cluster by master node.
+ * <p/>
+ * If the phi accrual failure detector is enabled (see {@link GroupProperty#HEARTBEAT_FAILURE_DETECTOR_TYPE}),
+ * each node also keeps a {@link PhiAccrualFailureDetector} per member and piggybacks the members it suspects
+ * on its heartbeats. A suspected member is removed without waiting for {@link #maxNoHeartbeatMillis},
+ * once another non-suspected member confirms the suspicion.
  */
 public class ClusterHeartbeatManager {
 
     private static final long CLOCK_JUMP_THRESHOLD = 10000L;
     private static final int HEART_BEAT_INTERVAL_FACTOR = 10;
     private static final int MAX_PING_RETRY_COUNT = 5;
+    private static final String DEADLINE_FAILURE_DETECTOR = "deadline";
+    private static final String PHI_ACCRUAL_FAILURE_DETECTOR = "phi-accrual";
 
     private final ILogger logger;
     private final Node node;
@@ -73,6 +82,10 @@ public class ClusterHeartbeatManager {
 
     private final ConcurrentMap<MemberImpl, Long> heartbeatTimes = new ConcurrentHashMap<MemberImpl, Long>();
     private final ConcurrentMap<MemberImpl, Long> masterConfirmationTimes = new ConcurrentHashMap<MemberImpl, Long>();
+    private final ConcurrentMap<MemberImpl, PhiAccrualFailureDetector> failureDetectors
+            = new ConcurrentHashMap<MemberImpl, PhiAccrualFailureDetector>();
+    // members suspected by each reporting member, as piggybacked on its last heartbeat
+    private final ConcurrentMap<Address, Set<Address>> suspicionsByReporter = new ConcurrentHashMap<Address, Set<Address>>();
 
     private final long maxNoHeartbeatMillis;
     private final long maxNoMasterConfirmationMillis;
@@ -81,6 +94,11 @@ public class ClusterHeartbeatManager {
     private final boolean icmpEnabled;
     private final int icmpTtl;
     private final int icmpTimeoutMillis;
+    private final boolean phiAccrualEnabled;
+    private final double phiAccrualThreshold;
+    private final int phiAccrualSampleSize;
+    private final long phiAccrualMinStdDevMillis;
+    private final long phiAccrualAcceptablePauseMillis;
 
     @Probe(name = "lastHeartBeat")
     private volatile long lastHeartBeat;
@@ -103,6 +121,25 @@ public class ClusterHeartbeatManager {
         icmpEnabled = hazelcastProperties.getBoolean(GroupProperty.ICMP_ENABLED);
         icmpTtl = hazelcastProperties.getInteger(GroupProperty.ICMP_TTL);
         icmpTimeoutMillis = (int) hazelcastProperties.getMillis(GroupProperty.ICMP_TIMEOUT);
+
+        phiAccrualEnabled = isPhiAccrualEnabled(hazelcastProperties);
+        phiAccrualThreshold = hazelcastProperties.getFloat(GroupProperty.HEARTBEAT_PHI_ACCRUAL_THRESHOLD);
+        phiAccrualSampleSize = hazelcastProperties.getInteger(GroupProperty.HEARTBEAT_PHI_ACCRUAL_SAMPLE_SIZE);
+        phiAccrualMinStdDevMillis = hazelcastProperties.getMillis(GroupProperty.HEARTBEAT_PHI_ACCRUAL_MIN_STD_DEV_MILLIS);
+        phiAccrualAcceptablePauseMillis
+                = hazelcastProperties.getMillis(GroupProperty.HEARTBEAT_PHI_ACCRUAL_ACCEPTABLE_PAUSE_MILLIS);
+    }
+
+    private static boolean isPhiAccrualEnabled(HazelcastProperties hazelcastProperties) {
+        String type = hazelcastProperties.getString(GroupProperty.HEARTBEAT_FAILURE_DETECTOR_TYPE);
+        if (PHI_ACCRUAL_FAILURE_DETECTOR.equals(type)) {
+            return true;
+        }
+        if (DEADLINE_FAILURE_DETECTOR.equals(type)) {
+            return false;
+        }
+        throw new IllegalArgumentException("Unknown failure detector type: " + type
+                + ". Supported types are '" + DEADLINE_FAILURE_DETECTOR + "' and '" + PHI_ACCRUAL_FAILURE_DETECTOR + "'");
     }
 
     private static long getHeartBeatInterval(HazelcastProperties hazelcastProperties) {
@@ -138,24 +175,65 @@ public class ClusterHeartbeatManager {
     }
 
     public void onHeartbeat(MemberImpl member, long timestamp) {
-        if (member != null) {
-            long clusterTime = clusterClock.getClusterTime();
-            if (logger.isFineEnabled()) {
-                logger.fine(format("Received heartbeat from %s (now: %s, timestamp: %s)",
-                        member, timeToString(clusterTime), timeToString(timestamp)));
-            }
+        acceptHeartbeat(member, timestamp);
+    }
 
-            if (clusterTime - timestamp > maxNoHeartbeatMillis / 2) {
-                logger.warning(format("Ignoring heartbeat from %s since it is expired (now: %s, timestamp: %s)", member,
-                        timeToString(clusterTime), timeToString(timestamp)));
-                return;
-            }
+    /**
+     * Accepts a heartbeat together with the members suspected by its sender.
+     *
+     * @param member           the sender of the heartbeat
+     * @param timestamp        the cluster time of the sender when the heartbeat was sent
+     * @param suspectedMembers the addresses of the members which are suspected by the sender
+     */
+    public void onHeartbeat(MemberImpl member, long timestamp, Set<Address> suspectedMembers) {
+        if (!acceptHeartbeat(member, timestamp) || !phiAccrualEnabled) {
+            return;
+        }
+        if (suspectedMembers.isEmpty()) {
+            suspicionsByReporter.remove(member.getAddress());
+        } else {
+            suspicionsByReporter.put(member.getAddress(), suspectedMembers);
+        }
+    }
+
+    private boolean acceptHeartbeat(MemberImpl member, long timestamp) {
+        if (member == null) {
+            return false;
+        }
+        long clusterTime = clusterClock.getClusterTime();
+        if (logger.isFineEnabled()) {
+            logger.fine(format("Received heartbeat from %s (now: %s, timestamp: %s)",
+                    member, timeToString(clusterTime), timeToString(timestamp)));
+        }
+
+        if (clusterTime - timestamp > maxNoHeartbeatMillis / 2) {
+            logger.warning(format("Ignoring heartbeat from %s since it is expired (now: %s, timestamp: %s)", member,
+                    timeToString(clusterTime), timeToString(timestamp)));
+            return false;
+        }
+
+        if (isMaster(member)) {
+            clusterClock.setMasterTime(timestamp);
+        }
+        long arrivalTime = clusterClock.getClusterTime();
+        heartbeatTimes.put(member, arrivalTime);
+        if (phiAccrualEnabled) {
+            getOrCreateFailureDetector(member).heartbeat(arrivalTime);
+        }
+        return true;
+    }
 
-            if (isMaster(member)) {
-                clusterClock.setMasterTime(timestamp);
+    private PhiAccrualFailureDetector getOrCreateFailureDetector(MemberImpl member) {
+        PhiAccrualFailureDetector detector = failureDetectors.get(member);
+        if (detector == null) {
+            detector = new PhiAccrualFailureDetector(phiAccrualThreshold, phiAccrualSampleSize,
+                    phiAccrualMinStdDevMillis, phiAccrualAcceptablePauseMillis, heartbeatIntervalMillis);
+            PhiAccrualFailureDetector current = failureDetectors.putIfAbsent(member, detector);
+            if (current != null) {
+                detector = current;
             }
-            heartbeatTimes.put(member, clusterClock.getClusterTime());
         }
+        return detector;
     }
 
     public void acceptMasterConfirmation(MemberImpl member, long timestamp) {
@@ -182,10 +260,11 @@ public class ClusterHeartbeatManager {
         checkClockDrift(heartbeatIntervalMillis);
 
         final long clusterTime = clusterClock.getClusterTime();
+        Set<Address> suspectedMembers = collectSuspectedMembers(clusterTime);
         if (node.isMaster()) {
-            heartBeatWhenMaster(clusterTime);
+            heartBeatWhenMaster(clusterTime, suspectedMembers);
         } else {
-            heartBeatWhenSlave(clusterTime);
+            heartBeatWhenSlave(clusterTime, suspectedMembers);
         }
     }
 
@@ -233,13 +312,13 @@ public class ClusterHeartbeatManager {
      * <p></p>
      * This method is only called on master member.
      */
-    private void heartBeatWhenMaster(long now) {
+    private void heartBeatWhenMaster(long now, Set<Address> suspectedMembers) {
         Collection<MemberImpl> members = clusterService.getMemberImpls();
         for (MemberImpl member : members) {
             if (!member.localMember()) {
                 try {
                     logIfConnectionToEndpointIsMissing(now, member);
-                    if (removeMemberIfNotHeartBeating(now, member)) {
+                    if (removeMemberIfNotHeartBeating(now, member) || removeMemberIfSuspected(now, member)) {
                         continue;
                     }
 
@@ -248,7 +327,7 @@ public class ClusterHeartbeatManager {
                     }
 
                     pingMemberIfRequired(now, member);
-                    sendHeartbeat(member.getAddress());
+                    sendHeartbeat(member.getAddress(), suspectedMembers);
                 } catch (Throwable e) {
                     logger.severe(e);
                 }
@@ -272,6 +351,72 @@ public class ClusterHeartbeatManager {
         return false;
     }
 
+    boolean removeMemberIfSuspected(long now, MemberImpl member) {
+        PhiAccrualFailureDetector detector = failureDetectors.get(member);
+        if (!phiAccrualEnabled || detector == null || !detector.isSuspected(now)) {
+            return false;
+        }
+        if (!isSuspicionConfirmed(member, now)) {
+            if (logger.isFineEnabled()) {
+                logger.fine(format("%s is suspected by the phi accrual failure detector, waiting for a confirmation"
+                        + " from another member", member));
+            }
+            return false;
+        }
+        long heartbeatTime = getHeartbeatTime(member);
+        String reason = format("Removing %s because it is suspected by the phi accrual failure detector"
+                        + " (phi: %.2f, threshold: %.2f). Now: %s, last heartbeat time was %s",
+                member, detector.phi(now), phiAccrualThreshold,
+                timeToString(now), timeToString(heartbeatTime));
+        logger.warning(reason);
+        clusterService.removeAddress(member.getAddress(), reason);
+        return true;
+    }
+
+    private boolean isSuspected(MemberImpl member, long now) {
+        if (!phiAccrualEnabled) {
+            return false;
+        }
+        PhiAccrualFailureDetector detector = failureDetectors.get(member);
+        return detector != null && detector.isSuspected(now);
+    }
+
+    /**
+     * A suspicion is confirmed if another member, which is not suspected itself, reported the same suspicion
+     * on its last heartbeat. If there is no such member to ask, then the local suspicion is sufficient.
+     */
+    boolean isSuspicionConfirmed(MemberImpl suspect, long now) {
+        boolean witnessAvailable = false;
+        for (MemberImpl member : clusterService.getMemberImpls()) {
+            if (member.localMember() || member.equals(suspect) || isSuspected(member, now)) {
+                continue;
+            }
+            Set<Address> suspectedMembers = suspicionsByReporter.get(member.getAddress());
+            if (suspectedMembers != null && suspectedMembers.contains(suspect.getAddress())) {
+                return true;
+            }
+            witnessAvailable = true;
+        }
+        return !witnessAvailable;
+    }
+
+    /**
+     * Returns the members suspected by this member, to be piggybacked on its heartbeats.
+     * It is {@code null} if the phi accrual failure detector is not enabled, so no suspicions are sent at all.
+     */
+    private Set<Address> collectSuspectedMembers(long now) {
+        if (!phiAccrualEnabled) {
+            return null;
+        }
+        Set<Address> suspectedMembers = new HashSet<Address>();
+        for (MemberImpl member : clusterService.getMemberImpls()) {
+            if (!member.localMember() && isSuspected(member, now)) {
+                suspectedMembers.add(member.getAddress());
+            }
+        }
+        return suspectedMembers;
+    }
+
     private boolean removeMemberIfMasterConfirmationExpired(long now, MemberImpl member) {
         Long lastConfirmation = masterConfirmationTimes.get(member);
         if (lastConfirmation == null) {
@@ -300,7 +445,7 @@ public class ClusterHeartbeatManager {
      * <p></p>
      * This method is called on NON-master members.
      */
-    private void heartBeatWhenSlave(long now) {
+    private void heartBeatWhenSlave(long now, Set<Address> suspectedMembers) {
         Collection<MemberImpl> members = clusterService.getMemberImpls();
 
         for (MemberImpl member : members) {
@@ -309,13 +454,13 @@ public class ClusterHeartbeatManager {
                     logIfConnectionToEndpointIsMissing(now, member);
 
                     if (isMaster(member)) {
-                        if (removeMemberIfNotHeartBeating(now, member)) {
+                        if (removeMemberIfNotHeartBeating(now, member) || removeMemberIfSuspected(now, member)) {
                             continue;
                         }
                     }
 
                     pingMemberIfRequired(now, member);
-                    sendHeartbeat(member.getAddress());
+                    sendHeartbeat(member.getAddress(), suspectedMembers);
                 } catch (Throwable e) {
                     logger.severe(e);
                 }
@@ -364,12 +509,13 @@ public class ClusterHeartbeatManager {
         });
     }
 
-    private void sendHeartbeat(Address target) {
+    private void sendHeartbeat(Address target, Set<Address> suspectedMembers) {
         if (target == null) {
             return;
         }
         try {
-            node.nodeEngine.getOperationService().send(new HeartbeatOperation(clusterClock.getClusterTime()), target);
+            HeartbeatOperation heartbeat = new HeartbeatOperation(clusterClock.getClusterTime(), suspectedMembers);
+            node.nodeEngine.getOperationService().send(heartbeat, target);
         } catch (Exception e) {
             if (logger.isFineEnabled()) {
                 logger.fine(format("Error while sending heartbeat -> %s[%s]", e.getClass().getName(), e.getMessage()));
@@ -443,15 +589,22 @@ public class ClusterHeartbeatManager {
         for (MemberImpl member : clusterService.getMemberImpls()) {
             heartbeatTimes.put(member, now);
         }
+        // learned distributions are meaningless after a clock jump
+        failureDetectors.clear();
+        suspicionsByReporter.clear();
     }
 
     void removeMember(MemberImpl member) {
         masterConfirmationTimes.remove(member);
         heartbeatTimes.remove(member);
+        failureDetectors.remove(member);
+        suspicionsByReporter.remove(member.getAddress());
     }
 
     void reset() {
         masterConfirmationTimes.clear();
         heartbeatTimes.clear();
+        failureDetectors.clear();
+        suspicionsByReporter.clear();
     }
 }
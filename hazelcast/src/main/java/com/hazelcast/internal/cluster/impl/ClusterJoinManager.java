@@ -105,11 +105,20 @@ public class ClusterJoinManager {
         clusterClock = clusterService.getClusterClock();
 
         maxWaitMillisBeforeJoin = node.getProperties().getMillis(GroupProperty.MAX_WAIT_SECONDS_BEFORE_JOIN);
-        waitMillisBeforeJoin = node.getProperties().getMillis(GroupProperty.WAIT_SECONDS_BEFORE_JOIN);
+        waitMillisBeforeJoin = getWaitMillisBeforeJoin(node);
         whileFinalizeJoinsExceptionHandler = logAllExceptions(logger, "While waiting finalize join calls...",
                 Level.WARNING);
     }
 
+    private static long getWaitMillisBeforeJoin(Node node) {
+        // in the fast join mode the join requests arriving close to each other are still batched,
+        // but the batch is closed after a short window
+        if (node.getProperties().getBoolean(GroupProperty.JOIN_FAST_ENABLED)) {
+            return node.getProperties().getMillis(GroupProperty.JOIN_FAST_BATCH_WINDOW_MILLIS);
+        }
+        return node.getProperties().getMillis(GroupProperty.WAIT_SECONDS_BEFORE_JOIN);
+    }
+
     public boolean isJoinInProgress() {
         if (joinInProgress) {
             return true;
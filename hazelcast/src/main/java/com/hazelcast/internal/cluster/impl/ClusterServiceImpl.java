@@ -54,6 +54,7 @@ import com.hazelcast.spi.NodeEngine;
 import com.hazelcast.spi.Operation;
 import com.hazelcast.spi.TransactionalService;
 import com.hazelcast.spi.impl.NodeEngineImpl;
+import com.hazelcast.spi.partitiongroup.PartitionGroupMetaData;
 import com.hazelcast.spi.properties.GroupProperty;
 import com.hazelcast.transaction.TransactionOptions;
 import com.hazelcast.transaction.TransactionalObject;
@@ -462,6 +463,9 @@ public class ClusterServiceImpl implements ClusterService, ConnectionListener, M
                         member.updateAttribute(operationType, key, value);
                     }
                     sendMemberAttributeEvent(member, operationType, key, value);
+                    if (PartitionGroupMetaData.PARTITION_WEIGHT.equals(key)) {
+                        node.getPartitionService().memberWeightChanged(member);
+                    }
                     break;
                 }
             }
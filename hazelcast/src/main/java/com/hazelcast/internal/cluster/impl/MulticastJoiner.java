@@ -31,7 +31,6 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 public class MulticastJoiner extends AbstractJoiner {
 
-    private static final long JOIN_RETRY_INTERVAL = 1000L;
     private static final int PUBLISH_INTERVAL_MIN = 50;
     private static final int PUBLISH_INTERVAL_MAX = 200;
     private static final int TRY_COUNT_MAX_LAST_DIGITS = 512;
@@ -91,7 +90,7 @@ public class MulticastJoiner extends AbstractJoiner {
             }
 
             try {
-                Thread.sleep(JOIN_RETRY_INTERVAL);
+                Thread.sleep(getJoinRetryWaitMillis());
             } catch (InterruptedException e) {
                 EmptyStatement.ignore(e);
             }
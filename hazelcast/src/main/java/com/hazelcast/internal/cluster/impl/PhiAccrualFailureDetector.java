@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.cluster.impl;
+
+import static java.lang.Math.exp;
+import static java.lang.Math.log10;
+import static java.lang.Math.max;
+import static java.lang.Math.sqrt;
+
+/**
+ * Phi accrual failure detector of a single member, as described in
+ * <i>The Phi Accrual Failure Detector</i> by Hayashibara et al.
+ * <p/>
+ * Instead of a fixed timeout, it keeps a sliding window of heartbeat inter-arrival times and
+ * expresses the suspicion of a member as {@code phi = -log10(P(no heartbeat until now))},
+ * where the probability is derived from a normal distribution fitted to the window.
+ * A {@code phi} of 1 means a 10% chance of a false suspicion, 2 means 1%, 3 means 0.1% and so on.
+ * Therefore the detector adapts to the actual network and heartbeat jitter of each member.
+ * <p/>
+ * An acceptable pause is added to the mean inter-arrival time to tolerate occasional
+ * long pauses (like GC pauses) without raising the suspicion level.
+ * <p/>
+ * This class is thread-safe.
+ */
+public final class PhiAccrualFailureDetector {
+
+    // constants of the logistic approximation of the normal cumulative distribution function
+    private static final double CDF_FACTOR = 1.5976;
+    private static final double CDF_CUBIC_FACTOR = 0.070566;
+    // standard deviation of the first estimate is a quarter of the heartbeat interval
+    private static final int FIRST_ESTIMATE_STD_DEV_DIVISOR = 4;
+
+    private final double threshold;
+    private final int maxSampleSize;
+    private final long minStdDeviationMillis;
+    private final long acceptablePauseMillis;
+    private final long heartbeatIntervalMillis;
+
+    private final long[] intervals;
+    private int intervalIndex;
+    private int intervalCount;
+    private long intervalSum;
+    private long intervalSquaredSum;
+    private long lastHeartbeatMillis = -1;
+
+    /**
+     * @param threshold               phi value above which the member is suspected
+     * @param maxSampleSize           number of inter-arrival times kept in the sliding window
+     * @param minStdDeviationMillis   lower bound of the standard deviation, it prevents a too steep
+     *                                distribution when heartbeats arrive very regularly
+     * @param acceptablePauseMillis   duration of a pause which does not raise the suspicion level
+     * @param heartbeatIntervalMillis expected heartbeat interval, used as the first estimate
+     */
+    public PhiAccrualFailureDetector(double threshold, int maxSampleSize, long minStdDeviationMillis,
+                                     long acceptablePauseMillis, long heartbeatIntervalMillis) {
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("Threshold must be positive: " + threshold);
+        }
+        if (maxSampleSize <= 0) {
+            throw new IllegalArgumentException("Sample size must be positive: " + maxSampleSize);
+        }
+        if (minStdDeviationMillis <= 0) {
+            throw new IllegalArgumentException("Minimum standard deviation must be positive: " + minStdDeviationMillis);
+        }
+        if (acceptablePauseMillis < 0) {
+            throw new IllegalArgumentException("Acceptable pause cannot be negative: " + acceptablePauseMillis);
+        }
+        if (heartbeatIntervalMillis <= 0) {
+            throw new IllegalArgumentException("Heartbeat interval must be positive: " + heartbeatIntervalMillis);
+        }
+        this.threshold = threshold;
+        this.maxSampleSize = maxSampleSize;
+        this.minStdDeviationMillis = minStdDeviationMillis;
+        this.acceptablePauseMillis = acceptablePauseMillis;
+        this.heartbeatIntervalMillis = heartbeatIntervalMillis;
+        this.intervals = new long[maxSampleSize];
+    }
+
+    /**
+     * Notifies this detector about a heartbeat received at the given time.
+     *
+     * @param timestampMillis arrival time of the heartbeat
+     */
+    public synchronized void heartbeat(long timestampMillis) {
+        if (lastHeartbeatMillis < 0) {
+            // bootstrap the distribution with the expected interval
+            long stdDeviation = heartbeatIntervalMillis / FIRST_ESTIMATE_STD_DEV_DIVISOR;
+            addInterval(heartbeatIntervalMillis - stdDeviation);
+            addInterval(heartbeatIntervalMillis + stdDeviation);
+        } else if (timestampMillis > lastHeartbeatMillis) {
+            addInterval(timestampMillis - lastHeartbeatMillis);
+        }
+        lastHeartbeatMillis = max(lastHeartbeatMillis, timestampMillis);
+    }
+
+    /**
+     * Returns the suspicion level of the member at the given time.
+     * It is {@code 0} until the first heartbeat is received.
+     *
+     * @param timestampMillis the current time
+     * @return the phi value
+     */
+    public synchronized double phi(long timestampMillis) {
+        if (lastHeartbeatMillis < 0) {
+            return 0;
+        }
+        long timeDiff = timestampMillis - lastHeartbeatMillis;
+        double mean = (double) intervalSum / intervalCount + acceptablePauseMillis;
+        double variance = (double) intervalSquaredSum / intervalCount - square((double) intervalSum / intervalCount);
+        double stdDeviation = max(sqrt(max(variance, 0)), minStdDeviationMillis);
+        return phi(timeDiff, mean, stdDeviation);
+    }
+
+    /**
+     * Returns whether the member is suspected to be dead at the given time,
+     * that is whether its {@link #phi(long)} reached the threshold.
+     *
+     * @param timestampMillis the current time
+     * @return {@code true} if the member is suspected, {@code false} otherwise
+     */
+    public boolean isSuspected(long timestampMillis) {
+        return phi(timestampMillis) >= threshold;
+    }
+
+    public synchronized long lastHeartbeat() {
+        return lastHeartbeatMillis;
+    }
+
+    static double phi(long timeDiff, double mean, double stdDeviation) {
+        double y = (timeDiff - mean) / stdDeviation;
+        double e = exp(-y * (CDF_FACTOR + CDF_CUBIC_FACTOR * y * y));
+        if (timeDiff > mean) {
+            return -log10(e / (1.0 + e));
+        }
+        return -log10(1.0 - 1.0 / (1.0 + e));
+    }
+
+    private void addInterval(long interval) {
+        if (intervalCount == maxSampleSize) {
+            long dropped = intervals[intervalIndex];
+            intervalSum -= dropped;
+            intervalSquaredSum -= dropped * dropped;
+        } else {
+            intervalCount++;
+        }
+        intervals[intervalIndex] = interval;
+        intervalIndex = (intervalIndex + 1) % maxSampleSize;
+        intervalSum += interval;
+        intervalSquaredSum += interval * interval;
+    }
+
+    private static double square(double value) {
+        return value * value;
+    }
+}
@@ -20,16 +20,26 @@ import com.hazelcast.instance.MemberImpl;
 import com.hazelcast.internal.cluster.impl.ClusterDataSerializerHook;
 import com.hazelcast.internal.cluster.impl.ClusterServiceImpl;
 import com.hazelcast.logging.ILogger;
+import com.hazelcast.nio.Address;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
 
 import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
 
+/**
+ * Heartbeat sent periodically to each member of the cluster.
+ * <p/>
+ * If the phi accrual failure detector is enabled, it also carries the members suspected by its sender.
+ * Otherwise the suspicion set is {@code null} and only a {@code false} flag is written in its place.
+ */
 public final class HeartbeatOperation extends AbstractClusterOperation
         implements JoinOperation, IdentifiedDataSerializable {
 
     private long timestamp;
+    private Set<Address> suspectedMembers;
 
     public HeartbeatOperation() {
     }
@@ -38,6 +48,16 @@ public final class HeartbeatOperation extends AbstractClusterOperation
         this.timestamp = timestamp;
     }
 
+    /**
+     * @param timestamp        the cluster time of the sender
+     * @param suspectedMembers the members suspected by the sender, or {@code null} if the phi accrual
+     *                         failure detector is not enabled
+     */
+    public HeartbeatOperation(long timestamp, Set<Address> suspectedMembers) {
+        this.timestamp = timestamp;
+        this.suspectedMembers = suspectedMembers;
+    }
+
     @Override
     public void run() {
         ClusterServiceImpl service = getService();
@@ -49,7 +69,11 @@ public final class HeartbeatOperation extends AbstractClusterOperation
             }
             return;
         }
-        service.getClusterHeartbeatManager().onHeartbeat(member, timestamp);
+        if (suspectedMembers == null) {
+            service.getClusterHeartbeatManager().onHeartbeat(member, timestamp);
+        } else {
+            service.getClusterHeartbeatManager().onHeartbeat(member, timestamp, suspectedMembers);
+        }
     }
 
     @Override
@@ -66,11 +90,29 @@ public final class HeartbeatOperation extends AbstractClusterOperation
     protected void writeInternal(ObjectDataOutput out) throws IOException {
         super.writeInternal(out);
         out.writeLong(timestamp);
+        boolean hasSuspectedMembers = suspectedMembers != null;
+        out.writeBoolean(hasSuspectedMembers);
+        if (hasSuspectedMembers) {
+            out.writeInt(suspectedMembers.size());
+            for (Address address : suspectedMembers) {
+                address.writeData(out);
+            }
+        }
     }
 
     @Override
     protected void readInternal(ObjectDataInput in) throws IOException {
         super.readInternal(in);
         timestamp = in.readLong();
+        boolean hasSuspectedMembers = in.readBoolean();
+        if (hasSuspectedMembers) {
+            int size = in.readInt();
+            suspectedMembers = new HashSet<Address>(size);
+            for (int i = 0; i < size; i++) {
+                Address address = new Address();
+                address.readData(in);
+                suspectedMembers.add(address);
+            }
+        }
     }
 }
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.diagnostics;
+
+import com.hazelcast.map.impl.MapContainer;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.spi.impl.NodeEngineImpl;
+import com.hazelcast.spi.impl.operationexecutor.OperationRunner;
+import com.hazelcast.spi.impl.operationservice.impl.OperationServiceImpl;
+import com.hazelcast.spi.properties.HazelcastProperties;
+import com.hazelcast.spi.properties.HazelcastProperty;
+import com.hazelcast.util.ItemCounter;
+import com.hazelcast.util.SpaceSavingCounter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.hazelcast.internal.diagnostics.Diagnostics.PREFIX;
+import static com.hazelcast.spi.properties.GroupProperty.MAP_HOT_KEYS_TRACKING_CAPACITY;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * A {@link DiagnosticsPlugin} that displays the partitions that executed the most operations since the previous run
+ * and the most frequently accessed keys per map.
+ * <p/>
+ * The keys are only tracked if {@link com.hazelcast.spi.properties.GroupProperty#MAP_HOT_KEYS_TRACKING_CAPACITY}
+ * is set and this plugin is enabled, see {@link #isKeyTrackingEnabled(HazelcastProperties)}.
+ */
+public final class HotPartitionsPlugin extends DiagnosticsPlugin {
+
+    /**
+     * The period in seconds this plugin runs.
+     *
+     * With the hot partitions plugin the partitions executing the most operations in the period are displayed,
+     * so a skewed load caused by a bad partitioning of the data can be detected.
+     *
+     * This plugin is very cheap to use.
+     *
+     * If set to 0, the plugin is disabled.
+     */
+    public static final HazelcastProperty PERIOD_SECONDS
+            = new HazelcastProperty(PREFIX + ".hot.partitions.period.seconds", 0, SECONDS);
+
+    /**
+     * The maximum number of partitions to display.
+     */
+    public static final HazelcastProperty MAX_PARTITIONS
+            = new HazelcastProperty(PREFIX + ".hot.partitions.max.partitions", 10);
+
+    /**
+     * The maximum number of keys to display per map.
+     */
+    public static final HazelcastProperty MAX_KEYS
+            = new HazelcastProperty(PREFIX + ".hot.partitions.max.keys", 10);
+
+    private static final double PERCENTAGE = 100d;
+
+    private final NodeEngineImpl nodeEngine;
+    private final OperationRunner[] partitionOperationRunners;
+    private final long[] previousCounts;
+    private final ItemCounter<Integer> partitionCounts = new ItemCounter<Integer>();
+    private final long periodMillis;
+    private final int maxPartitions;
+    private final int maxKeys;
+    private final boolean keysTracked;
+
+    public HotPartitionsPlugin(NodeEngineImpl nodeEngine) {
+        super(nodeEngine.getLogger(HotPartitionsPlugin.class));
+        this.nodeEngine = nodeEngine;
+        OperationServiceImpl operationService = (OperationServiceImpl) nodeEngine.getOperationService();
+        this.partitionOperationRunners = operationService.getOperationExecutor().getPartitionOperationRunners();
+        this.previousCounts = new long[partitionOperationRunners.length];
+        HazelcastProperties props = nodeEngine.getProperties();
+        this.periodMillis = props.getMillis(PERIOD_SECONDS);
+        this.maxPartitions = props.getInteger(MAX_PARTITIONS);
+        this.maxKeys = props.getInteger(MAX_KEYS);
+        this.keysTracked = isKeyTrackingEnabled(props);
+    }
+
+    /**
+     * Returns whether the hot keys of the maps should be tracked, that is whether a tracking capacity is configured
+     * and this plugin runs to report them.
+     *
+     * @param props the properties of the member
+     * @return {@code true} if the hot keys should be tracked, {@code false} otherwise
+     */
+    public static boolean isKeyTrackingEnabled(HazelcastProperties props) {
+        return props.getInteger(MAP_HOT_KEYS_TRACKING_CAPACITY) > 0
+                && props.getBoolean(Diagnostics.ENABLED)
+                && props.getMillis(PERIOD_SECONDS) > 0;
+    }
+
+    @Override
+    public long getPeriodMillis() {
+        return periodMillis;
+    }
+
+    @Override
+    public void onStart() {
+        logger.info("Plugin:active: period-millis:" + periodMillis + " max-partitions:" + maxPartitions
+                + " max-keys:" + maxKeys + " keys-tracked:" + keysTracked);
+    }
+
+    @Override
+    public void run(DiagnosticsLogWriter writer) {
+        long total = scanPartitions();
+
+        writer.startSection("HotPartitions");
+        writer.writeKeyValueEntry("operations", total);
+        renderPartitions(writer, total);
+        if (keysTracked) {
+            renderKeys(writer);
+        }
+        writer.endSection();
+    }
+
+    private long scanPartitions() {
+        partitionCounts.reset();
+        long total = 0;
+        for (OperationRunner runner : partitionOperationRunners) {
+            int partitionId = runner.getPartitionId();
+            long count = runner.partitionOperationCount();
+            long delta = count - previousCounts[partitionId];
+            previousCounts[partitionId] = count;
+            partitionCounts.set(partitionId, delta);
+            total += delta;
+        }
+        return total;
+    }
+
+    private void renderPartitions(DiagnosticsLogWriter writer, long total) {
+        writer.startSection("partitions");
+        int rendered = 0;
+        for (Integer partitionId : partitionCounts.descendingKeys()) {
+            long count = partitionCounts.get(partitionId);
+            if (rendered == maxPartitions || count == 0) {
+                break;
+            }
+            writer.writeKeyValueEntry("partition-" + partitionId, count + " (" + percentage(count, total) + "%)");
+            rendered++;
+        }
+        writer.endSection();
+    }
+
+    private void renderKeys(DiagnosticsLogWriter writer) {
+        MapService mapService = nodeEngine.getService(MapService.SERVICE_NAME);
+        writer.startSection("keys");
+        for (MapContainer mapContainer : mapService.getMapServiceContext().getMapContainers().values()) {
+            List<SpaceSavingCounter.Entry<Data>> entries = new ArrayList<SpaceSavingCounter.Entry<Data>>();
+            for (int partitionId = 0; partitionId < partitionOperationRunners.length; partitionId++) {
+                entries.addAll(mapContainer.drainHotKeys(partitionId));
+            }
+            if (entries.isEmpty()) {
+                continue;
+            }
+            SpaceSavingCounter.sortByDescendingCount(entries);
+
+            writer.startSection(mapContainer.getName());
+            for (SpaceSavingCounter.Entry<Data> entry : entries.subList(0, Math.min(maxKeys, entries.size()))) {
+                writer.writeKeyValueEntry(toString(entry.getItem()), entry.getCount() + " (error " + entry.getError() + ")");
+            }
+            writer.endSection();
+        }
+        writer.endSection();
+    }
+
+    private String toString(Data key) {
+        try {
+            return String.valueOf(nodeEngine.toObject(key));
+        } catch (Exception e) {
+            // the key class may not be available on this member
+            return key.toString();
+        }
+    }
+
+    private static String percentage(long count, long total) {
+        return total == 0 ? "0" : String.format("%.2f", (PERCENTAGE * count) / total);
+    }
+}
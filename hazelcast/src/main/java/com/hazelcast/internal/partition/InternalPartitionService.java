@@ -70,6 +70,8 @@ public interface InternalPartitionService extends IPartitionService {
 
     void memberRemoved(MemberImpl deadMember);
 
+    void memberWeightChanged(MemberImpl member);
+
     boolean prepareToSafeShutdown(long timeout, TimeUnit seconds);
 
     InternalPartition[] getInternalPartitions();
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.partition;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.DataSerializable;
+import com.hazelcast.spi.DeltaReplicationAwareService;
+import com.hazelcast.spi.MigrationAwareService;
+import com.hazelcast.spi.Operation;
+import com.hazelcast.spi.PartitionReplicationEvent;
+import com.hazelcast.spi.impl.NodeEngineImpl;
+import com.hazelcast.spi.impl.servicemanager.ServiceInfo;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Digests of the data of a partition replica by service name, computed on the replica by the
+ * {@link DeltaReplicationAwareService}s so that the partition owner replicates only the data which differs.
+ */
+public final class ReplicaDigests implements DataSerializable {
+
+    private Map<String, Object> digests;
+
+    public ReplicaDigests() {
+        digests = new HashMap<String, Object>(0);
+    }
+
+    private ReplicaDigests(Map<String, Object> digests) {
+        this.digests = digests;
+    }
+
+    /**
+     * Computes the digests of a partition replica of this member. Must be called on the partition thread.
+     */
+    public static ReplicaDigests collect(NodeEngineImpl nodeEngine, PartitionReplicationEvent event, int segmentCount) {
+        Map<String, Object> digests = new HashMap<String, Object>();
+        for (ServiceInfo serviceInfo : nodeEngine.getServiceInfos(DeltaReplicationAwareService.class)) {
+            DeltaReplicationAwareService service = (DeltaReplicationAwareService) serviceInfo.getService();
+            Object replicaDigest = service.prepareReplicaDigest(event, segmentCount);
+            if (replicaDigest != null) {
+                digests.put(serviceInfo.getName(), replicaDigest);
+            }
+        }
+        return new ReplicaDigests(digests);
+    }
+
+    /**
+     * Prepares the replication operation of a service, replicating only the data differing from the digest
+     * of the replica if there is one.
+     *
+     * @return replication operation or null if nothing will be replicated
+     */
+    public Operation prepareReplicationOperation(ServiceInfo serviceInfo, PartitionReplicationEvent event) {
+        MigrationAwareService service = (MigrationAwareService) serviceInfo.getService();
+        Object replicaDigest = digests.get(serviceInfo.getName());
+        Operation op;
+        if (replicaDigest != null && service instanceof DeltaReplicationAwareService) {
+            op = ((DeltaReplicationAwareService) service).prepareDeltaReplicationOperation(event, replicaDigest);
+        } else {
+            op = service.prepareReplicationOperation(event);
+        }
+        if (op != null) {
+            op.setServiceName(serviceInfo.getName());
+        }
+        return op;
+    }
+
+    public boolean hasDigest(String serviceName) {
+        return digests.containsKey(serviceName);
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        out.writeInt(digests.size());
+        for (Map.Entry<String, Object> entry : digests.entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeObject(entry.getValue());
+        }
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        int size = in.readInt();
+        digests = new HashMap<String, Object>(size);
+        for (int i = 0; i < size; i++) {
+            String serviceName = in.readUTF();
+            Object replicaDigest = in.readObject();
+            digests.put(serviceName, replicaDigest);
+        }
+    }
+}
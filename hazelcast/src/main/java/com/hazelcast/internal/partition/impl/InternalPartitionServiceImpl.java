@@ -46,6 +46,8 @@ import com.hazelcast.partition.PartitionEventListener;
 import com.hazelcast.partition.PartitionLostListener;
 import com.hazelcast.spi.EventPublishingService;
 import com.hazelcast.spi.ExecutionService;
+import com.hazelcast.spi.LiveOperations;
+import com.hazelcast.spi.LiveOperationsTracker;
 import com.hazelcast.spi.ManagedService;
 import com.hazelcast.spi.NodeEngine;
 import com.hazelcast.spi.OperationService;
@@ -94,7 +96,8 @@ import static java.lang.Math.min;
  */
 @SuppressWarnings({"checkstyle:methodcount", "checkstyle:classfanoutcomplexity", "checkstyle:classdataabstractioncoupling"})
 public class InternalPartitionServiceImpl implements InternalPartitionService, ManagedService,
-        EventPublishingService<PartitionEvent, PartitionEventListener<PartitionEvent>>, PartitionAwareService {
+        EventPublishingService<PartitionEvent, PartitionEventListener<PartitionEvent>>, PartitionAwareService,
+        LiveOperationsTracker {
 
     private static final int PARTITION_OWNERSHIP_WAIT_MILLIS = 10;
     private static final String EXCEPTION_MSG_PARTITION_STATE_SYNC_TIMEOUT = "Partition state sync invocation timed out";
@@ -349,6 +352,26 @@ public class InternalPartitionServiceImpl implements InternalPartitionService, M
         }
     }
 
+    /**
+     * Called when the capacity weight of a member changes. The master then rearranges the partitions, so that they
+     * are distributed according to the new weight.
+     *
+     * @param member the member whose weight changed
+     */
+    @Override
+    public void memberWeightChanged(MemberImpl member) {
+        logger.fine("Partition weight of " + member + " changed");
+        lock.lock();
+        try {
+            if (node.isMaster() && partitionStateManager.isInitialized()
+                    && nodeEngine.getClusterService().getClusterState() == ClusterState.ACTIVE) {
+                migrationManager.triggerControlTask();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
     @Override
     public void memberRemoved(final MemberImpl member) {
         logger.fine("Removing " + member);
@@ -1004,6 +1027,11 @@ public class InternalPartitionServiceImpl implements InternalPartitionService, M
         partitionEventManager.onPartitionLost(event);
     }
 
+    @Override
+    public void populate(LiveOperations liveOperations) {
+        migrationManager.populate(liveOperations);
+    }
+
     public void setInternalMigrationListener(InternalMigrationListener listener) {
         migrationManager.setInternalMigrationListener(listener);
     }
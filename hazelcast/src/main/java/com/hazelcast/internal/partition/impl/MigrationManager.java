@@ -39,6 +39,8 @@ import com.hazelcast.internal.partition.operation.ShutdownResponseOperation;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.nio.Address;
 import com.hazelcast.spi.ExecutionService;
+import com.hazelcast.spi.LiveOperations;
+import com.hazelcast.spi.Operation;
 import com.hazelcast.spi.exception.TargetNotMemberException;
 import com.hazelcast.spi.impl.NodeEngineImpl;
 import com.hazelcast.spi.partition.MigrationEndpoint;
@@ -52,6 +54,7 @@ import com.hazelcast.util.scheduler.CoalescingDelayedTrigger;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -61,6 +64,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
@@ -111,12 +115,34 @@ public class MigrationManager {
     // updates will be done under lock, but reads will be multithreaded.
     private volatile MigrationInfo activeMigrationInfo;
 
+    // migration requests whose data this member is sending as migration source, after the operation itself has run
+    private final Set<Operation> liveMigrationRequests
+            = Collections.newSetFromMap(new ConcurrentHashMap<Operation, Boolean>());
+
     // both reads and updates will be done under lock!
     private final LinkedHashSet<MigrationInfo> completedMigrations = new LinkedHashSet<MigrationInfo>();
 
     @Probe
     private final AtomicLong completedMigrationCounter = new AtomicLong();
 
+    // time spent by the master on migrations
+    @Probe(name = "totalMigrationTimeMillis")
+    private final AtomicLong totalMigrationTimeMillis = new AtomicLong();
+
+    // migration data sent by this member as migration source
+    @Probe(name = "migratedBytes")
+    private final AtomicLong migratedBytes = new AtomicLong();
+
+    // migration fragments applied by this member as migration destination
+    @Probe(name = "receivedMigrationFragments")
+    private final AtomicLong receivedMigrationFragments = new AtomicLong();
+
+    private final long maxMigrationBytesPerSecond;
+
+    private final int migrationChunkMaxEntries;
+
+    private final int migrationDeltaSegmentCount;
+
     private volatile InternalMigrationListener internalMigrationListener
             = new InternalMigrationListener.NopInternalMigrationListener();
 
@@ -137,6 +163,9 @@ public class MigrationManager {
         long intervalMillis = properties.getMillis(GroupProperty.PARTITION_MIGRATION_INTERVAL);
         partitionMigrationInterval = (intervalMillis > 0 ? intervalMillis : 0);
         partitionMigrationTimeout = properties.getMillis(GroupProperty.PARTITION_MIGRATION_TIMEOUT);
+        maxMigrationBytesPerSecond = properties.getLong(GroupProperty.PARTITION_MIGRATION_MAX_BYTES_PER_SECOND);
+        migrationChunkMaxEntries = properties.getInteger(GroupProperty.PARTITION_MIGRATION_CHUNK_MAX_ENTRIES);
+        migrationDeltaSegmentCount = properties.getInteger(GroupProperty.PARTITION_REPLICA_SYNC_DELTA_SEGMENT_COUNT);
 
         partitionStateManager = partitionService.getPartitionStateManager();
 
@@ -159,6 +188,95 @@ public class MigrationManager {
         return migrationAllowed.get() ? 1 : 0;
     }
 
+    // average migration throughput of the master, in migrations per minute
+    @Probe(name = "migrationsPerMinute")
+    private long migrationsPerMinuteProbe() {
+        long timeMillis = totalMigrationTimeMillis.get();
+        return timeMillis > 0 ? completedMigrationCounter.get() * TimeUnit.MINUTES.toMillis(1) / timeMillis : 0;
+    }
+
+    /**
+     * Called on the source of a migration when the migration data, or a chunk of it, is sent and acknowledged
+     * by the destination.
+     *
+     * @param bytes size of the migration data
+     */
+    public void onMigrationDataSent(long bytes) {
+        migratedBytes.addAndGet(bytes);
+    }
+
+    /**
+     * Returns the time the master pauses after a migration, before it starts the next one, to keep migrations within
+     * {@link GroupProperty#PARTITION_MIGRATION_MAX_BYTES_PER_SECOND}. The pause is capped at half the migration timeout
+     * so that the migration thread still handles membership changes in time.
+     *
+     * @param bytes         size of the migrated data
+     * @param elapsedMillis time the migration took
+     * @return the pause in milliseconds
+     */
+    long getMigrationPauseMillis(long bytes, long elapsedMillis) {
+        if (maxMigrationBytesPerSecond <= 0) {
+            return 0;
+        }
+        long budgetMillis = bytes * TimeUnit.SECONDS.toMillis(1) / maxMigrationBytesPerSecond;
+        return Math.min(Math.max(budgetMillis - elapsedMillis, 0), partitionMigrationTimeout / 2);
+    }
+
+    long getMigratedBytes() {
+        return migratedBytes.get();
+    }
+
+    /**
+     * Called on the destination of a migration when a fragment of the migration data has been applied.
+     */
+    public void onMigrationFragmentReceived() {
+        receivedMigrationFragments.incrementAndGet();
+    }
+
+    /**
+     * @return the number of migration fragments applied by this member as migration destination
+     */
+    public long getReceivedMigrationFragments() {
+        return receivedMigrationFragments.get();
+    }
+
+    /**
+     * Registers a migration request which keeps sending the migration data to the destination after it has run.
+     * It is reported as a live operation to the master, so the master keeps waiting for the response as long as
+     * the source makes progress; each fragment sent to the destination has its own call timeout.
+     */
+    public void addLiveMigrationRequest(Operation migrationRequest) {
+        liveMigrationRequests.add(migrationRequest);
+    }
+
+    public void removeLiveMigrationRequest(Operation migrationRequest) {
+        liveMigrationRequests.remove(migrationRequest);
+    }
+
+    void populate(LiveOperations liveOperations) {
+        for (Operation migrationRequest : liveMigrationRequests) {
+            liveOperations.add(migrationRequest.getCallerAddress(), migrationRequest.getCallId());
+        }
+    }
+
+    /**
+     * @return the maximum number of entries replicated in a single migration chunk, or a non-positive value
+     * if partitions are not migrated in chunks
+     * @see GroupProperty#PARTITION_MIGRATION_CHUNK_MAX_ENTRIES
+     */
+    public int getMigrationChunkMaxEntries() {
+        return migrationChunkMaxEntries;
+    }
+
+    /**
+     * @return the number of segments of the digests of the data the destination of a migration already holds,
+     * or a non-positive value if partitions are migrated as a whole
+     * @see GroupProperty#PARTITION_REPLICA_SYNC_DELTA_SEGMENT_COUNT
+     */
+    public int getMigrationDeltaSegmentCount() {
+        return migrationDeltaSegmentCount;
+    }
+
     void pauseMigration() {
         migrationAllowed.set(false);
     }
@@ -235,7 +353,7 @@ public class MigrationManager {
         }
     }
 
-    MigrationInfo getActiveMigration() {
+    public MigrationInfo getActiveMigration() {
         return activeMigrationInfo;
     }
 
@@ -778,6 +896,10 @@ public class MigrationManager {
 
         final MigrationInfo migrationInfo;
 
+        // size of the migrated data as reported by the source, and the pause before the next migration
+        private long migratedBytes;
+        private long pauseMillis;
+
         MigrateTask(MigrationInfo migrationInfo) {
             this.migrationInfo = migrationInfo;
             migrationInfo.setMaster(node.getThisAddress());
@@ -804,8 +926,13 @@ public class MigrationManager {
                 }
 
                 beforeMigration();
+                long start = Clock.currentTimeMillis();
                 Boolean result = executeMigrateOperation(partitionOwner);
+                long elapsed = Clock.currentTimeMillis() - start;
+                totalMigrationTimeMillis.addAndGet(elapsed);
                 processMigrationResult(result);
+                // the migration is committed or rolled back, so the pause holds back only the next migration
+                pauseMillis = getMigrationPauseMillis(migratedBytes, elapsed);
             } catch (Throwable t) {
                 final Level level = migrationInfo.isValid() ? Level.WARNING : Level.FINE;
                 logger.log(level, "Error [" + t.getClass() + ": " + t.getMessage() + "] during " + migrationInfo);
@@ -889,8 +1016,13 @@ public class MigrationManager {
                     .setTryPauseMillis(InternalPartitionService.MIGRATION_RETRY_PAUSE).invoke();
 
             try {
-                Object response = future.get();
-                return (Boolean) nodeEngine.toObject(response);
+                Object response = nodeEngine.toObject(future.get());
+                if (response instanceof Long) {
+                    // a successful migration responds with the size of the migrated data
+                    migratedBytes = (Long) response;
+                    return Boolean.TRUE;
+                }
+                return (Boolean) response;
             } catch (Throwable e) {
                 Level level = nodeEngine.isRunning() && migrationInfo.isValid() ? Level.WARNING : Level.FINE;
                 if (e instanceof ExecutionException && e.getCause() instanceof PartitionStateVersionMismatchException) {
@@ -979,6 +1111,13 @@ public class MigrationManager {
             partitionEventManager.sendMigrationEvent(migrationInfo,  MigrationEvent.MigrationStatus.COMPLETED);
         }
 
+        /**
+         * @return the time in milliseconds the migration thread pauses before it starts the next migration
+         */
+        long getPauseMillis() {
+            return pauseMillis;
+        }
+
         @Override
         public String toString() {
             return getClass().getSimpleName() + "{" + "migrationInfo=" + migrationInfo + '}';
@@ -81,8 +81,9 @@ class MigrationThread extends Thread implements Runnable {
 
             migrating |= runnable instanceof MigrationManager.MigrateTask;
             processTask(runnable);
-            if (partitionMigrationInterval > 0) {
-                Thread.sleep(partitionMigrationInterval);
+            long pauseMillis = max(partitionMigrationInterval, getPauseMillis(runnable));
+            if (pauseMillis > 0) {
+                Thread.sleep(pauseMillis);
             }
         }
         boolean hasNoTasks = !queue.hasMigrationTasks();
@@ -114,6 +115,11 @@ class MigrationThread extends Thread implements Runnable {
         return true;
     }
 
+    private static long getPauseMillis(MigrationRunnable runnable) {
+        return runnable instanceof MigrationManager.MigrateTask
+                ? ((MigrationManager.MigrateTask) runnable).getPauseMillis() : 0;
+    }
+
     MigrationRunnable getActiveTask() {
         return activeTask;
     }
@@ -19,10 +19,12 @@ package com.hazelcast.internal.partition.impl;
 import com.hazelcast.instance.Node;
 import com.hazelcast.internal.metrics.Probe;
 import com.hazelcast.internal.partition.InternalPartition;
+import com.hazelcast.internal.partition.operation.ReplicaDigestOperation;
 import com.hazelcast.internal.partition.operation.ReplicaSyncRequest;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.nio.Address;
 import com.hazelcast.spi.ExecutionService;
+import com.hazelcast.spi.Operation;
 import com.hazelcast.spi.TaskScheduler;
 import com.hazelcast.spi.impl.NodeEngineImpl;
 import com.hazelcast.spi.properties.GroupProperty;
@@ -64,6 +66,7 @@ public class PartitionReplicaManager {
     private final long partitionMigrationTimeout;
     private final int partitionCount;
     private final int maxParallelReplications;
+    private final int replicaSyncDeltaSegmentCount;
 
     PartitionReplicaManager(Node node, InternalPartitionServiceImpl partitionService) {
         this.node = node;
@@ -78,6 +81,7 @@ public class PartitionReplicaManager {
         partitionMigrationTimeout = properties.getMillis(GroupProperty.PARTITION_MIGRATION_TIMEOUT);
         maxParallelReplications = properties.getInteger(GroupProperty.PARTITION_MAX_PARALLEL_REPLICATIONS);
         replicaSyncProcessLock = new Semaphore(maxParallelReplications);
+        replicaSyncDeltaSegmentCount = properties.getInteger(GroupProperty.PARTITION_REPLICA_SYNC_DELTA_SEGMENT_COUNT);
 
         replicaVersions = new PartitionReplicaVersions[partitionCount];
         for (int i = 0; i < replicaVersions.length; i++) {
@@ -203,8 +207,16 @@ public class PartitionReplicaManager {
                         + ", replicaIndex=" + replicaIndex);
             }
             replicaSyncScheduler.schedule(partitionMigrationTimeout, partitionId, syncInfo);
-            ReplicaSyncRequest syncRequest = new ReplicaSyncRequest(partitionId, replicaIndex);
-            nodeEngine.getOperationService().send(syncRequest, target);
+            if (replicaSyncDeltaSegmentCount > 0) {
+                // the replica digests are computed on the partition thread, the sync request is sent from there
+                Operation digestOperation = new ReplicaDigestOperation(partitionId, replicaIndex, target,
+                        replicaSyncDeltaSegmentCount);
+                digestOperation.setNodeEngine(nodeEngine);
+                nodeEngine.getOperationService().execute(digestOperation);
+            } else {
+                ReplicaSyncRequest syncRequest = new ReplicaSyncRequest(partitionId, replicaIndex);
+                nodeEngine.getOperationService().send(syncRequest, target);
+            }
             return true;
         }
         return false;
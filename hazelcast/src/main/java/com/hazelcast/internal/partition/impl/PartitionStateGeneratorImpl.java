@@ -26,6 +26,7 @@ import com.hazelcast.nio.Address;
 import com.hazelcast.partition.membergroup.MemberGroup;
 import com.hazelcast.partition.membergroup.SingleMemberGroup;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -37,6 +38,15 @@ import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
 
+/**
+ * The default {@link PartitionStateGenerator}. It balances the partition counts of the member groups per replica index,
+ * keeping the current replica owners as long as the balance allows.
+ * <p/>
+ * Member groups own primary replicas in proportion to their weights, where the weight of a group is the average capacity
+ * weight of its members (see {@link PartitionWeights}). Backup replicas are spread evenly, as far as a group can still
+ * take them without holding two replicas of the same partition. Inside a group, the partitions are distributed in
+ * proportion to the weights of the members. Groups of members with equal weights are therefore balanced evenly.
+ */
 final class PartitionStateGeneratorImpl implements PartitionStateGenerator {
 
     private static final ILogger LOGGER = Logger.getLogger(PartitionStateGenerator.class);
@@ -111,43 +121,46 @@ final class PartitionStateGeneratorImpl implements PartitionStateGenerator {
     private void tryArrange(Address[][] state, Queue<NodeGroup> groups, int partitionCount, boolean aggressive) {
         int groupSize = groups.size();
         int replicaCount = Math.min(groupSize, InternalPartition.MAX_REPLICA_COUNT);
-        int avgPartitionPerGroup = partitionCount / groupSize;
         // clear unused replica owners
         // initialize partition registry for each group
         initializeGroupPartitions(state, groups, replicaCount, aggressive);
         for (int index = 0; index < replicaCount; index++) {
+            // number of groups should have (average + 1) partitions
+            int remainingPartitionCount = initializeAvgPartitionCounts(groups, partitionCount, index);
             // partitions those are not bound to any node/group
             Queue<Integer> freePartitions = getUnownedPartitions(state, index);
             // groups having partitions under average
             Queue<NodeGroup> underLoadedGroups = new LinkedList<NodeGroup>();
             // groups having partitions over average
             List<NodeGroup> overLoadedGroups = new LinkedList<NodeGroup>();
-            // number of groups should have (average + 1) partitions
-            int plusOneGroupCount = partitionCount - avgPartitionPerGroup * groupSize;
+            int plusOneGroupCount = remainingPartitionCount;
             // determine under-loaded and over-loaded groups
             for (NodeGroup nodeGroup : groups) {
                 int size = nodeGroup.getPartitionCount(index);
-                if (size < avgPartitionPerGroup) {
+                if (size < nodeGroup.getAvgPartitionCount(index)) {
                     underLoadedGroups.add(nodeGroup);
-                } else if (size > avgPartitionPerGroup) {
+                } else if (size > nodeGroup.getAvgPartitionCount(index)) {
                     overLoadedGroups.add(nodeGroup);
                 }
                 // What about maxPartitionPerGroup ??
             }
+            // groups which can take only a few of the free partitions take them first
+            assignFreePartitionsToConstrainedGroups(underLoadedGroups, freePartitions, index);
             // distribute free partitions among under-loaded groups
             plusOneGroupCount = tryToDistributeUnownedPartitions(underLoadedGroups, freePartitions,
-                    avgPartitionPerGroup, index, plusOneGroupCount);
+                    index, plusOneGroupCount);
             if (!freePartitions.isEmpty()) {
                 // if there are still free partitions those could not be distributed
                 // to under-loaded groups then one-by-one distribute them among all groups
                 // until queue is empty.
                 distributeUnownedPartitions(groups, freePartitions, index);
+                // groups which got partitions over average can give them to the ones still under-loaded
+                addOverLoadedGroups(groups, overLoadedGroups, index);
             }
             assert freePartitions.isEmpty() : "There are partitions not-owned yet: " + freePartitions;
 
             // iterate through over-loaded groups' partitions and distribute them to under-loaded groups.
-            transferPartitionsBetweenGroups(underLoadedGroups, overLoadedGroups, index,
-                    avgPartitionPerGroup, plusOneGroupCount);
+            transferPartitionsBetweenGroups(underLoadedGroups, overLoadedGroups, index, plusOneGroupCount);
             // post process each group's partition table (distribute partitions added to group to nodes
             // and balance load of partition ownership s in group) and save partition ownerships to
             // cluster partition state table.
@@ -155,50 +168,114 @@ final class PartitionStateGeneratorImpl implements PartitionStateGenerator {
         }
     }
 
+    /**
+     * Sets the number of partitions each group should own for the given replica index and returns the number of
+     * partitions left over by the rounding. That many groups own one more partition.
+     * <p/>
+     * The primary replicas are shared in proportion to the group weights, the backup replicas evenly. A group can hold
+     * only one replica of a partition, so its share of a backup index is capped by the number of partitions it does
+     * not hold at the lower replica indexes yet, and the excess is shared among the other groups.
+     */
+    private static int initializeAvgPartitionCounts(Collection<NodeGroup> groups, int partitionCount, int index) {
+        List<NodeGroup> groupList = new ArrayList<NodeGroup>(groups);
+        double[] weights = new double[groupList.size()];
+        double[] capacities = new double[groupList.size()];
+        for (int i = 0; i < weights.length; i++) {
+            NodeGroup group = groupList.get(i);
+            weights[i] = index == 0 ? group.getWeight() : 1;
+            int heldPartitionCount = 0;
+            for (int lowerIndex = 0; lowerIndex < index; lowerIndex++) {
+                heldPartitionCount += group.getPartitionCount(lowerIndex);
+            }
+            capacities[i] = partitionCount - heldPartitionCount;
+        }
+        double[] shares = sharePartitions(partitionCount, weights, capacities);
+        int assignedPartitionCount = 0;
+        for (int i = 0; i < shares.length; i++) {
+            int avgPartitionCount = (int) shares[i];
+            groupList.get(i).setAvgPartitionCount(index, avgPartitionCount);
+            assignedPartitionCount += avgPartitionCount;
+        }
+        return partitionCount - assignedPartitionCount;
+    }
+
+    /**
+     * Shares the partitions in proportion to the weights, without exceeding the capacities. A share exceeding its
+     * capacity is cut to the capacity and the rest is shared again among the others.
+     */
+    private static double[] sharePartitions(int partitionCount, double[] weights, double[] capacities) {
+        double[] shares = new double[weights.length];
+        boolean[] capped = new boolean[weights.length];
+        double remainingPartitionCount = partitionCount;
+        boolean cappedAny = true;
+        while (cappedAny) {
+            double totalWeight = 0;
+            for (int i = 0; i < weights.length; i++) {
+                totalWeight += capped[i] ? 0 : weights[i];
+            }
+            cappedAny = false;
+            for (int i = 0; i < weights.length; i++) {
+                if (capped[i]) {
+                    continue;
+                }
+                shares[i] = remainingPartitionCount * weights[i] / totalWeight;
+                if (shares[i] > capacities[i]) {
+                    // cutting a share only raises the shares of the others, so a capped share stays capped
+                    shares[i] = capacities[i];
+                    capped[i] = true;
+                    cappedAny = true;
+                    remainingPartitionCount -= capacities[i];
+                }
+            }
+        }
+        return shares;
+    }
+
+    private static int getExpectedPartitionCount(NodeGroup group, int index, int plusOneGroupCount) {
+        int avgPartitionCount = group.getAvgPartitionCount(index);
+        return plusOneGroupCount > 0 ? avgPartitionCount + 1 : avgPartitionCount;
+    }
+
     @SuppressWarnings({"checkstyle:cyclomaticcomplexity", "checkstyle:npathcomplexity"})
     private void transferPartitionsBetweenGroups(Queue<NodeGroup> underLoadedGroups, Collection<NodeGroup> overLoadedGroups,
-                                                 int index, int avgPartitionPerGroup, int plusOneGroupCount) {
+                                                 int index, int plusOneGroupCount) {
 
-        int maxPartitionPerGroup = avgPartitionPerGroup + 1;
         int maxTries = underLoadedGroups.size() * overLoadedGroups.size() * DEFAULT_RETRY_MULTIPLIER;
         int tries = 0;
-        int expectedPartitionCount = plusOneGroupCount > 0 ? maxPartitionPerGroup : avgPartitionPerGroup;
         while (tries++ < maxTries && !underLoadedGroups.isEmpty()) {
             NodeGroup toGroup = underLoadedGroups.poll();
             Iterator<NodeGroup> overLoadedGroupsIterator = overLoadedGroups.iterator();
             while (overLoadedGroupsIterator.hasNext()) {
                 NodeGroup fromGroup = overLoadedGroupsIterator.next();
-                selectToGroupPartitions(index, expectedPartitionCount, toGroup, fromGroup);
+                selectToGroupPartitions(index, getExpectedPartitionCount(fromGroup, index, plusOneGroupCount),
+                        getExpectedPartitionCount(toGroup, index, plusOneGroupCount), toGroup, fromGroup);
                 int fromCount = fromGroup.getPartitionCount(index);
-                if (plusOneGroupCount > 0 && fromCount == maxPartitionPerGroup) {
-                    if (--plusOneGroupCount == 0) {
-                        expectedPartitionCount = avgPartitionPerGroup;
-                    }
+                if (plusOneGroupCount > 0 && fromCount == fromGroup.getAvgPartitionCount(index) + 1) {
+                    plusOneGroupCount--;
                 }
-                if (fromCount <= expectedPartitionCount) {
+                if (fromCount <= getExpectedPartitionCount(fromGroup, index, plusOneGroupCount)) {
                     overLoadedGroupsIterator.remove();
                 }
                 int toCount = toGroup.getPartitionCount(index);
-                if (plusOneGroupCount > 0 && toCount == maxPartitionPerGroup) {
-                    if (--plusOneGroupCount == 0) {
-                        expectedPartitionCount = avgPartitionPerGroup;
-                    }
+                if (plusOneGroupCount > 0 && toCount == toGroup.getAvgPartitionCount(index) + 1) {
+                    plusOneGroupCount--;
                 }
-                if (toCount >= expectedPartitionCount) {
+                if (toCount >= getExpectedPartitionCount(toGroup, index, plusOneGroupCount)) {
                     break;
                 }
             }
-            if (toGroup.getPartitionCount(index) < avgPartitionPerGroup/* && !underLoadedGroups.contains(toGroup)*/) {
+            if (toGroup.getPartitionCount(index) < toGroup.getAvgPartitionCount(index)) {
                 underLoadedGroups.offer(toGroup);
             }
         }
     }
 
-    private void selectToGroupPartitions(int index, int expectedPartitionCount, NodeGroup toGroup, NodeGroup fromGroup) {
+    private void selectToGroupPartitions(int index, int fromExpectedPartitionCount, int toExpectedPartitionCount,
+                                         NodeGroup toGroup, NodeGroup fromGroup) {
         Iterator<Integer> partitionsIterator = fromGroup.getPartitionsIterator(index);
         while (partitionsIterator.hasNext()
-                && fromGroup.getPartitionCount(index) > expectedPartitionCount
-                && toGroup.getPartitionCount(index) < expectedPartitionCount) {
+                && fromGroup.getPartitionCount(index) > fromExpectedPartitionCount
+                && toGroup.getPartitionCount(index) < toExpectedPartitionCount) {
             Integer partitionId = partitionsIterator.next();
             if (toGroup.addPartition(index, partitionId)) {
                 partitionsIterator.remove();
@@ -233,17 +310,58 @@ final class PartitionStateGeneratorImpl implements PartitionStateGenerator {
         }
     }
 
+    /**
+     * Lets the under-loaded groups which can take fewer than twice the free partitions they need pick their partitions
+     * before the others pick from the same partitions.
+     */
+    private void assignFreePartitionsToConstrainedGroups(Queue<NodeGroup> underLoadedGroups, Queue<Integer> freePartitions,
+                                                         int index) {
+        Iterator<NodeGroup> iterator = underLoadedGroups.iterator();
+        while (iterator.hasNext()) {
+            NodeGroup group = iterator.next();
+            int neededPartitionCount = group.getAvgPartitionCount(index) - group.getPartitionCount(index);
+            List<Integer> availablePartitions = new ArrayList<Integer>();
+            for (Integer partitionId : freePartitions) {
+                if (!group.containsPartition(partitionId)) {
+                    availablePartitions.add(partitionId);
+                }
+            }
+            if (availablePartitions.size() >= 2 * neededPartitionCount) {
+                continue;
+            }
+            if (availablePartitions.size() > neededPartitionCount) {
+                availablePartitions = availablePartitions.subList(0, neededPartitionCount);
+            }
+            for (Integer partitionId : availablePartitions) {
+                group.addPartition(index, partitionId);
+            }
+            freePartitions.removeAll(availablePartitions);
+            if (group.getPartitionCount(index) >= group.getAvgPartitionCount(index)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private static void addOverLoadedGroups(Collection<NodeGroup> groups, List<NodeGroup> overLoadedGroups, int index) {
+        for (NodeGroup group : groups) {
+            if (group.getPartitionCount(index) > group.getAvgPartitionCount(index) && !overLoadedGroups.contains(group)) {
+                overLoadedGroups.add(group);
+            }
+        }
+    }
+
     private int tryToDistributeUnownedPartitions(Queue<NodeGroup> underLoadedGroups, Queue<Integer> freePartitions,
-                                                 int avgPartitionPerGroup, int index, int plusOneGroupCount) {
+                                                 int index, int plusOneGroupCount) {
 
         // distribute free partitions among under-loaded groups
-        int maxPartitionPerGroup = avgPartitionPerGroup + 1;
         int maxTries = freePartitions.size() * underLoadedGroups.size();
         int tries = 0;
         while (tries++ < maxTries && !freePartitions.isEmpty() && !underLoadedGroups.isEmpty()) {
             NodeGroup group = underLoadedGroups.poll();
             assignFreePartitionsToNodeGroup(freePartitions, index, group);
             int count = group.getPartitionCount(index);
+            int avgPartitionPerGroup = group.getAvgPartitionCount(index);
+            int maxPartitionPerGroup = avgPartitionPerGroup + 1;
             if (plusOneGroupCount > 0 && count == maxPartitionPerGroup) {
                 if (--plusOneGroupCount == 0) {
                     // all (avg + 1) partitions owned groups are found
@@ -251,7 +369,8 @@ final class PartitionStateGeneratorImpl implements PartitionStateGenerator {
                     // remove it.
                     Iterator<NodeGroup> underLoaded = underLoadedGroups.iterator();
                     while (underLoaded.hasNext()) {
-                        if (underLoaded.next().getPartitionCount(index) >= avgPartitionPerGroup) {
+                        NodeGroup underLoadedGroup = underLoaded.next();
+                        if (underLoadedGroup.getPartitionCount(index) >= underLoadedGroup.getAvgPartitionCount(index)) {
                             underLoaded.remove();
                         }
                     }
@@ -345,13 +464,13 @@ final class PartitionStateGeneratorImpl implements PartitionStateGenerator {
             if (memberGroup instanceof SingleMemberGroup || memberGroup.size() == 1) {
                 nodeGroup = new SingleNodeGroup();
                 MemberImpl next = (MemberImpl) memberGroup.iterator().next();
-                nodeGroup.addNode(next.getAddress());
+                nodeGroup.addNode(next.getAddress(), PartitionWeights.getWeight(next));
             } else {
                 nodeGroup = new DefaultNodeGroup();
                 Iterator<Member> iter = memberGroup.iterator();
                 while (iter.hasNext()) {
                     MemberImpl next = (MemberImpl) iter.next();
-                    nodeGroup.addNode(next.getAddress());
+                    nodeGroup.addNode(next.getAddress(), PartitionWeights.getWeight(next));
                 }
             }
             nodeGroups.add(nodeGroup);
@@ -361,11 +480,11 @@ final class PartitionStateGeneratorImpl implements PartitionStateGenerator {
 
     private boolean areGroupsBalanced(Collection<NodeGroup> groups, int partitionCount) {
         float ratio = RANGE_CHECK_RATIO;
-        int avgPartitionPerGroup = partitionCount / groups.size();
         int replicaCount = Math.min(groups.size(), InternalPartition.MAX_REPLICA_COUNT);
 
         for (NodeGroup group : groups) {
             for (int i = 0; i < replicaCount; i++) {
+                int avgPartitionPerGroup = group.getAvgPartitionCount(i);
                 int partitionCountOfGroup = group.getPartitionCount(i);
                 if (Math.abs(partitionCountOfGroup - avgPartitionPerGroup) <= MIN_AVG_OWNER_DIFF) {
                     continue;
@@ -385,10 +504,18 @@ final class PartitionStateGeneratorImpl implements PartitionStateGenerator {
     // ----- INNER CLASSES -----
 
     private interface NodeGroup {
-        void addNode(Address address);
+        void addNode(Address address, double weight);
+
+        double getWeight();
+
+        int getAvgPartitionCount(int index);
+
+        void setAvgPartitionCount(int index, int avgPartitionCount);
 
         boolean hasNode(Address address);
 
+        boolean containsPartition(Integer partitionId);
+
         Set<Address> getNodes();
 
         PartitionTable getPartitionTable(Address address);
@@ -409,11 +536,31 @@ final class PartitionStateGeneratorImpl implements PartitionStateGenerator {
     private static class DefaultNodeGroup implements NodeGroup {
         final PartitionTable groupPartitionTable = new PartitionTable();
         final Map<Address, PartitionTable> nodePartitionTables = new HashMap<Address, PartitionTable>();
+        final Map<Address, Double> nodeWeights = new HashMap<Address, Double>();
         final LinkedList<Integer> partitionQ = new LinkedList<Integer>();
+        double totalWeight;
+        final int[] avgPartitionCounts = new int[InternalPartition.MAX_REPLICA_COUNT];
 
         @Override
-        public void addNode(Address address) {
+        public void addNode(Address address, double weight) {
             nodePartitionTables.put(address, new PartitionTable());
+            Double previous = nodeWeights.put(address, weight);
+            totalWeight += weight - (previous != null ? previous : 0);
+        }
+
+        @Override
+        public double getWeight() {
+            return totalWeight / nodeWeights.size();
+        }
+
+        @Override
+        public int getAvgPartitionCount(int index) {
+            return avgPartitionCounts[index];
+        }
+
+        @Override
+        public void setAvgPartitionCount(int index, int avgPartitionCount) {
+            avgPartitionCounts[index] = avgPartitionCount;
         }
 
         @Override
@@ -445,7 +592,8 @@ final class PartitionStateGeneratorImpl implements PartitionStateGenerator {
             return groupPartitionTable.size(index);
         }
 
-        private boolean containsPartition(Integer partitionId) {
+        @Override
+        public boolean containsPartition(Integer partitionId) {
             return groupPartitionTable.contains(partitionId);
         }
 
@@ -519,10 +667,13 @@ final class PartitionStateGeneratorImpl implements PartitionStateGenerator {
                     table.add(index, partitionQ.poll());
                 }
             } else {
-                List<PartitionTable> underLoadedStates = new LinkedList<PartitionTable>();
-                int avgCount = slimDownNodesToAvgPartitionTableSize(index, underLoadedStates);
+                int totalCount = getPartitionCount(index);
+                List<Address> underLoadedNodes = new LinkedList<Address>();
+                slimDownNodesToAvgPartitionTableSize(index, totalCount, underLoadedNodes);
                 if (!partitionQ.isEmpty()) {
-                    for (PartitionTable table : underLoadedStates) {
+                    for (Address node : underLoadedNodes) {
+                        PartitionTable table = nodePartitionTables.get(node);
+                        int avgCount = getNodeAvgPartitionCount(node, totalCount);
                         while (table.size(index) < avgCount) {
                             table.add(index, partitionQ.poll());
                         }
@@ -539,11 +690,14 @@ final class PartitionStateGeneratorImpl implements PartitionStateGenerator {
             }
         }
 
-        private int slimDownNodesToAvgPartitionTableSize(int index, List<PartitionTable> underLoadedStates) {
-            int totalCount = getPartitionCount(index);
-            int avgCount = totalCount / nodePartitionTables.values().size();
-            for (PartitionTable table : nodePartitionTables.values()) {
-                Set<Integer> partitions = table.getPartitions(index);
+        private int getNodeAvgPartitionCount(Address node, int totalCount) {
+            return (int) (totalCount * nodeWeights.get(node) / totalWeight);
+        }
+
+        private void slimDownNodesToAvgPartitionTableSize(int index, int totalCount, List<Address> underLoadedNodes) {
+            for (Map.Entry<Address, PartitionTable> entry : nodePartitionTables.entrySet()) {
+                int avgCount = getNodeAvgPartitionCount(entry.getKey(), totalCount);
+                Set<Integer> partitions = entry.getValue().getPartitions(index);
                 if (partitions.size() > avgCount) {
                     Integer[] partitionArray = partitions.toArray(new Integer[partitions.size()]);
                     while (partitions.size() > avgCount) {
@@ -552,10 +706,9 @@ final class PartitionStateGeneratorImpl implements PartitionStateGenerator {
                         partitionQ.add(partitionId);
                     }
                 } else {
-                    underLoadedStates.add(table);
+                    underLoadedNodes.add(entry.getKey());
                 }
             }
-            return avgCount;
         }
 
         @Override
@@ -568,17 +721,35 @@ final class PartitionStateGeneratorImpl implements PartitionStateGenerator {
         final PartitionTable nodeTable = new PartitionTable();
         Address address;
         Set<Address> nodes;
+        double weight;
+        final int[] avgPartitionCounts = new int[InternalPartition.MAX_REPLICA_COUNT];
 
         @Override
-        public void addNode(Address addr) {
+        public void addNode(Address addr, double weight) {
             if (address != null) {
                 LOGGER.warning("Single node group already has an address => " + address);
                 return;
             }
             this.address = addr;
+            this.weight = weight;
             nodes = Collections.singleton(address);
         }
 
+        @Override
+        public double getWeight() {
+            return weight;
+        }
+
+        @Override
+        public int getAvgPartitionCount(int index) {
+            return avgPartitionCounts[index];
+        }
+
+        @Override
+        public void setAvgPartitionCount(int index, int avgPartitionCount) {
+            avgPartitionCounts[index] = avgPartitionCount;
+        }
+
         @Override
         public boolean hasNode(Address address) {
             return this.address != null && this.address.equals(address);
@@ -604,7 +775,8 @@ final class PartitionStateGeneratorImpl implements PartitionStateGenerator {
             return nodeTable.size(index);
         }
 
-        private boolean containsPartition(Integer partitionId) {
+        @Override
+        public boolean containsPartition(Integer partitionId) {
             return nodeTable.contains(partitionId);
         }
 
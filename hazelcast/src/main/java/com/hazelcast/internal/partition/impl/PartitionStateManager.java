@@ -33,6 +33,8 @@ import com.hazelcast.nio.Address;
 import com.hazelcast.partition.membergroup.MemberGroup;
 import com.hazelcast.partition.membergroup.MemberGroupFactory;
 import com.hazelcast.partition.membergroup.MemberGroupFactoryFactory;
+import com.hazelcast.spi.properties.GroupProperty;
+import com.hazelcast.spi.properties.HazelcastProperties;
 
 import java.util.Collection;
 import java.util.Set;
@@ -47,6 +49,9 @@ import static com.hazelcast.cluster.memberselector.MemberSelectors.DATA_MEMBER_S
  */
 public class PartitionStateManager {
 
+    private static final String DEFAULT_PLACEMENT_STRATEGY = "default";
+    private static final String RENDEZVOUS_PLACEMENT_STRATEGY = "rendezvous";
+
     private final Node node;
     private final ILogger logger;
 
@@ -81,7 +86,20 @@ public class PartitionStateManager {
 
         memberGroupFactory = MemberGroupFactoryFactory.newMemberGroupFactory(node.getConfig().getPartitionGroupConfig(),
                 node.getDiscoveryService());
-        partitionStateGenerator = new PartitionStateGeneratorImpl();
+        partitionStateGenerator = createPartitionStateGenerator(node.getProperties());
+    }
+
+    private static PartitionStateGenerator createPartitionStateGenerator(HazelcastProperties properties) {
+        String strategy = properties.getString(GroupProperty.PARTITION_PLACEMENT_STRATEGY);
+        if (DEFAULT_PLACEMENT_STRATEGY.equals(strategy)) {
+            return new PartitionStateGeneratorImpl();
+        }
+        if (RENDEZVOUS_PLACEMENT_STRATEGY.equals(strategy)) {
+            return new RendezvousPartitionStateGenerator();
+        }
+        throw new IllegalArgumentException("Unknown partition placement strategy: " + strategy
+                + ". Supported strategies are '" + DEFAULT_PLACEMENT_STRATEGY + "' and '"
+                + RENDEZVOUS_PLACEMENT_STRATEGY + "'");
     }
 
     @Probe
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.partition.impl;
+
+import com.hazelcast.core.Member;
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.logging.Logger;
+import com.hazelcast.spi.partitiongroup.PartitionGroupMetaData;
+
+/**
+ * Utility to read the capacity weights advertised by the members with the
+ * {@link PartitionGroupMetaData#PARTITION_WEIGHT} attribute. The partition state generators
+ * assign partitions to the members in proportion to their weights.
+ */
+final class PartitionWeights {
+
+    static final double DEFAULT_WEIGHT = 1;
+
+    private static final ILogger LOGGER = Logger.getLogger(PartitionWeights.class);
+
+    private PartitionWeights() {
+    }
+
+    /**
+     * Returns the capacity weight of the member, as defined by its
+     * {@link PartitionGroupMetaData#PARTITION_WEIGHT} attribute. The attribute can be a number or
+     * a string. A missing or invalid weight is replaced with {@link #DEFAULT_WEIGHT}.
+     */
+    static double getWeight(Member member) {
+        Object attribute = member.getAttributes().get(PartitionGroupMetaData.PARTITION_WEIGHT);
+        if (attribute == null) {
+            return DEFAULT_WEIGHT;
+        }
+        double weight;
+        try {
+            weight = attribute instanceof Number
+                    ? ((Number) attribute).doubleValue() : Double.parseDouble(attribute.toString());
+        } catch (NumberFormatException e) {
+            weight = -1;
+        }
+        if (weight > 0 && !Double.isInfinite(weight)) {
+            return weight;
+        }
+        LOGGER.warning("Ignoring invalid partition weight " + attribute + " of " + member
+                + ", using " + DEFAULT_WEIGHT + " instead");
+        return DEFAULT_WEIGHT;
+    }
+}
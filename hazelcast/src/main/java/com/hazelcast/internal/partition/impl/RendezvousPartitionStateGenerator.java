@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.partition.impl;
+
+import com.hazelcast.core.Member;
+import com.hazelcast.internal.partition.InternalPartition;
+import com.hazelcast.internal.partition.PartitionStateGenerator;
+import com.hazelcast.nio.Address;
+import com.hazelcast.partition.membergroup.MemberGroup;
+import com.hazelcast.spi.partitiongroup.PartitionGroupMetaData;
+import com.hazelcast.util.HashUtil;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+import static com.hazelcast.util.StringUtil.UTF8_CHARSET;
+
+/**
+ * A {@link PartitionStateGenerator} based on weighted rendezvous (highest random weight) hashing.
+ * <p/>
+ * Each member gets a pseudo-random score per partition, derived from its address, the partition id and its
+ * capacity weight (see {@link PartitionGroupMetaData#PARTITION_WEIGHT}). The replicas of a partition are assigned
+ * to the members with the highest scores, each replica in a different member group. Since the score of a member
+ * does not depend on the other members, a joining member takes over only the partitions it scores highest for,
+ * and only the partitions of a leaving member are reassigned. The partition table does not reshuffle on
+ * membership changes.
+ * <p/>
+ * To keep the partition counts even, the number of partitions per replica index a member can own is bounded by
+ * its share of the total weight times {@link #LOAD_BOUND_FACTOR}. A member over the bound is skipped in favor of
+ * the member with the next highest score.
+ */
+final class RendezvousPartitionStateGenerator implements PartitionStateGenerator {
+
+    private static final double LOAD_BOUND_FACTOR = 1.1;
+    private static final long PARTITION_SEED = 0x9E3779B97F4A7C15L;
+    // 53 bits, the precision of a double
+    private static final int HASH_SHIFT = 11;
+    private static final double HASH_RANGE = 1L << (Long.SIZE - HASH_SHIFT);
+
+    @Override
+    public Address[][] arrange(Collection<MemberGroup> memberGroups, InternalPartition[] currentState) {
+        List<Candidate> candidates = createCandidates(memberGroups);
+        if (candidates.isEmpty()) {
+            return null;
+        }
+
+        int groupCount = candidates.get(candidates.size() - 1).group + 1;
+        int replicaCount = Math.min(groupCount, InternalPartition.MAX_REPLICA_COUNT);
+        int partitionCount = currentState.length;
+        double[][] scores = score(candidates, partitionCount);
+        int[] capacities = getCapacities(candidates, partitionCount);
+
+        Address[][] state = new Address[partitionCount][InternalPartition.MAX_REPLICA_COUNT];
+        int[][] assignments = new int[partitionCount][replicaCount];
+        for (int replicaIndex = 0; replicaIndex < replicaCount; replicaIndex++) {
+            int[] loads = new int[candidates.size()];
+            for (int partitionId = 0; partitionId < partitionCount; partitionId++) {
+                int selected = select(candidates, scores[partitionId], assignments[partitionId], replicaIndex,
+                        loads, capacities);
+                assignments[partitionId][replicaIndex] = selected;
+                loads[selected]++;
+                state[partitionId][replicaIndex] = candidates.get(selected).address;
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Selects the member with the highest score which is not in a group of the previous replicas and has not
+     * reached its capacity yet. If all of them reached their capacities, the capacity is ignored.
+     */
+    private static int select(List<Candidate> candidates, double[] scores, int[] assignments, int replicaIndex,
+                              int[] loads, int[] capacities) {
+        int selected = -1;
+        int fallback = -1;
+        for (int i = 0; i < candidates.size(); i++) {
+            if (isGroupAssigned(candidates, assignments, replicaIndex, candidates.get(i).group)) {
+                continue;
+            }
+            if (fallback == -1 || scores[i] > scores[fallback]) {
+                fallback = i;
+            }
+            if (loads[i] < capacities[i] && (selected == -1 || scores[i] > scores[selected])) {
+                selected = i;
+            }
+        }
+        return selected != -1 ? selected : fallback;
+    }
+
+    private static boolean isGroupAssigned(List<Candidate> candidates, int[] assignments, int replicaIndex, int group) {
+        for (int i = 0; i < replicaIndex; i++) {
+            if (candidates.get(assignments[i]).group == group) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static double[][] score(List<Candidate> candidates, int partitionCount) {
+        double[][] scores = new double[partitionCount][candidates.size()];
+        for (int partitionId = 0; partitionId < partitionCount; partitionId++) {
+            long partitionHash = HashUtil.MurmurHash3_fmix(partitionId * PARTITION_SEED);
+            for (int i = 0; i < candidates.size(); i++) {
+                Candidate candidate = candidates.get(i);
+                long hash = HashUtil.MurmurHash3_fmix(candidate.hash ^ partitionHash);
+                // uniformly distributed in (0, 1)
+                double uniform = ((hash >>> HASH_SHIFT) + 1) / (HASH_RANGE + 1);
+                scores[partitionId][i] = -candidate.weight / Math.log(uniform);
+            }
+        }
+        return scores;
+    }
+
+    private static int[] getCapacities(List<Candidate> candidates, int partitionCount) {
+        double totalWeight = 0;
+        for (Candidate candidate : candidates) {
+            totalWeight += candidate.weight;
+        }
+        int[] capacities = new int[candidates.size()];
+        for (int i = 0; i < capacities.length; i++) {
+            double share = partitionCount * candidates.get(i).weight / totalWeight;
+            capacities[i] = (int) Math.ceil(share * LOAD_BOUND_FACTOR);
+        }
+        return capacities;
+    }
+
+    private static List<Candidate> createCandidates(Collection<MemberGroup> memberGroups) {
+        List<Candidate> candidates = new ArrayList<Candidate>();
+        if (memberGroups == null) {
+            return candidates;
+        }
+        int group = 0;
+        for (MemberGroup memberGroup : memberGroups) {
+            if (memberGroup.size() == 0) {
+                continue;
+            }
+            Iterator<Member> members = memberGroup.iterator();
+            while (members.hasNext()) {
+                Member member = members.next();
+                candidates.add(new Candidate(member.getAddress(), group, PartitionWeights.getWeight(member)));
+            }
+            group++;
+        }
+        return candidates;
+    }
+
+    private static final class Candidate {
+        final Address address;
+        final int group;
+        final double weight;
+        final long hash;
+
+        Candidate(Address address, int group, double weight) {
+            this.address = address;
+            this.group = group;
+            this.weight = weight;
+            byte[] bytes = (address.getHost() + ':' + address.getPort()).getBytes(UTF8_CHARSET);
+            this.hash = HashUtil.MurmurHash3_x64_64(bytes, 0, bytes.length);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.partition.operation;
+
+import com.hazelcast.internal.partition.InternalPartitionService;
+import com.hazelcast.internal.partition.MigrationCycleOperation;
+import com.hazelcast.internal.partition.ReplicaDigests;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.spi.Operation;
+import com.hazelcast.spi.PartitionAwareOperation;
+import com.hazelcast.spi.PartitionReplicationEvent;
+import com.hazelcast.spi.impl.NodeEngineImpl;
+
+import java.io.IOException;
+
+/**
+ * Sent by the source of a migration to its destination before the partition data is migrated, to get the digests
+ * of the data the destination already holds of the migrated replica, for example data restored from a snapshot
+ * after a restart. The source then migrates only the data which differs.
+ *
+ * @see com.hazelcast.spi.DeltaReplicationAwareService
+ */
+public final class FetchReplicaDigestsOperation extends Operation
+        implements PartitionAwareOperation, MigrationCycleOperation {
+
+    private int segmentCount;
+    private ReplicaDigests response;
+
+    public FetchReplicaDigestsOperation() {
+    }
+
+    public FetchReplicaDigestsOperation(int partitionId, int replicaIndex, int segmentCount) {
+        this.segmentCount = segmentCount;
+        setPartitionId(partitionId);
+        setReplicaIndex(replicaIndex);
+    }
+
+    @Override
+    public void run() throws Exception {
+        NodeEngineImpl nodeEngine = (NodeEngineImpl) getNodeEngine();
+        PartitionReplicationEvent event = new PartitionReplicationEvent(getPartitionId(), getReplicaIndex());
+        response = ReplicaDigests.collect(nodeEngine, event, segmentCount);
+    }
+
+    @Override
+    public Object getResponse() {
+        return response;
+    }
+
+    @Override
+    public boolean validatesTarget() {
+        return false;
+    }
+
+    @Override
+    public String getServiceName() {
+        return InternalPartitionService.SERVICE_NAME;
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        out.writeInt(segmentCount);
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        segmentCount = in.readInt();
+    }
+}
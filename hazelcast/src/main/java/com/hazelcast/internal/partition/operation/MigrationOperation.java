@@ -24,6 +24,7 @@ import com.hazelcast.internal.partition.impl.MigrationManager;
 import com.hazelcast.internal.partition.impl.PartitionReplicaManager;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.nio.Address;
+import com.hazelcast.nio.BufferObjectDataOutput;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.spi.Operation;
@@ -58,17 +59,26 @@ public final class MigrationOperation extends BaseMigrationOperation {
 
     private long[] replicaVersions;
     private Collection<Operation> tasks;
+    // a migration replicated in chunks is sent as several fragments, the first one starts the migration
+    // and the last one completes it
+    private boolean firstFragment = true;
+    private boolean lastFragment = true;
 
     private Throwable failureReason;
 
+    // size of the serialized migration tasks, known on the source once this operation is sent
+    private volatile int taskDataSize;
+
     public MigrationOperation() {
     }
 
     public MigrationOperation(MigrationInfo migrationInfo, long[] replicaVersions, Collection<Operation> tasks,
-            int partitionStateVersion) {
+            int partitionStateVersion, boolean firstFragment, boolean lastFragment) {
         super(migrationInfo, partitionStateVersion);
         this.replicaVersions = replicaVersions;
         this.tasks = tasks;
+        this.firstFragment = firstFragment;
+        this.lastFragment = lastFragment;
     }
 
     @Override
@@ -87,7 +97,9 @@ public final class MigrationOperation extends BaseMigrationOperation {
             success = false;
             failureReason = t;
         } finally {
-            onMigrationComplete();
+            if (lastFragment || !success) {
+                onMigrationComplete();
+            }
             if (!success) {
                 onExecutionFailure(failureReason);
             }
@@ -97,7 +109,9 @@ public final class MigrationOperation extends BaseMigrationOperation {
     private void doRun() throws Exception {
         if (startMigration()) {
             try {
-                executeBeforeMigrations();
+                if (firstFragment) {
+                    executeBeforeMigrations();
+                }
 
                 for (Operation op : tasks) {
                     runMigrationOperation(op);
@@ -124,7 +138,24 @@ public final class MigrationOperation extends BaseMigrationOperation {
     }
 
     private boolean startMigration() {
-        return migrationInfo.startProcessing() && addActiveMigration();
+        if (firstFragment) {
+            return migrationInfo.startProcessing() && addActiveMigration();
+        }
+        // the migration has been started by the first fragment, continue it if it is still active
+        InternalPartitionServiceImpl partitionService = getService();
+        MigrationInfo activeMigration = partitionService.getMigrationManager().getActiveMigration();
+        if (migrationInfo.equals(activeMigration) && activeMigration.startProcessing()) {
+            migrationInfo = activeMigration;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    void onMigrationStart() {
+        if (firstFragment) {
+            super.onMigrationStart();
+        }
     }
 
     private void logMigrationCancelled() {
@@ -132,6 +163,14 @@ public final class MigrationOperation extends BaseMigrationOperation {
     }
 
     private void afterMigrate() {
+        if (success) {
+            InternalPartitionServiceImpl partitionService = getService();
+            partitionService.getMigrationManager().onMigrationFragmentReceived();
+        }
+        if (success && !lastFragment) {
+            migrationInfo.doneProcessing();
+            return;
+        }
         if (success) {
             InternalPartitionServiceImpl partitionService = getService();
             PartitionReplicaManager replicaManager = partitionService.getReplicaManager();
@@ -210,19 +249,34 @@ public final class MigrationOperation extends BaseMigrationOperation {
     @Override
     protected void writeInternal(ObjectDataOutput out) throws IOException {
         super.writeInternal(out);
+        out.writeBoolean(firstFragment);
+        out.writeBoolean(lastFragment);
         out.writeLongArray(replicaVersions);
         int size = tasks != null ? tasks.size() : 0;
         out.writeInt(size);
+        int start = out instanceof BufferObjectDataOutput ? ((BufferObjectDataOutput) out).position() : 0;
         if (size > 0) {
             for (Operation task : tasks) {
                 out.writeObject(task);
             }
         }
+        if (out instanceof BufferObjectDataOutput) {
+            taskDataSize = ((BufferObjectDataOutput) out).position() - start;
+        }
+    }
+
+    /**
+     * @return the size of the serialized migration tasks, or 0 if this operation has not been serialized
+     */
+    int getTaskDataSize() {
+        return taskDataSize;
     }
 
     @Override
     protected void readInternal(ObjectDataInput in) throws IOException {
         super.readInternal(in);
+        firstFragment = in.readBoolean();
+        lastFragment = in.readBoolean();
         replicaVersions = in.readLongArray();
         int size = in.readInt();
         if (size > 0) {
@@ -242,5 +296,7 @@ public final class MigrationOperation extends BaseMigrationOperation {
         sb.append(", migration=").append(migrationInfo);
         sb.append(", replicaVersions=").append(Arrays.toString(replicaVersions));
         sb.append(", numberOfTasks=").append(numberOfTasks);
+        sb.append(", firstFragment=").append(firstFragment);
+        sb.append(", lastFragment=").append(lastFragment);
     }
 }
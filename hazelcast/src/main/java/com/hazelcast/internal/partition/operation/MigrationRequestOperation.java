@@ -21,10 +21,12 @@ import com.hazelcast.core.MemberLeftException;
 import com.hazelcast.internal.partition.InternalPartition;
 import com.hazelcast.internal.partition.InternalPartitionService;
 import com.hazelcast.internal.partition.MigrationInfo;
+import com.hazelcast.internal.partition.ReplicaDigests;
 import com.hazelcast.internal.partition.impl.InternalMigrationListener.MigrationParticipant;
 import com.hazelcast.internal.partition.impl.InternalPartitionServiceImpl;
 import com.hazelcast.internal.partition.impl.MigrationManager;
 import com.hazelcast.nio.Address;
+import com.hazelcast.spi.ChunkedMigrationAwareService;
 import com.hazelcast.spi.ExceptionAction;
 import com.hazelcast.spi.MigrationAwareService;
 import com.hazelcast.spi.NodeEngine;
@@ -34,12 +36,15 @@ import com.hazelcast.spi.PartitionReplicationEvent;
 import com.hazelcast.spi.exception.RetryableHazelcastException;
 import com.hazelcast.spi.exception.TargetNotMemberException;
 import com.hazelcast.spi.impl.NodeEngineImpl;
+import com.hazelcast.spi.impl.PartitionSpecificRunnable;
 import com.hazelcast.spi.impl.SimpleExecutionCallback;
+import com.hazelcast.spi.impl.operationservice.InternalOperationService;
 import com.hazelcast.spi.impl.servicemanager.ServiceInfo;
 import com.hazelcast.spi.partition.MigrationEndpoint;
 
-import java.io.IOException;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.concurrent.ExecutionException;
 import java.util.logging.Level;
@@ -47,6 +52,16 @@ import java.util.logging.Level;
 public final class MigrationRequestOperation extends BaseMigrationOperation {
 
     private boolean returnResponse = true;
+    private long[] replicaVersions;
+    // replication operations of the services replicating their data at once, sent in the first fragment
+    private Collection<Operation> tasks;
+    // chunks of the services replicating their data in chunks, each one is built on the partition thread
+    // and sent in a fragment of its own once the previous fragment has been applied on the destination
+    private final LinkedList<ServiceChunks> chunks = new LinkedList<ServiceChunks>();
+    private boolean firstFragmentSent;
+    private boolean lastFragmentSent;
+    private MigrationOperation migrationOperation;
+    private long migratedBytes;
 
     public MigrationRequestOperation() {
     }
@@ -88,12 +103,20 @@ public final class MigrationRequestOperation extends BaseMigrationOperation {
 
         try {
             executeBeforeMigrations();
-            Collection<Operation> tasks = prepareMigrationOperations();
-            long[] replicaVersions = partitionService.getPartitionReplicaVersions(migrationInfo.getPartitionId());
-            invokeMigrationOperation(destination, replicaVersions, tasks);
+            replicaVersions = partitionService.getPartitionReplicaVersions(migrationInfo.getPartitionId());
+            // keeps the invocation of the master alive for as long as the fragments are being sent
+            migrationManager.addLiveMigrationRequest(this);
+            int segmentCount = migrationManager.getMigrationDeltaSegmentCount();
+            if (segmentCount > 0) {
+                fetchReplicaDigests(segmentCount);
+            } else {
+                prepareMigrationTasks(migrationManager.getMigrationChunkMaxEntries(), new ReplicaDigests());
+                invokeNextFragment();
+            }
             returnResponse = false;
         } catch (Throwable e) {
             logThrowable(e);
+            migrationManager.removeLiveMigrationRequest(this);
             setFailed();
         } finally {
             migrationInfo.doneProcessing();
@@ -136,16 +159,94 @@ public final class MigrationRequestOperation extends BaseMigrationOperation {
         }
     }
 
-    private void invokeMigrationOperation(Address destination, long[] replicaVersions, Collection<Operation> tasks)
-            throws IOException {
+    /**
+     * Asks the destination for the digests of the data it already holds of the migrated replica. The migration
+     * continues on the partition thread once they arrive, replicating the whole partition if they could not be fetched.
+     */
+    private void fetchReplicaDigests(int segmentCount) {
+        FetchReplicaDigestsOperation operation = new FetchReplicaDigestsOperation(migrationInfo.getPartitionId(),
+                migrationInfo.getDestinationNewReplicaIndex(), segmentCount);
+        InternalPartitionServiceImpl partitionService = getService();
 
-        MigrationOperation operation = new MigrationOperation(migrationInfo, replicaVersions, tasks, partitionStateVersion);
+        getNodeEngine().getOperationService()
+                .createInvocationBuilder(InternalPartitionService.SERVICE_NAME, operation, migrationInfo.getDestination())
+                .setExecutionCallback(new ReplicaDigestsCallback(this))
+                .setResultDeserialized(true)
+                .setCallTimeout(partitionService.getPartitionMigrationTimeout())
+                .setTryCount(InternalPartitionService.MIGRATION_RETRY_COUNT)
+                .setTryPauseMillis(InternalPartitionService.MIGRATION_RETRY_PAUSE)
+                .invoke();
+    }
+
+    private void handleReplicaDigestsFromTarget(Object result) {
+        final ReplicaDigests replicaDigests;
+        if (result instanceof ReplicaDigests) {
+            replicaDigests = (ReplicaDigests) result;
+        } else {
+            getLogger().warning("Could not fetch replica digests from destination, migrating the whole partition! => "
+                    + migrationInfo + ", result: " + result);
+            replicaDigests = new ReplicaDigests();
+        }
+
+        executeOnPartitionThread(new Runnable() {
+            @Override
+            public void run() {
+                InternalPartitionServiceImpl partitionService = getService();
+                int maxEntriesPerChunk = partitionService.getMigrationManager().getMigrationChunkMaxEntries();
+                prepareMigrationTasks(maxEntriesPerChunk, replicaDigests);
+                invokeNextFragment();
+            }
+        });
+    }
+
+    /**
+     * Runs the next step of the migration on the partition thread, the migration fails if the step fails.
+     */
+    private void executeOnPartitionThread(final Runnable step) {
+        InternalOperationService operationService = (InternalOperationService) getNodeEngine().getOperationService();
+        operationService.execute(new PartitionSpecificRunnable() {
+            @Override
+            public int getPartitionId() {
+                return migrationInfo.getPartitionId();
+            }
+
+            @Override
+            public void run() {
+                try {
+                    step.run();
+                } catch (Throwable e) {
+                    logThrowable(e);
+                    completeMigration(Boolean.FALSE);
+                }
+            }
+        });
+    }
+
+    /**
+     * Sends the next fragment of the migration to the destination. Each fragment is a separate invocation with
+     * its own call timeout. Must be called on the partition thread, since the chunks are built from the partition data.
+     */
+    private void invokeNextFragment() {
+        boolean firstFragment = !firstFragmentSent;
+        Collection<Operation> fragment;
+        if (firstFragment) {
+            fragment = tasks;
+            tasks = null;
+            firstFragmentSent = true;
+        } else {
+            fragment = Collections.singletonList(nextChunk());
+        }
+        boolean lastFragment = !hasNextChunk();
+        MigrationOperation operation = new MigrationOperation(migrationInfo, replicaVersions, fragment,
+                partitionStateVersion, firstFragment, lastFragment);
+        lastFragmentSent = lastFragment;
+        migrationOperation = operation;
 
         NodeEngine nodeEngine = getNodeEngine();
         InternalPartitionServiceImpl partitionService = getService();
 
         nodeEngine.getOperationService()
-                .createInvocationBuilder(InternalPartitionService.SERVICE_NAME, operation, destination)
+                .createInvocationBuilder(InternalPartitionService.SERVICE_NAME, operation, migrationInfo.getDestination())
                 .setExecutionCallback(new MigrationCallback(migrationInfo, this))
                 .setResultDeserialized(true)
                 .setCallTimeout(partitionService.getPartitionMigrationTimeout())
@@ -193,9 +294,36 @@ public final class MigrationRequestOperation extends BaseMigrationOperation {
     }
 
     private void handleMigrationResultFromTarget(Object result) {
+        InternalPartitionServiceImpl partitionService = getService();
+        long bytes = migrationOperation.getTaskDataSize();
+        partitionService.getMigrationManager().onMigrationDataSent(bytes);
+        migratedBytes += bytes;
+        // the fragment has been processed by the destination, it is not needed anymore
+        migrationOperation = null;
+
+        if (Boolean.TRUE.equals(result) && !lastFragmentSent) {
+            executeOnPartitionThread(new Runnable() {
+                @Override
+                public void run() {
+                    invokeNextFragment();
+                }
+            });
+        } else {
+            completeMigration(result);
+        }
+    }
+
+    /**
+     * Sends the response to the master. A successful migration responds with the size of the migrated data, which
+     * the master uses to throttle the following migrations.
+     */
+    private void completeMigration(Object result) {
+        InternalPartitionServiceImpl partitionService = getService();
+        partitionService.getMigrationManager().removeLiveMigrationRequest(this);
         migrationInfo.doneProcessing();
-        onMigrationComplete(Boolean.TRUE.equals(result));
-        sendResponse(result);
+        boolean successful = Boolean.TRUE.equals(result);
+        onMigrationComplete(successful);
+        sendResponse(successful ? Long.valueOf(migratedBytes) : result);
     }
 
     @Override
@@ -209,23 +337,78 @@ public final class MigrationRequestOperation extends BaseMigrationOperation {
         super.executeBeforeMigrations();
     }
 
-    private Collection<Operation> prepareMigrationOperations() {
+    /**
+     * Prepares the replication operations of all services. The first fragment holds the operations of the services
+     * replicating their data at once. When chunked migration is enabled, the chunks of each
+     * {@link ChunkedMigrationAwareService} are sent in fragments of their own; they are built one at a time, right
+     * before they are sent. Services having a digest of the destination replica replicate only the data differing
+     * from it, within the first fragment.
+     */
+    private void prepareMigrationTasks(int maxEntriesPerChunk, ReplicaDigests replicaDigests) {
         NodeEngineImpl nodeEngine = (NodeEngineImpl) getNodeEngine();
 
         PartitionReplicationEvent replicationEvent = new PartitionReplicationEvent(migrationInfo.getPartitionId(),
                 migrationInfo.getDestinationNewReplicaIndex());
 
-        Collection<Operation> tasks = new LinkedList<Operation>();
+        tasks = new LinkedList<Operation>();
         for (ServiceInfo serviceInfo : nodeEngine.getServiceInfos(MigrationAwareService.class)) {
             MigrationAwareService service = (MigrationAwareService) serviceInfo.getService();
 
-            Operation op = service.prepareReplicationOperation(replicationEvent);
+            if (maxEntriesPerChunk > 0 && service instanceof ChunkedMigrationAwareService
+                    && !replicaDigests.hasDigest(serviceInfo.getName())) {
+                Iterator<Operation> serviceChunks = ((ChunkedMigrationAwareService) service)
+                        .prepareReplicationChunks(replicationEvent, maxEntriesPerChunk);
+                chunks.add(new ServiceChunks(serviceInfo.getName(), serviceChunks));
+                continue;
+            }
+
+            Operation op = replicaDigests.prepareReplicationOperation(serviceInfo, replicationEvent);
             if (op != null) {
-                op.setServiceName(serviceInfo.getName());
                 tasks.add(op);
             }
         }
-        return tasks;
+    }
+
+    private boolean hasNextChunk() {
+        while (!chunks.isEmpty()) {
+            if (chunks.getFirst().iterator.hasNext()) {
+                return true;
+            }
+            chunks.removeFirst();
+        }
+        return false;
+    }
+
+    private Operation nextChunk() {
+        ServiceChunks serviceChunks = chunks.getFirst();
+        Operation chunk = serviceChunks.iterator.next();
+        chunk.setServiceName(serviceChunks.serviceName);
+        return chunk;
+    }
+
+    private static final class ServiceChunks {
+
+        final String serviceName;
+        final Iterator<Operation> iterator;
+
+        private ServiceChunks(String serviceName, Iterator<Operation> iterator) {
+            this.serviceName = serviceName;
+            this.iterator = iterator;
+        }
+    }
+
+    private static final class ReplicaDigestsCallback extends SimpleExecutionCallback<Object> {
+
+        final MigrationRequestOperation op;
+
+        private ReplicaDigestsCallback(MigrationRequestOperation op) {
+            this.op = op;
+        }
+
+        @Override
+        public void notify(Object result) {
+            op.handleReplicaDigestsFromTarget(result);
+        }
     }
 
     private static final class MigrationCallback extends SimpleExecutionCallback<Object> {
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.partition.operation;
+
+import com.hazelcast.internal.partition.MigrationCycleOperation;
+import com.hazelcast.internal.partition.ReplicaDigests;
+import com.hazelcast.internal.partition.ReplicaErrorLogger;
+import com.hazelcast.nio.Address;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.spi.DeltaReplicationAwareService;
+import com.hazelcast.spi.Operation;
+import com.hazelcast.spi.PartitionAwareOperation;
+import com.hazelcast.spi.PartitionReplicationEvent;
+import com.hazelcast.spi.impl.NodeEngineImpl;
+
+import java.io.IOException;
+
+/**
+ * Computes the digests of the data of a backup replica on its partition thread and sends them to the partition owner
+ * with a {@link ReplicaSyncRequest}, so that the owner replicates only the data which differs.
+ * This operation is only executed locally on the backup replica.
+ *
+ * @see DeltaReplicationAwareService
+ */
+public final class ReplicaDigestOperation extends Operation
+        implements PartitionAwareOperation, MigrationCycleOperation {
+
+    private Address target;
+    private int segmentCount;
+
+    public ReplicaDigestOperation() {
+    }
+
+    public ReplicaDigestOperation(int partitionId, int replicaIndex, Address target, int segmentCount) {
+        this.target = target;
+        this.segmentCount = segmentCount;
+        setPartitionId(partitionId);
+        setReplicaIndex(replicaIndex);
+    }
+
+    @Override
+    public void run() throws Exception {
+        NodeEngineImpl nodeEngine = (NodeEngineImpl) getNodeEngine();
+        PartitionReplicationEvent event = new PartitionReplicationEvent(getPartitionId(), getReplicaIndex());
+        ReplicaDigests replicaDigests = ReplicaDigests.collect(nodeEngine, event, segmentCount);
+
+        ReplicaSyncRequest syncRequest = new ReplicaSyncRequest(getPartitionId(), getReplicaIndex(), replicaDigests);
+        nodeEngine.getOperationService().send(syncRequest, target);
+    }
+
+    @Override
+    public boolean returnsResponse() {
+        return false;
+    }
+
+    @Override
+    public boolean validatesTarget() {
+        return false;
+    }
+
+    @Override
+    public void logError(Throwable e) {
+        ReplicaErrorLogger.log(e, getLogger());
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -19,6 +19,7 @@ package com.hazelcast.internal.partition.operation;
 import com.hazelcast.internal.partition.InternalPartition;
 import com.hazelcast.internal.partition.InternalPartitionService;
 import com.hazelcast.internal.partition.MigrationCycleOperation;
+import com.hazelcast.internal.partition.ReplicaDigests;
 import com.hazelcast.internal.partition.ReplicaErrorLogger;
 import com.hazelcast.internal.partition.impl.InternalPartitionImpl;
 import com.hazelcast.internal.partition.impl.InternalPartitionServiceImpl;
@@ -45,6 +46,9 @@ import java.util.List;
 public final class ReplicaSyncRequest extends Operation
         implements PartitionAwareOperation, MigrationCycleOperation {
 
+    // digests of the backup replica data by service name, for delta replica sync
+    private ReplicaDigests replicaDigests = new ReplicaDigests();
+
     public ReplicaSyncRequest() {
     }
 
@@ -53,6 +57,11 @@ public final class ReplicaSyncRequest extends Operation
         setReplicaIndex(replicaIndex);
     }
 
+    public ReplicaSyncRequest(int partitionId, int replicaIndex, ReplicaDigests replicaDigests) {
+        this(partitionId, replicaIndex);
+        this.replicaDigests = replicaDigests;
+    }
+
     @Override
     public void beforeRun() throws Exception {
         int syncReplicaIndex = getReplicaIndex();
@@ -151,10 +160,8 @@ public final class ReplicaSyncRequest extends Operation
         PartitionReplicationEvent event = new PartitionReplicationEvent(getPartitionId(), getReplicaIndex());
         List<Operation> tasks = new LinkedList<Operation>();
         for (ServiceInfo serviceInfo : services) {
-            MigrationAwareService service = (MigrationAwareService) serviceInfo.getService();
-            Operation op = service.prepareReplicationOperation(event);
+            Operation op = replicaDigests.prepareReplicationOperation(serviceInfo, event);
             if (op != null) {
-                op.setServiceName(serviceInfo.getName());
                 tasks.add(op);
             }
         }
@@ -225,9 +232,11 @@ public final class ReplicaSyncRequest extends Operation
 
     @Override
     protected void writeInternal(ObjectDataOutput out) throws IOException {
+        replicaDigests.writeData(out);
     }
 
     @Override
     protected void readInternal(ObjectDataInput in) throws IOException {
+        replicaDigests.readData(in);
     }
 }
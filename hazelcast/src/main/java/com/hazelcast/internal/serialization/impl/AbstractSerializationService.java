@@ -19,6 +19,8 @@ package com.hazelcast.internal.serialization.impl;
 import com.hazelcast.core.HazelcastInstanceNotActiveException;
 import com.hazelcast.core.ManagedContext;
 import com.hazelcast.core.PartitioningStrategy;
+import com.hazelcast.internal.metrics.MetricsProvider;
+import com.hazelcast.internal.metrics.MetricsRegistry;
 import com.hazelcast.internal.serialization.InputOutputFactory;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.serialization.impl.bufferpool.BufferPool;
@@ -56,7 +58,7 @@ import static com.hazelcast.internal.serialization.impl.SerializationUtil.indexF
 import static com.hazelcast.internal.serialization.impl.SerializationUtil.isNullData;
 import static com.hazelcast.util.Preconditions.checkNotNull;
 
-public abstract class AbstractSerializationService implements InternalSerializationService {
+public abstract class AbstractSerializationService implements InternalSerializationService, MetricsProvider {
 
     protected final ManagedContext managedContext;
     protected final InputOutputFactory inputOutputFactory;
@@ -75,6 +77,7 @@ public abstract class AbstractSerializationService implements InternalSerializat
     private final ConcurrentMap<Class, SerializerAdapter> typeMap = new ConcurrentHashMap<Class, SerializerAdapter>();
     private final ConcurrentMap<Integer, SerializerAdapter> idMap = new ConcurrentHashMap<Integer, SerializerAdapter>();
     private final AtomicReference<SerializerAdapter> global = new AtomicReference<SerializerAdapter>();
+    private final SerializerLookupCache lookupCache = new SerializerLookupCache();
 
     //Global serializer may override Java Serialization or not
     private boolean overrideJavaSerialization;
@@ -265,6 +268,11 @@ public abstract class AbstractSerializationService implements InternalSerializat
         return version;
     }
 
+    @Override
+    public void provideMetrics(MetricsRegistry metricsRegistry) {
+        metricsRegistry.scanAndRegister(bufferPoolThreadLocal, "serialization.bufferPool");
+    }
+
     public void dispose() {
         active = false;
         for (SerializerAdapter serializer : typeMap.values()) {
@@ -277,6 +285,7 @@ public abstract class AbstractSerializationService implements InternalSerializat
         idMap.clear();
         global.set(null);
         constantTypesMap.clear();
+        lookupCache.clear();
         bufferPoolThreadLocal.clear();
     }
     //endregion Serialization Service
@@ -369,10 +378,32 @@ public abstract class AbstractSerializationService implements InternalSerializat
                 return constantTypeIds[index];
             }
         }
-        return idMap.get(typeId);
+        SerializerAdapter serializer = lookupCache.get(typeId);
+        if (serializer == null) {
+            serializer = idMap.get(typeId);
+            if (serializer != null && active) {
+                lookupCache.put(typeId, serializer);
+            }
+        }
+        return serializer;
     }
 
     protected final SerializerAdapter serializerFor(Object object) {
+        if (object == null) {
+            return nullSerializerAdapter;
+        }
+        Class type = object.getClass();
+        SerializerAdapter serializer = lookupCache.get(type);
+        if (serializer == null) {
+            serializer = lookupSerializer(type);
+            if (active) {
+                lookupCache.put(type, serializer);
+            }
+        }
+        return serializer;
+    }
+
+    private SerializerAdapter lookupSerializer(Class type) {
         /*
             Searches for a serializer for the provided object
             Serializers will be  searched in this order;
@@ -384,11 +415,7 @@ public abstract class AbstractSerializationService implements InternalSerializat
             5-Global serializer if registered by user
          */
 
-        //1-NULL serializer
-        if (object == null) {
-            return nullSerializerAdapter;
-        }
-        Class type = object.getClass();
+        //1-NULL serializer is handled by serializerFor(Object) before the lookup cache is consulted
 
         //2-Default serializers, Dataserializable, Portable, primitives, arrays, String and some helper Java types(BigInteger etc)
         SerializerAdapter serializer = lookupDefaultSerializer(type);
@@ -33,6 +33,16 @@ import static com.hazelcast.nio.Bits.SHORT_SIZE_IN_BYTES;
 
 class ByteArrayObjectDataOutput extends OutputStream implements BufferObjectDataOutput {
 
+    /**
+     * Buffers that grew beyond this size are always shrunk on {@link #clear()}.
+     */
+    static final int MAX_RETAINED_SIZE = 4 * 1024 * 1024;
+
+    /**
+     * Number of consecutive {@link #clear()} calls that left a grown buffer mostly unused before it is shrunk.
+     */
+    static final int IDLE_CLEARS_BEFORE_SHRINK = 16;
+
     final int initialSize;
 
     byte[] buffer;
@@ -43,6 +53,8 @@ class ByteArrayObjectDataOutput extends OutputStream implements BufferObjectData
 
     private final boolean isBigEndian;
 
+    private int idleClears;
+
     ByteArrayObjectDataOutput(int size, InternalSerializationService service, ByteOrder byteOrder) {
         this.initialSize = size;
         this.buffer = new byte[size];
@@ -410,10 +422,29 @@ class ByteArrayObjectDataOutput extends OutputStream implements BufferObjectData
 
     @Override
     public void clear() {
-        pos = 0;
         if (buffer != null && buffer.length > initialSize * 8) {
-            buffer = new byte[initialSize * 8];
+            shrinkIfIdle();
+        }
+        pos = 0;
+    }
+
+    /**
+     * A grown buffer is kept as long as the values written into it keep using a good part of it, so repeatedly
+     * serializing large values does not reallocate it each time. It is shrunk once it has been mostly idle for
+     * {@link #IDLE_CLEARS_BEFORE_SHRINK} consecutive clears or when it exceeds {@link #MAX_RETAINED_SIZE}.
+     */
+    private void shrinkIfIdle() {
+        if (buffer.length <= MAX_RETAINED_SIZE) {
+            if (pos > buffer.length >> 2) {
+                idleClears = 0;
+                return;
+            }
+            if (++idleClears < IDLE_CLEARS_BEFORE_SHRINK) {
+                return;
+            }
         }
+        idleClears = 0;
+        buffer = new byte[initialSize * 8];
     }
 
     @Override
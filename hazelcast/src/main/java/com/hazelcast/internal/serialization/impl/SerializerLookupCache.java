@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.serialization.impl;
+
+import static com.hazelcast.util.Preconditions.checkTrue;
+import static com.hazelcast.util.QuickMath.isPowerOfTwo;
+
+/**
+ * A small, direct-mapped cache of already resolved {@link SerializerAdapter}s, consulted by the serialization
+ * service before the regular serializer lookup.
+ * <p/>
+ * Resolving a serializer for an object normally goes through a couple of {@code isAssignableFrom} checks, the
+ * constant types map and the custom types map; resolving it for a type-id boxes the id for the id map. In a
+ * steady state almost every call asks for one of a handful of classes, so a slot indexed by the identity hash
+ * of the class (or by the type-id) answers nearly every lookup with a single array read and a reference check.
+ * <p/>
+ * Slots are overwritten on collision and entries are immutable, so the cache needs no locking: a racy read sees
+ * either a complete entry or a miss, and a miss simply falls back to the regular lookup.
+ */
+final class SerializerLookupCache {
+
+    static final int DEFAULT_CAPACITY = 64;
+
+    private final TypeEntry[] typeEntries;
+    private final IdEntry[] idEntries;
+    private final int mask;
+
+    SerializerLookupCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    SerializerLookupCache(int capacity) {
+        checkTrue(isPowerOfTwo(capacity), "capacity must be a power of two");
+        this.typeEntries = new TypeEntry[capacity];
+        this.idEntries = new IdEntry[capacity];
+        this.mask = capacity - 1;
+    }
+
+    SerializerAdapter get(Class type) {
+        TypeEntry entry = typeEntries[System.identityHashCode(type) & mask];
+        return entry != null && entry.type == type ? entry.adapter : null;
+    }
+
+    void put(Class type, SerializerAdapter adapter) {
+        typeEntries[System.identityHashCode(type) & mask] = new TypeEntry(type, adapter);
+    }
+
+    SerializerAdapter get(int typeId) {
+        IdEntry entry = idEntries[typeId & mask];
+        return entry != null && entry.typeId == typeId ? entry.adapter : null;
+    }
+
+    void put(int typeId, SerializerAdapter adapter) {
+        idEntries[typeId & mask] = new IdEntry(typeId, adapter);
+    }
+
+    void clear() {
+        for (int i = 0; i < typeEntries.length; i++) {
+            typeEntries[i] = null;
+            idEntries[i] = null;
+        }
+    }
+
+    private static final class TypeEntry {
+        private final Class type;
+        private final SerializerAdapter adapter;
+
+        private TypeEntry(Class type, SerializerAdapter adapter) {
+            this.type = type;
+            this.adapter = adapter;
+        }
+    }
+
+    private static final class IdEntry {
+        private final int typeId;
+        private final SerializerAdapter adapter;
+
+        private IdEntry(int typeId, SerializerAdapter adapter) {
+            this.typeId = typeId;
+            this.adapter = adapter;
+        }
+    }
+}
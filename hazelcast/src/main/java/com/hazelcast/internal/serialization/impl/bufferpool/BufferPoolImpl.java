@@ -18,6 +18,7 @@ package com.hazelcast.internal.serialization.impl.bufferpool;
 
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.internal.util.counters.SwCounter;
 import com.hazelcast.nio.BufferObjectDataInput;
 import com.hazelcast.nio.BufferObjectDataOutput;
 import com.hazelcast.nio.serialization.Data;
@@ -26,6 +27,7 @@ import java.io.Closeable;
 import java.util.ArrayDeque;
 import java.util.Queue;
 
+import static com.hazelcast.internal.util.counters.SwCounter.newSwCounter;
 import static com.hazelcast.nio.IOUtil.closeResource;
 
 /**
@@ -42,6 +44,11 @@ public class BufferPoolImpl implements BufferPool {
     final Queue<BufferObjectDataOutput> outputQueue = new ArrayDeque<BufferObjectDataOutput>(MAX_POOLED_ITEMS);
     final Queue<BufferObjectDataInput> inputQueue = new ArrayDeque<BufferObjectDataInput>(MAX_POOLED_ITEMS);
 
+    // only written by the owning thread; read by the metrics of the BufferPoolThreadLocal.
+    final SwCounter hits = newSwCounter();
+    final SwCounter misses = newSwCounter();
+    final SwCounter discarded = newSwCounter();
+
     public BufferPoolImpl(InternalSerializationService serializationService) {
         this.serializationService = serializationService;
     }
@@ -50,7 +57,10 @@ public class BufferPoolImpl implements BufferPool {
     public BufferObjectDataOutput takeOutputBuffer() {
         BufferObjectDataOutput out = outputQueue.poll();
         if (out == null) {
+            misses.inc();
             out = serializationService.createObjectDataOutput();
+        } else {
+            hits.inc();
         }
         return out;
     }
@@ -70,7 +80,10 @@ public class BufferPoolImpl implements BufferPool {
     public BufferObjectDataInput takeInputBuffer(Data data) {
         BufferObjectDataInput in = inputQueue.poll();
         if (in == null) {
+            misses.inc();
             in = serializationService.createObjectDataInput((byte[]) null);
+        } else {
+            hits.inc();
         }
         in.init(data.toByteArray(), HeapData.DATA_OFFSET);
         return in;
@@ -87,8 +100,9 @@ public class BufferPoolImpl implements BufferPool {
         offerOrClose(inputQueue, in);
     }
 
-    private static <C extends Closeable> void offerOrClose(Queue<C> queue, C item) {
+    private <C extends Closeable> void offerOrClose(Queue<C> queue, C item) {
         if (queue.size() == MAX_POOLED_ITEMS) {
+            discarded.inc();
             closeResource(item);
             return;
         }
@@ -17,12 +17,17 @@
 package com.hazelcast.internal.serialization.impl.bufferpool;
 
 import com.hazelcast.core.HazelcastInstanceNotActiveException;
+import com.hazelcast.internal.metrics.Probe;
 import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.util.counters.SwCounter;
 import com.hazelcast.nio.BufferObjectDataOutput;
 import com.hazelcast.util.ConcurrentReferenceHashMap;
 
 import java.lang.ref.WeakReference;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import static com.hazelcast.util.ConcurrentReferenceHashMap.ReferenceType.STRONG;
 import static com.hazelcast.util.ConcurrentReferenceHashMap.ReferenceType.WEAK;
@@ -76,6 +81,10 @@ import static com.hazelcast.util.ConcurrentReferenceHashMap.ReferenceType.WEAK;
  * The Performance of using a ThreadLocal in combination with a WeakReference is almost the same as using a ThreadLocal without
  * WeakReference. There is an extra pointer indirection and some additional pressure on the gc system since it needs to deal with
  * the WeakReferences, but the number of threads is limited.
+ *
+ * <h1>Metrics</h1>
+ * The metrics are summed over the counters of the pools. The counters are kept apart from the pools, so the counts of a pool
+ * outlive its thread; once the thread is collected, its counts are added to retired totals and the counters are dropped.
  */
 public final class BufferPoolThreadLocal {
 
@@ -83,6 +92,13 @@ public final class BufferPoolThreadLocal {
     private final InternalSerializationService serializationService;
     private final BufferPoolFactory bufferPoolFactory;
     private final Map<Thread, BufferPool> strongReferences = new ConcurrentReferenceHashMap<Thread, BufferPool>(WEAK, STRONG);
+    // accessible for testing.
+    final Queue<PoolCounters> poolCounters = new ConcurrentLinkedQueue<PoolCounters>();
+
+    // guarded by this; the counts of the pools whose thread has been collected.
+    private long retiredHits;
+    private long retiredMisses;
+    private long retiredDiscarded;
 
     public BufferPoolThreadLocal(InternalSerializationService serializationService, BufferPoolFactory bufferPoolFactory) {
         this.serializationService = serializationService;
@@ -95,6 +111,9 @@ public final class BufferPoolThreadLocal {
             BufferPool pool = bufferPoolFactory.create(serializationService);
             ref = new WeakReference<BufferPool>(pool);
             strongReferences.put(Thread.currentThread(), pool);
+            if (pool instanceof BufferPoolImpl) {
+                poolCounters.add(new PoolCounters(Thread.currentThread(), (BufferPoolImpl) pool));
+            }
             threadLocal.set(ref);
             return pool;
         } else {
@@ -109,4 +128,78 @@ public final class BufferPoolThreadLocal {
     public void clear() {
         strongReferences.clear();
     }
+
+    /**
+     * Returns the number of buffers that were taken from a pool instead of being created.
+     */
+    @Probe
+    public synchronized long hits() {
+        retireCountersOfDeadThreads();
+        long hits = retiredHits;
+        for (PoolCounters counters : poolCounters) {
+            hits += counters.hits.get();
+        }
+        return hits;
+    }
+
+    /**
+     * Returns the number of buffers that had to be created because the pool was empty.
+     */
+    @Probe
+    public synchronized long misses() {
+        retireCountersOfDeadThreads();
+        long misses = retiredMisses;
+        for (PoolCounters counters : poolCounters) {
+            misses += counters.misses.get();
+        }
+        return misses;
+    }
+
+    /**
+     * Returns the number of returned buffers that were closed because the pool was full.
+     */
+    @Probe
+    public synchronized long discarded() {
+        retireCountersOfDeadThreads();
+        long discarded = retiredDiscarded;
+        for (PoolCounters counters : poolCounters) {
+            discarded += counters.discarded.get();
+        }
+        return discarded;
+    }
+
+    @Probe
+    public int poolCount() {
+        return strongReferences.size();
+    }
+
+    private void retireCountersOfDeadThreads() {
+        Iterator<PoolCounters> iterator = poolCounters.iterator();
+        while (iterator.hasNext()) {
+            PoolCounters counters = iterator.next();
+            if (counters.thread.get() == null) {
+                retiredHits += counters.hits.get();
+                retiredMisses += counters.misses.get();
+                retiredDiscarded += counters.discarded.get();
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * The counters of a pool. They don't reference the pool, so they don't keep it from being collected.
+     */
+    static final class PoolCounters {
+        final WeakReference<Thread> thread;
+        final SwCounter hits;
+        final SwCounter misses;
+        final SwCounter discarded;
+
+        PoolCounters(Thread thread, BufferPoolImpl pool) {
+            this.thread = new WeakReference<Thread>(thread);
+            this.hits = pool.hits;
+            this.misses = pool.misses;
+            this.discarded = pool.discarded;
+        }
+    }
 }
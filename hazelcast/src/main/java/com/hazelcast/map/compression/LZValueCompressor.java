@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.compression;
+
+import com.hazelcast.nio.serialization.HazelcastSerializationException;
+
+import java.util.Arrays;
+
+/**
+ * A fast {@link ValueCompressor} using LZ77 block compression, laid out like an LZ4 block: a sequence of
+ * literal runs, each followed by a back-reference of at most 64 KB into the already decompressed bytes.
+ *
+ * It trades compression ratio for speed, which suits values that are decompressed on every read. Values
+ * that share a lot of structure with each other but are small on their own (e.g. JSON documents with the
+ * same field names) compress much better when a preset dictionary is given: back-references may then
+ * also point into the dictionary, as if it preceded every value. The dictionary must not change while the
+ * map holds values compressed with it.
+ *
+ * @since 3.7
+ */
+public class LZValueCompressor implements ValueCompressor {
+
+    private static final int MIN_MATCH = 4;
+    private static final int HASH_LOG = 12;
+    private static final int HASH_TABLE_SIZE = 1 << HASH_LOG;
+    private static final int HASH_MULTIPLIER = -1640531535;
+    private static final int MAX_OFFSET = 0xFFFF;
+    private static final int LAST_LITERALS = 5;
+    private static final int MIN_LENGTH = 13;
+    private static final int RUN_MASK = 0x0F;
+    private static final int ML_BITS = 4;
+    private static final int BYTE_MASK = 0xFF;
+    private static final int LENGTH_OVERHEAD = 16;
+
+    private final byte[] dictionary;
+
+    public LZValueCompressor() {
+        this(null);
+    }
+
+    /**
+     * @param dictionary the preset dictionary; only its last 64 KB are used. {@code null} or an empty
+     *                   array disables the dictionary.
+     */
+    public LZValueCompressor(byte[] dictionary) {
+        if (dictionary == null) {
+            this.dictionary = new byte[0];
+        } else {
+            int length = Math.min(dictionary.length, MAX_OFFSET);
+            this.dictionary = Arrays.copyOfRange(dictionary, dictionary.length - length, dictionary.length);
+        }
+    }
+
+    /**
+     * Returns the maximum length of the output of {@link #compress(byte[], int, int)} for the given input length.
+     */
+    public static int maxCompressedLength(int length) {
+        return length + length / BYTE_MASK + LENGTH_OVERHEAD;
+    }
+
+    @Override
+    public byte[] compress(byte[] source, int offset, int length) {
+        byte[] window = source;
+        int start = offset;
+        if (dictionary.length > 0) {
+            window = new byte[dictionary.length + length];
+            System.arraycopy(dictionary, 0, window, 0, dictionary.length);
+            System.arraycopy(source, offset, window, dictionary.length, length);
+            start = dictionary.length;
+        }
+        int end = start + length;
+
+        int[] hashTable = new int[HASH_TABLE_SIZE];
+        Arrays.fill(hashTable, -1);
+        for (int i = start - dictionary.length; i <= start - MIN_MATCH; i++) {
+            hashTable[hash(readInt(window, i))] = i;
+        }
+
+        byte[] out = new byte[maxCompressedLength(length)];
+        int outPos = 0;
+        int anchor = start;
+        int pos = start;
+        int matchStartLimit = end - MIN_LENGTH;
+        int matchEndLimit = end - LAST_LITERALS;
+        while (pos < matchStartLimit) {
+            int sequence = readInt(window, pos);
+            int hash = hash(sequence);
+            int ref = hashTable[hash];
+            hashTable[hash] = pos;
+            if (ref < 0 || pos - ref > MAX_OFFSET || readInt(window, ref) != sequence) {
+                pos++;
+                continue;
+            }
+
+            int matchLength = MIN_MATCH;
+            while (pos + matchLength < matchEndLimit && window[ref + matchLength] == window[pos + matchLength]) {
+                matchLength++;
+            }
+            outPos = writeSequence(window, anchor, pos - anchor, pos - ref, matchLength, out, outPos);
+            pos += matchLength;
+            anchor = pos;
+        }
+        outPos = writeLastLiterals(window, anchor, end - anchor, out, outPos);
+        return Arrays.copyOf(out, outPos);
+    }
+
+    @Override
+    public void decompress(byte[] source, byte[] destination, int destinationOffset, int length) {
+        try {
+            int sourcePos = 0;
+            int destinationPos = destinationOffset;
+            int destinationEnd = destinationOffset + length;
+            while (true) {
+                int token = source[sourcePos++] & BYTE_MASK;
+                int literalLength = token >>> ML_BITS;
+                if (literalLength == RUN_MASK) {
+                    int b;
+                    do {
+                        b = source[sourcePos++] & BYTE_MASK;
+                        literalLength += b;
+                    } while (b == BYTE_MASK);
+                }
+                checkBounds(destinationPos + literalLength <= destinationEnd);
+                System.arraycopy(source, sourcePos, destination, destinationPos, literalLength);
+                sourcePos += literalLength;
+                destinationPos += literalLength;
+                if (destinationPos == destinationEnd) {
+                    break;
+                }
+
+                int matchOffset = (source[sourcePos++] & BYTE_MASK) | ((source[sourcePos++] & BYTE_MASK) << Byte.SIZE);
+                int matchLength = token & RUN_MASK;
+                if (matchLength == RUN_MASK) {
+                    int b;
+                    do {
+                        b = source[sourcePos++] & BYTE_MASK;
+                        matchLength += b;
+                    } while (b == BYTE_MASK);
+                }
+                matchLength += MIN_MATCH;
+                checkBounds(matchOffset > 0 && destinationPos + matchLength <= destinationEnd
+                        && destinationPos - matchOffset >= destinationOffset - dictionary.length);
+                copyMatch(destination, destinationOffset, destinationPos, matchOffset, matchLength);
+                destinationPos += matchLength;
+            }
+            checkBounds(sourcePos == source.length);
+        } catch (IndexOutOfBoundsException e) {
+            throw new HazelcastSerializationException("Malformed compressed value", e);
+        }
+    }
+
+    private void copyMatch(byte[] destination, int destinationOffset, int destinationPos, int matchOffset, int matchLength) {
+        int ref = destinationPos - matchOffset;
+        if (ref >= destinationOffset && matchOffset >= matchLength) {
+            System.arraycopy(destination, ref, destination, destinationPos, matchLength);
+            return;
+        }
+        // overlapping match or reference into the dictionary: copy byte by byte
+        for (int i = 0; i < matchLength; i++) {
+            int refPos = ref + i;
+            destination[destinationPos + i] = refPos >= destinationOffset
+                    ? destination[refPos]
+                    : dictionary[dictionary.length - (destinationOffset - refPos)];
+        }
+    }
+
+    private static int writeSequence(byte[] window, int anchor, int literalLength, int matchOffset, int matchLength,
+                                     byte[] out, int outPos) {
+        int tokenPos = outPos++;
+        int token;
+        if (literalLength >= RUN_MASK) {
+            token = RUN_MASK << ML_BITS;
+            outPos = writeLength(literalLength - RUN_MASK, out, outPos);
+        } else {
+            token = literalLength << ML_BITS;
+        }
+        System.arraycopy(window, anchor, out, outPos, literalLength);
+        outPos += literalLength;
+
+        out[outPos++] = (byte) matchOffset;
+        out[outPos++] = (byte) (matchOffset >>> Byte.SIZE);
+
+        int encodedMatchLength = matchLength - MIN_MATCH;
+        if (encodedMatchLength >= RUN_MASK) {
+            token |= RUN_MASK;
+            outPos = writeLength(encodedMatchLength - RUN_MASK, out, outPos);
+        } else {
+            token |= encodedMatchLength;
+        }
+        out[tokenPos] = (byte) token;
+        return outPos;
+    }
+
+    private static int writeLastLiterals(byte[] window, int anchor, int literalLength, byte[] out, int outPos) {
+        if (literalLength >= RUN_MASK) {
+            out[outPos++] = (byte) (RUN_MASK << ML_BITS);
+            outPos = writeLength(literalLength - RUN_MASK, out, outPos);
+        } else {
+            out[outPos++] = (byte) (literalLength << ML_BITS);
+        }
+        System.arraycopy(window, anchor, out, outPos, literalLength);
+        return outPos + literalLength;
+    }
+
+    private static int writeLength(int length, byte[] out, int outPos) {
+        int remaining = length;
+        while (remaining >= BYTE_MASK) {
+            out[outPos++] = (byte) BYTE_MASK;
+            remaining -= BYTE_MASK;
+        }
+        out[outPos++] = (byte) remaining;
+        return outPos;
+    }
+
+    private static int readInt(byte[] bytes, int pos) {
+        return (bytes[pos] & BYTE_MASK)
+                | (bytes[pos + 1] & BYTE_MASK) << Byte.SIZE
+                | (bytes[pos + 2] & BYTE_MASK) << (2 * Byte.SIZE)
+                | (bytes[pos + 3] & BYTE_MASK) << (3 * Byte.SIZE);
+    }
+
+    private static int hash(int sequence) {
+        return (sequence * HASH_MULTIPLIER) >>> (Integer.SIZE - HASH_LOG);
+    }
+
+    private static void checkBounds(boolean valid) {
+        if (!valid) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.compression;
+
+/**
+ * Compresses the serialized values of an {@link com.hazelcast.core.IMap IMap} which uses
+ * {@link com.hazelcast.config.InMemoryFormat#BINARY BINARY} in-memory-format.
+ *
+ * Values are compressed once when they are stored and decompressed lazily, every time the stored
+ * value is read. A value is kept uncompressed when compressing it does not make it smaller.
+ *
+ * Implementations must be thread-safe and must be able to decompress everything they compressed
+ * for as long as the member is running.
+ *
+ * @see LZValueCompressor
+ * @see com.hazelcast.config.MapConfig#setValueCompressor(ValueCompressor)
+ * @since 3.7
+ */
+public interface ValueCompressor {
+
+    /**
+     * Compresses the given range of bytes.
+     *
+     * @param source the bytes to compress
+     * @param offset the offset of the first byte to compress
+     * @param length the number of bytes to compress
+     * @return the compressed bytes
+     */
+    byte[] compress(byte[] source, int offset, int length);
+
+    /**
+     * Decompresses bytes which were produced by {@link #compress(byte[], int, int)}.
+     *
+     * @param source            the compressed bytes
+     * @param destination       the array to write the decompressed bytes to
+     * @param destinationOffset the offset in the destination to write the first decompressed byte to
+     * @param length            the number of decompressed bytes, which is the length originally passed to
+     *                          {@link #compress(byte[], int, int)}
+     */
+    void decompress(byte[] source, byte[] destination, int destinationOffset, int length);
+}
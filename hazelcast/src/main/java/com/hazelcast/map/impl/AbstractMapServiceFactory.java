@@ -18,6 +18,7 @@ package com.hazelcast.map.impl;
 
 import com.hazelcast.spi.ClientAwareService;
 import com.hazelcast.spi.EventPublishingService;
+import com.hazelcast.spi.GracefulShutdownAwareService;
 import com.hazelcast.spi.ManagedService;
 import com.hazelcast.spi.MigrationAwareService;
 import com.hazelcast.spi.PartitionAwareService;
@@ -137,6 +138,14 @@ abstract class AbstractMapServiceFactory implements MapServiceFactory {
      */
     abstract QuorumAwareService createQuorumAwareService();
 
+    /**
+     * Creates a new {@link GracefulShutdownAwareService} for {@link MapService}.
+     *
+     * @return Creates a new {@link GracefulShutdownAwareService} implementation.
+     * @see com.hazelcast.spi.GracefulShutdownAwareService
+     */
+    abstract GracefulShutdownAwareService createGracefulShutdownAwareService();
+
 
     /**
      * Returns a {@link MapService} object by populating it with required
@@ -159,6 +168,7 @@ abstract class AbstractMapServiceFactory implements MapServiceFactory {
         PartitionAwareService partitionAwareService = createPartitionAwareService();
         QuorumAwareService quorumAwareService = createQuorumAwareService();
         ClientAwareService clientAwareService = createClientAwareService();
+        GracefulShutdownAwareService gracefulShutdownAwareService = createGracefulShutdownAwareService();
 
         checkNotNull(mapServiceContext, "mapServiceContext should not be null");
         checkNotNull(managedService, "managedService should not be null");
@@ -173,6 +183,7 @@ abstract class AbstractMapServiceFactory implements MapServiceFactory {
         checkNotNull(partitionAwareService, "partitionAwareService should not be null");
         checkNotNull(quorumAwareService, "quorumAwareService should not be null");
         checkNotNull(clientAwareService, "clientAwareService should not be null");
+        checkNotNull(gracefulShutdownAwareService, "gracefulShutdownAwareService should not be null");
 
         MapService mapService = new MapService();
         mapService.managedService = managedService;
@@ -188,6 +199,7 @@ abstract class AbstractMapServiceFactory implements MapServiceFactory {
         mapService.partitionAwareService = partitionAwareService;
         mapService.quorumAwareService = quorumAwareService;
         mapService.clientAwareService = clientAwareService;
+        mapService.gracefulShutdownAwareService = gracefulShutdownAwareService;
         mapServiceContext.setService(mapService);
         return mapService;
     }
@@ -19,6 +19,7 @@ package com.hazelcast.map.impl;
 import com.hazelcast.map.impl.event.MapEventPublishingService;
 import com.hazelcast.spi.ClientAwareService;
 import com.hazelcast.spi.EventPublishingService;
+import com.hazelcast.spi.GracefulShutdownAwareService;
 import com.hazelcast.spi.ManagedService;
 import com.hazelcast.spi.PostJoinAwareService;
 import com.hazelcast.spi.QuorumAwareService;
@@ -109,4 +110,9 @@ class DefaultMapServiceFactory extends AbstractMapServiceFactory {
         return new MapClientAwareService();
     }
 
+    @Override
+    GracefulShutdownAwareService createGracefulShutdownAwareService() {
+        return new MapGracefulShutdownAwareService(mapServiceContext);
+    }
+
 }
@@ -20,7 +20,9 @@ import com.hazelcast.config.MapConfig;
 import com.hazelcast.config.WanReplicationRef;
 import com.hazelcast.core.IFunction;
 import com.hazelcast.core.PartitioningStrategy;
+import com.hazelcast.internal.diagnostics.HotPartitionsPlugin;
 import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.util.ThreadLocalRandom;
 import com.hazelcast.map.eviction.MapEvictionPolicy;
 import com.hazelcast.map.impl.eviction.EvictionChecker;
 import com.hazelcast.map.impl.eviction.Evictor;
@@ -37,17 +39,26 @@ import com.hazelcast.query.impl.QueryableEntry;
 import com.hazelcast.query.impl.getters.Extractors;
 import com.hazelcast.spi.NodeEngine;
 import com.hazelcast.spi.partition.IPartitionService;
+import com.hazelcast.spi.properties.GroupProperty;
+import com.hazelcast.spi.properties.HazelcastProperties;
 import com.hazelcast.spi.serialization.SerializationService;
 import com.hazelcast.util.ConstructorFunction;
 import com.hazelcast.util.RuntimeMemoryInfoAccessor;
+import com.hazelcast.util.SpaceSavingCounter;
 import com.hazelcast.wan.WanReplicationPublisher;
 import com.hazelcast.wan.WanReplicationService;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import static com.hazelcast.map.impl.SizeEstimators.createNearCacheSizeEstimator;
 import static com.hazelcast.map.impl.eviction.Evictor.NULL_EVICTOR;
 import static com.hazelcast.map.impl.mapstore.MapStoreContextFactory.createMapStoreContext;
+import static com.hazelcast.spi.properties.GroupProperty.MAP_HOT_KEYS_SAMPLE_RATE;
+import static com.hazelcast.spi.properties.GroupProperty.MAP_HOT_KEYS_TRACKING_CAPACITY;
 
 /**
  * Map container.
@@ -78,6 +89,13 @@ public class MapContainer {
      * Holds number of registered {@link com.hazelcast.map.impl.nearcache.InvalidationListener} from clients.
      */
     protected final AtomicInteger invalidationListenerCount = new AtomicInteger();
+    /**
+     * Per partition counters of the most frequently accessed keys, {@code null} if hot key tracking is disabled.
+     * A counter is created on the first sampled access to its partition.
+     */
+    protected final AtomicReferenceArray<SpaceSavingCounter<Data>> hotKeyCounters;
+    protected final int hotKeysCapacity;
+    protected final int hotKeysSampleRate;
 
     protected WanReplicationPublisher wanReplicationPublisher;
     protected MapMergePolicy wanMergePolicy;
@@ -108,6 +126,12 @@ public class MapContainer {
         this.memberNearCacheInvalidationEnabled = hasMemberNearCache() && mapConfig.getNearCacheConfig().isInvalidateOnChange();
         this.mapStoreContext = createMapStoreContext(this);
         this.mapStoreContext.start();
+        HazelcastProperties properties = nodeEngine.getProperties();
+        this.hotKeysCapacity = properties.getInteger(MAP_HOT_KEYS_TRACKING_CAPACITY);
+        this.hotKeysSampleRate = Math.max(1, properties.getInteger(MAP_HOT_KEYS_SAMPLE_RATE));
+        this.hotKeyCounters = HotPartitionsPlugin.isKeyTrackingEnabled(properties)
+                ? new AtomicReferenceArray<SpaceSavingCounter<Data>>(nodeEngine.getPartitionService().getPartitionCount())
+                : null;
         initEvictor();
     }
 
@@ -278,6 +302,52 @@ public class MapContainer {
     public InterceptorRegistry getInterceptorRegistry() {
         return interceptorRegistry;
     }
-}
 
+    /**
+     * Records an access to the given key if hot key tracking is enabled.
+     * Only a random sample of the accesses is counted, see {@link GroupProperty#MAP_HOT_KEYS_SAMPLE_RATE}.
+     *
+     * @param partitionId the partition of the key
+     * @param key         the accessed key
+     */
+    public void recordKeyAccess(int partitionId, Data key) {
+        if (hotKeyCounters == null || key == null) {
+            return;
+        }
+        if (hotKeysSampleRate > 1 && ThreadLocalRandom.current().nextInt(hotKeysSampleRate) != 0) {
+            return;
+        }
+        SpaceSavingCounter<Data> counter = hotKeyCounters.get(partitionId);
+        if (counter == null) {
+            counter = new SpaceSavingCounter<Data>(hotKeysCapacity);
+            if (!hotKeyCounters.compareAndSet(partitionId, null, counter)) {
+                counter = hotKeyCounters.get(partitionId);
+            }
+        }
+        counter.add(key);
+    }
 
+    /**
+     * Returns the most frequently accessed keys of the given partition and resets its counter.
+     * The counts are scaled by the sample rate, so they estimate the number of accesses.
+     *
+     * @param partitionId the partition to drain
+     * @return the hot keys in descending access count order, empty if hot key tracking is disabled
+     */
+    public List<SpaceSavingCounter.Entry<Data>> drainHotKeys(int partitionId) {
+        SpaceSavingCounter<Data> counter = hotKeyCounters == null ? null : hotKeyCounters.get(partitionId);
+        if (counter == null) {
+            return Collections.emptyList();
+        }
+        List<SpaceSavingCounter.Entry<Data>> entries = counter.drain();
+        if (hotKeysSampleRate == 1) {
+            return entries;
+        }
+        List<SpaceSavingCounter.Entry<Data>> scaled = new ArrayList<SpaceSavingCounter.Entry<Data>>(entries.size());
+        for (SpaceSavingCounter.Entry<Data> entry : entries) {
+            scaled.add(new SpaceSavingCounter.Entry<Data>(entry.getItem(),
+                    entry.getCount() * hotKeysSampleRate, entry.getError() * hotKeysSampleRate));
+        }
+        return scaled;
+    }
+}
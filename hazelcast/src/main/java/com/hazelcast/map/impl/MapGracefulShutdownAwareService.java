@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.map.impl;
+
+import com.hazelcast.map.impl.operation.MapPartitionSnapshotTask;
+import com.hazelcast.spi.GracefulShutdownAwareService;
+import com.hazelcast.spi.impl.operationservice.InternalOperationService;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes snapshots of the IMap partition replicas of this member to the {@link MapSnapshotStore} when the member
+ * shuts down gracefully, if the snapshot store is {@link MapSnapshotStore#isEnabled() enabled}.
+ */
+class MapGracefulShutdownAwareService implements GracefulShutdownAwareService {
+
+    private final MapServiceContext mapServiceContext;
+
+    MapGracefulShutdownAwareService(MapServiceContext mapServiceContext) {
+        this.mapServiceContext = mapServiceContext;
+    }
+
+    @Override
+    public boolean onShutdown(long timeout, TimeUnit unit) {
+        MapSnapshotStore snapshotStore = mapServiceContext.getSnapshotStore();
+        if (!snapshotStore.isEnabled()) {
+            return true;
+        }
+        // snapshots of an earlier run could contain partitions not held by this member anymore
+        snapshotStore.clear();
+
+        int partitionCount = mapServiceContext.getNodeEngine().getPartitionService().getPartitionCount();
+        Semaphore semaphore = new Semaphore(0);
+        InternalOperationService operationService
+                = (InternalOperationService) mapServiceContext.getNodeEngine().getOperationService();
+        for (int partitionId = 0; partitionId < partitionCount; partitionId++) {
+            operationService.execute(new MapPartitionSnapshotTask(mapServiceContext, partitionId, semaphore));
+        }
+
+        try {
+            return semaphore.tryAcquire(partitionCount, timeout, unit);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
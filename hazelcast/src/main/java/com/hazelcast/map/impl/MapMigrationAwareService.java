@@ -16,14 +16,18 @@
 
 package com.hazelcast.map.impl;
 
+import com.hazelcast.map.impl.operation.MapChunkReplicationOperation;
+import com.hazelcast.map.impl.operation.MapDeltaReplicationOperation;
 import com.hazelcast.map.impl.operation.MapReplicationOperation;
 import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.map.impl.record.RecordReplicationInfo;
 import com.hazelcast.map.impl.record.Records;
 import com.hazelcast.map.impl.recordstore.RecordStore;
 import com.hazelcast.nio.serialization.Data;
 import com.hazelcast.query.impl.Indexes;
 import com.hazelcast.query.impl.QueryableEntry;
-import com.hazelcast.spi.MigrationAwareService;
+import com.hazelcast.spi.ChunkedMigrationAwareService;
+import com.hazelcast.spi.DeltaReplicationAwareService;
 import com.hazelcast.spi.Operation;
 import com.hazelcast.spi.PartitionMigrationEvent;
 import com.hazelcast.spi.PartitionReplicationEvent;
@@ -31,14 +35,23 @@ import com.hazelcast.spi.partition.MigrationEndpoint;
 import com.hazelcast.spi.serialization.SerializationService;
 import com.hazelcast.util.Clock;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static com.hazelcast.map.impl.record.Records.buildRecordInfo;
 
 /**
  * Defines migration behavior of map service.
  *
  * @see MapService
  */
-class MapMigrationAwareService implements MigrationAwareService {
+class MapMigrationAwareService implements ChunkedMigrationAwareService, DeltaReplicationAwareService {
 
     protected final MapServiceContext mapServiceContext;
     protected final SerializationService serializationService;
@@ -63,11 +76,116 @@ class MapMigrationAwareService implements MigrationAwareService {
         return operation;
     }
 
+    @Override
+    public Iterator<Operation> prepareReplicationChunks(PartitionReplicationEvent event, int maxEntriesPerChunk) {
+        PartitionContainer container = mapServiceContext.getPartitionContainer(event.getPartitionId());
+        return new ReplicationChunkIterator(container, event.getReplicaIndex(), maxEntriesPerChunk);
+    }
+
+    /**
+     * Returns the digest of the IMap data of a replica, or {@code null} if the replica holds no data, so that
+     * it is replicated as a whole, in chunks if enabled. A replica holding no data uses the snapshot of the partition
+     * written before this member was restarted, if there is one; the snapshot is staged and applied by the delta
+     * replication operation, so the record stores are not touched if the migration fails before.
+     */
+    @Override
+    public Object prepareReplicaDigest(PartitionReplicationEvent event, int segmentCount) {
+        PartitionContainer container = mapServiceContext.getPartitionContainer(event.getPartitionId());
+        Map<String, long[]> segmentHashes = new HashMap<String, long[]>();
+        if (isEmpty(container)) {
+            Map<String, List<RecordReplicationInfo>> snapshot = stageSnapshot(container.getPartitionId());
+            for (Map.Entry<String, List<RecordReplicationInfo>> entry : snapshot.entrySet()) {
+                MapContainer mapContainer = mapServiceContext.getMapContainer(entry.getKey());
+                if (mapContainer.getMapConfig().getTotalBackupCount() >= event.getReplicaIndex()) {
+                    segmentHashes.put(entry.getKey(), MapReplicaDigest.computeSegmentHashes(entry.getValue(), segmentCount));
+                }
+            }
+        } else {
+            for (RecordStore recordStore : container.getMaps().values()) {
+                long[] hashes = MapReplicaDigest.computeSegmentHashes(recordStore, segmentCount, mapServiceContext);
+                segmentHashes.put(recordStore.getName(), hashes);
+            }
+        }
+        return segmentHashes.isEmpty() ? null : new MapReplicaDigest(segmentCount, segmentHashes);
+    }
+
+    private Map<String, List<RecordReplicationInfo>> stageSnapshot(int partitionId) {
+        MapSnapshotStore snapshotStore = mapServiceContext.getSnapshotStore();
+        if (!snapshotStore.isEnabled() || !snapshotStore.hasSnapshot(partitionId)) {
+            return Collections.emptyMap();
+        }
+        try {
+            return snapshotStore.stage(partitionId);
+        } catch (IOException e) {
+            mapServiceContext.getNodeEngine().getLogger(getClass())
+                    .warning("Could not load the snapshot of partition " + partitionId, e);
+            snapshotStore.delete(partitionId);
+            return Collections.emptyMap();
+        }
+    }
+
+    private boolean isEmpty(PartitionContainer container) {
+        for (RecordStore recordStore : container.getMaps().values()) {
+            if (recordStore.size() > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Operation prepareDeltaReplicationOperation(PartitionReplicationEvent event, Object replicaDigest) {
+        MapReplicaDigest digest = (MapReplicaDigest) replicaDigest;
+        int partitionId = event.getPartitionId();
+        int replicaIndex = event.getReplicaIndex();
+        int segmentCount = digest.getSegmentCount();
+        PartitionContainer container = mapServiceContext.getPartitionContainer(partitionId);
+
+        MapDeltaReplicationOperation operation
+                = new MapDeltaReplicationOperation(container, partitionId, replicaIndex, segmentCount);
+        for (RecordStore recordStore : container.getMaps().values()) {
+            if (recordStore.getMapContainer().getMapConfig().getTotalBackupCount() < replicaIndex) {
+                continue;
+            }
+            long[] hashes = MapReplicaDigest.computeSegmentHashes(recordStore, segmentCount, mapServiceContext);
+            int[] segments = digest.getDifferingSegments(recordStore.getName(), hashes);
+            operation.addDelta(recordStore.getName(), recordStore.isLoaded(), segments,
+                    getSegmentRecords(recordStore, segments, segmentCount));
+        }
+        operation.setService(mapServiceContext.getService());
+
+        return operation;
+    }
+
+    private List<RecordReplicationInfo> getSegmentRecords(RecordStore recordStore, int[] segments, int segmentCount) {
+        List<RecordReplicationInfo> records = new ArrayList<RecordReplicationInfo>();
+        if (segments.length == 0) {
+            return records;
+        }
+        boolean[] selectedSegments = new boolean[segmentCount];
+        for (int segment : segments) {
+            selectedSegments[segment] = true;
+        }
+        Iterator<Record> iterator = recordStore.iterator();
+        while (iterator.hasNext()) {
+            Record record = iterator.next();
+            Data key = record.getKey();
+            if (selectedSegments[MapReplicaDigest.getSegment(key, segmentCount)]) {
+                Data value = mapServiceContext.toData(record.getValue());
+                records.add(new RecordReplicationInfo(key, value, buildRecordInfo(record)));
+            }
+        }
+        return records;
+    }
+
     @Override
     public void commitMigration(PartitionMigrationEvent event) {
         migrateIndex(event);
         if (event.getMigrationEndpoint() == MigrationEndpoint.SOURCE) {
             clearMapsHavingLesserBackupCountThan(event.getPartitionId(), event.getNewReplicaIndex());
+        } else {
+            // the replica is up to date now, a snapshot of it is not needed anymore
+            mapServiceContext.getSnapshotStore().delete(event.getPartitionId());
         }
         PartitionContainer partitionContainer = mapServiceContext.getPartitionContainer(event.getPartitionId());
         for (RecordStore recordStore : partitionContainer.getAllRecordStores()) {
@@ -82,6 +200,8 @@ class MapMigrationAwareService implements MigrationAwareService {
     public void rollbackMigration(PartitionMigrationEvent event) {
         if (event.getMigrationEndpoint() == MigrationEndpoint.DESTINATION) {
             clearMapsHavingLesserBackupCountThan(event.getPartitionId(), event.getCurrentReplicaIndex());
+            // the snapshot file is kept, it is staged again by the next migration of the partition
+            mapServiceContext.getSnapshotStore().unstage(event.getPartitionId());
         }
         mapServiceContext.reloadOwnedPartitions();
     }
@@ -128,4 +248,87 @@ class MapMigrationAwareService implements MigrationAwareService {
         return Clock.currentTimeMillis();
     }
 
+    /**
+     * Builds the replication chunks of a partition one at a time, from iterators over its record stores. Only the
+     * chunk being sent holds the serialized form of its values. Must be iterated on the partition thread.
+     */
+    private final class ReplicationChunkIterator implements Iterator<Operation> {
+
+        private final PartitionContainer container;
+        private final int partitionId;
+        private final int replicaIndex;
+        private final int maxEntriesPerChunk;
+        private final Iterator<RecordStore> recordStores;
+        private RecordStore recordStore;
+        private Iterator<Record> records;
+        private boolean firstChunk;
+        private boolean done;
+
+        private ReplicationChunkIterator(PartitionContainer container, int replicaIndex, int maxEntriesPerChunk) {
+            this.container = container;
+            this.partitionId = container.getPartitionId();
+            this.replicaIndex = replicaIndex;
+            this.maxEntriesPerChunk = maxEntriesPerChunk;
+            this.recordStores = container.getMaps().values().iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !done;
+        }
+
+        @Override
+        public Operation next() {
+            if (done) {
+                throw new NoSuchElementException();
+            }
+            Operation chunk = nextRecordStore() ? nextChunk() : writeBehindState();
+            chunk.setService(mapServiceContext.getService());
+            return chunk;
+        }
+
+        /**
+         * Moves to the next record store having records left to replicate. An empty map still gets a chunk,
+         * which resets its record store on the replica.
+         */
+        private boolean nextRecordStore() {
+            while (recordStore == null || (!firstChunk && !records.hasNext())) {
+                if (!recordStores.hasNext()) {
+                    return false;
+                }
+                RecordStore next = recordStores.next();
+                if (next.getMapContainer().getMapConfig().getTotalBackupCount() >= replicaIndex) {
+                    recordStore = next;
+                    records = next.iterator();
+                    firstChunk = true;
+                }
+            }
+            return true;
+        }
+
+        private Operation nextChunk() {
+            List<RecordReplicationInfo> chunk = new ArrayList<RecordReplicationInfo>();
+            while (records.hasNext() && chunk.size() < maxEntriesPerChunk) {
+                Record record = records.next();
+                Data value = mapServiceContext.toData(record.getValue());
+                chunk.add(new RecordReplicationInfo(record.getKey(), value, buildRecordInfo(record)));
+            }
+            Operation operation = new MapChunkReplicationOperation(recordStore.getName(), partitionId, replicaIndex,
+                    firstChunk, recordStore.isLoaded(), chunk);
+            firstChunk = false;
+            return operation;
+        }
+
+        private Operation writeBehindState() {
+            done = true;
+            // the first chunk of a map resets its write-behind queue too, so the write-behind state goes last
+            return new MapReplicationOperation(container, partitionId, replicaIndex, false);
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
 }
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.map.impl;
+
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.map.impl.record.RecordReplicationInfo;
+import com.hazelcast.map.impl.recordstore.RecordStore;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.nio.serialization.DataSerializable;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import static com.hazelcast.util.HashUtil.MurmurHash3_fmix;
+import static com.hazelcast.util.HashUtil.hashToIndex;
+
+/**
+ * Digest of the IMap data of a partition replica, used to replicate only the differing data when a backup replica
+ * is synchronized with the partition owner.
+ * <p>
+ * The keys of each map are divided into segments by their hash and a hash is computed for each segment
+ * over the keys and values in it. The hash of a segment does not depend on the iteration order of its entries,
+ * so the owner and the backup replica compute the same hash for the same segment contents.
+ *
+ * @see com.hazelcast.spi.DeltaReplicationAwareService
+ */
+public class MapReplicaDigest implements DataSerializable {
+
+    private static final int ENTRY_HASH_MULTIPLIER = 31;
+
+    private int segmentCount;
+    private Map<String, long[]> segmentHashes;
+
+    public MapReplicaDigest() {
+    }
+
+    public MapReplicaDigest(int segmentCount, Map<String, long[]> segmentHashes) {
+        this.segmentCount = segmentCount;
+        this.segmentHashes = segmentHashes;
+    }
+
+    public int getSegmentCount() {
+        return segmentCount;
+    }
+
+    /**
+     * Returns the segments of a map whose hashes differ from the given hashes, all segments if the replica
+     * has no data of that map.
+     *
+     * @param mapName       name of the map
+     * @param ownerHashes   segment hashes of the map on the partition owner
+     * @return the differing segments
+     */
+    public int[] getDifferingSegments(String mapName, long[] ownerHashes) {
+        long[] replicaHashes = segmentHashes.get(mapName);
+        int[] segments = new int[segmentCount];
+        int count = 0;
+        for (int segment = 0; segment < segmentCount; segment++) {
+            if (replicaHashes == null || replicaHashes[segment] != ownerHashes[segment]) {
+                segments[count++] = segment;
+            }
+        }
+        return Arrays.copyOf(segments, count);
+    }
+
+    public static int getSegment(Data key, int segmentCount) {
+        return hashToIndex(MurmurHash3_fmix(key.hashCode()), segmentCount);
+    }
+
+    public static long[] computeSegmentHashes(RecordStore recordStore, int segmentCount,
+                                              MapServiceContext mapServiceContext) {
+        long[] hashes = new long[segmentCount];
+        Iterator<Record> iterator = recordStore.iterator();
+        while (iterator.hasNext()) {
+            Record record = iterator.next();
+            Data key = record.getKey();
+            Data value = mapServiceContext.toData(record.getValue());
+            hashes[getSegment(key, segmentCount)] += entryHash(key, value);
+        }
+        return hashes;
+    }
+
+    public static long[] computeSegmentHashes(Collection<RecordReplicationInfo> records, int segmentCount) {
+        long[] hashes = new long[segmentCount];
+        for (RecordReplicationInfo record : records) {
+            Data key = record.getKey();
+            hashes[getSegment(key, segmentCount)] += entryHash(key, record.getValue());
+        }
+        return hashes;
+    }
+
+    private static long entryHash(Data key, Data value) {
+        return MurmurHash3_fmix(key.hash64() * ENTRY_HASH_MULTIPLIER + value.hash64());
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        out.writeInt(segmentCount);
+        out.writeInt(segmentHashes.size());
+        for (Map.Entry<String, long[]> entry : segmentHashes.entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeLongArray(entry.getValue());
+        }
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        segmentCount = in.readInt();
+        int size = in.readInt();
+        segmentHashes = new HashMap<String, long[]>(size);
+        for (int i = 0; i < size; i++) {
+            String mapName = in.readUTF();
+            segmentHashes.put(mapName, in.readLongArray());
+        }
+    }
+}
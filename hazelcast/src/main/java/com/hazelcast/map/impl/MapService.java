@@ -19,12 +19,14 @@ package com.hazelcast.map.impl;
 import com.hazelcast.core.DistributedObject;
 import com.hazelcast.map.impl.event.MapEventPublishingService;
 import com.hazelcast.monitor.LocalMapStats;
+import com.hazelcast.spi.ChunkedMigrationAwareService;
 import com.hazelcast.spi.ClientAwareService;
+import com.hazelcast.spi.DeltaReplicationAwareService;
 import com.hazelcast.spi.EventFilter;
 import com.hazelcast.spi.EventPublishingService;
 import com.hazelcast.spi.EventRegistration;
+import com.hazelcast.spi.GracefulShutdownAwareService;
 import com.hazelcast.spi.ManagedService;
-import com.hazelcast.spi.MigrationAwareService;
 import com.hazelcast.spi.NodeEngine;
 import com.hazelcast.spi.NotifiableEventListener;
 import com.hazelcast.spi.Operation;
@@ -44,8 +46,10 @@ import com.hazelcast.transaction.TransactionalObject;
 import com.hazelcast.transaction.impl.Transaction;
 import com.hazelcast.wan.WanReplicationEvent;
 
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 
 import static com.hazelcast.core.EntryEventType.INVALIDATION;
 
@@ -64,12 +68,14 @@ import static com.hazelcast.core.EntryEventType.INVALIDATION;
  * @see MapPartitionAwareService
  * @see MapQuorumAwareService
  * @see MapClientAwareService
+ * @see MapGracefulShutdownAwareService
  * @see MapServiceContext
  */
-public class MapService implements ManagedService, MigrationAwareService,
+public class MapService implements ManagedService, ChunkedMigrationAwareService, DeltaReplicationAwareService,
         TransactionalService, RemoteService, EventPublishingService<Object, ListenerAdapter>,
         PostJoinAwareService, SplitBrainHandlerService, ReplicationSupportingService, StatisticsAwareService,
-        PartitionAwareService, ClientAwareService, QuorumAwareService, NotifiableEventListener {
+        PartitionAwareService, ClientAwareService, QuorumAwareService, GracefulShutdownAwareService,
+        NotifiableEventListener {
 
     public static final String SERVICE_NAME = "hz:impl:mapService";
 
@@ -85,6 +91,7 @@ public class MapService implements ManagedService, MigrationAwareService,
     protected PartitionAwareService partitionAwareService;
     protected ClientAwareService clientAwareService;
     protected QuorumAwareService quorumAwareService;
+    protected GracefulShutdownAwareService gracefulShutdownAwareService;
     protected MapServiceContext mapServiceContext;
 
     public MapService() {
@@ -115,6 +122,21 @@ public class MapService implements ManagedService, MigrationAwareService,
         return migrationAwareService.prepareReplicationOperation(event);
     }
 
+    @Override
+    public Iterator<Operation> prepareReplicationChunks(PartitionReplicationEvent event, int maxEntriesPerChunk) {
+        return migrationAwareService.prepareReplicationChunks(event, maxEntriesPerChunk);
+    }
+
+    @Override
+    public Object prepareReplicaDigest(PartitionReplicationEvent event, int segmentCount) {
+        return migrationAwareService.prepareReplicaDigest(event, segmentCount);
+    }
+
+    @Override
+    public Operation prepareDeltaReplicationOperation(PartitionReplicationEvent event, Object replicaDigest) {
+        return migrationAwareService.prepareDeltaReplicationOperation(event, replicaDigest);
+    }
+
     @Override
     public void beforeMigration(PartitionMigrationEvent event) {
         migrationAwareService.beforeMigration(event);
@@ -180,6 +202,11 @@ public class MapService implements ManagedService, MigrationAwareService,
         return quorumAwareService.getQuorumName(name);
     }
 
+    @Override
+    public boolean onShutdown(long timeout, TimeUnit unit) {
+        return gracefulShutdownAwareService.onShutdown(timeout, unit);
+    }
+
     public MapServiceContext getMapServiceContext() {
         return mapServiceContext;
     }
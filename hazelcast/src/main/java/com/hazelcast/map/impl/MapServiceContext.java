@@ -120,6 +120,11 @@ public interface MapServiceContext extends MapServiceContextInterceptorSupport,
 
     ExpirationManager getExpirationManager();
 
+    /**
+     * Returns the store of the IMap partition snapshots of this member, used for a fast restart of the member.
+     */
+    MapSnapshotStore getSnapshotStore();
+
     void setService(MapService mapService);
 
     NodeEngine getNodeEngine();
@@ -19,6 +19,7 @@ package com.hazelcast.map.impl;
 import com.hazelcast.config.Config;
 import com.hazelcast.config.MapConfig;
 import com.hazelcast.core.PartitioningStrategy;
+import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.map.MapInterceptor;
 import com.hazelcast.map.impl.event.MapEventPublisher;
@@ -50,6 +51,7 @@ import com.hazelcast.spi.Operation;
 import com.hazelcast.spi.impl.eventservice.impl.TrueEventFilter;
 import com.hazelcast.spi.impl.operationservice.InternalOperationService;
 import com.hazelcast.spi.partition.IPartitionService;
+import com.hazelcast.spi.properties.GroupProperty;
 import com.hazelcast.util.ConcurrencyUtil;
 import com.hazelcast.util.ConstructorFunction;
 import com.hazelcast.util.ExceptionUtil;
@@ -99,6 +101,7 @@ class MapServiceContextImpl implements MapServiceContext {
      */
     protected final AtomicInteger writeBehindQueueItemCounter = new AtomicInteger(0);
     protected final ExpirationManager expirationManager;
+    protected final MapSnapshotStore snapshotStore;
     protected final NearCacheProvider nearCacheProvider;
     protected final LocalMapStatsProvider localMapStatsProvider;
     protected final MergePolicyProvider mergePolicyProvider;
@@ -116,6 +119,9 @@ class MapServiceContextImpl implements MapServiceContext {
         this.mapContainers = new ConcurrentHashMap<String, MapContainer>();
         this.ownedPartitions = new AtomicReference<Collection<Integer>>();
         this.expirationManager = new ExpirationManager(this, nodeEngine);
+        this.snapshotStore = new MapSnapshotStore(nodeEngine.getConfig().getHotRestartPersistenceConfig(),
+                nodeEngine.getProperties().getInteger(GroupProperty.PARTITION_REPLICA_SYNC_DELTA_SEGMENT_COUNT),
+                (InternalSerializationService) nodeEngine.getSerializationService());
         this.nearCacheProvider = createNearCacheProvider();
         this.localMapStatsProvider = createLocalMapStatsProvider();
         this.mergePolicyProvider = new MergePolicyProvider(nodeEngine);
@@ -344,6 +350,11 @@ class MapServiceContextImpl implements MapServiceContext {
         return expirationManager;
     }
 
+    @Override
+    public MapSnapshotStore getSnapshotStore() {
+        return snapshotStore;
+    }
+
     @Override
     public NodeEngine getNodeEngine() {
         return nodeEngine;
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.map.impl;
+
+import com.hazelcast.config.HotRestartPersistenceConfig;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.ObjectDataOutputStream;
+import com.hazelcast.map.impl.record.RecordReplicationInfo;
+import com.hazelcast.nio.IOUtil;
+import com.hazelcast.nio.ObjectDataInput;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.hazelcast.internal.serialization.impl.SerializationUtil.createObjectDataInputStream;
+import static com.hazelcast.internal.serialization.impl.SerializationUtil.createObjectDataOutputStream;
+
+/**
+ * Stores snapshots of the IMap partition replicas of this member on the local disk, one file per partition
+ * in the {@link HotRestartPersistenceConfig#getBaseDir() hot restart base directory}, which must not be shared
+ * with other members.
+ * <p/>
+ * Snapshots are written when the member shuts down gracefully and a snapshot is staged when a replica of its
+ * partition is assigned to the member again after a restart. The member then reports the digest of the staged data,
+ * so only the data changed in the meantime is replicated to it. The staged data is applied together with that delta
+ * and the snapshot is deleted once the migration is committed.
+ * <p/>
+ * Snapshots are used only when hot restart persistence is enabled and
+ * {@link com.hazelcast.spi.properties.GroupProperty#PARTITION_REPLICA_SYNC_DELTA_SEGMENT_COUNT} is set, since only
+ * the delta replication makes use of them.
+ */
+public class MapSnapshotStore {
+
+    private static final String SNAPSHOT_DIR = "map-snapshots";
+    private static final String FILE_PREFIX = "partition-";
+    private static final String FILE_SUFFIX = ".snapshot";
+    private static final String TMP_FILE_SUFFIX = ".tmp";
+    private static final int FORMAT_VERSION = 1;
+
+    private final File dir;
+    private final boolean enabled;
+    private final InternalSerializationService serializationService;
+    // snapshots read for the digest of a replica, waiting to be applied by the delta replication of the replica
+    private final ConcurrentMap<Integer, Map<String, List<RecordReplicationInfo>>> stagedSnapshots
+            = new ConcurrentHashMap<Integer, Map<String, List<RecordReplicationInfo>>>();
+
+    public MapSnapshotStore(HotRestartPersistenceConfig config, int deltaSegmentCount,
+                            InternalSerializationService serializationService) {
+        this.dir = new File(config.getBaseDir(), SNAPSHOT_DIR);
+        this.enabled = config.isEnabled() && deltaSegmentCount > 0;
+        this.serializationService = serializationService;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean hasSnapshot(int partitionId) {
+        return getFile(partitionId).exists();
+    }
+
+    /**
+     * Writes the snapshot of a partition, replacing the previous one. The file is written aside and renamed,
+     * so a failed write never leaves a partial snapshot behind.
+     *
+     * @param partitionId the partition ID
+     * @param records     records of the partition by map name
+     * @param fsync       {@code true} to sync the file to the disk before it replaces the previous snapshot
+     */
+    public void write(int partitionId, Map<String, Collection<RecordReplicationInfo>> records, boolean fsync)
+            throws IOException {
+        if (!dir.exists() && !dir.mkdirs()) {
+            throw new IOException("Could not create snapshot directory " + dir.getAbsolutePath());
+        }
+        File file = getFile(partitionId);
+        File tmpFile = new File(dir, file.getName() + TMP_FILE_SUFFIX);
+        FileOutputStream fileOut = new FileOutputStream(tmpFile);
+        try {
+            ObjectDataOutputStream out = createObjectDataOutputStream(new BufferedOutputStream(fileOut), serializationService);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(records.size());
+            for (Map.Entry<String, Collection<RecordReplicationInfo>> entry : records.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeInt(entry.getValue().size());
+                for (RecordReplicationInfo record : entry.getValue()) {
+                    record.writeData(out);
+                }
+            }
+            out.flush();
+            if (fsync) {
+                fileOut.getFD().sync();
+            }
+        } finally {
+            IOUtil.closeResource(fileOut);
+        }
+        IOUtil.rename(tmpFile, file);
+    }
+
+    /**
+     * Reads the snapshot of a partition.
+     *
+     * @param partitionId the partition ID
+     * @return records of the partition by map name, empty if there is no snapshot of the partition
+     */
+    public Map<String, List<RecordReplicationInfo>> read(int partitionId) throws IOException {
+        File file = getFile(partitionId);
+        if (!file.exists()) {
+            return new HashMap<String, List<RecordReplicationInfo>>(0);
+        }
+        FileInputStream fileIn = new FileInputStream(file);
+        try {
+            ObjectDataInput in = createObjectDataInputStream(new BufferedInputStream(fileIn), serializationService);
+            int version = in.readInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unknown format version " + version + " of snapshot " + file.getAbsolutePath());
+            }
+            int mapCount = in.readInt();
+            Map<String, List<RecordReplicationInfo>> records = new HashMap<String, List<RecordReplicationInfo>>(mapCount);
+            for (int i = 0; i < mapCount; i++) {
+                String mapName = in.readUTF();
+                int recordCount = in.readInt();
+                List<RecordReplicationInfo> mapRecords = new ArrayList<RecordReplicationInfo>(recordCount);
+                for (int j = 0; j < recordCount; j++) {
+                    RecordReplicationInfo record = new RecordReplicationInfo();
+                    record.readData(in);
+                    mapRecords.add(record);
+                }
+                records.put(mapName, mapRecords);
+            }
+            return records;
+        } finally {
+            IOUtil.closeResource(fileIn);
+        }
+    }
+
+    /**
+     * Reads the snapshot of a partition into the staging area, unless it is staged already. The snapshot file
+     * is kept until the snapshot is {@link #delete(int) deleted}.
+     *
+     * @param partitionId the partition ID
+     * @return the staged records of the partition by map name, empty if there is no snapshot of the partition
+     */
+    public Map<String, List<RecordReplicationInfo>> stage(int partitionId) throws IOException {
+        Map<String, List<RecordReplicationInfo>> snapshot = stagedSnapshots.get(partitionId);
+        if (snapshot == null) {
+            snapshot = read(partitionId);
+            stagedSnapshots.put(partitionId, snapshot);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Removes the staged snapshot of a partition from the staging area, the snapshot file is kept.
+     *
+     * @param partitionId the partition ID
+     * @return the staged records of the partition by map name, or {@code null} if none are staged
+     */
+    public Map<String, List<RecordReplicationInfo>> unstage(int partitionId) {
+        return stagedSnapshots.remove(partitionId);
+    }
+
+    /**
+     * Deletes the snapshot of a partition, including its staged records.
+     */
+    public void delete(int partitionId) {
+        stagedSnapshots.remove(partitionId);
+        IOUtil.delete(getFile(partitionId));
+    }
+
+    /**
+     * Deletes the snapshots of all partitions.
+     */
+    public void clear() {
+        stagedSnapshots.clear();
+        IOUtil.delete(dir);
+    }
+
+    private File getFile(int partitionId) {
+        return new File(dir, FILE_PREFIX + partitionId + FILE_SUFFIX);
+    }
+}
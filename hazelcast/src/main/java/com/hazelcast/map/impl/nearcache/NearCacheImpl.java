@@ -21,6 +21,7 @@ import com.hazelcast.config.Config;
 import com.hazelcast.config.EvictionPolicy;
 import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.config.NearCacheConfig;
+import com.hazelcast.internal.eviction.EvictionListener;
 import com.hazelcast.map.impl.SizeEstimator;
 import com.hazelcast.monitor.impl.NearCacheStatsImpl;
 import com.hazelcast.nio.serialization.Data;
@@ -30,12 +31,7 @@ import com.hazelcast.spi.serialization.SerializationService;
 import com.hazelcast.util.Clock;
 import com.hazelcast.util.ExceptionUtil;
 
-import java.util.Comparator;
 import java.util.Map;
-import java.util.Set;
-import java.util.TreeSet;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -45,7 +41,7 @@ import static com.hazelcast.config.EvictionPolicy.NONE;
 /**
  * NearCache.
  */
-public class NearCacheImpl implements NearCache<Data, Object> {
+public class NearCacheImpl implements NearCache<Data, Object>, EvictionListener<Data, NearCacheRecord> {
 
     public static final String NEAR_CACHE_EXECUTOR_NAME = "hz:near-cache";
 
@@ -61,10 +57,9 @@ public class NearCacheImpl implements NearCache<Data, Object> {
     private final NodeEngine nodeEngine;
     private final AtomicBoolean canCleanUp;
     private final AtomicBoolean canEvict;
-    private final ConcurrentMap<Data, NearCacheRecord> cache;
+    private final NearCacheRecordMap<Data> cache;
     private final NearCacheStatsImpl nearCacheStats;
     private final SerializationService serializationService;
-    private final Comparator<NearCacheRecord> selectedComparator;
     private final boolean invalidateOnChange;
 
     private SizeEstimator nearCacheSizeEstimator;
@@ -84,8 +79,7 @@ public class NearCacheImpl implements NearCache<Data, Object> {
         this.inMemoryFormat = nearCacheConfig.getInMemoryFormat();
         this.timeToLiveMillis = TimeUnit.SECONDS.toMillis(nearCacheConfig.getTimeToLiveSeconds());
         this.evictionPolicy = EvictionPolicy.valueOf(nearCacheConfig.getEvictionPolicy());
-        this.selectedComparator = NearCacheRecord.getComparator(evictionPolicy);
-        this.cache = new ConcurrentHashMap<Data, NearCacheRecord>();
+        this.cache = new NearCacheRecordMap<Data>(evictionPolicy);
         this.canCleanUp = new AtomicBoolean(true);
         this.canEvict = new AtomicBoolean(true);
         this.nearCacheStats = new NearCacheStatsImpl();
@@ -148,17 +142,8 @@ public class NearCacheImpl implements NearCache<Data, Object> {
                 executionService.execute(NEAR_CACHE_EXECUTOR_NAME, new Runnable() {
                     public void run() {
                         try {
-                            Set<NearCacheRecord> records = new TreeSet<NearCacheRecord>(selectedComparator);
-                            records.addAll(cache.values());
-                            int evictSize = (int) (cache.size() * EVICTION_FACTOR);
-                            int i = 0;
-                            for (NearCacheRecord record : records) {
-                                cache.remove(record.getKey());
-                                updateSizeEstimator(-calculateCost(record));
-                                if (++i > evictSize) {
-                                    break;
-                                }
-                            }
+                            int evictSize = (int) (cache.size() * EVICTION_FACTOR) + 1;
+                            cache.evict(evictSize, NearCacheImpl.this);
                         } finally {
                             canEvict.set(true);
                         }
@@ -214,6 +199,11 @@ public class NearCacheImpl implements NearCache<Data, Object> {
         }
     }
 
+    @Override
+    public void onEvict(Data key, NearCacheRecord record) {
+        updateSizeEstimator(-calculateCost(record));
+    }
+
     @Override
     public String getName() {
         return mapName;
@@ -16,12 +16,10 @@
 
 package com.hazelcast.map.impl.nearcache;
 
-import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.internal.eviction.Evictable;
 import com.hazelcast.nio.serialization.Data;
 import com.hazelcast.util.Clock;
-import com.hazelcast.util.QuickMath;
 
-import java.util.Comparator;
 import java.util.concurrent.atomic.AtomicLong;
 
 import static com.hazelcast.nio.Bits.LONG_SIZE_IN_BYTES;
@@ -30,33 +28,7 @@ import static com.hazelcast.util.JVMUtil.REFERENCE_COST_IN_BYTES;
 /**
  * Entry holder to be used in Client and Node side Near cache
  */
-public class NearCacheRecord {
-    private static final Comparator<NearCacheRecord> LRU_COMPARATOR = new Comparator<NearCacheRecord>() {
-        public int compare(NearCacheRecord o1, NearCacheRecord o2) {
-            final int result = QuickMath.compareLongs(o1.lastAccessTime, o2.lastAccessTime);
-            if (result != 0) {
-                return result;
-            }
-            return QuickMath.compareIntegers(o1.key.hashCode(), o2.key.hashCode());
-        }
-    };
-
-    private static final Comparator<NearCacheRecord> LFU_COMPARATOR = new Comparator<NearCacheRecord>() {
-        public int compare(NearCacheRecord o1, NearCacheRecord o2) {
-            final int result = QuickMath.compareLongs(o1.hit.get(), o2.hit.get());
-            if (result != 0) {
-                return result;
-            }
-            return QuickMath.compareIntegers(o1.key.hashCode(), o2.key.hashCode());
-        }
-    };
-
-    private static final Comparator<NearCacheRecord> DEFAULT_COMPARATOR = new Comparator<NearCacheRecord>() {
-        public int compare(NearCacheRecord o1, NearCacheRecord o2) {
-            return QuickMath.compareIntegers(o1.key.hashCode(), o2.key.hashCode());
-        }
-    };
-
+public class NearCacheRecord implements Evictable<Object> {
     private final Object key;
     private final Object value;
     private final AtomicLong hit;
@@ -79,10 +51,27 @@ public class NearCacheRecord {
         return key;
     }
 
+    @Override
     public Object getValue() {
         return value;
     }
 
+    @Override
+    public long getCreationTime() {
+        return creationTime;
+    }
+
+    @Override
+    public long getLastAccessTime() {
+        return lastAccessTime;
+    }
+
+    @Override
+    public int getAccessHit() {
+        long hits = hit.get();
+        return hits > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) hits;
+    }
+
     public void access() {
         hit.incrementAndGet();
         lastAccessTime = Clock.currentTimeMillis();
@@ -111,20 +100,4 @@ public class NearCacheRecord {
         return (maxIdleMillis > 0 && time > lastAccessTime + maxIdleMillis)
                 || (timeToLiveMillis > 0 && time > creationTime + timeToLiveMillis);
     }
-
-    /**
-     * @param evictionPolicy EvictionPolicy
-     * @return appropriate comparator function depending on the eviction policy
-     */
-    public static Comparator<NearCacheRecord> getComparator(EvictionPolicy evictionPolicy) {
-        if (EvictionPolicy.LRU.equals(evictionPolicy)) {
-            return NearCacheRecord.LRU_COMPARATOR;
-        } else if (EvictionPolicy.LFU.equals(evictionPolicy)) {
-            return NearCacheRecord.LFU_COMPARATOR;
-        } else {
-            return NearCacheRecord.DEFAULT_COMPARATOR;
-        }
-    }
-
-
 }
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.map.impl.nearcache;
+
+import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.internal.eviction.EvictableEntryView;
+import com.hazelcast.internal.eviction.EvictionCandidate;
+import com.hazelcast.internal.eviction.EvictionListener;
+import com.hazelcast.internal.eviction.EvictionPolicyComparator;
+import com.hazelcast.internal.eviction.EvictionPolicyEvaluator;
+import com.hazelcast.internal.eviction.EvictionStrategy;
+import com.hazelcast.internal.eviction.EvictionStrategyProvider;
+import com.hazelcast.internal.eviction.impl.comparator.LFUEvictionPolicyComparator;
+import com.hazelcast.internal.eviction.impl.comparator.LRUEvictionPolicyComparator;
+import com.hazelcast.internal.eviction.impl.evaluator.DefaultEvictionPolicyEvaluator;
+import com.hazelcast.internal.eviction.impl.strategy.sampling.SampleableEvictableStore;
+import com.hazelcast.util.SampleableConcurrentHashMap;
+
+/**
+ * Holds the {@link NearCacheRecord}s of the member and client side IMap near caches.
+ * <p/>
+ * Records are evicted by the sampling based {@link EvictionStrategy}, so every evicted record costs a constant
+ * amount of work and no copy of the whole near cache is needed to find the eviction candidates.
+ *
+ * @param <K> type of the near cache keys
+ */
+public class NearCacheRecordMap<K>
+        extends SampleableConcurrentHashMap<K, NearCacheRecord>
+        implements SampleableEvictableStore<K, NearCacheRecord> {
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 1000;
+
+    private final EvictionPolicyEvaluator<K, NearCacheRecord> evictionPolicyEvaluator;
+    private final EvictionStrategy<K, NearCacheRecord, NearCacheRecordMap<K>> evictionStrategy;
+
+    public NearCacheRecordMap(EvictionPolicy evictionPolicy) {
+        super(DEFAULT_INITIAL_CAPACITY);
+        this.evictionPolicyEvaluator = createEvictionPolicyEvaluator(evictionPolicy);
+        this.evictionStrategy = EvictionStrategyProvider.getDefaultEvictionStrategy();
+    }
+
+    /**
+     * Evicts up to the given number of records, each chosen by the configured eviction policy from a random sample.
+     *
+     * @param count            number of records to evict
+     * @param evictionListener listener to be notified about the evicted records, can be {@code null}
+     * @return number of the actually evicted records
+     */
+    public int evict(int count, EvictionListener<K, NearCacheRecord> evictionListener) {
+        if (evictionPolicyEvaluator == null) {
+            return 0;
+        }
+        int evicted = 0;
+        for (int i = 0; i < count && !isEmpty(); i++) {
+            evicted += evictionStrategy.evict(this, evictionPolicyEvaluator, null, evictionListener);
+        }
+        return evicted;
+    }
+
+    @Override
+    public <C extends EvictionCandidate<K, NearCacheRecord>> int evict(Iterable<C> evictionCandidates,
+                                                                       EvictionListener<K, NearCacheRecord> evictionListener) {
+        if (evictionCandidates == null) {
+            return 0;
+        }
+        int actualEvictedCount = 0;
+        for (EvictionCandidate<K, NearCacheRecord> evictionCandidate : evictionCandidates) {
+            NearCacheRecord record = remove(evictionCandidate.getAccessor());
+            if (record != null) {
+                actualEvictedCount++;
+                if (evictionListener != null) {
+                    evictionListener.onEvict(evictionCandidate.getAccessor(), record);
+                }
+            }
+        }
+        return actualEvictedCount;
+    }
+
+    @Override
+    public Iterable<NearCacheEvictableSamplingEntry> sample(int sampleCount) {
+        return super.getRandomSamples(sampleCount);
+    }
+
+    @Override
+    protected <E extends SamplingEntry> E createSamplingEntry(K key, NearCacheRecord value) {
+        return (E) new NearCacheEvictableSamplingEntry(key, value);
+    }
+
+    private static EvictionPolicyEvaluator createEvictionPolicyEvaluator(EvictionPolicy evictionPolicy) {
+        switch (evictionPolicy) {
+            case LRU:
+                return new DefaultEvictionPolicyEvaluator(new LRUEvictionPolicyComparator());
+            case LFU:
+                return new DefaultEvictionPolicyEvaluator(new LFUEvictionPolicyComparator());
+            case RANDOM:
+                return new DefaultEvictionPolicyEvaluator(new RandomEvictionPolicyComparator());
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Sampled record which is a candidate to be evicted.
+     */
+    public class NearCacheEvictableSamplingEntry
+            extends SamplingEntry<K, NearCacheRecord>
+            implements EvictionCandidate<K, NearCacheRecord> {
+
+        public NearCacheEvictableSamplingEntry(K key, NearCacheRecord value) {
+            super(key, value);
+        }
+
+        @Override
+        public K getAccessor() {
+            return key;
+        }
+
+        @Override
+        public NearCacheRecord getEvictable() {
+            return value;
+        }
+
+        @Override
+        public Object getKey() {
+            return key;
+        }
+
+        @Override
+        public Object getValue() {
+            return value.getValue();
+        }
+
+        @Override
+        public long getCreationTime() {
+            return value.getCreationTime();
+        }
+
+        @Override
+        public long getLastAccessTime() {
+            return value.getLastAccessTime();
+        }
+
+        @Override
+        public long getAccessHit() {
+            return value.getAccessHit();
+        }
+    }
+
+    /**
+     * Gives all records the same priority, so the first sampled record is evicted.
+     */
+    @edu.umd.cs.findbugs.annotations.SuppressWarnings(
+            value = "SE_COMPARATOR_SHOULD_BE_SERIALIZABLE",
+            justification = "No need to serializable since its instance is not serialized")
+    private static class RandomEvictionPolicyComparator extends EvictionPolicyComparator {
+
+        @Override
+        public int compare(EvictableEntryView e1, EvictableEntryView e2) {
+            return BOTH_OF_ENTRIES_HAVE_SAME_PRIORITY_TO_BE_EVICTED;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.map.impl.operation;
+
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.map.impl.MapServiceContext;
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.map.impl.record.RecordReplicationInfo;
+import com.hazelcast.map.impl.recordstore.RecordStore;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.spi.AbstractOperation;
+import com.hazelcast.spi.impl.MutatingOperation;
+import com.hazelcast.util.Clock;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+
+import static com.hazelcast.map.impl.record.Records.applyRecordInfo;
+
+/**
+ * Replicates a part of the records of a single IMap in this partition to a replica partition,
+ * used when partitions are migrated in chunks. The first chunk of a map resets its record store on the replica.
+ *
+ * @see com.hazelcast.spi.ChunkedMigrationAwareService
+ */
+public class MapChunkReplicationOperation extends AbstractOperation implements MutatingOperation {
+
+    private String mapName;
+    private boolean firstChunk;
+    // propagates the information if the given record store has been already loaded with map-loader
+    private boolean loaded;
+    private Collection<RecordReplicationInfo> records;
+
+    public MapChunkReplicationOperation() {
+    }
+
+    public MapChunkReplicationOperation(String mapName, int partitionId, int replicaIndex, boolean firstChunk,
+                                        boolean loaded, Collection<RecordReplicationInfo> records) {
+        this.mapName = mapName;
+        this.firstChunk = firstChunk;
+        this.loaded = loaded;
+        this.records = records;
+        setPartitionId(partitionId).setReplicaIndex(replicaIndex);
+    }
+
+    @Override
+    public void run() {
+        final boolean skipLoadingOnRecordStoreCreate = true;
+        MapService mapService = getService();
+        MapServiceContext mapServiceContext = mapService.getMapServiceContext();
+        RecordStore recordStore = mapServiceContext.getRecordStore(getPartitionId(), mapName, skipLoadingOnRecordStoreCreate);
+        if (firstChunk) {
+            recordStore.reset();
+            recordStore.setPreMigrationLoadedStatus(loaded);
+        }
+
+        for (RecordReplicationInfo recordReplicationInfo : records) {
+            Data key = recordReplicationInfo.getKey();
+            Data value = recordReplicationInfo.getValue();
+            Record newRecord = recordStore.createRecord(value, -1L, Clock.currentTimeMillis());
+            applyRecordInfo(newRecord, recordReplicationInfo);
+            recordStore.putRecord(key, newRecord);
+        }
+    }
+
+    @Override
+    public String getServiceName() {
+        return MapService.SERVICE_NAME;
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        out.writeUTF(mapName);
+        out.writeBoolean(firstChunk);
+        out.writeBoolean(loaded);
+        out.writeInt(records.size());
+        for (RecordReplicationInfo recordReplicationInfo : records) {
+            out.writeObject(recordReplicationInfo);
+        }
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        mapName = in.readUTF();
+        firstChunk = in.readBoolean();
+        loaded = in.readBoolean();
+        int size = in.readInt();
+        records = new ArrayList<RecordReplicationInfo>(size);
+        for (int i = 0; i < size; i++) {
+            RecordReplicationInfo recordReplicationInfo = in.readObject();
+            records.add(recordReplicationInfo);
+        }
+    }
+
+    @Override
+    protected void toString(StringBuilder sb) {
+        super.toString(sb);
+        sb.append(", mapName=").append(mapName);
+        sb.append(", firstChunk=").append(firstChunk);
+        sb.append(", recordCount=").append(records == null ? 0 : records.size());
+    }
+}
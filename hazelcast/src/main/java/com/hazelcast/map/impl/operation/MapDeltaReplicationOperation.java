@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.map.impl.operation;
+
+import com.hazelcast.map.impl.MapReplicaDigest;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.map.impl.MapSnapshotStore;
+import com.hazelcast.map.impl.PartitionContainer;
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.map.impl.record.RecordReplicationInfo;
+import com.hazelcast.map.impl.recordstore.RecordStore;
+import com.hazelcast.map.impl.recordstore.Storage;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.util.Clock;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static com.hazelcast.map.impl.record.Records.applyRecordInfo;
+
+/**
+ * Replicates only the IMap segments which differ between this partition and a backup replica, as computed from
+ * the {@link MapReplicaDigest} of the replica. The records of the differing segments are replaced on the replica,
+ * the write-behind state is replicated as a whole. The maps which are not replicated are cleared on the replica.
+ */
+public class MapDeltaReplicationOperation extends MapReplicationOperation {
+
+    private int segmentCount;
+    private Map<String, MapDelta> deltas;
+
+    public MapDeltaReplicationOperation() {
+    }
+
+    public MapDeltaReplicationOperation(PartitionContainer container, int partitionId, int replicaIndex, int segmentCount) {
+        super(container, partitionId, replicaIndex, false);
+        this.segmentCount = segmentCount;
+        this.deltas = new HashMap<String, MapDelta>();
+    }
+
+    /**
+     * Adds the records of the given segments of a map to be replaced on the replica. Each map replicated
+     * to the replica has to be added, even if none of its segments differ.
+     */
+    public void addDelta(String mapName, boolean loaded, int[] segments, List<RecordReplicationInfo> records) {
+        deltas.put(mapName, new MapDelta(loaded, segments, records));
+    }
+
+    @Override
+    public void run() {
+        applyStagedSnapshot();
+        clearMapsNotReplicated();
+        for (Map.Entry<String, MapDelta> entry : deltas.entrySet()) {
+            applyDelta(getRecordStore(entry.getKey()), entry.getValue());
+        }
+        super.run();
+    }
+
+    /**
+     * Applies the snapshot staged when the digest of this replica was computed, since the delta is based on it.
+     * If the migration fails afterwards, the replica is cleared by its rollback.
+     */
+    private void applyStagedSnapshot() {
+        MapService mapService = getService();
+        MapSnapshotStore snapshotStore = mapService.getMapServiceContext().getSnapshotStore();
+        Map<String, List<RecordReplicationInfo>> snapshot = snapshotStore.unstage(getPartitionId());
+        if (snapshot == null) {
+            return;
+        }
+        for (Map.Entry<String, List<RecordReplicationInfo>> entry : snapshot.entrySet()) {
+            RecordStore recordStore = getRecordStore(entry.getKey());
+            recordStore.reset();
+            putRecords(recordStore, entry.getValue());
+        }
+    }
+
+    /**
+     * Clears the maps which the partition owner does not replicate, for example maps restored from a snapshot
+     * but destroyed meanwhile, as the owner does not hold data of them.
+     */
+    private void clearMapsNotReplicated() {
+        MapService mapService = getService();
+        PartitionContainer container = mapService.getMapServiceContext().getPartitionContainer(getPartitionId());
+        Iterator<RecordStore> iterator = container.getMaps().values().iterator();
+        while (iterator.hasNext()) {
+            RecordStore recordStore = iterator.next();
+            if (!deltas.containsKey(recordStore.getName())) {
+                recordStore.clearPartition(false);
+                iterator.remove();
+            }
+        }
+    }
+
+    private void applyDelta(RecordStore recordStore, MapDelta delta) {
+        // the write-behind state is replicated as a whole, as done by a full replication
+        recordStore.getMapDataStore().reset();
+        recordStore.setPreMigrationLoadedStatus(delta.loaded);
+
+        boolean[] replacedSegments = new boolean[segmentCount];
+        for (int segment : delta.segments) {
+            replacedSegments[segment] = true;
+        }
+        Storage<?, Record> storage = recordStore.getStorage();
+        List<Record> staleRecords = new ArrayList<Record>();
+        for (Record record : storage.values()) {
+            if (replacedSegments[MapReplicaDigest.getSegment(record.getKey(), segmentCount)]) {
+                staleRecords.add(record);
+            }
+        }
+        for (Record record : staleRecords) {
+            storage.removeRecord(record);
+        }
+
+        putRecords(recordStore, delta.records);
+    }
+
+    private static void putRecords(RecordStore recordStore, Collection<RecordReplicationInfo> records) {
+        for (RecordReplicationInfo recordReplicationInfo : records) {
+            Record newRecord = recordStore.createRecord(recordReplicationInfo.getValue(), -1L, Clock.currentTimeMillis());
+            applyRecordInfo(newRecord, recordReplicationInfo);
+            recordStore.putRecord(recordReplicationInfo.getKey(), newRecord);
+        }
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        super.writeInternal(out);
+        out.writeInt(segmentCount);
+        out.writeInt(deltas.size());
+        for (Map.Entry<String, MapDelta> entry : deltas.entrySet()) {
+            MapDelta delta = entry.getValue();
+            out.writeUTF(entry.getKey());
+            out.writeBoolean(delta.loaded);
+            out.writeIntArray(delta.segments);
+            out.writeInt(delta.records.size());
+            for (RecordReplicationInfo recordReplicationInfo : delta.records) {
+                out.writeObject(recordReplicationInfo);
+            }
+        }
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        super.readInternal(in);
+        segmentCount = in.readInt();
+        int size = in.readInt();
+        deltas = new HashMap<String, MapDelta>(size);
+        for (int i = 0; i < size; i++) {
+            String mapName = in.readUTF();
+            boolean loaded = in.readBoolean();
+            int[] segments = in.readIntArray();
+            int recordCount = in.readInt();
+            List<RecordReplicationInfo> records = new ArrayList<RecordReplicationInfo>(recordCount);
+            for (int j = 0; j < recordCount; j++) {
+                RecordReplicationInfo recordReplicationInfo = in.readObject();
+                records.add(recordReplicationInfo);
+            }
+            deltas.put(mapName, new MapDelta(loaded, segments, records));
+        }
+    }
+
+    private static final class MapDelta {
+
+        private final boolean loaded;
+        private final int[] segments;
+        private final Collection<RecordReplicationInfo> records;
+
+        private MapDelta(boolean loaded, int[] segments, Collection<RecordReplicationInfo> records) {
+            this.loaded = loaded;
+            this.segments = segments;
+            this.records = records;
+        }
+    }
+}
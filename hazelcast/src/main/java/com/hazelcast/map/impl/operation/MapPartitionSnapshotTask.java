@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.map.impl.operation;
+
+import com.hazelcast.config.HotRestartConfig;
+import com.hazelcast.map.impl.MapServiceContext;
+import com.hazelcast.map.impl.MapSnapshotStore;
+import com.hazelcast.map.impl.PartitionContainer;
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.map.impl.record.RecordReplicationInfo;
+import com.hazelcast.map.impl.recordstore.RecordStore;
+import com.hazelcast.spi.impl.PartitionSpecificRunnable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+import static com.hazelcast.map.impl.record.Records.buildRecordInfo;
+
+/**
+ * Writes the records of the maps having hot restart enabled in a partition to the {@link MapSnapshotStore}.
+ */
+public class MapPartitionSnapshotTask implements PartitionSpecificRunnable {
+
+    private final MapServiceContext mapServiceContext;
+    private final int partitionId;
+    private final Semaphore semaphore;
+
+    public MapPartitionSnapshotTask(MapServiceContext mapServiceContext, int partitionId, Semaphore semaphore) {
+        this.mapServiceContext = mapServiceContext;
+        this.partitionId = partitionId;
+        this.semaphore = semaphore;
+    }
+
+    @Override
+    public void run() {
+        try {
+            PartitionContainer container = mapServiceContext.getPartitionContainer(partitionId);
+            Map<String, Collection<RecordReplicationInfo>> records = new HashMap<String, Collection<RecordReplicationInfo>>();
+            boolean fsync = false;
+            for (RecordStore recordStore : container.getMaps().values()) {
+                HotRestartConfig hotRestartConfig = recordStore.getMapContainer().getMapConfig().getHotRestartConfig();
+                if (!hotRestartConfig.isEnabled() || recordStore.size() == 0) {
+                    continue;
+                }
+                records.put(recordStore.getName(), getRecords(recordStore));
+                fsync |= hotRestartConfig.isFsync();
+            }
+            if (!records.isEmpty()) {
+                mapServiceContext.getSnapshotStore().write(partitionId, records, fsync);
+            }
+        } catch (Throwable t) {
+            mapServiceContext.getNodeEngine().getLogger(getClass())
+                    .warning("Could not write the snapshot of partition " + partitionId, t);
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    private Collection<RecordReplicationInfo> getRecords(RecordStore recordStore) {
+        Collection<RecordReplicationInfo> records = new ArrayList<RecordReplicationInfo>(recordStore.size());
+        Iterator<Record> iterator = recordStore.iterator();
+        while (iterator.hasNext()) {
+            Record record = iterator.next();
+            records.add(new RecordReplicationInfo(record.getKey(), mapServiceContext.toData(record.getValue()),
+                    buildRecordInfo(record)));
+        }
+        return records;
+    }
+
+    @Override
+    public int getPartitionId() {
+        return partitionId;
+    }
+}
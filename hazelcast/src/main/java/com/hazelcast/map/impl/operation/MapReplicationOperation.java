@@ -66,9 +66,22 @@ public class MapReplicationOperation extends AbstractOperation implements Mutati
     }
 
     public MapReplicationOperation(PartitionContainer container, int partitionId, int replicaIndex) {
+        this(container, partitionId, replicaIndex, true);
+    }
+
+    /**
+     * @param includeRecords {@code false} to replicate only the write-behind state, when the records are
+     *                       replicated separately by {@link MapChunkReplicationOperation}s
+     */
+    public MapReplicationOperation(PartitionContainer container, int partitionId, int replicaIndex,
+                                   boolean includeRecords) {
         setPartitionId(partitionId).setReplicaIndex(replicaIndex);
 
-        mapReplicationStateHolder.prepare(container, replicaIndex);
+        if (includeRecords) {
+            mapReplicationStateHolder.prepare(container, replicaIndex);
+        } else {
+            mapReplicationStateHolder.prepareEmpty();
+        }
         writeBehindStateHolder.prepare(container, replicaIndex);
     }
 
@@ -101,7 +114,7 @@ public class MapReplicationOperation extends AbstractOperation implements Mutati
         return new RecordReplicationInfo(key, mapServiceContext.toData(record.getValue()), info);
     }
 
-    private RecordStore getRecordStore(String mapName) {
+    protected RecordStore getRecordStore(String mapName) {
         final boolean skipLoadingOnRecordStoreCreate = true;
         MapService mapService = getService();
         MapServiceContext mapServiceContext = mapService.getMapServiceContext();
@@ -147,6 +160,11 @@ public class MapReplicationOperation extends AbstractOperation implements Mutati
             }
         }
 
+        private void prepareEmpty() {
+            data = new HashMap<String, Set<RecordReplicationInfo>>(0);
+            loaded = new HashMap<String, Boolean>(0);
+        }
+
         private void applyState() {
             if (data != null) {
                 for (Entry<String, Set<RecordReplicationInfo>> dataEntry : data.entrySet()) {
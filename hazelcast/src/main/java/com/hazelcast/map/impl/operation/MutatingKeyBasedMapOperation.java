@@ -83,6 +83,12 @@ public abstract class MutatingKeyBasedMapOperation extends MapOperation
         return ttl;
     }
 
+    @Override
+    public void innerBeforeRun() throws Exception {
+        super.innerBeforeRun();
+        mapContainer.recordKeyAccess(getPartitionId(), dataKey);
+    }
+
     @Override
     public void afterRun() throws Exception {
     }
@@ -50,6 +50,12 @@ public abstract class ReadonlyKeyBasedMapOperation extends MapOperation implemen
         this.threadId = threadId;
     }
 
+    @Override
+    public void innerBeforeRun() throws Exception {
+        super.innerBeforeRun();
+        mapContainer.recordKeyAccess(getPartitionId(), dataKey);
+    }
+
     @Override
     protected void writeInternal(ObjectDataOutput out) throws IOException {
         out.writeUTF(name);
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.record;
+
+import com.hazelcast.internal.serialization.impl.SerializationConstants;
+import com.hazelcast.map.compression.ValueCompressor;
+import com.hazelcast.nio.Bits;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.util.HashUtil;
+
+import static com.hazelcast.internal.serialization.impl.HeapData.DATA_OFFSET;
+import static com.hazelcast.internal.serialization.impl.HeapData.PARTITION_HASH_OFFSET;
+import static com.hazelcast.internal.serialization.impl.HeapData.TYPE_OFFSET;
+import static com.hazelcast.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.util.JVMUtil.REFERENCE_COST_IN_BYTES;
+
+/**
+ * A {@link Data} whose payload is kept compressed by a {@link ValueCompressor}.
+ *
+ * The header (type and partition hash), the payload size and the hash code are kept uncompressed, so
+ * the payload is only decompressed when {@link #toByteArray()} or {@link #hash64()} is called, e.g. when the
+ * value is sent to a caller or deserialized. Equality and hash code are the same as for the uncompressed
+ * {@link com.hazelcast.internal.serialization.impl.HeapData HeapData}.
+ */
+final class CompressedData implements Data {
+
+    /**
+     * Payloads smaller than this are never compressed, since the savings can not pay for the extra fields.
+     */
+    static final int MIN_COMPRESSIBLE_SIZE = 64;
+
+    // array (12: array header, 4: length)
+    private static final int ARRAY_HEADER_SIZE_IN_BYTES = 16;
+    private static final int INT_FIELD_COUNT = 4;
+
+    private final ValueCompressor compressor;
+    private final byte[] compressedPayload;
+    private final int partitionHash;
+    private final int type;
+    private final int dataSize;
+    private final int hashCode;
+
+    private CompressedData(ValueCompressor compressor, byte[] compressedPayload, Data data) {
+        this.compressor = compressor;
+        this.compressedPayload = compressedPayload;
+        this.partitionHash = data.hasPartitionHash() ? data.getPartitionHash() : 0;
+        this.type = data.getType();
+        this.dataSize = data.dataSize();
+        this.hashCode = data.hashCode();
+    }
+
+    /**
+     * Returns a compressed version of the given data, or the data itself if compressing it does not pay off.
+     */
+    static Data compress(Data data, ValueCompressor compressor) {
+        if (data instanceof CompressedData || data.dataSize() < MIN_COMPRESSIBLE_SIZE) {
+            return data;
+        }
+        byte[] compressedPayload = compressor.compress(data.toByteArray(), DATA_OFFSET, data.dataSize());
+        if (compressedPayload.length + INT_FIELD_COUNT * INT_SIZE_IN_BYTES >= data.dataSize()) {
+            return data;
+        }
+        return new CompressedData(compressor, compressedPayload, data);
+    }
+
+    @Override
+    public byte[] toByteArray() {
+        byte[] bytes = new byte[totalSize()];
+        Bits.writeIntB(bytes, PARTITION_HASH_OFFSET, partitionHash);
+        Bits.writeIntB(bytes, TYPE_OFFSET, type);
+        compressor.decompress(compressedPayload, bytes, DATA_OFFSET, dataSize);
+        return bytes;
+    }
+
+    @Override
+    public int getType() {
+        return type;
+    }
+
+    @Override
+    public int totalSize() {
+        return DATA_OFFSET + dataSize;
+    }
+
+    @Override
+    public int dataSize() {
+        return dataSize;
+    }
+
+    /**
+     * Returns the size of the compressed value, which is what this data actually occupies on the heap.
+     */
+    @Override
+    public int getHeapCost() {
+        return REFERENCE_COST_IN_BYTES + REFERENCE_COST_IN_BYTES + INT_FIELD_COUNT * INT_SIZE_IN_BYTES
+                + ARRAY_HEADER_SIZE_IN_BYTES + compressedPayload.length;
+    }
+
+    @Override
+    public int getPartitionHash() {
+        return hasPartitionHash() ? partitionHash : hashCode;
+    }
+
+    @Override
+    public boolean hasPartitionHash() {
+        return partitionHash != 0;
+    }
+
+    @Override
+    public long hash64() {
+        return HashUtil.MurmurHash3_x64_64(toByteArray(), DATA_OFFSET, dataSize);
+    }
+
+    @Override
+    public boolean isPortable() {
+        return SerializationConstants.CONSTANT_TYPE_PORTABLE == type;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Data)) {
+            return false;
+        }
+
+        Data data = (Data) o;
+        if (type != data.getType() || dataSize != data.dataSize()) {
+            return false;
+        }
+        if (data instanceof CompressedData && hashCode != data.hashCode()) {
+            return false;
+        }
+        return dataSize == 0 || payloadEquals(toByteArray(), data.toByteArray());
+    }
+
+    private static boolean payloadEquals(byte[] bytes1, byte[] bytes2) {
+        for (int i = bytes1.length - 1; i >= DATA_OFFSET; i--) {
+            if (bytes1[i] != bytes2[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return "CompressedData{"
+                + "type=" + type
+                + ", hashCode=" + hashCode
+                + ", partitionHash=" + getPartitionHash()
+                + ", totalSize=" + totalSize()
+                + ", dataSize=" + dataSize
+                + ", heapCost=" + getHeapCost()
+                + '}';
+    }
+}
@@ -19,6 +19,7 @@ package com.hazelcast.map.impl.record;
 import com.hazelcast.config.CacheDeserializedValues;
 import com.hazelcast.config.MapConfig;
 import com.hazelcast.core.PartitioningStrategy;
+import com.hazelcast.map.compression.ValueCompressor;
 import com.hazelcast.nio.serialization.Data;
 import com.hazelcast.spi.serialization.SerializationService;
 
@@ -28,6 +29,7 @@ public class DataRecordFactory implements RecordFactory<Data> {
     private final PartitioningStrategy partitionStrategy;
     private final CacheDeserializedValues cacheDeserializedValues;
     private final boolean statisticsEnabled;
+    private final ValueCompressor valueCompressor;
 
     public DataRecordFactory(MapConfig config, SerializationService serializationService,
                              PartitioningStrategy partitionStrategy) {
@@ -35,13 +37,14 @@ public class DataRecordFactory implements RecordFactory<Data> {
         this.partitionStrategy = partitionStrategy;
         this.statisticsEnabled = config.isStatisticsEnabled();
         this.cacheDeserializedValues = config.getCacheDeserializedValues();
+        this.valueCompressor = config.getValueCompressor();
     }
 
     @Override
     public Record<Data> newRecord(Object value) {
         assert value != null : "value can not be null";
 
-        final Data data = serializationService.toData(value, partitionStrategy);
+        final Data data = compress(serializationService.<Data>toData(value, partitionStrategy));
         switch (cacheDeserializedValues) {
             case NEVER:
                 return statisticsEnabled ? new DataRecordWithStats(data) : new DataRecord(data);
@@ -60,7 +63,11 @@ public class DataRecordFactory implements RecordFactory<Data> {
         } else {
             v = serializationService.toData(value, partitionStrategy);
         }
-        record.setValue(v);
+        record.setValue(compress(v));
+    }
+
+    private Data compress(Data data) {
+        return valueCompressor == null ? data : CompressedData.compress(data, valueCompressor);
     }
 
     @Override
@@ -26,6 +26,7 @@ import com.hazelcast.spi.annotation.PrivateApi;
  *     <li>Packet: for member to member and old-client to member communication</li>
  *     <li>TextMessage: for memcached and rest communication</li>
  *     <li>ClientMessage: for the new client to member communication</li>
+ *     <li>ClientMessageBatch: for client messages that are written to a client in one go</li>
  * </ol>
  *
  * Till so far, all communication over a single connection, will be of a single Frame-class. E.g. member
@@ -17,18 +17,23 @@
 package com.hazelcast.nio.tcp;
 
 import com.hazelcast.client.impl.protocol.ClientMessage;
+import com.hazelcast.client.impl.protocol.ClientMessageBatch;
+import com.hazelcast.nio.OutboundFrame;
 
 import java.nio.ByteBuffer;
 
 /**
- * A {@link WriteHandler} for the new-client. It writes ClientMessages to the ByteBuffer.
+ * A {@link WriteHandler} for the new-client. It writes ClientMessages and ClientMessageBatches to the ByteBuffer.
  *
  * @see ClientReadHandler
  */
-public class ClientWriteHandler implements WriteHandler<ClientMessage> {
+public class ClientWriteHandler implements WriteHandler<OutboundFrame> {
 
     @Override
-    public boolean onWrite(ClientMessage message, ByteBuffer dst) throws Exception {
-        return message.writeTo(dst);
+    public boolean onWrite(OutboundFrame frame, ByteBuffer dst) throws Exception {
+        if (frame instanceof ClientMessage) {
+            return ((ClientMessage) frame).writeTo(dst);
+        }
+        return ((ClientMessageBatch) frame).writeTo(dst);
     }
 }
@@ -113,6 +113,11 @@ public class CachedQueryEntry extends QueryableEntry {
         return targetObject;
     }
 
+    @Override
+    public Data getSerializedTarget(boolean key) {
+        return key ? keyData : valueData;
+    }
+
     @Override
     public Object setValue(Object value) {
         throw new UnsupportedOperationException();
@@ -89,6 +89,14 @@ public class QueryEntry extends QueryableEntry {
         return key ? this.key : this.value;
     }
 
+    @Override
+    public Data getSerializedTarget(boolean key) {
+        if (key) {
+            return this.key;
+        }
+        return value instanceof Data ? (Data) value : null;
+    }
+
     @Override
     public Object setValue(Object value) {
         throw new UnsupportedOperationException();
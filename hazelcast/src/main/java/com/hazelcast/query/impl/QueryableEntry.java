@@ -63,6 +63,21 @@ public abstract class QueryableEntry<K, V> implements Extractable, Map.Entry<K,
 
     protected abstract Object getTargetObject(boolean key);
 
+    /**
+     * Returns the key or the value in serialized form if this entry already holds it that way, so predicates
+     * can inspect it without triggering any serialization or deserialization.
+     *
+     * @param key {@code true} for the key, {@code false} for the value
+     * @return the serialized key or value, or {@code null} if it is not available in serialized form
+     */
+    public Data getSerializedTarget(boolean key) {
+        return null;
+    }
+
+    public InternalSerializationService getSerializationService() {
+        return serializationService;
+    }
+
     TypeConverter getConverter(String attributeName) {
         Object attribute = getAttributeValue(attributeName);
         if (attribute == null) {
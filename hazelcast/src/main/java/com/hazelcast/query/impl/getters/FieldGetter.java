@@ -18,18 +18,66 @@ package com.hazelcast.query.impl.getters;
 
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 
+import static com.hazelcast.internal.memory.GlobalMemoryAccessorRegistry.MEM;
+import static com.hazelcast.internal.memory.GlobalMemoryAccessorRegistry.MEM_AVAILABLE;
+
+/**
+ * Extracts a value from a field.
+ * <p/>
+ * When a {@link com.hazelcast.internal.memory.MemoryAccessor} is available, instance fields are read directly
+ * at their object offset. This skips the per-call access and argument checks of {@link Field#get(Object)}, which
+ * dominate full-scan predicates over OBJECT in-memory-format maps. Volatile and static fields, and targets which
+ * are not instances of the declaring class (e.g. heterogeneous collection items reached through {@code [any]}),
+ * are always read reflectively.
+ */
 public class FieldGetter extends AbstractMultiValueGetter {
+
+    private static final long NO_OFFSET = -1;
+
     private final Field field;
+    private final Class<?> declaringClass;
+    private final Class<?> fieldType;
+    private final long offset;
 
     public FieldGetter(Getter parent, Field field, String modifierSuffix, Class resultType) {
         super(parent, modifierSuffix, field.getType(), resultType);
         this.field = field;
+        this.declaringClass = field.getDeclaringClass();
+        this.fieldType = field.getType();
+        this.offset = getOffset(field);
     }
 
     @Override
     protected Object extractFrom(Object object) throws IllegalAccessException {
-        return field.get(object);
+        if (offset == NO_OFFSET || !declaringClass.isInstance(object)) {
+            return field.get(object);
+        }
+        if (!fieldType.isPrimitive()) {
+            return MEM.getObject(object, offset);
+        }
+        return extractPrimitive(object);
+    }
+
+    private Object extractPrimitive(Object object) {
+        if (fieldType == int.class) {
+            return MEM.getInt(object, offset);
+        } else if (fieldType == long.class) {
+            return MEM.getLong(object, offset);
+        } else if (fieldType == double.class) {
+            return MEM.getDouble(object, offset);
+        } else if (fieldType == boolean.class) {
+            return MEM.getBoolean(object, offset);
+        } else if (fieldType == float.class) {
+            return MEM.getFloat(object, offset);
+        } else if (fieldType == short.class) {
+            return MEM.getShort(object, offset);
+        } else if (fieldType == byte.class) {
+            return MEM.getByte(object, offset);
+        } else {
+            return MEM.getChar(object, offset);
+        }
     }
 
     @Override
@@ -41,4 +89,16 @@ public class FieldGetter extends AbstractMultiValueGetter {
     public String toString() {
         return "FieldGetter [parent=" + parent + ", field=" + field + ", modifier = " + getModifier() + "]";
     }
+
+    private static long getOffset(Field field) {
+        int modifiers = field.getModifiers();
+        if (!MEM_AVAILABLE || Modifier.isStatic(modifiers) || Modifier.isVolatile(modifiers)) {
+            return NO_OFFSET;
+        }
+        try {
+            return MEM.objectFieldOffset(field);
+        } catch (RuntimeException e) {
+            return NO_OFFSET;
+        }
+    }
 }
@@ -16,8 +16,10 @@
 
 package com.hazelcast.query.impl.predicates;
 
+import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.Data;
 import com.hazelcast.query.Predicate;
 import com.hazelcast.query.impl.Index;
 import com.hazelcast.query.impl.IndexImpl;
@@ -28,13 +30,22 @@ import java.io.IOException;
 import java.util.Map;
 import java.util.Set;
 
+import static com.hazelcast.query.QueryConstants.KEY_ATTRIBUTE_NAME;
+import static com.hazelcast.query.QueryConstants.THIS_ATTRIBUTE_NAME;
+
 /**
  * Equal Predicate
  */
 public class EqualPredicate extends AbstractIndexAwarePredicate implements NegatablePredicate {
 
+    private static final int NO_MATCH = 0;
+    private static final int MATCH = 1;
+    private static final int UNDECIDED = 2;
+
     protected Comparable value;
 
+    private transient volatile SerializedValue serializedValue;
+
     public EqualPredicate() {
     }
 
@@ -53,6 +64,53 @@ public class EqualPredicate extends AbstractIndexAwarePredicate implements Negat
         return index.getRecords(value);
     }
 
+    @Override
+    public boolean apply(Map.Entry mapEntry) {
+        if (mapEntry instanceof QueryableEntry) {
+            int result = applyForSerializedForm((QueryableEntry) mapEntry);
+            if (result != UNDECIDED) {
+                return result == MATCH;
+            }
+        }
+        return super.apply(mapEntry);
+    }
+
+    /**
+     * Compares the whole key or value with the given value on their serialized forms, so the entry doesn't need to be
+     * deserialized. Equal bytes always mean equal objects. Different bytes only prove inequality for the built-in
+     * types that have a canonical serialized form; anything else falls back to the regular object comparison.
+     */
+    private int applyForSerializedForm(QueryableEntry entry) {
+        boolean key = KEY_ATTRIBUTE_NAME.value().equals(attributeName);
+        if ((!key && !THIS_ATTRIBUTE_NAME.value().equals(attributeName)) || !hasCanonicalSerializedForm(value)) {
+            return UNDECIDED;
+        }
+        Data entryData = entry.getSerializedTarget(key);
+        if (entryData == null) {
+            return UNDECIDED;
+        }
+        Data valueData = getSerializedValue(entry.getSerializationService());
+        if (valueData.equals(entryData)) {
+            return MATCH;
+        }
+        return valueData.getType() == entryData.getType() ? NO_MATCH : UNDECIDED;
+    }
+
+    private Data getSerializedValue(InternalSerializationService serializationService) {
+        SerializedValue current = serializedValue;
+        if (current == null || current.serializationService != serializationService || current.value != value) {
+            current = new SerializedValue(serializationService, value);
+            serializedValue = current;
+        }
+        return current.data;
+    }
+
+    private static boolean hasCanonicalSerializedForm(Object value) {
+        return value instanceof String || value instanceof Integer || value instanceof Long
+                || value instanceof Short || value instanceof Byte || value instanceof Character
+                || value instanceof Boolean || value instanceof Double || value instanceof Float;
+    }
+
     protected boolean applyForSingleAttributeValue(Map.Entry mapEntry, Comparable attributeValue) {
         if (attributeValue == null) {
             return value == null || value == IndexImpl.NULL;
@@ -87,4 +145,19 @@ public class EqualPredicate extends AbstractIndexAwarePredicate implements Negat
     public int getId() {
         return PredicateDataSerializerHook.EQUAL_PREDICATE;
     }
+
+    /**
+     * The given value serialized by a particular serialization service.
+     */
+    private static final class SerializedValue {
+        private final InternalSerializationService serializationService;
+        private final Comparable value;
+        private final Data data;
+
+        SerializedValue(InternalSerializationService serializationService, Comparable value) {
+            this.serializationService = serializationService;
+            this.value = value;
+            this.data = serializationService.toData(value);
+        }
+    }
 }
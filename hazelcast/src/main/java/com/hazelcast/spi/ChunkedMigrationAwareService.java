@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.spi;
+
+import java.util.Iterator;
+
+/**
+ * A {@link MigrationAwareService} that is able to replicate the data of a partition replica in bounded chunks
+ * instead of a single operation holding the whole partition.
+ * <p>
+ * When chunked migration is enabled with
+ * {@link com.hazelcast.spi.properties.GroupProperty#PARTITION_MIGRATION_CHUNK_MAX_ENTRIES}, the returned operations
+ * are sent to the destination one after the other; the next chunk is sent only after the previous one has been
+ * applied on the destination. So neither the source nor the destination has to hold
+ * the serialized form of the whole partition at once. Chunks are executed on the destination in iteration order
+ * and the migration fails and is rolled back as a whole if any of them fails.
+ * <p>
+ * The iterator is consumed on the partition thread, one chunk right before it is sent, so the service can safely
+ * read its partition data in it and should build each chunk lazily. Once the migration has started, the partition
+ * does not accept mutating operations until the migration is completed.
+ */
+public interface ChunkedMigrationAwareService extends MigrationAwareService {
+
+    /**
+     * Returns the operations to replicate service data and/or state for a specific partition replica
+     * on another cluster member, each of them carrying at most {@code maxEntriesPerChunk} entries.
+     * <p>
+     * Returning an empty iterator is allowed and means service does not have anything to replicate.
+     *
+     * @param event              replication
+     * @param maxEntriesPerChunk maximum number of entries replicated by a single operation
+     * @return replication operations in the order they should be executed on the destination
+     */
+    Iterator<Operation> prepareReplicationChunks(PartitionReplicationEvent event, int maxEntriesPerChunk);
+}
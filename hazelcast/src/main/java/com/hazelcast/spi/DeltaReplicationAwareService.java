@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.spi;
+
+/**
+ * A {@link MigrationAwareService} that is able to bring a stale backup replica up to date by replicating only
+ * the data which differs between the backup replica and the partition owner, instead of the whole partition.
+ * <p>
+ * When delta replica sync is enabled with
+ * {@link com.hazelcast.spi.properties.GroupProperty#PARTITION_REPLICA_SYNC_DELTA_SEGMENT_COUNT}, the backup replica
+ * computes a digest of its data with {@link #prepareReplicaDigest(PartitionReplicationEvent, int)} and sends it
+ * to the partition owner along with the replica sync request. The owner then replicates the data with
+ * {@link #prepareDeltaReplicationOperation(PartitionReplicationEvent, Object)} instead of
+ * {@link #prepareReplicationOperation(PartitionReplicationEvent)}.
+ */
+public interface DeltaReplicationAwareService extends MigrationAwareService {
+
+    /**
+     * Returns a digest of the data of a backup replica, for example hashes of the segments of the key space
+     * the replica data is divided into.
+     * <p>
+     * This method is called on the backup replica, on the partition thread, before a replica sync is requested
+     * from the partition owner. Returned digest must be serializable with the serialization service.
+     * <p>
+     * Returning null is allowed and means the owner replicates the data of this service as a whole.
+     *
+     * @param event        replication
+     * @param segmentCount number of segments the replica data should be divided into
+     * @return digest of the replica data or null
+     */
+    Object prepareReplicaDigest(PartitionReplicationEvent event, int segmentCount);
+
+    /**
+     * Returns an operation to replicate only the data differing from the given digest of a backup replica.
+     * <p>
+     * This method is called on the partition owner. Returned operation will be executed on the backup replica.
+     * <p>
+     * Returning null is allowed and means service does not have anything to replicate.
+     *
+     * @param event         replication
+     * @param replicaDigest digest of the backup replica data, as returned by
+     *                      {@link #prepareReplicaDigest(PartitionReplicationEvent, int)}
+     * @return replication operation or null if nothing will be replicated
+     */
+    Operation prepareDeltaReplicationOperation(PartitionReplicationEvent event, Object replicaDigest);
+}
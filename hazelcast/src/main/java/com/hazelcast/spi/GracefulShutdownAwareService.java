@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.spi;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An interface that can be implemented by SPI services that want to act on a graceful shutdown of the member,
+ * for example to persist their data before the partition replicas of the member are migrated to other members.
+ * <p/>
+ * The services are notified one after the other before the partitions are migrated, they are not notified
+ * when the member is terminated.
+ */
+public interface GracefulShutdownAwareService {
+
+    /**
+     * Called when the member is shutting down gracefully, before its partition replicas are migrated away.
+     *
+     * @param timeout maximum time to wait for the service to complete its actions
+     * @param unit    time unit of the timeout
+     * @return {@code true} if the service completed its actions in time, {@code false} otherwise
+     */
+    boolean onShutdown(long timeout, TimeUnit unit);
+}
@@ -16,18 +16,22 @@
 
 package com.hazelcast.spi.impl;
 
+import com.hazelcast.spi.ChunkedMigrationAwareService;
+import com.hazelcast.spi.DeltaReplicationAwareService;
 import com.hazelcast.spi.MigrationAwareService;
 import com.hazelcast.spi.Operation;
 import com.hazelcast.spi.PartitionMigrationEvent;
 import com.hazelcast.spi.PartitionReplicationEvent;
 
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A {@link MigrationAwareService} that delegates to another {@link MigrationAwareService} and keeps track of the number of
  * migrations concerning the partition owner (either as current or new replica index) currently in-flight.
  */
-public class DelegatingMigrationAwareService implements MigrationAwareService {
+public class DelegatingMigrationAwareService implements ChunkedMigrationAwareService, DeltaReplicationAwareService {
 
     private static final int PARTITION_OWNER_INDEX = 0;
 
@@ -45,6 +49,35 @@ public class DelegatingMigrationAwareService implements MigrationAwareService {
         return migrationAwareService.prepareReplicationOperation(event);
     }
 
+    @Override
+    public Iterator<Operation> prepareReplicationChunks(PartitionReplicationEvent event, int maxEntriesPerChunk) {
+        if (migrationAwareService instanceof ChunkedMigrationAwareService) {
+            return ((ChunkedMigrationAwareService) migrationAwareService)
+                    .prepareReplicationChunks(event, maxEntriesPerChunk);
+        }
+        Operation operation = migrationAwareService.prepareReplicationOperation(event);
+        return operation != null
+                ? Collections.singletonList(operation).iterator()
+                : Collections.<Operation>emptyList().iterator();
+    }
+
+    @Override
+    public Object prepareReplicaDigest(PartitionReplicationEvent event, int segmentCount) {
+        if (migrationAwareService instanceof DeltaReplicationAwareService) {
+            return ((DeltaReplicationAwareService) migrationAwareService).prepareReplicaDigest(event, segmentCount);
+        }
+        return null;
+    }
+
+    @Override
+    public Operation prepareDeltaReplicationOperation(PartitionReplicationEvent event, Object replicaDigest) {
+        if (migrationAwareService instanceof DeltaReplicationAwareService) {
+            return ((DeltaReplicationAwareService) migrationAwareService)
+                    .prepareDeltaReplicationOperation(event, replicaDigest);
+        }
+        return migrationAwareService.prepareReplicationOperation(event);
+    }
+
     @Override
     public void beforeMigration(PartitionMigrationEvent event) {
         if (event.getCurrentReplicaIndex() == PARTITION_OWNER_INDEX || event.getNewReplicaIndex() == PARTITION_OWNER_INDEX) {
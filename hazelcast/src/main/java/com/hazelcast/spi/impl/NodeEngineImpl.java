@@ -29,6 +29,7 @@ import com.hazelcast.internal.metrics.ProbeLevel;
 import com.hazelcast.internal.metrics.impl.MetricsRegistryImpl;
 import com.hazelcast.internal.diagnostics.BuildInfoPlugin;
 import com.hazelcast.internal.diagnostics.ConfigPropertiesPlugin;
+import com.hazelcast.internal.diagnostics.HotPartitionsPlugin;
 import com.hazelcast.internal.diagnostics.MemberHazelcastInstanceInfoPlugin;
 import com.hazelcast.internal.diagnostics.InvocationPlugin;
 import com.hazelcast.internal.diagnostics.MetricsPlugin;
@@ -188,6 +189,7 @@ public class NodeEngineImpl implements NodeEngine {
         metricsRegistry.collectMetrics(operationService);
         metricsRegistry.collectMetrics(proxyService);
         metricsRegistry.collectMetrics(eventService);
+        metricsRegistry.collectMetrics(serializationService);
 
         serviceManager.start();
         proxyService.init();
@@ -205,6 +207,7 @@ public class NodeEngineImpl implements NodeEngine {
         diagnostics.register(new PendingInvocationsPlugin(this));
         diagnostics.register(new MetricsPlugin(this));
         diagnostics.register(new SlowOperationPlugin(this));
+        diagnostics.register(new HotPartitionsPlugin(this));
         diagnostics.register(new InvocationPlugin(this));
         diagnostics.register(new MemberHazelcastInstanceInfoPlugin(this));
         diagnostics.register(new SystemLogPlugin(this));
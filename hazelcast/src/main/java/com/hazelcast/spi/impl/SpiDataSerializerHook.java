@@ -21,6 +21,7 @@ import com.hazelcast.internal.serialization.impl.FactoryIdHelper;
 import com.hazelcast.nio.serialization.DataSerializableFactory;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
 import com.hazelcast.spi.impl.eventservice.impl.EventEnvelope;
+import com.hazelcast.spi.impl.operationservice.impl.operations.AsyncBackupAck;
 import com.hazelcast.spi.impl.operationservice.impl.operations.Backup;
 import com.hazelcast.spi.impl.operationservice.impl.operations.PartitionIteratingOperation;
 import com.hazelcast.spi.impl.operationservice.impl.operations.PartitionIteratingOperation.PartitionResponse;
@@ -46,6 +47,7 @@ public final class SpiDataSerializerHook implements DataSerializerHook {
     public static final int COLLECTION = 7;
     public static final int CALL_TIMEOUT_RESPONSE = 8;
     public static final int ERROR_RESPONSE = 9;
+    public static final int ASYNC_BACKUP_ACK = 10;
 
     @Override
     public DataSerializableFactory createFactory() {
@@ -73,6 +75,8 @@ public final class SpiDataSerializerHook implements DataSerializerHook {
                         return new CallTimeoutResponse();
                     case ERROR_RESPONSE:
                         return new ErrorResponse();
+                    case ASYNC_BACKUP_ACK:
+                        return new AsyncBackupAck();
                     default:
                         return null;
                 }
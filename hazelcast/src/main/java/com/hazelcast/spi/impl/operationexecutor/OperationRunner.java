@@ -114,4 +114,16 @@ public abstract class OperationRunner {
     public final int getPartitionId() {
         return partitionId;
     }
+
+    /**
+     * Returns the number of operations executed by this OperationRunner for its partition.
+     * <p/>
+     * The value is only tracked for partition specific OperationRunners, so it could be used to find the partitions
+     * receiving most of the load. It is not the number of operations executed by the whole OperationService.
+     *
+     * @return the number of operations executed for the partition, or -1 if not tracked.
+     */
+    public long partitionOperationCount() {
+        return -1;
+    }
 }
@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.spi.impl.operationservice.impl;
+
+import com.hazelcast.internal.metrics.MetricsProvider;
+import com.hazelcast.internal.metrics.MetricsRegistry;
+import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.partition.InternalPartition;
+import com.hazelcast.internal.partition.InternalPartitionService;
+import com.hazelcast.internal.util.counters.MwCounter;
+import com.hazelcast.nio.Address;
+import com.hazelcast.spi.impl.NodeEngineImpl;
+import com.hazelcast.spi.impl.operationservice.impl.operations.AsyncBackupAck;
+import com.hazelcast.spi.properties.HazelcastProperties;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static com.hazelcast.internal.metrics.ProbeLevel.MANDATORY;
+import static com.hazelcast.internal.partition.InternalPartition.MAX_BACKUP_COUNT;
+import static com.hazelcast.internal.util.counters.MwCounter.newMwCounter;
+import static com.hazelcast.spi.properties.GroupProperty.BACKUP_ASYNC_ACK_INTERVAL_MILLIS;
+import static com.hazelcast.spi.properties.GroupProperty.BACKUP_ASYNC_MAX_LAG;
+import static com.hazelcast.spi.properties.GroupProperty.PARTITION_COUNT;
+
+/**
+ * Tracks how many backups the backup replicas of the partitions owned by this member lag behind, based on the replica
+ * versions acknowledged by the backup members, and forces the backups of a partition to be synchronous while its lag
+ * exceeds the configured maximum. It also acknowledges the backups applied by this member to the partition owners.
+ *
+ * @see com.hazelcast.spi.properties.GroupProperty#BACKUP_ASYNC_MAX_LAG
+ */
+public final class BackupLagTracker implements MetricsProvider {
+
+    private final NodeEngineImpl nodeEngine;
+    private final int partitionCount;
+    private final int maxLag;
+    private final long ackIntervalMillis;
+
+    // replica versions of the backups sent by this member and acknowledged by the backup members,
+    // indexed by partition ID and replica index
+    private final AtomicLongArray sentVersions;
+    private final AtomicLongArray ackedVersions;
+
+    // replica versions of the backups applied by this member and the replica index they were applied to,
+    // indexed by partition ID
+    private final AtomicLongArray appliedVersions;
+    private final AtomicIntegerArray appliedReplicaIndexes;
+
+    // what was acknowledged to which partition owner, only accessed by the acknowledging thread
+    private final long[] lastAcknowledgedVersions;
+    private final Address[] lastAcknowledgedOwners;
+
+    @Probe(name = "forcedSyncCount", level = MANDATORY)
+    final MwCounter forcedSyncCount = newMwCounter();
+
+    BackupLagTracker(NodeEngineImpl nodeEngine, HazelcastProperties properties) {
+        this.nodeEngine = nodeEngine;
+        this.partitionCount = properties.getInteger(PARTITION_COUNT);
+        this.maxLag = properties.getInteger(BACKUP_ASYNC_MAX_LAG);
+        this.ackIntervalMillis = properties.getMillis(BACKUP_ASYNC_ACK_INTERVAL_MILLIS);
+        int trackedPartitions = isEnabled() ? partitionCount : 0;
+        this.sentVersions = new AtomicLongArray(trackedPartitions * MAX_BACKUP_COUNT);
+        this.ackedVersions = new AtomicLongArray(trackedPartitions * MAX_BACKUP_COUNT);
+        this.appliedVersions = new AtomicLongArray(trackedPartitions);
+        this.appliedReplicaIndexes = new AtomicIntegerArray(trackedPartitions);
+        this.lastAcknowledgedVersions = new long[trackedPartitions];
+        this.lastAcknowledgedOwners = new Address[trackedPartitions];
+    }
+
+    @Override
+    public void provideMetrics(MetricsRegistry metricsRegistry) {
+        metricsRegistry.scanAndRegister(this, "operation.backupLag");
+    }
+
+    public boolean isEnabled() {
+        return maxLag > 0;
+    }
+
+    long getAckIntervalMillis() {
+        return ackIntervalMillis;
+    }
+
+    /**
+     * Records the replica versions of the backups about to be sent for an operation on a partition owned by this
+     * member. Called on the partition thread.
+     *
+     * @param partition       the partition of the operation
+     * @param replicaVersions the incremented replica versions of the partition
+     * @param syncBackups     number of backups which are synchronous anyway
+     * @param totalBackups    number of backups
+     * @return {@code true} if an asynchronous backup replica lags behind by more than the allowed maximum,
+     * so that the backups should be synchronous
+     */
+    boolean onBackupsSent(InternalPartition partition, long[] replicaVersions, int syncBackups, int totalBackups) {
+        int partitionId = partition.getPartitionId();
+        boolean lagExceeded = false;
+        for (int replicaIndex = 1; replicaIndex <= MAX_BACKUP_COUNT; replicaIndex++) {
+            int index = index(partitionId, replicaIndex);
+            if (partition.getReplicaAddress(replicaIndex) == null) {
+                resetReplica(index);
+                continue;
+            }
+            if (replicaIndex > totalBackups) {
+                // no backup is sent to this replica, so nothing it has not acknowledged is outstanding
+                raiseAckedVersion(index, sentVersions.get(index));
+                continue;
+            }
+            long version = replicaVersions[replicaIndex - 1];
+            sentVersions.lazySet(index, version);
+            if (replicaIndex > syncBackups && version - ackedVersions.get(index) > maxLag) {
+                lagExceeded = true;
+            }
+        }
+        if (lagExceeded) {
+            forcedSyncCount.inc();
+        }
+        return lagExceeded;
+    }
+
+    /**
+     * Records the replica version of this member after it applied a backup. Called on the partition thread.
+     */
+    public void onBackupApplied(int partitionId, int replicaIndex) {
+        InternalPartitionService partitionService = nodeEngine.getPartitionService();
+        long version = partitionService.getPartitionReplicaVersions(partitionId)[replicaIndex - 1];
+        appliedReplicaIndexes.lazySet(partitionId, replicaIndex);
+        appliedVersions.lazySet(partitionId, version);
+    }
+
+    /**
+     * Records the replica versions acknowledged by a backup member.
+     */
+    public void onAcknowledged(Address backupAddress, int[] partitionIds, int[] replicaIndexes, long[] versions) {
+        if (!isEnabled()) {
+            return;
+        }
+        InternalPartitionService partitionService = nodeEngine.getPartitionService();
+        for (int i = 0; i < partitionIds.length; i++) {
+            InternalPartition partition = partitionService.getPartition(partitionIds[i]);
+            if (!backupAddress.equals(partition.getReplicaAddress(replicaIndexes[i]))) {
+                // the replica has moved since the acknowledgement was sent
+                continue;
+            }
+            raiseAckedVersion(index(partitionIds[i], replicaIndexes[i]), versions[i]);
+        }
+    }
+
+    private void raiseAckedVersion(int index, long version) {
+        long ackedVersion = ackedVersions.get(index);
+        while (version > ackedVersion && !ackedVersions.compareAndSet(index, ackedVersion, version)) {
+            ackedVersion = ackedVersions.get(index);
+        }
+    }
+
+    private void resetReplica(int index) {
+        if (sentVersions.get(index) != 0) {
+            sentVersions.lazySet(index, 0);
+        }
+        if (ackedVersions.get(index) != 0) {
+            ackedVersions.lazySet(index, 0);
+        }
+    }
+
+    /**
+     * Acknowledges the backups applied by this member since the last acknowledgement to the partition owners,
+     * in a single {@link AsyncBackupAck} per owner.
+     */
+    void sendAcknowledgements() {
+        InternalPartitionService partitionService = nodeEngine.getPartitionService();
+        Address thisAddress = nodeEngine.getThisAddress();
+        Map<Address, List<Integer>> partitionsByOwner = new HashMap<Address, List<Integer>>();
+        long[] versions = new long[partitionCount];
+        int[] replicaIndexes = new int[partitionCount];
+        for (int partitionId = 0; partitionId < partitionCount; partitionId++) {
+            versions[partitionId] = appliedVersions.get(partitionId);
+            replicaIndexes[partitionId] = appliedReplicaIndexes.get(partitionId);
+            Address owner = partitionService.getPartition(partitionId).getOwnerOrNull();
+            if (owner == null || owner.equals(thisAddress) || replicaIndexes[partitionId] == 0
+                    || isAcknowledged(partitionId, owner, versions[partitionId])) {
+                continue;
+            }
+            List<Integer> partitionIds = partitionsByOwner.get(owner);
+            if (partitionIds == null) {
+                partitionIds = new ArrayList<Integer>();
+                partitionsByOwner.put(owner, partitionIds);
+            }
+            partitionIds.add(partitionId);
+        }
+
+        for (Map.Entry<Address, List<Integer>> entry : partitionsByOwner.entrySet()) {
+            List<Integer> partitionIds = entry.getValue();
+            AsyncBackupAck ack = new AsyncBackupAck(partitionIds.size());
+            for (int partitionId : partitionIds) {
+                ack.add(partitionId, replicaIndexes[partitionId], versions[partitionId]);
+            }
+            if (nodeEngine.getOperationService().send(ack, entry.getKey())) {
+                for (int partitionId : partitionIds) {
+                    lastAcknowledgedVersions[partitionId] = versions[partitionId];
+                    lastAcknowledgedOwners[partitionId] = entry.getKey();
+                }
+            }
+        }
+    }
+
+    private boolean isAcknowledged(int partitionId, Address owner, long version) {
+        return version == lastAcknowledgedVersions[partitionId] && owner.equals(lastAcknowledgedOwners[partitionId]);
+    }
+
+    /**
+     * Returns the largest number of backups a backup replica of a partition owned by this member lags behind.
+     * The versions of the replicas which are gone and of the partitions which are no longer owned by this member
+     * are reset, so they don't report a stale lag.
+     */
+    @Probe(name = "max", level = MANDATORY)
+    long getMaxLag() {
+        if (!isEnabled()) {
+            return 0;
+        }
+        InternalPartitionService partitionService = nodeEngine.getPartitionService();
+        long max = 0;
+        for (int partitionId = 0; partitionId < partitionCount; partitionId++) {
+            InternalPartition partition = partitionService.getPartition(partitionId);
+            boolean local = partition.isLocal();
+            for (int replicaIndex = 1; replicaIndex <= MAX_BACKUP_COUNT; replicaIndex++) {
+                int index = index(partitionId, replicaIndex);
+                if (!local || partition.getReplicaAddress(replicaIndex) == null) {
+                    resetReplica(index);
+                } else {
+                    max = Math.max(max, sentVersions.get(index) - ackedVersions.get(index));
+                }
+            }
+        }
+        return max;
+    }
+
+    private static int index(int partitionId, int replicaIndex) {
+        return partitionId * MAX_BACKUP_COUNT + replicaIndex - 1;
+    }
+}
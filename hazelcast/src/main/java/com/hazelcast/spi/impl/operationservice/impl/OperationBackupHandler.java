@@ -39,12 +39,14 @@ final class OperationBackupHandler {
     private final OperationServiceImpl operationService;
     private final NodeEngineImpl nodeEngine;
     private final BackpressureRegulator backpressureRegulator;
+    private final BackupLagTracker backupLagTracker;
 
     OperationBackupHandler(OperationServiceImpl operationService) {
         this.operationService = operationService;
         this.node = operationService.node;
         this.nodeEngine = operationService.nodeEngine;
         this.backpressureRegulator = operationService.backpressureRegulator;
+        this.backupLagTracker = operationService.backupLagTracker;
     }
 
     public int backup(BackupAwareOperation backupAwareOp) throws Exception {
@@ -60,7 +62,8 @@ final class OperationBackupHandler {
         long[] replicaVersions = partitionService.incrementPartitionReplicaVersions(op.getPartitionId(),
                 requestedTotalBackups);
 
-        boolean syncForced = backpressureRegulator.isSyncForced(backupAwareOp);
+        boolean lagExceeded = isBackupLagExceeded(op, replicaVersions, requestedSyncBackups, requestedTotalBackups);
+        boolean syncForced = backpressureRegulator.isSyncForced(backupAwareOp) || lagExceeded;
 
         int syncBackups = syncBackups(requestedSyncBackups, requestedAsyncBackups, syncForced);
         int asyncBackups = asyncBackups(requestedSyncBackups, requestedAsyncBackups, syncForced);
@@ -78,6 +81,14 @@ final class OperationBackupHandler {
         return makeBackups(backupAwareOp, op.getPartitionId(), replicaVersions, syncBackups, asyncBackups);
     }
 
+    private boolean isBackupLagExceeded(Operation op, long[] replicaVersions, int syncBackups, int totalBackups) {
+        if (!backupLagTracker.isEnabled()) {
+            return false;
+        }
+        InternalPartition partition = node.getPartitionService().getPartition(op.getPartitionId());
+        return backupLagTracker.onBackupsSent(partition, replicaVersions, syncBackups, totalBackups);
+    }
+
     int syncBackups(int requestedSyncBackups, int requestedAsyncBackups, boolean syncForced) {
         if (syncForced) {
             // if force sync enabled, then the sum of the backups
@@ -126,6 +126,11 @@ class OperationRunnerImpl extends OperationRunner implements MetricsProvider {
         }
     }
 
+    @Override
+    public long partitionOperationCount() {
+        return count != null ? count.get() : -1;
+    }
+
     @Override
     public void run(Runnable task) {
         boolean publishCurrentTask = publishCurrentTask();
@@ -121,6 +121,7 @@ public final class OperationServiceImpl implements InternalOperationService, Met
     final ILogger logger;
     final OperationBackupHandler operationBackupHandler;
     final BackpressureRegulator backpressureRegulator;
+    final BackupLagTracker backupLagTracker;
     volatile Invocation.Context invocationContext;
 
     private final InvocationMonitor invocationMonitor;
@@ -152,6 +153,8 @@ public final class OperationServiceImpl implements InternalOperationService, Met
                 nodeEngine, thisAddress, node.getHazelcastThreadGroup(), node.getProperties(), invocationRegistry,
                 node.getLogger(InvocationMonitor.class), serializationService, nodeEngine.getServiceManager());
 
+        this.backupLagTracker = new BackupLagTracker(nodeEngine, node.getProperties());
+
         this.operationBackupHandler = new OperationBackupHandler(this);
 
         this.responseHandler = new ResponseHandler(
@@ -196,6 +199,10 @@ public final class OperationServiceImpl implements InternalOperationService, Met
         return responseHandler;
     }
 
+    public BackupLagTracker getBackupLagTracker() {
+        return backupLagTracker;
+    }
+
     @Override
     public int getPartitionThreadCount() {
         return operationExecutor.getPartitionThreadCount();
@@ -431,7 +438,7 @@ public final class OperationServiceImpl implements InternalOperationService, Met
     public void provideMetrics(MetricsRegistry metricsRegistry) {
         metricsRegistry.scanAndRegister(this, "operation");
         metricsRegistry.collectMetrics(invocationRegistry, invocationMonitor, responseHandler, asyncResponseHandler,
-                operationExecutor);
+                operationExecutor, backupLagTracker);
     }
 
     public void start() {
@@ -465,6 +472,24 @@ public final class OperationServiceImpl implements InternalOperationService, Met
         operationExecutor.start();
         asyncResponseHandler.start();
         slowOperationDetector.start();
+        startBackupAcknowledgements();
+    }
+
+    private void startBackupAcknowledgements() {
+        if (!backupLagTracker.isEnabled()) {
+            return;
+        }
+        long intervalMillis = backupLagTracker.getAckIntervalMillis();
+        nodeEngine.getExecutionService().scheduleWithRepetition(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    backupLagTracker.sendAcknowledgements();
+                } catch (Throwable t) {
+                    logger.warning("Failed to acknowledge backups to partition owners", t);
+                }
+            }
+        }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
     }
 
     public void shutdown() {
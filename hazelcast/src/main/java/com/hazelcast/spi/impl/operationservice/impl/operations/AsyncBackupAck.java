@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.spi.impl.operationservice.impl.operations;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.spi.Operation;
+import com.hazelcast.spi.impl.SpiDataSerializerHook;
+import com.hazelcast.spi.impl.operationservice.impl.BackupLagTracker;
+import com.hazelcast.spi.impl.operationservice.impl.OperationServiceImpl;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Acknowledges the replica versions of the backups a member has applied to the owner of their partitions,
+ * so that the owner can track the lag of the backup replicas.
+ *
+ * @see BackupLagTracker
+ */
+public final class AsyncBackupAck extends Operation implements IdentifiedDataSerializable {
+
+    private int[] partitionIds;
+    private int[] replicaIndexes;
+    private long[] versions;
+    private int size;
+
+    public AsyncBackupAck() {
+    }
+
+    public AsyncBackupAck(int capacity) {
+        this.partitionIds = new int[capacity];
+        this.replicaIndexes = new int[capacity];
+        this.versions = new long[capacity];
+    }
+
+    public void add(int partitionId, int replicaIndex, long version) {
+        partitionIds[size] = partitionId;
+        replicaIndexes[size] = replicaIndex;
+        versions[size] = version;
+        size++;
+    }
+
+    @Override
+    public void run() throws Exception {
+        OperationServiceImpl operationService = (OperationServiceImpl) getNodeEngine().getOperationService();
+        operationService.getBackupLagTracker().onAcknowledged(getCallerAddress(), partitionIds, replicaIndexes, versions);
+    }
+
+    @Override
+    public boolean returnsResponse() {
+        return false;
+    }
+
+    @Override
+    public int getFactoryId() {
+        return SpiDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getId() {
+        return SpiDataSerializerHook.ASYNC_BACKUP_ACK;
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        out.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            out.writeInt(partitionIds[i]);
+            out.writeByte(replicaIndexes[i]);
+            out.writeLong(versions[i]);
+        }
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        size = in.readInt();
+        partitionIds = new int[size];
+        replicaIndexes = new int[size];
+        versions = new long[size];
+        for (int i = 0; i < size; i++) {
+            partitionIds[i] = in.readInt();
+            replicaIndexes[i] = in.readByte();
+            versions[i] = in.readLong();
+        }
+    }
+
+    @Override
+    protected void toString(StringBuilder sb) {
+        super.toString(sb);
+
+        sb.append(", partitionIds=").append(Arrays.toString(Arrays.copyOf(partitionIds, size)));
+        sb.append(", versions=").append(Arrays.toString(Arrays.copyOf(versions, size)));
+    }
+}
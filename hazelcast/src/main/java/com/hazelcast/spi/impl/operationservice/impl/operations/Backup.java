@@ -30,6 +30,7 @@ import com.hazelcast.spi.Operation;
 import com.hazelcast.spi.OperationAccessor;
 import com.hazelcast.spi.impl.NodeEngineImpl;
 import com.hazelcast.spi.impl.SpiDataSerializerHook;
+import com.hazelcast.spi.impl.operationservice.impl.BackupLagTracker;
 import com.hazelcast.spi.impl.operationservice.impl.OperationServiceImpl;
 import com.hazelcast.spi.impl.operationservice.impl.responses.BackupAckResponse;
 import com.hazelcast.spi.partition.IPartition;
@@ -144,6 +145,11 @@ public final class Backup extends Operation implements BackupOperation, Identifi
 
         InternalPartitionService partitionService = nodeEngine.getPartitionService();
         partitionService.updatePartitionReplicaVersions(getPartitionId(), replicaVersions, getReplicaIndex());
+
+        BackupLagTracker backupLagTracker = ((OperationServiceImpl) nodeEngine.getOperationService()).getBackupLagTracker();
+        if (backupLagTracker.isEnabled()) {
+            backupLagTracker.onBackupApplied(getPartitionId(), getReplicaIndex());
+        }
     }
 
     @Override
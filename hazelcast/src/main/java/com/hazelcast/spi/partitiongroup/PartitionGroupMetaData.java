@@ -43,4 +43,10 @@ public enum PartitionGroupMetaData {
      * Metadata key definition for a low-latency link on a shared physical node, in case of virtualization being used
      */
     public static final String PARTITION_GROUP_HOST = "hazelcast.partition.group.host";
+
+    /**
+     * Metadata key definition for the capacity weight of a member. A member with weight 4 is meant to own about
+     * four times as many partitions as a member with weight 1. Members without this attribute have weight 1.
+     */
+    public static final String PARTITION_WEIGHT = "hazelcast.partition.weight";
 }
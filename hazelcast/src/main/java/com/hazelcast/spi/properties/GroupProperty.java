@@ -99,6 +99,22 @@ public final class GroupProperty {
     public static final HazelcastProperty CLIENT_ENGINE_THREAD_COUNT
             = new HazelcastProperty("hazelcast.clientengine.thread.count", -1);
 
+    /**
+     * The maximum number of listener events that are collected per client connection before they are written
+     * to the connection in a single burst, so they end up in as few socket writes as possible.
+     * <p/>
+     * The default is 1, which disables event batching; every event is written as soon as it is published.
+     */
+    public static final HazelcastProperty CLIENT_EVENT_BATCH_SIZE
+            = new HazelcastProperty("hazelcast.client.event.batch.size", 1);
+
+    /**
+     * The maximum time a listener event waits in a client connection's event batch before the batch is flushed,
+     * even if {@link #CLIENT_EVENT_BATCH_SIZE} has not been reached. Only used when event batching is enabled.
+     */
+    public static final HazelcastProperty CLIENT_EVENT_BATCH_FLUSH_INTERVAL_MILLIS
+            = new HazelcastProperty("hazelcast.client.event.batch.flush.interval.millis", 5, MILLISECONDS);
+
     public static final HazelcastProperty EVENT_THREAD_COUNT
             = new HazelcastProperty("hazelcast.event.thread.count", 5);
     public static final HazelcastProperty EVENT_QUEUE_CAPACITY
@@ -259,6 +275,25 @@ public final class GroupProperty {
 
     public static final HazelcastProperty MAX_WAIT_SECONDS_BEFORE_JOIN
             = new HazelcastProperty("hazelcast.max.wait.seconds.before.join", 20, SECONDS);
+
+    /**
+     * Enables the fast join mode, meant for clusters that are started or scaled out many members at a time.
+     *
+     * In this mode the joining members poll for the master and resend their join requests every 100 milliseconds
+     * instead of every second, and the master admits the members whose join requests arrive within
+     * {@link #JOIN_FAST_BATCH_WINDOW_MILLIS} of each other in a single membership update, instead of waiting
+     * {@link #WAIT_SECONDS_BEFORE_JOIN}. The price is more join traffic while members are joining.
+     */
+    public static final HazelcastProperty JOIN_FAST_ENABLED
+            = new HazelcastProperty("hazelcast.join.fast.enabled", false);
+
+    /**
+     * The time in milliseconds the master waits for further join requests before admitting the joining members
+     * when {@link #JOIN_FAST_ENABLED} is set. The total wait is still bounded by {@link #MAX_WAIT_SECONDS_BEFORE_JOIN}.
+     */
+    public static final HazelcastProperty JOIN_FAST_BATCH_WINDOW_MILLIS
+            = new HazelcastProperty("hazelcast.join.fast.batch.window.millis", 500, MILLISECONDS);
+
     public static final HazelcastProperty MAX_JOIN_SECONDS
             = new HazelcastProperty("hazelcast.max.join.seconds", 300, SECONDS);
     public static final HazelcastProperty MAX_JOIN_MERGE_TARGET_SECONDS
@@ -274,6 +309,48 @@ public final class GroupProperty {
     public static final HazelcastProperty MEMBER_LIST_PUBLISH_INTERVAL_SECONDS
             = new HazelcastProperty("hazelcast.member.list.publish.interval.seconds", 300, SECONDS);
 
+    /**
+     * Type of the failure detector used to decide whether a member is still alive, based on its heartbeats.
+     * <ul>
+     * <li>{@code deadline}: a member is suspected when it has not sent any heartbeats for
+     * {@link #MAX_NO_HEARTBEAT_SECONDS}.</li>
+     * <li>{@code phi-accrual}: additionally, a member is suspected when the phi value of its heartbeat
+     * inter-arrival times reaches {@link #HEARTBEAT_PHI_ACCRUAL_THRESHOLD}. Suspicions are piggybacked on
+     * heartbeats and a member is removed only if another member confirms the suspicion.</li>
+     * </ul>
+     */
+    public static final HazelcastProperty HEARTBEAT_FAILURE_DETECTOR_TYPE
+            = new HazelcastProperty("hazelcast.heartbeat.failuredetector.type", "deadline");
+
+    /**
+     * Phi value above which the phi accrual failure detector suspects a member.
+     * A threshold of 10 means a false suspicion probability of about 1e-10 for the observed heartbeat
+     * distribution.
+     */
+    public static final HazelcastProperty HEARTBEAT_PHI_ACCRUAL_THRESHOLD
+            = new HazelcastProperty("hazelcast.heartbeat.phiaccrual.failuredetector.threshold", 10);
+
+    /**
+     * Number of heartbeat inter-arrival times kept per member by the phi accrual failure detector.
+     */
+    public static final HazelcastProperty HEARTBEAT_PHI_ACCRUAL_SAMPLE_SIZE
+            = new HazelcastProperty("hazelcast.heartbeat.phiaccrual.failuredetector.sample.size", 200);
+
+    /**
+     * Minimum standard deviation of the heartbeat inter-arrival times used by the phi accrual failure
+     * detector. It prevents over-sensitivity when heartbeats arrive very regularly.
+     */
+    public static final HazelcastProperty HEARTBEAT_PHI_ACCRUAL_MIN_STD_DEV_MILLIS
+            = new HazelcastProperty("hazelcast.heartbeat.phiaccrual.failuredetector.min.std.dev.millis", 100, MILLISECONDS);
+
+    /**
+     * Duration of a heartbeat pause which the phi accrual failure detector tolerates without raising the
+     * suspicion level, such as a long GC pause.
+     */
+    public static final HazelcastProperty HEARTBEAT_PHI_ACCRUAL_ACCEPTABLE_PAUSE_MILLIS
+            = new HazelcastProperty("hazelcast.heartbeat.phiaccrual.failuredetector.acceptable.pause.millis", 10000,
+            MILLISECONDS);
+
     public static final HazelcastProperty CLIENT_HEARTBEAT_TIMEOUT_SECONDS
             = new HazelcastProperty("hazelcast.client.max.no.heartbeat.seconds", 300, SECONDS);
 
@@ -312,6 +389,27 @@ public final class GroupProperty {
     public static final HazelcastProperty MAP_EXPIRY_DELAY_SECONDS
             = new HazelcastProperty("hazelcast.map.expiry.delay.seconds", 10, SECONDS);
 
+    /**
+     * The number of keys tracked per partition of every map to find the most frequently accessed (hot) keys.
+     *
+     * The keys are counted with a Space-Saving sketch, so a key accessed more often than 1/capacity of all accesses
+     * to its partition is always reported. The tracked keys are reported by the
+     * {@link com.hazelcast.internal.diagnostics.HotPartitionsPlugin}, so they are only tracked if that plugin is enabled.
+     *
+     * If set to 0, the keys are not tracked.
+     */
+    public static final HazelcastProperty MAP_HOT_KEYS_TRACKING_CAPACITY
+            = new HazelcastProperty("hazelcast.map.hot.keys.tracking.capacity", 0);
+
+    /**
+     * One out of this many key accesses is counted to find the hot keys, see {@link #MAP_HOT_KEYS_TRACKING_CAPACITY}.
+     *
+     * The accesses are sampled at random, so the reported counts are estimates scaled by this rate.
+     * If set to 1, every access is counted.
+     */
+    public static final HazelcastProperty MAP_HOT_KEYS_SAMPLE_RATE
+            = new HazelcastProperty("hazelcast.map.hot.keys.sample.rate", 16);
+
     public static final HazelcastProperty LOGGING_TYPE
             = new HazelcastProperty("hazelcast.logging.type", "jdk");
 
@@ -340,6 +438,27 @@ public final class GroupProperty {
             = new HazelcastProperty("hazelcast.partition.migration.timeout", 300, SECONDS);
     public static final HazelcastProperty PARTITION_MIGRATION_ZIP_ENABLED
             = new HazelcastProperty("hazelcast.partition.migration.zip.enabled", true);
+
+    /**
+     * Upper bound for the rate in bytes per second at which partition data is migrated in the cluster. Migrations
+     * run one at a time, so the master pauses after a migration has been committed until the migrated data fits into
+     * the budget, before it starts the next migration. A migrating partition is never held back by the budget.
+     * <p/>
+     * The default is -1, migrations are not throttled.
+     */
+    public static final HazelcastProperty PARTITION_MIGRATION_MAX_BYTES_PER_SECOND
+            = new HazelcastProperty("hazelcast.partition.migration.max.bytes.per.second", -1);
+
+    /**
+     * Maximum number of entries sent in a single chunk when partition data is migrated. Services implementing
+     * {@link com.hazelcast.spi.ChunkedMigrationAwareService} then replicate a partition in several chunks which are
+     * sent one after the other, each after the previous one has been applied on the destination. This bounds the
+     * memory needed to migrate large partitions.
+     * <p/>
+     * The default is -1, each service replicates a partition in a single operation.
+     */
+    public static final HazelcastProperty PARTITION_MIGRATION_CHUNK_MAX_ENTRIES
+            = new HazelcastProperty("hazelcast.partition.migration.chunk.max.entries", -1);
     public static final HazelcastProperty DISABLE_STALE_READ_ON_PARTITION_MIGRATION
             = new HazelcastProperty("hazelcast.partition.migration.stale.read.disabled", false);
 
@@ -347,8 +466,39 @@ public final class GroupProperty {
             = new HazelcastProperty("hazelcast.partition.table.send.interval", 15, SECONDS);
     public static final HazelcastProperty PARTITION_BACKUP_SYNC_INTERVAL
             = new HazelcastProperty("hazelcast.partition.backup.sync.interval", 30, SECONDS);
+
+    /**
+     * Number of segments the data of a partition replica is divided into when a stale backup replica is synchronized
+     * with the partition owner. The backup replica sends hashes of its segments to the owner and the owner replicates
+     * only the segments which differ, for the services implementing
+     * {@link com.hazelcast.spi.DeltaReplicationAwareService}. More segments mean smaller replicated deltas
+     * for larger digests.
+     * <p/>
+     * Migrations fetch the hashes from their destination the same way, so that a member restarted with
+     * hot restart persistence enabled receives only the data changed since its snapshot was written.
+     * <p/>
+     * The default is -1, the owner replicates the whole partition.
+     */
+    public static final HazelcastProperty PARTITION_REPLICA_SYNC_DELTA_SEGMENT_COUNT
+            = new HazelcastProperty("hazelcast.partition.replica.sync.delta.segment.count", -1);
     public static final HazelcastProperty PARTITION_MAX_PARALLEL_REPLICATIONS
             = new HazelcastProperty("hazelcast.partition.max.parallel.replications", 5);
+
+    /**
+     * Algorithm used to arrange the partition replicas on the members.
+     * <ul>
+     * <li>{@code default}: balances the partition counts of the member groups in proportion to their weights,
+     * keeping the current owners when possible.</li>
+     * <li>{@code rendezvous}: assigns each replica to the member with the highest weighted rendezvous hash for the
+     * partition, in a member group not used by the other replicas. A joining or leaving member moves only about
+     * its own share of the partitions.</li>
+     * </ul>
+     * Both algorithms weight the members by their
+     * {@link com.hazelcast.spi.partitiongroup.PartitionGroupMetaData#PARTITION_WEIGHT} attribute.
+     * All members of the cluster should use the same algorithm.
+     */
+    public static final HazelcastProperty PARTITION_PLACEMENT_STRATEGY
+            = new HazelcastProperty("hazelcast.partition.placement.strategy", "default");
     public static final HazelcastProperty PARTITIONING_STRATEGY_CLASS
             = new HazelcastProperty("hazelcast.partitioning.strategy.class", "");
 
@@ -523,6 +673,26 @@ public final class GroupProperty {
     public static final HazelcastProperty BACKPRESSURE_MAX_CONCURRENT_INVOCATIONS_PER_PARTITION
             = new HazelcastProperty("hazelcast.backpressure.max.concurrent.invocations.per.partition", 100);
 
+    /**
+     * Maximum number of asynchronous backups of a partition replica which may be unacknowledged by its backup member.
+     * <p/>
+     * Members acknowledge the backups they applied to the partition owners periodically, see
+     * {@link #BACKUP_ASYNC_ACK_INTERVAL_MILLIS}. As long as a backup replica lags behind by more backups than allowed,
+     * the asynchronous backups of operations on its partition are sent synchronously. This bounds the updates lost when
+     * a partition owner crashes, while the backups keep the latency of asynchronous backups otherwise.
+     * <p/>
+     * The default is -1, the lag of asynchronous backups is neither tracked nor bounded.
+     */
+    public static final HazelcastProperty BACKUP_ASYNC_MAX_LAG
+            = new HazelcastProperty("hazelcast.backup.async.max.lag", -1);
+
+    /**
+     * Interval at which members acknowledge the backups they applied to the partition owners, when
+     * {@link #BACKUP_ASYNC_MAX_LAG} is set.
+     */
+    public static final HazelcastProperty BACKUP_ASYNC_ACK_INTERVAL_MILLIS
+            = new HazelcastProperty("hazelcast.backup.async.ack.interval.millis", 100, MILLISECONDS);
+
     /**
      * Run Query Evaluations for multiple partitions in parallel.
      * <p/>
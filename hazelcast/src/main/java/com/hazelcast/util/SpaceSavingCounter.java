@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.hazelcast.util.Preconditions.checkPositive;
+
+/**
+ * Approximate counter of the most frequent items in a stream, based on the <i>Space-Saving</i> algorithm by
+ * Metwally, Agrawal and El Abbadi.
+ * <p/>
+ * At most {@code capacity} items are counted. When a new item arrives and all counters are in use, the item with
+ * the smallest count is evicted and the new item inherits its count, which is recorded as the error of the new
+ * item. Therefore the count of an item is an upper bound of its actual frequency, and any item occurring more than
+ * {@code n / capacity} times in a stream of {@code n} items is guaranteed to be counted.
+ * <p/>
+ * The counters are kept in the <i>Stream-Summary</i> structure of the paper: a list of buckets in ascending count
+ * order, each bucket holding the counters with its count. Incrementing a counter moves it to the neighbouring
+ * bucket and the counter with the smallest count is the first one of the first bucket, so {@link #add(Object)}
+ * runs in constant time.
+ * <p/>
+ * This class is thread-safe. It is meant to be updated by a single thread and read occasionally by others,
+ * so the synchronization is uncontended.
+ *
+ * @param <T> the type of the counted items
+ */
+public final class SpaceSavingCounter<T> {
+
+    // on equal counts the entry with the smaller error, so with the higher guaranteed count, comes first
+    private static final Comparator<Entry> DESCENDING_COUNT = new Comparator<Entry>() {
+        @Override
+        public int compare(Entry e1, Entry e2) {
+            if (e1.count != e2.count) {
+                return e1.count > e2.count ? -1 : 1;
+            }
+            return e1.error < e2.error ? -1 : (e1.error == e2.error ? 0 : 1);
+        }
+    };
+
+    private final int capacity;
+    private final Map<T, Counter<T>> counters;
+    // the bucket with the smallest count, the buckets are linked in ascending count order
+    private Bucket<T> minBucket;
+
+    public SpaceSavingCounter(int capacity) {
+        this.capacity = checkPositive(capacity, "capacity must be positive");
+        this.counters = new HashMap<T, Counter<T>>(capacity * 2);
+    }
+
+    /**
+     * Counts an occurrence of the given item.
+     *
+     * @param item the item, not {@code null}
+     */
+    public synchronized void add(T item) {
+        Counter<T> counter = counters.get(item);
+        if (counter != null) {
+            increment(counter);
+            return;
+        }
+        if (counters.size() < capacity) {
+            counter = new Counter<T>(item);
+            counters.put(item, counter);
+            addToFirstBucket(counter);
+            return;
+        }
+        counter = minBucket.first;
+        counters.remove(counter.item);
+        counter.item = item;
+        counter.error = minBucket.count;
+        counters.put(item, counter);
+        increment(counter);
+    }
+
+    /**
+     * Returns the counted items in descending count order, items with equal counts in ascending error order.
+     *
+     * @return the list of entries
+     */
+    public synchronized List<Entry<T>> getEntries() {
+        List<Entry<T>> entries = new ArrayList<Entry<T>>(counters.size());
+        for (Bucket<T> bucket = minBucket; bucket != null; bucket = bucket.next) {
+            for (Counter<T> counter = bucket.first; counter != null; counter = counter.next) {
+                entries.add(new Entry<T>(counter.item, bucket.count, counter.error));
+            }
+        }
+        Collections.sort(entries, DESCENDING_COUNT);
+        return entries;
+    }
+
+    /**
+     * Returns the counted items in descending count order and resets this counter.
+     *
+     * @return the list of entries
+     */
+    public synchronized List<Entry<T>> drain() {
+        List<Entry<T>> entries = getEntries();
+        counters.clear();
+        minBucket = null;
+        return entries;
+    }
+
+    private void addToFirstBucket(Counter<T> counter) {
+        if (minBucket == null || minBucket.count != 1) {
+            Bucket<T> bucket = new Bucket<T>(1);
+            bucket.next = minBucket;
+            if (minBucket != null) {
+                minBucket.prev = bucket;
+            }
+            minBucket = bucket;
+        }
+        minBucket.add(counter);
+    }
+
+    private void increment(Counter<T> counter) {
+        Bucket<T> bucket = counter.bucket;
+        Bucket<T> next = bucket.next;
+        if (next == null || next.count != bucket.count + 1) {
+            next = new Bucket<T>(bucket.count + 1);
+            next.prev = bucket;
+            next.next = bucket.next;
+            if (bucket.next != null) {
+                bucket.next.prev = next;
+            }
+            bucket.next = next;
+        }
+        bucket.remove(counter);
+        next.add(counter);
+        if (bucket.first == null) {
+            unlink(bucket);
+        }
+    }
+
+    private void unlink(Bucket<T> bucket) {
+        if (bucket.prev == null) {
+            minBucket = bucket.next;
+        } else {
+            bucket.prev.next = bucket.next;
+        }
+        if (bucket.next != null) {
+            bucket.next.prev = bucket.prev;
+        }
+    }
+
+    /**
+     * Sorts the given entries in descending count order, entries with equal counts in ascending error order.
+     *
+     * @param entries the entries to sort
+     * @param <T>     the type of the items
+     */
+    public static <T> void sortByDescendingCount(List<Entry<T>> entries) {
+        Collections.sort(entries, DESCENDING_COUNT);
+    }
+
+    /**
+     * The counters having the same count, linked in insertion order.
+     */
+    private static final class Bucket<T> {
+        final long count;
+        Bucket<T> prev;
+        Bucket<T> next;
+        Counter<T> first;
+        Counter<T> last;
+
+        Bucket(long count) {
+            this.count = count;
+        }
+
+        void add(Counter<T> counter) {
+            counter.bucket = this;
+            counter.prev = last;
+            counter.next = null;
+            if (last == null) {
+                first = counter;
+            } else {
+                last.next = counter;
+            }
+            last = counter;
+        }
+
+        void remove(Counter<T> counter) {
+            if (counter.prev == null) {
+                first = counter.next;
+            } else {
+                counter.prev.next = counter.next;
+            }
+            if (counter.next == null) {
+                last = counter.prev;
+            } else {
+                counter.next.prev = counter.prev;
+            }
+            counter.bucket = null;
+            counter.prev = null;
+            counter.next = null;
+        }
+    }
+
+    private static final class Counter<T> {
+        T item;
+        long error;
+        Bucket<T> bucket;
+        Counter<T> prev;
+        Counter<T> next;
+
+        Counter(T item) {
+            this.item = item;
+        }
+    }
+
+    /**
+     * An item with its approximate count.
+     *
+     * @param <T> the type of the item
+     */
+    public static final class Entry<T> {
+
+        private final T item;
+        private final long count;
+        private final long error;
+
+        public Entry(T item, long count, long error) {
+            this.item = item;
+            this.count = count;
+            this.error = error;
+        }
+
+        public T getItem() {
+            return item;
+        }
+
+        /**
+         * Returns the approximate count of the item, which is never lower than its actual count.
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Returns the maximum overestimation of the count, the actual count is at least {@code count - error}.
+         */
+        public long getError() {
+            return error;
+        }
+
+        @Override
+        public String toString() {
+            return item + "=" + count + " (error " + error + ")";
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl;
+
+import com.hazelcast.client.impl.protocol.ClientMessage;
+import com.hazelcast.client.impl.protocol.ClientMessageBatch;
+import com.hazelcast.nio.Connection;
+import com.hazelcast.nio.OutboundFrame;
+import com.hazelcast.spi.ExecutionService;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelTest.class})
+public class ClientEventBatcherTest extends HazelcastTestSupport {
+
+    private static final int BATCH_SIZE = 4;
+    private static final long FLUSH_INTERVAL_MILLIS = 50;
+
+    private Connection connection;
+    private ExecutionService executionService;
+    private ClientEventBatcher batcher;
+
+    @Before
+    public void setup() {
+        connection = mock(Connection.class);
+        executionService = mock(ExecutionService.class);
+        batcher = new ClientEventBatcher(connection, executionService, BATCH_SIZE, FLUSH_INTERVAL_MILLIS);
+    }
+
+    @Test
+    public void whenBatchFull_thenWrittenAsSingleFrame() {
+        List<ClientMessage> events = new ArrayList<ClientMessage>();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            ClientMessage event = ClientMessage.createForEncode(100);
+            events.add(event);
+            batcher.offer(event);
+        }
+
+        ArgumentCaptor<OutboundFrame> captor = ArgumentCaptor.forClass(OutboundFrame.class);
+        verify(connection, times(1)).write(captor.capture());
+        assertTrue(captor.getValue() instanceof ClientMessageBatch);
+        assertEquals(events, ((ClientMessageBatch) captor.getValue()).getMessages());
+        assertEquals(0, batcher.getPendingEventCount());
+    }
+
+    @Test
+    public void whenBatchNotFull_thenFlushScheduledOnce() {
+        batcher.offer(ClientMessage.createForEncode(100));
+        batcher.offer(ClientMessage.createForEncode(100));
+
+        verifyZeroInteractions(connection);
+        verify(executionService, times(1)).schedule(any(Runnable.class), eq(FLUSH_INTERVAL_MILLIS), eq(MILLISECONDS));
+        assertEquals(2, batcher.getPendingEventCount());
+    }
+
+    @Test
+    public void whenSingleEventFlushed_thenWrittenAsMessage() {
+        ClientMessage event = ClientMessage.createForEncode(100);
+        batcher.offer(event);
+
+        batcher.flush();
+
+        verify(connection, times(1)).write(event);
+        assertEquals(0, batcher.getPendingEventCount());
+    }
+
+    @Test
+    public void whenNothingPending_thenFlushWritesNothing() {
+        batcher.flush();
+
+        verifyZeroInteractions(connection);
+    }
+}
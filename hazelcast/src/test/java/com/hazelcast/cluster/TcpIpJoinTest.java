@@ -60,6 +60,21 @@ public class TcpIpJoinTest extends AbstractJoinTest {
         testJoin(config);
     }
 
+    @Test
+    public void test_whenFastJoinEnabled() throws Exception {
+        Config config = new Config();
+        config.setProperty(GroupProperty.JOIN_FAST_ENABLED.getName(), "true");
+
+        NetworkConfig networkConfig = config.getNetworkConfig();
+        JoinConfig join = networkConfig.getJoin();
+        join.getMulticastConfig().setEnabled(false);
+        TcpIpConfig tcpIpConfig = join.getTcpIpConfig();
+        tcpIpConfig.setEnabled(true);
+        tcpIpConfig.addMember("127.0.0.1");
+
+        testJoin(config);
+    }
+
     @Test
     public void test_whenExplicitPortConfigured() throws Exception {
         Config config = new Config();
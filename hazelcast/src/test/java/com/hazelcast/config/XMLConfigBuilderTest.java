@@ -1282,4 +1282,18 @@ public class XMLConfigBuilderTest extends HazelcastTestSupport {
 
         assertEquals(mapEvictionPolicyClassName, mapConfig.getMapEvictionPolicy().getClass().getName());
     }
+
+    @Test
+    public void testMapValueCompressorClassName() {
+        String valueCompressorClassName = "com.hazelcast.map.compression.LZValueCompressor";
+        String xml = HAZELCAST_START_TAG
+                + "<map name=\"test\">"
+                + "<value-compressor-class-name>" + valueCompressorClassName + "</value-compressor-class-name> "
+                + "</map>"
+                + HAZELCAST_END_TAG;
+        Config config = buildConfig(xml);
+        MapConfig mapConfig = config.getMapConfig("test");
+
+        assertEquals(valueCompressorClassName, mapConfig.getValueCompressor().getClass().getName());
+    }
 }
@@ -0,0 +1,135 @@
+package com.hazelcast.core;
+
+import com.hazelcast.test.AssertTask;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelTest.class})
+public class PipeliningTest extends HazelcastTestSupport {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructor_whenZeroDepth() {
+        new Pipelining<String>(0);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testAdd_whenNull() throws InterruptedException {
+        Pipelining<String> pipelining = new Pipelining<String>(1);
+        pipelining.add(null);
+    }
+
+    @Test
+    public void testResults_inOrderOfRequests() throws Exception {
+        HazelcastInstance hz = createHazelcastInstance();
+        IMap<Integer, String> map = hz.getMap(randomMapName());
+        int count = 1000;
+        for (int k = 0; k < count; k++) {
+            map.put(k, "value" + k);
+        }
+
+        Pipelining<String> pipelining = new Pipelining<String>(10);
+        for (int k = 0; k < count; k++) {
+            pipelining.add(map.getAsync(k));
+        }
+        List<String> results = pipelining.results();
+
+        assertEquals(count, results.size());
+        for (int k = 0; k < count; k++) {
+            assertEquals("value" + k, results.get(k));
+        }
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConstructor_whenNullCallback() {
+        new Pipelining<String>(1, null);
+    }
+
+    @Test
+    public void testResultCallback_receivesAllResults() throws Exception {
+        HazelcastInstance hz = createHazelcastInstance();
+        IMap<Integer, Integer> map = hz.getMap(randomMapName());
+        int count = 1000;
+        for (int k = 0; k < count; k++) {
+            map.put(k, k);
+        }
+
+        final AtomicLong sum = new AtomicLong();
+        final AtomicLong failures = new AtomicLong();
+        Pipelining<Integer> pipelining = new Pipelining<Integer>(10, new ExecutionCallback<Integer>() {
+            @Override
+            public void onResponse(Integer response) {
+                sum.addAndGet(response);
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                failures.incrementAndGet();
+            }
+        });
+        for (int k = 0; k < count; k++) {
+            pipelining.add(map.getAsync(k));
+        }
+        pipelining.waitForCompletion();
+
+        assertEquals((long) count * (count - 1) / 2, sum.get());
+        assertEquals(0, failures.get());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    @SuppressWarnings("unchecked")
+    public void testResults_whenResultCallback() throws Exception {
+        Pipelining<String> pipelining = new Pipelining<String>(1, mock(ExecutionCallback.class));
+        pipelining.results();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testAdd_blocksWhenDepthReached() throws Exception {
+        final Pipelining<String> pipelining = new Pipelining<String>(1);
+        ICompletableFuture<String> first = mock(ICompletableFuture.class);
+        final ICompletableFuture<String> second = mock(ICompletableFuture.class);
+        pipelining.add(first);
+
+        final Thread thread = new Thread() {
+            @Override
+            public void run() {
+                try {
+                    pipelining.add(second);
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        };
+        thread.start();
+
+        assertTrueAllTheTime(new AssertTask() {
+            @Override
+            public void run() throws Exception {
+                assertTrue(thread.isAlive());
+            }
+        }, 2);
+
+        ArgumentCaptor<ExecutionCallback> callback = ArgumentCaptor.forClass(ExecutionCallback.class);
+        verify(first).andThen(callback.capture(), any(Executor.class));
+        callback.getValue().onResponse("value");
+
+        assertJoinable(thread);
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.cluster.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.instance.MemberImpl;
+import com.hazelcast.nio.Address;
+import com.hazelcast.spi.properties.GroupProperty;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.singleton;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelTest.class})
+public class ClusterHeartbeatManagerTest extends HazelcastTestSupport {
+
+    // long enough to keep the scheduled heartbeats away during the test, heartbeats are fed manually
+    private static final int HEARTBEAT_INTERVAL_SECONDS = 60;
+    // far beyond the phi accrual threshold for the heartbeat interval above
+    private static final long SILENCE_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    @Test
+    public void whenSuspected_thenRemovedOnlyAfterConfirmation() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(3);
+        Config config = newConfig("phi-accrual");
+        HazelcastInstance master = factory.newHazelcastInstance(config);
+        HazelcastInstance witness = factory.newHazelcastInstance(config);
+        HazelcastInstance suspect = factory.newHazelcastInstance(config);
+        assertClusterSize(3, master);
+
+        ClusterServiceImpl clusterService = getNode(master).getClusterService();
+        ClusterHeartbeatManager heartbeatManager = clusterService.getClusterHeartbeatManager();
+        MemberImpl witnessMember = clusterService.getMember(getAddress(witness));
+        MemberImpl suspectMember = clusterService.getMember(getAddress(suspect));
+
+        heartbeatManager.onHeartbeat(suspectMember, clusterService.getClusterTime());
+        advanceClusterTime(clusterService, SILENCE_MILLIS);
+        long now = clusterService.getClusterTime();
+        heartbeatManager.onHeartbeat(witnessMember, now, Collections.<Address>emptySet());
+
+        assertFalse(heartbeatManager.isSuspicionConfirmed(suspectMember, now));
+        assertFalse(heartbeatManager.removeMemberIfSuspected(now, suspectMember));
+        assertClusterSize(3, master);
+
+        heartbeatManager.onHeartbeat(witnessMember, now, singleton(suspectMember.getAddress()));
+
+        assertTrue(heartbeatManager.isSuspicionConfirmed(suspectMember, now));
+        assertTrue(heartbeatManager.removeMemberIfSuspected(now, suspectMember));
+        assertClusterSizeEventually(2, master);
+    }
+
+    @Test
+    public void whenConfirmingMemberIsSuspectedItself_thenItsSuspicionIsIgnored() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(4);
+        Config config = newConfig("phi-accrual");
+        HazelcastInstance master = factory.newHazelcastInstance(config);
+        HazelcastInstance witness = factory.newHazelcastInstance(config);
+        HazelcastInstance suspectedWitness = factory.newHazelcastInstance(config);
+        HazelcastInstance suspect = factory.newHazelcastInstance(config);
+        assertClusterSize(4, master);
+
+        ClusterServiceImpl clusterService = getNode(master).getClusterService();
+        ClusterHeartbeatManager heartbeatManager = clusterService.getClusterHeartbeatManager();
+        MemberImpl witnessMember = clusterService.getMember(getAddress(witness));
+        MemberImpl suspectedWitnessMember = clusterService.getMember(getAddress(suspectedWitness));
+        MemberImpl suspectMember = clusterService.getMember(getAddress(suspect));
+
+        long then = clusterService.getClusterTime();
+        heartbeatManager.onHeartbeat(suspectMember, then);
+        heartbeatManager.onHeartbeat(suspectedWitnessMember, then, singleton(suspectMember.getAddress()));
+        advanceClusterTime(clusterService, SILENCE_MILLIS);
+        long now = clusterService.getClusterTime();
+        heartbeatManager.onHeartbeat(witnessMember, now, Collections.<Address>emptySet());
+
+        assertFalse(heartbeatManager.isSuspicionConfirmed(suspectMember, now));
+        assertFalse(heartbeatManager.removeMemberIfSuspected(now, suspectMember));
+        assertClusterSize(4, master);
+    }
+
+    @Test
+    public void whenNoOtherMemberToConfirm_thenLocalSuspicionIsSufficient() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        Config config = newConfig("phi-accrual");
+        HazelcastInstance master = factory.newHazelcastInstance(config);
+        HazelcastInstance suspect = factory.newHazelcastInstance(config);
+        assertClusterSize(2, master);
+
+        ClusterServiceImpl clusterService = getNode(master).getClusterService();
+        ClusterHeartbeatManager heartbeatManager = clusterService.getClusterHeartbeatManager();
+        MemberImpl suspectMember = clusterService.getMember(getAddress(suspect));
+
+        heartbeatManager.onHeartbeat(suspectMember, clusterService.getClusterTime());
+        advanceClusterTime(clusterService, SILENCE_MILLIS);
+        long now = clusterService.getClusterTime();
+
+        assertTrue(heartbeatManager.isSuspicionConfirmed(suspectMember, now));
+        assertTrue(heartbeatManager.removeMemberIfSuspected(now, suspectMember));
+        assertClusterSizeEventually(1, master);
+    }
+
+    @Test
+    public void whenDeadlineFailureDetector_thenNotRemovedAsSuspected() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(3);
+        Config config = newConfig("deadline");
+        HazelcastInstance master = factory.newHazelcastInstance(config);
+        HazelcastInstance witness = factory.newHazelcastInstance(config);
+        HazelcastInstance suspect = factory.newHazelcastInstance(config);
+        assertClusterSize(3, master);
+
+        ClusterServiceImpl clusterService = getNode(master).getClusterService();
+        ClusterHeartbeatManager heartbeatManager = clusterService.getClusterHeartbeatManager();
+        MemberImpl witnessMember = clusterService.getMember(getAddress(witness));
+        MemberImpl suspectMember = clusterService.getMember(getAddress(suspect));
+
+        heartbeatManager.onHeartbeat(suspectMember, clusterService.getClusterTime());
+        advanceClusterTime(clusterService, SILENCE_MILLIS);
+        long now = clusterService.getClusterTime();
+        heartbeatManager.onHeartbeat(witnessMember, now, singleton(suspectMember.getAddress()));
+
+        assertFalse(heartbeatManager.removeMemberIfSuspected(now, suspectMember));
+        assertClusterSize(3, master);
+    }
+
+    private static Config newConfig(String failureDetectorType) {
+        Config config = new Config();
+        config.setProperty(GroupProperty.HEARTBEAT_FAILURE_DETECTOR_TYPE.getName(), failureDetectorType);
+        config.setProperty(GroupProperty.HEARTBEAT_INTERVAL_SECONDS.getName(), String.valueOf(HEARTBEAT_INTERVAL_SECONDS));
+        config.setProperty(GroupProperty.HEARTBEAT_PHI_ACCRUAL_ACCEPTABLE_PAUSE_MILLIS.getName(), "0");
+        config.setProperty(GroupProperty.MAX_NO_HEARTBEAT_SECONDS.getName(), "3600");
+        config.setProperty(GroupProperty.MAX_NO_MASTER_CONFIRMATION_SECONDS.getName(), "3600");
+        return config;
+    }
+
+    private static void advanceClusterTime(ClusterServiceImpl clusterService, long millis) {
+        ClusterClockImpl clusterClock = clusterService.getClusterClock();
+        clusterClock.setClusterTimeDiff(clusterClock.getClusterTimeDiff() + millis);
+    }
+}
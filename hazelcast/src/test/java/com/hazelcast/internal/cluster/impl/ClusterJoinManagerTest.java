@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.cluster.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.JoinConfig;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.instance.HazelcastInstanceFactory;
+import com.hazelcast.spi.properties.GroupProperty;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class ClusterJoinManagerTest extends HazelcastTestSupport {
+
+    // far longer than the test may take, the joins must not wait for it in the fast join mode
+    private static final int WAIT_SECONDS_BEFORE_JOIN = 60;
+    private static final int BATCH_WINDOW_MILLIS = 5000;
+
+    @Before
+    @After
+    public void killAllHazelcastInstances() {
+        HazelcastInstanceFactory.terminateAll();
+    }
+
+    @Test
+    public void whenFastJoinEnabled_thenJoinRequestsWithinBatchWindowAdmittedTogether() throws Exception {
+        final Config config = newConfig();
+        HazelcastInstance master = Hazelcast.newHazelcastInstance(config);
+
+        Callable<Integer> startMember = new Callable<Integer>() {
+            @Override
+            public Integer call() {
+                HazelcastInstance hz = Hazelcast.newHazelcastInstance(config);
+                // the member list received with the join, before any later membership update
+                return hz.getCluster().getMembers().size();
+            }
+        };
+        long start = System.currentTimeMillis();
+        Future<Integer> member1 = spawn(startMember);
+        Future<Integer> member2 = spawn(startMember);
+
+        // both joining members are admitted in the same membership update, so each of them sees the other
+        assertEquals(3, (int) member1.get());
+        assertEquals(3, (int) member2.get());
+        long elapsedSeconds = MILLISECONDS.toSeconds(System.currentTimeMillis() - start);
+        assertTrue("Joining took " + elapsedSeconds + " seconds", elapsedSeconds < WAIT_SECONDS_BEFORE_JOIN / 2);
+        assertClusterSize(3, master);
+    }
+
+    private static Config newConfig() {
+        Config config = new Config();
+        config.setProperty(GroupProperty.JOIN_FAST_ENABLED.getName(), "true");
+        config.setProperty(GroupProperty.JOIN_FAST_BATCH_WINDOW_MILLIS.getName(), String.valueOf(BATCH_WINDOW_MILLIS));
+        config.setProperty(GroupProperty.WAIT_SECONDS_BEFORE_JOIN.getName(), String.valueOf(WAIT_SECONDS_BEFORE_JOIN));
+        config.setProperty(GroupProperty.MAX_WAIT_SECONDS_BEFORE_JOIN.getName(), String.valueOf(WAIT_SECONDS_BEFORE_JOIN));
+
+        JoinConfig join = config.getNetworkConfig().getJoin();
+        join.getMulticastConfig().setEnabled(false);
+        join.getTcpIpConfig().setEnabled(true).addMember("127.0.0.1");
+        return config;
+    }
+}
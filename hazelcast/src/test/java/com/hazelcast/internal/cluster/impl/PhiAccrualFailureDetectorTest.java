@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.cluster.impl;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelTest.class})
+public class PhiAccrualFailureDetectorTest {
+
+    private static final double THRESHOLD = 8;
+    private static final long HEARTBEAT_INTERVAL = 1000;
+
+    @Test(expected = IllegalArgumentException.class)
+    public void whenThresholdNotPositive_thenFail() {
+        new PhiAccrualFailureDetector(0, 100, 100, 0, HEARTBEAT_INTERVAL);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void whenSampleSizeNotPositive_thenFail() {
+        new PhiAccrualFailureDetector(THRESHOLD, 0, 100, 0, HEARTBEAT_INTERVAL);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void whenAcceptablePauseNegative_thenFail() {
+        new PhiAccrualFailureDetector(THRESHOLD, 100, 100, -1, HEARTBEAT_INTERVAL);
+    }
+
+    @Test
+    public void whenNoHeartbeat_thenNotSuspected() {
+        PhiAccrualFailureDetector detector = newDetector(0);
+
+        assertEquals(0, detector.phi(Long.MAX_VALUE), 0);
+        assertFalse(detector.isSuspected(Long.MAX_VALUE));
+        assertEquals(-1, detector.lastHeartbeat());
+    }
+
+    @Test
+    public void whenHeartbeatsRegular_thenSuspectedOnlyAfterMissingHeartbeats() {
+        PhiAccrualFailureDetector detector = newDetector(0);
+        long lastHeartbeat = sendRegularHeartbeats(detector);
+
+        assertFalse(detector.isSuspected(lastHeartbeat + HEARTBEAT_INTERVAL));
+        assertTrue(detector.isSuspected(lastHeartbeat + 3 * HEARTBEAT_INTERVAL));
+        assertEquals(lastHeartbeat, detector.lastHeartbeat());
+    }
+
+    @Test
+    public void phiIncreasesWithTimeSinceLastHeartbeat() {
+        PhiAccrualFailureDetector detector = newDetector(0);
+        long lastHeartbeat = sendRegularHeartbeats(detector);
+
+        double previous = -1;
+        for (long elapsed = 0; elapsed <= 2 * HEARTBEAT_INTERVAL; elapsed += 100) {
+            double phi = detector.phi(lastHeartbeat + elapsed);
+            assertTrue(phi >= previous);
+            previous = phi;
+        }
+    }
+
+    @Test
+    public void whenPauseAcceptable_thenNotSuspected() {
+        PhiAccrualFailureDetector detector = newDetector(5000);
+        long lastHeartbeat = sendRegularHeartbeats(detector);
+
+        assertFalse(detector.isSuspected(lastHeartbeat + 3 * HEARTBEAT_INTERVAL));
+        assertTrue(detector.isSuspected(lastHeartbeat + 10 * HEARTBEAT_INTERVAL));
+    }
+
+    @Test
+    public void whenHeartbeatOutOfOrder_thenIgnored() {
+        PhiAccrualFailureDetector detector = newDetector(0);
+        long lastHeartbeat = sendRegularHeartbeats(detector);
+
+        detector.heartbeat(lastHeartbeat - HEARTBEAT_INTERVAL);
+
+        assertEquals(lastHeartbeat, detector.lastHeartbeat());
+        assertFalse(detector.isSuspected(lastHeartbeat + HEARTBEAT_INTERVAL));
+    }
+
+    private static PhiAccrualFailureDetector newDetector(long acceptablePauseMillis) {
+        return new PhiAccrualFailureDetector(THRESHOLD, 100, 100, acceptablePauseMillis, HEARTBEAT_INTERVAL);
+    }
+
+    private static long sendRegularHeartbeats(PhiAccrualFailureDetector detector) {
+        long timestamp = 0;
+        for (int i = 0; i < 20; i++) {
+            timestamp += HEARTBEAT_INTERVAL;
+            detector.heartbeat(timestamp);
+        }
+        return timestamp;
+    }
+}
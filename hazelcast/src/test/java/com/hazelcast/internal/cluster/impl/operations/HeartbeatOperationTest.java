@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.cluster.impl.operations;
+
+import com.hazelcast.instance.MemberImpl;
+import com.hazelcast.internal.cluster.impl.ClusterHeartbeatManager;
+import com.hazelcast.internal.cluster.impl.ClusterServiceImpl;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.nio.Address;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.spi.OperationAccessor;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.net.UnknownHostException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anySetOf;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelTest.class})
+public class HeartbeatOperationTest {
+
+    private static final long TIMESTAMP = 123456789L;
+
+    private final ClusterServiceImpl clusterService = mock(ClusterServiceImpl.class);
+    private final ClusterHeartbeatManager heartbeatManager = mock(ClusterHeartbeatManager.class);
+
+    private InternalSerializationService serializationService;
+    private Address callerAddress;
+    private MemberImpl caller;
+
+    @Before
+    public void setUp() throws UnknownHostException {
+        serializationService = new DefaultSerializationServiceBuilder().build();
+        callerAddress = new Address("127.0.0.1", 5702);
+        caller = new MemberImpl(callerAddress, false);
+        when(clusterService.getMember(callerAddress)).thenReturn(caller);
+        when(clusterService.getClusterHeartbeatManager()).thenReturn(heartbeatManager);
+    }
+
+    @After
+    public void tearDown() {
+        serializationService.dispose();
+    }
+
+    @Test
+    public void suspectedMembers_surviveSerialization() throws UnknownHostException {
+        Set<Address> suspectedMembers = new HashSet<Address>();
+        suspectedMembers.add(new Address("127.0.0.1", 5703));
+        suspectedMembers.add(new Address("127.0.0.1", 5704));
+
+        runDeserialized(new HeartbeatOperation(TIMESTAMP, suspectedMembers));
+
+        verify(heartbeatManager).onHeartbeat(caller, TIMESTAMP, suspectedMembers);
+    }
+
+    @Test
+    public void emptySuspectedMembers_surviveSerialization() {
+        runDeserialized(new HeartbeatOperation(TIMESTAMP, Collections.<Address>emptySet()));
+
+        verify(heartbeatManager).onHeartbeat(caller, TIMESTAMP, Collections.<Address>emptySet());
+    }
+
+    @Test
+    public void whenPhiAccrualDisabled_thenNoSuspectedMembersSent() {
+        runDeserialized(new HeartbeatOperation(TIMESTAMP, null));
+
+        verify(heartbeatManager).onHeartbeat(caller, TIMESTAMP);
+        verify(heartbeatManager, never()).onHeartbeat(eq(caller), anyLong(), anySetOf(Address.class));
+    }
+
+    private void runDeserialized(HeartbeatOperation heartbeat) {
+        Data data = serializationService.toData(heartbeat);
+        HeartbeatOperation deserialized = serializationService.toObject(data);
+        deserialized.setService(clusterService);
+        OperationAccessor.setCallerAddress(deserialized, callerAddress);
+        deserialized.run();
+    }
+}
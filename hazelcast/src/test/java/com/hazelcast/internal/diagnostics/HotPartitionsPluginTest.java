@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.diagnostics;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+import com.hazelcast.map.impl.MapContainer;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.spi.properties.GroupProperty;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class HotPartitionsPluginTest extends AbstractDiagnosticsPluginTest {
+
+    private static final int ACCESS_COUNT = 100;
+
+    private HazelcastInstance hz;
+    private HotPartitionsPlugin plugin;
+
+    @Before
+    public void setup() {
+        Config config = newConfig("1");
+
+        hz = createHazelcastInstance(config);
+
+        plugin = new HotPartitionsPlugin(getNodeEngineImpl(hz));
+        plugin.onStart();
+    }
+
+    @Test
+    public void testGetPeriodMillis() {
+        assertEquals(1000, plugin.getPeriodMillis());
+    }
+
+    @Test
+    public void testGetPeriodMillis_whenDisabled() {
+        HazelcastInstance instance = createHazelcastInstance(newConfig("0"));
+
+        HotPartitionsPlugin disabledPlugin = new HotPartitionsPlugin(getNodeEngineImpl(instance));
+
+        assertEquals(0, disabledPlugin.getPeriodMillis());
+        assertFalse(HotPartitionsPlugin.isKeyTrackingEnabled(getNodeEngineImpl(instance).getProperties()));
+    }
+
+    @Test
+    public void testKeysNotTracked_whenDisabled() {
+        HazelcastInstance instance = createHazelcastInstance(newConfig("0"));
+        IMap<String, Integer> map = instance.getMap("foo");
+        for (int i = 0; i < ACCESS_COUNT; i++) {
+            map.put("hot", i);
+        }
+
+        int partitionId = instance.getPartitionService().getPartition("hot").getPartitionId();
+        assertTrue(getMapContainer(instance, "foo").drainHotKeys(partitionId).isEmpty());
+    }
+
+    @Test
+    public void testRun() {
+        IMap<String, Integer> map = hz.getMap("foo");
+        for (int i = 0; i < ACCESS_COUNT; i++) {
+            map.put("hot", i);
+        }
+        map.get("cold");
+        int partitionId = hz.getPartitionService().getPartition("hot").getPartitionId();
+
+        plugin.run(logWriter);
+
+        assertContains("HotPartitions[");
+        assertContains("operations=");
+        assertContains("partition-" + partitionId + "=");
+        assertContains("foo[");
+        assertContains("hot=" + ACCESS_COUNT + " (error 0)");
+        assertContains("cold=1 (error 0)");
+    }
+
+    @Test
+    public void testRun_drainsKeys() {
+        IMap<String, Integer> map = hz.getMap("foo");
+        map.put("hot", 1);
+
+        plugin.run(logWriter);
+        assertContains("hot=1");
+
+        logWriter.clean();
+        plugin.run(logWriter);
+        assertContains("HotPartitions[");
+        assertNotContains("hot=");
+    }
+
+    private static Config newConfig(String periodSeconds) {
+        Config config = new Config();
+        config.setProperty(Diagnostics.ENABLED.getName(), "true");
+        config.setProperty(HotPartitionsPlugin.PERIOD_SECONDS.getName(), periodSeconds);
+        config.setProperty(GroupProperty.MAP_HOT_KEYS_TRACKING_CAPACITY.getName(), "4");
+        config.setProperty(GroupProperty.MAP_HOT_KEYS_SAMPLE_RATE.getName(), "1");
+        return config;
+    }
+
+    private static MapContainer getMapContainer(HazelcastInstance instance, String mapName) {
+        MapService mapService = getNodeEngineImpl(instance).getService(MapService.SERVICE_NAME);
+        return mapService.getMapServiceContext().getMapContainer(mapName);
+    }
+}
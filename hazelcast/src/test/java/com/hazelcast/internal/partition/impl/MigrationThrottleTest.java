@@ -0,0 +1,92 @@
+package com.hazelcast.internal.partition.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+import com.hazelcast.spi.properties.GroupProperty;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelTest.class})
+public class MigrationThrottleTest extends HazelcastTestSupport {
+
+    private static final int PARTITION_COUNT = 10;
+    private static final int ENTRY_COUNT = 100;
+
+    @Test
+    public void testPause_withinBudget() {
+        HazelcastInstance hz = createHazelcastInstance(newConfig(1000));
+        MigrationManager migrationManager = getMigrationManager(hz);
+
+        assertEquals(1500, migrationManager.getMigrationPauseMillis(2000, 500));
+        assertEquals(0, migrationManager.getMigrationPauseMillis(2000, 3000));
+    }
+
+    @Test
+    public void testMigratedBytes() {
+        HazelcastInstance hz = createHazelcastInstance(newConfig(1000));
+        MigrationManager migrationManager = getMigrationManager(hz);
+
+        migrationManager.onMigrationDataSent(2000);
+        migrationManager.onMigrationDataSent(3000);
+
+        assertEquals(5000, migrationManager.getMigratedBytes());
+    }
+
+    @Test
+    public void testPause_cappedByMigrationTimeout() {
+        Config config = newConfig(1);
+        config.setProperty(GroupProperty.PARTITION_MIGRATION_TIMEOUT.getName(), "10");
+        HazelcastInstance hz = createHazelcastInstance(config);
+
+        assertEquals(5000, getMigrationManager(hz).getMigrationPauseMillis(Integer.MAX_VALUE, 0));
+    }
+
+    @Test
+    public void testPause_whenNotThrottled() {
+        HazelcastInstance hz = createHazelcastInstance(newConfig(-1));
+
+        assertEquals(0, getMigrationManager(hz).getMigrationPauseMillis(Integer.MAX_VALUE, 0));
+    }
+
+    @Test
+    public void testMigration_withThrottling() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        Config config = newConfig(1024 * 1024);
+        HazelcastInstance hz1 = factory.newHazelcastInstance(config);
+
+        IMap<Integer, byte[]> map = hz1.getMap(randomMapName());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, new byte[1024]);
+        }
+
+        HazelcastInstance hz2 = factory.newHazelcastInstance(config);
+        waitAllForSafeState(hz1, hz2);
+
+        assertEquals(ENTRY_COUNT, hz2.getMap(map.getName()).size());
+        assertTrue(getMigrationManager(hz1).getMigratedBytes() > 0);
+    }
+
+    private static Config newConfig(long maxBytesPerSecond) {
+        Config config = new Config();
+        config.setProperty(GroupProperty.PARTITION_COUNT.getName(), String.valueOf(PARTITION_COUNT));
+        config.setProperty(GroupProperty.PARTITION_MIGRATION_MAX_BYTES_PER_SECOND.getName(),
+                String.valueOf(maxBytesPerSecond));
+        return config;
+    }
+
+    private static MigrationManager getMigrationManager(HazelcastInstance hz) {
+        InternalPartitionServiceImpl partitionService = (InternalPartitionServiceImpl) getPartitionService(hz);
+        return partitionService.getMigrationManager();
+    }
+}
@@ -32,6 +32,7 @@ import com.hazelcast.partition.membergroup.HostAwareMemberGroupFactory;
 import com.hazelcast.partition.membergroup.MemberGroup;
 import com.hazelcast.partition.membergroup.MemberGroupFactory;
 import com.hazelcast.partition.membergroup.SingleMemberGroupFactory;
+import com.hazelcast.spi.partitiongroup.PartitionGroupMetaData;
 import com.hazelcast.test.HazelcastParallelClassRunner;
 import com.hazelcast.test.annotation.ParallelTest;
 import com.hazelcast.test.annotation.QuickTest;
@@ -51,6 +52,7 @@ import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
@@ -161,6 +163,67 @@ public class PartitionStateGeneratorTest {
         assertEquals(2, partitionGroupConfig.getMemberGroupConfigs().size());
     }
 
+    @Test
+    public void testWeightedPartitionStateGenerator() throws Exception {
+        testWeighted(new int[]{4, 4, 1, 1, 1, 1, 1, 1, 1, 1});
+    }
+
+    @Test
+    public void testWeightedPartitionStateGenerator_whenFewMembers() throws Exception {
+        testWeighted(new int[]{5, 5, 1, 1, 1});
+    }
+
+    private void testWeighted(int[] weights) throws Exception {
+        PartitionStateGenerator generator = new PartitionStateGeneratorImpl();
+        int partitionCount = 271;
+        int totalWeight = 0;
+        List<Member> members = new ArrayList<Member>();
+        for (int i = 0; i < weights.length; i++) {
+            Map<String, Object> attributes = new HashMap<String, Object>();
+            attributes.put(PartitionGroupMetaData.PARTITION_WEIGHT, weights[i]);
+            members.add(new MemberImpl(new Address("10.10.0." + i, 5701), false, "uuid-" + i, null, attributes, false));
+            totalWeight += weights[i];
+        }
+        Collection<MemberGroup> groups = new SingleMemberGroupFactory().createMemberGroups(members);
+        int replicaCount = Math.min(members.size(), InternalPartition.MAX_REPLICA_COUNT);
+
+        Address[][] state = generator.arrange(groups, emptyPartitionArray(partitionCount));
+
+        for (Address[] replicas : state) {
+            Set<Address> owners = new HashSet<Address>();
+            for (int index = 0; index < replicaCount; index++) {
+                assertNotNull(replicas[index]);
+                assertTrue("Duplicate replica owner: " + replicas[index], owners.add(replicas[index]));
+            }
+        }
+        for (int i = 0; i < members.size(); i++) {
+            int[] counts = countReplicas(state, members.get(i).getAddress());
+            // primary replicas follow the weights
+            int expectedCount = partitionCount * weights[i] / totalWeight;
+            assertTrue("Owned: " + counts[0] + ", expected: " + expectedCount, Math.abs(counts[0] - expectedCount) <= 2);
+            // first backups are spread evenly
+            int expectedBackupCount = partitionCount / members.size();
+            assertTrue("Backups: " + counts[1] + ", expected: " + expectedBackupCount,
+                    Math.abs(counts[1] - expectedBackupCount) <= 2);
+        }
+
+        // a balanced arrangement is kept as it is, an aggressive retry would move replicas
+        Address[][] newState = generator.arrange(groups, toPartitionArray(state));
+        assertArrayEquals(state, newState);
+    }
+
+    private static int[] countReplicas(Address[][] state, Address address) {
+        int[] counts = new int[InternalPartition.MAX_REPLICA_COUNT];
+        for (Address[] replicas : state) {
+            for (int index = 0; index < replicas.length; index++) {
+                if (address.equals(replicas[index])) {
+                    counts[index]++;
+                }
+            }
+        }
+        return counts;
+    }
+
     private void test(MemberGroupFactory memberGroupFactory) throws Exception {
         PartitionStateGenerator generator = new PartitionStateGeneratorImpl();
         int maxSameHostCount = 3;
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.partition.impl;
+
+import com.hazelcast.core.Member;
+import com.hazelcast.instance.MemberImpl;
+import com.hazelcast.nio.Address;
+import com.hazelcast.spi.partitiongroup.PartitionGroupMetaData;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelTest.class})
+public class PartitionWeightsTest {
+
+    @Test
+    public void testMissingWeight() throws Exception {
+        assertEquals(PartitionWeights.DEFAULT_WEIGHT, PartitionWeights.getWeight(createMember(null)), 0);
+    }
+
+    @Test
+    public void testNumberWeight() throws Exception {
+        assertEquals(4, PartitionWeights.getWeight(createMember(4)), 0);
+    }
+
+    @Test
+    public void testStringWeight_isParsed() throws Exception {
+        assertEquals(2.5, PartitionWeights.getWeight(createMember("2.5")), 0);
+    }
+
+    @Test
+    public void testInvalidWeight_isIgnored() throws Exception {
+        assertEquals(PartitionWeights.DEFAULT_WEIGHT, PartitionWeights.getWeight(createMember("not-a-number")), 0);
+    }
+
+    @Test
+    public void testNonPositiveWeight_isIgnored() throws Exception {
+        assertEquals(PartitionWeights.DEFAULT_WEIGHT, PartitionWeights.getWeight(createMember(0)), 0);
+        assertEquals(PartitionWeights.DEFAULT_WEIGHT, PartitionWeights.getWeight(createMember(-3)), 0);
+    }
+
+    private static Member createMember(Object weight) throws Exception {
+        Map<String, Object> attributes = new HashMap<String, Object>();
+        if (weight != null) {
+            attributes.put(PartitionGroupMetaData.PARTITION_WEIGHT, weight);
+        }
+        return new MemberImpl(new Address("127.0.0.1", 5701), false, "uuid", null, attributes, false);
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.partition.impl;
+
+import com.hazelcast.core.Member;
+import com.hazelcast.instance.MemberImpl;
+import com.hazelcast.internal.partition.InternalPartition;
+import com.hazelcast.nio.Address;
+import com.hazelcast.partition.membergroup.DefaultMemberGroup;
+import com.hazelcast.partition.membergroup.MemberGroup;
+import com.hazelcast.partition.membergroup.SingleMemberGroupFactory;
+import com.hazelcast.spi.partitiongroup.PartitionGroupMetaData;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.hazelcast.internal.partition.impl.PartitionStateGeneratorTest.emptyPartitionArray;
+import static com.hazelcast.internal.partition.impl.PartitionStateGeneratorTest.toPartitionArray;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelTest.class})
+public class RendezvousPartitionStateGeneratorTest {
+
+    private static final int PARTITION_COUNT = 271;
+
+    private final RendezvousPartitionStateGenerator generator = new RendezvousPartitionStateGenerator();
+
+    @Test
+    public void testArrangementIsDeterministic() throws Exception {
+        List<Member> members = createMembers(0, 10, null);
+
+        Address[][] state1 = generator.arrange(singleMemberGroups(members), emptyPartitionArray(PARTITION_COUNT));
+        Address[][] state2 = generator.arrange(singleMemberGroups(members), emptyPartitionArray(PARTITION_COUNT));
+
+        assertTrue(Arrays.deepEquals(state1, state2));
+    }
+
+    @Test
+    public void testReplicasAreInDistinctGroups() throws Exception {
+        List<MemberGroup> zones = new ArrayList<MemberGroup>();
+        for (int zone = 0; zone < 3; zone++) {
+            zones.add(new DefaultMemberGroup(createMembers(zone * 3, 3, null)));
+        }
+
+        Address[][] state = generator.arrange(zones, emptyPartitionArray(PARTITION_COUNT));
+
+        for (Address[] replicas : state) {
+            Set<MemberGroup> groups = new HashSet<MemberGroup>();
+            for (int replicaIndex = 0; replicaIndex < zones.size(); replicaIndex++) {
+                assertNotNull(replicas[replicaIndex]);
+                assertTrue(groups.add(findGroup(zones, replicas[replicaIndex])));
+            }
+            for (int replicaIndex = zones.size(); replicaIndex < InternalPartition.MAX_REPLICA_COUNT; replicaIndex++) {
+                assertNull(replicas[replicaIndex]);
+            }
+        }
+    }
+
+    @Test
+    public void testMemberJoin_movesAboutItsShareOfPartitions() throws Exception {
+        List<Member> members = createMembers(0, 10, null);
+        Address[][] state = generator.arrange(singleMemberGroups(members), emptyPartitionArray(PARTITION_COUNT));
+
+        Member joined = createMembers(10, 1, null).get(0);
+        members.add(joined);
+        Address[][] newState = generator.arrange(singleMemberGroups(members), toPartitionArray(state));
+
+        int share = PARTITION_COUNT / members.size();
+        assertTrue(countOwnedPartitions(newState, joined.getAddress()) > share / 2);
+        assertTrue(countChangedOwners(state, newState) <= 2 * share);
+    }
+
+    @Test
+    public void testMemberLeave_movesAboutItsShareOfPartitions() throws Exception {
+        List<Member> members = createMembers(0, 10, null);
+        Address[][] state = generator.arrange(singleMemberGroups(members), emptyPartitionArray(PARTITION_COUNT));
+
+        Member left = members.remove(0);
+        int share = countOwnedPartitions(state, left.getAddress());
+        Address[][] newState = generator.arrange(singleMemberGroups(members), toPartitionArray(state));
+
+        assertEquals(0, countOwnedPartitions(newState, left.getAddress()));
+        assertTrue(countChangedOwners(state, newState) <= 2 * share);
+    }
+
+    @Test
+    public void testPartitionCountsAreProportionalToWeights() throws Exception {
+        List<Member> members = createMembers(0, 2, 4);
+        members.addAll(createMembers(2, 8, null));
+
+        Address[][] state = generator.arrange(singleMemberGroups(members), emptyPartitionArray(PARTITION_COUNT));
+
+        int heavyOwned = 0;
+        int lightOwned = 0;
+        for (int i = 0; i < members.size(); i++) {
+            int owned = countOwnedPartitions(state, members.get(i).getAddress());
+            if (i < 2) {
+                heavyOwned += owned;
+            } else {
+                lightOwned += owned;
+            }
+        }
+        // heavy members have 4 times the weight of light members: 2 * 4 vs 8 * 1
+        assertTrue(heavyOwned > PARTITION_COUNT / 3);
+        assertTrue(lightOwned > PARTITION_COUNT / 3);
+    }
+
+    private static List<Member> createMembers(int startIndex, int count, Integer weight) throws Exception {
+        List<Member> members = new ArrayList<Member>(count);
+        for (int i = startIndex; i < startIndex + count; i++) {
+            Map<String, Object> attributes = weight == null
+                    ? Collections.<String, Object>emptyMap()
+                    : Collections.<String, Object>singletonMap(PartitionGroupMetaData.PARTITION_WEIGHT, weight);
+            members.add(new MemberImpl(new Address("10.10.0." + i, 5701), false, "uuid-" + i, null,
+                    new HashMap<String, Object>(attributes), false));
+        }
+        return members;
+    }
+
+    private static Collection<MemberGroup> singleMemberGroups(List<Member> members) {
+        return new SingleMemberGroupFactory().createMemberGroups(members);
+    }
+
+    private static MemberGroup findGroup(List<MemberGroup> groups, Address address) {
+        for (MemberGroup group : groups) {
+            if (group.hasMember(new MemberImpl(address, false))) {
+                return group;
+            }
+        }
+        throw new AssertionError("No group found for " + address);
+    }
+
+    private static int countOwnedPartitions(Address[][] state, Address address) {
+        int count = 0;
+        for (Address[] replicas : state) {
+            if (address.equals(replicas[0])) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int countChangedOwners(Address[][] state, Address[][] newState) {
+        int count = 0;
+        for (int partitionId = 0; partitionId < state.length; partitionId++) {
+            if (!state[partitionId][0].equals(newState[partitionId][0])) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -354,7 +354,45 @@ public class ByteArrayObjectDataOutputTest {
     @Test
     public void testClear_bufferLen_lt_initX8() throws Exception {
         out.ensureAvailable(10 * 10);
+        for (int k = 0; k < ByteArrayObjectDataOutput.IDLE_CLEARS_BEFORE_SHRINK; k++) {
+            out.clear();
+        }
+        assertEquals(10 * 8, out.available());
+    }
+
+    @Test
+    public void testClear_whenGrownBufferIdle_thenRetainedUntilIdleLimit() throws Exception {
+        out.ensureAvailable(10 * 10);
+        int grownSize = out.buffer.length;
+
+        for (int k = 0; k < ByteArrayObjectDataOutput.IDLE_CLEARS_BEFORE_SHRINK - 1; k++) {
+            out.clear();
+        }
+
+        assertEquals(grownSize, out.buffer.length);
+    }
+
+    @Test
+    public void testClear_whenGrownBufferInUse_thenRetained() throws Exception {
+        out.ensureAvailable(10 * 10);
+        int grownSize = out.buffer.length;
+
+        for (int k = 0; k < ByteArrayObjectDataOutput.IDLE_CLEARS_BEFORE_SHRINK * 2; k++) {
+            out.write(new byte[grownSize / 2]);
+            out.clear();
+        }
+
+        assertEquals(grownSize, out.buffer.length);
+        assertEquals(0, out.position());
+    }
+
+    @Test
+    public void testClear_whenBufferExceedsMaxRetainedSize_thenShrunk() throws Exception {
+        out.ensureAvailable(ByteArrayObjectDataOutput.MAX_RETAINED_SIZE + 1);
+        out.position(out.buffer.length);
+
         out.clear();
+
         assertEquals(10 * 8, out.available());
     }
 
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.serialization.impl;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelTest.class})
+public class SerializerLookupCacheTest {
+
+    private SerializerLookupCache cache;
+    private SerializerAdapter adapter;
+    private SerializerAdapter otherAdapter;
+
+    @Before
+    public void setUp() {
+        cache = new SerializerLookupCache();
+        adapter = mock(SerializerAdapter.class);
+        otherAdapter = mock(SerializerAdapter.class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructor_whenCapacityNotPowerOfTwo_thenThrowIllegalArgumentException() {
+        new SerializerLookupCache(3);
+    }
+
+    @Test
+    public void testGetByType_whenNotCached_thenReturnNull() {
+        assertNull(cache.get(String.class));
+    }
+
+    @Test
+    public void testGetByType_whenCached_thenReturnAdapter() {
+        cache.put(String.class, adapter);
+
+        assertSame(adapter, cache.get(String.class));
+    }
+
+    @Test
+    public void testGetByType_whenSlotTakenByOtherType_thenReturnNull() {
+        SerializerLookupCache singleSlotCache = new SerializerLookupCache(1);
+        singleSlotCache.put(String.class, adapter);
+
+        assertNull(singleSlotCache.get(Integer.class));
+    }
+
+    @Test
+    public void testPutByType_whenSlotTakenByOtherType_thenOverwrite() {
+        SerializerLookupCache singleSlotCache = new SerializerLookupCache(1);
+        singleSlotCache.put(String.class, adapter);
+        singleSlotCache.put(Integer.class, otherAdapter);
+
+        assertNull(singleSlotCache.get(String.class));
+        assertSame(otherAdapter, singleSlotCache.get(Integer.class));
+    }
+
+    @Test
+    public void testGetByTypeId_whenNotCached_thenReturnNull() {
+        assertNull(cache.get(1));
+    }
+
+    @Test
+    public void testGetByTypeId_whenCached_thenReturnAdapter() {
+        cache.put(1, adapter);
+
+        assertSame(adapter, cache.get(1));
+    }
+
+    @Test
+    public void testGetByTypeId_whenSlotTakenByOtherTypeId_thenReturnNull() {
+        cache.put(1, adapter);
+
+        assertNull(cache.get(1 + SerializerLookupCache.DEFAULT_CAPACITY));
+    }
+
+    @Test
+    public void testClear() {
+        cache.put(String.class, adapter);
+        cache.put(1, otherAdapter);
+
+        cache.clear();
+
+        assertNull(cache.get(String.class));
+        assertNull(cache.get(1));
+    }
+}
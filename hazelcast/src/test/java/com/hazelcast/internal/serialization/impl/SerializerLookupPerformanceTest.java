@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.serialization.impl;
+
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.nio.serialization.DataSerializable;
+import com.hazelcast.nio.serialization.StreamSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+import org.openjdk.jmh.runner.options.VerboseMode;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the serializer lookup done for every {@code toData}/{@code toObject} call, for the kinds of types
+ * which take different paths through {@link AbstractSerializationService#serializerFor(Object)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SerializerLookupPerformanceTest {
+
+    private static final int WARMUP_ITERATIONS_COUNT = 500;
+    private static final int MEASUREMENT_ITERATIONS_COUNT = 2000;
+    private static final int CUSTOM_TYPE_ID = 1000;
+
+    private AbstractSerializationService ss;
+
+    private String string;
+    private DataSerializableValue dataSerializable;
+    private SerializableValue serializable;
+    private CustomValue custom;
+    private Data customData;
+
+    @Setup
+    public void setup() {
+        ss = (AbstractSerializationService) new DefaultSerializationServiceBuilder()
+                .setVersion(InternalSerializationService.VERSION_1).build();
+        ss.register(CustomValue.class, new CustomValueSerializer());
+
+        string = "value";
+        dataSerializable = new DataSerializableValue();
+        serializable = new SerializableValue();
+        custom = new CustomValue();
+        customData = ss.toData(custom);
+    }
+
+    @Benchmark
+    public Object serializerFor_constantType() {
+        return ss.serializerFor(string);
+    }
+
+    @Benchmark
+    public Object serializerFor_dataSerializable() {
+        return ss.serializerFor(dataSerializable);
+    }
+
+    @Benchmark
+    public Object serializerFor_serializable() {
+        return ss.serializerFor(serializable);
+    }
+
+    @Benchmark
+    public Object serializerFor_customType() {
+        return ss.serializerFor(custom);
+    }
+
+    @Benchmark
+    public Object serializerFor_customTypeId() {
+        return ss.serializerFor(CUSTOM_TYPE_ID);
+    }
+
+    @Benchmark
+    public Object toData_customType() {
+        return ss.toData(custom);
+    }
+
+    @Benchmark
+    public Object toObject_customType() {
+        return ss.toObject(customData);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(SerializerLookupPerformanceTest.class.getSimpleName())
+                .warmupIterations(WARMUP_ITERATIONS_COUNT)
+                .warmupTime(TimeValue.milliseconds(2))
+                .measurementIterations(MEASUREMENT_ITERATIONS_COUNT)
+                .measurementTime(TimeValue.milliseconds(2))
+                .verbosity(VerboseMode.NORMAL)
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    static class DataSerializableValue implements DataSerializable {
+
+        @Override
+        public void writeData(ObjectDataOutput out) throws IOException {
+        }
+
+        @Override
+        public void readData(ObjectDataInput in) throws IOException {
+        }
+    }
+
+    static class SerializableValue implements Serializable {
+    }
+
+    static class CustomValue {
+    }
+
+    static class CustomValueSerializer implements StreamSerializer<CustomValue> {
+
+        @Override
+        public void write(ObjectDataOutput out, CustomValue object) throws IOException {
+        }
+
+        @Override
+        public CustomValue read(ObjectDataInput in) throws IOException {
+            return new CustomValue();
+        }
+
+        @Override
+        public int getTypeId() {
+            return CUSTOM_TYPE_ID;
+        }
+
+        @Override
+        public void destroy() {
+        }
+    }
+}
@@ -86,6 +86,17 @@ public class BufferPoolTest extends HazelcastTestSupport {
         assertEquals(BufferPoolImpl.MAX_POOLED_ITEMS, bufferPool.outputQueue.size());
         // we need to make sure that the out was closed since we are not going to pool it.
         verify(out, times(1)).close();
+        assertEquals(1, bufferPool.discarded.get());
+    }
+
+    @Test
+    public void takeOutputBuffer_countsHitsAndMisses() {
+        BufferObjectDataOutput out = bufferPool.takeOutputBuffer();
+        bufferPool.returnOutputBuffer(out);
+        bufferPool.takeOutputBuffer();
+
+        assertEquals(1, bufferPool.misses.get());
+        assertEquals(1, bufferPool.hits.get());
     }
 
     // ======================= in ==========================================
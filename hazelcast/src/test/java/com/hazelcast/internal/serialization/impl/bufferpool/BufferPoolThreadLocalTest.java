@@ -2,6 +2,7 @@ package com.hazelcast.internal.serialization.impl.bufferpool;
 
 import com.hazelcast.core.HazelcastInstanceNotActiveException;
 import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
 import com.hazelcast.test.AssertTask;
 import com.hazelcast.test.HazelcastParallelClassRunner;
 import com.hazelcast.test.HazelcastTestSupport;
@@ -15,6 +16,7 @@ import org.junit.runner.RunWith;
 import java.lang.ref.WeakReference;
 import java.util.concurrent.Callable;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
@@ -54,6 +56,62 @@ public class BufferPoolThreadLocalTest extends HazelcastTestSupport {
         assertNotSame(pool1, pool2);
     }
 
+    @Test
+    public void metrics_aggregatedOverAllPools() throws Exception {
+        final BufferPoolThreadLocal threadLocal = new BufferPoolThreadLocal(
+                new DefaultSerializationServiceBuilder().build(), new BufferPoolFactoryImpl());
+        threadLocal.get().takeOutputBuffer();
+
+        // the thread is kept strongly referenced so its pool stays registered.
+        Thread thread = new Thread() {
+            @Override
+            public void run() {
+                BufferPool pool = threadLocal.get();
+                pool.returnOutputBuffer(pool.takeOutputBuffer());
+                pool.takeOutputBuffer();
+            }
+        };
+        thread.start();
+        thread.join();
+
+        assertEquals(2, threadLocal.poolCount());
+        assertEquals(2, threadLocal.misses());
+        assertEquals(1, threadLocal.hits());
+        assertEquals(0, threadLocal.discarded());
+    }
+
+    @Test
+    public void metrics_whenThreadCollected_thenCountsRetained() throws Exception {
+        final BufferPoolThreadLocal threadLocal = new BufferPoolThreadLocal(
+                new DefaultSerializationServiceBuilder().build(), new BufferPoolFactoryImpl());
+        threadLocal.get().takeOutputBuffer();
+
+        Thread thread = new Thread() {
+            @Override
+            public void run() {
+                BufferPool pool = threadLocal.get();
+                pool.returnOutputBuffer(pool.takeOutputBuffer());
+                pool.takeOutputBuffer();
+            }
+        };
+        thread.start();
+        thread.join();
+        thread = null;
+
+        // eventually the counters of the collected thread are retired.
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() throws Exception {
+                System.gc();
+                threadLocal.hits();
+                assertEquals(1, threadLocal.poolCounters.size());
+            }
+        });
+        assertEquals(2, threadLocal.misses());
+        assertEquals(1, threadLocal.hits());
+        assertEquals(0, threadLocal.discarded());
+    }
+
     @Test
     public void get_whenCleared() throws Exception {
         // forces the creation of a bufferpool.
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.map;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+import com.hazelcast.internal.partition.impl.InternalPartitionServiceImpl;
+import com.hazelcast.spi.properties.GroupProperty;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelTest.class})
+public class MapChunkedMigrationTest extends HazelcastTestSupport {
+
+    private static final int PARTITION_COUNT = 10;
+    private static final int ENTRY_COUNT = 1000;
+
+    @Test
+    public void testMigration_inChunks() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        Config config = newConfig();
+        HazelcastInstance hz1 = factory.newHazelcastInstance(config);
+
+        IMap<Integer, Integer> map = hz1.getMap(randomMapName());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, i);
+        }
+        IMap<Integer, Integer> emptyMap = hz1.getMap(randomMapName());
+
+        HazelcastInstance hz2 = factory.newHazelcastInstance(config);
+        waitAllForSafeState(hz1, hz2);
+
+        IMap<Integer, Integer> migratedMap = hz2.getMap(map.getName());
+        assertEquals(ENTRY_COUNT, migratedMap.size());
+        assertTrue(migratedMap.getLocalMapStats().getOwnedEntryCount() > 0);
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            assertEquals(i, (int) migratedMap.get(i));
+        }
+        assertEquals(0, hz2.getMap(emptyMap.getName()).size());
+        // without chunks every partition migrated to the second member would be a single fragment
+        assertTrue(getReceivedMigrationFragments(hz2) > PARTITION_COUNT);
+    }
+
+    @Test
+    public void testBackups_inChunks() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        Config config = newConfig();
+        HazelcastInstance hz1 = factory.newHazelcastInstance(config);
+
+        IMap<Integer, Integer> map = hz1.getMap(randomMapName());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, i);
+        }
+
+        HazelcastInstance hz2 = factory.newHazelcastInstance(config);
+        waitAllForSafeState(hz1, hz2);
+        hz1.getLifecycleService().terminate();
+
+        IMap<Integer, Integer> migratedMap = hz2.getMap(map.getName());
+        assertEquals(ENTRY_COUNT, migratedMap.size());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            assertEquals(i, (int) migratedMap.get(i));
+        }
+    }
+
+    private static long getReceivedMigrationFragments(HazelcastInstance hz) {
+        InternalPartitionServiceImpl partitionService = (InternalPartitionServiceImpl) getPartitionService(hz);
+        return partitionService.getMigrationManager().getReceivedMigrationFragments();
+    }
+
+    private static Config newConfig() {
+        Config config = new Config();
+        config.setProperty(GroupProperty.PARTITION_COUNT.getName(), String.valueOf(PARTITION_COUNT));
+        config.setProperty(GroupProperty.PARTITION_MIGRATION_CHUNK_MAX_ENTRIES.getName(), "10");
+        return config;
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.compression;
+
+import com.hazelcast.nio.serialization.HazelcastSerializationException;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelTest.class})
+public class LZValueCompressorTest {
+
+    private static final String JSON = "{\"name\":\"john\",\"address\":{\"street\":\"main\",\"city\":\"springfield\"},\"age\":42}";
+    private static final byte[] DICTIONARY = "{\"name\":\"\",\"address\":{\"street\":\"\",\"city\":\"\"},\"age\":".getBytes();
+
+    private final Random random = new Random();
+
+    @Test
+    public void testRoundTrip_whenEmpty() {
+        assertRoundTrip(new LZValueCompressor(), new byte[0]);
+    }
+
+    @Test
+    public void testRoundTrip_whenShorterThanMinMatch() {
+        assertRoundTrip(new LZValueCompressor(), new byte[]{1, 2, 3});
+    }
+
+    @Test
+    public void testRoundTrip_whenRandom() {
+        for (int i = 0; i < 100; i++) {
+            byte[] bytes = new byte[random.nextInt(10000)];
+            random.nextBytes(bytes);
+            assertRoundTrip(new LZValueCompressor(), bytes);
+        }
+    }
+
+    @Test
+    public void testRoundTrip_whenRepetitive_thenCompress() {
+        byte[] bytes = new byte[100000];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (i % 37);
+        }
+
+        byte[] compressed = assertRoundTrip(new LZValueCompressor(), bytes);
+
+        assertTrue(compressed.length < bytes.length / 10);
+    }
+
+    @Test
+    public void testRoundTrip_whenLowEntropy() {
+        for (int i = 0; i < 100; i++) {
+            byte[] bytes = new byte[random.nextInt(10000)];
+            for (int k = 0; k < bytes.length; k++) {
+                bytes[k] = (byte) random.nextInt(4);
+            }
+            assertRoundTrip(new LZValueCompressor(), bytes);
+        }
+    }
+
+    @Test
+    public void testRoundTrip_whenOffsetAndLengthGiven() {
+        byte[] bytes = (JSON + JSON).getBytes();
+        LZValueCompressor compressor = new LZValueCompressor();
+
+        byte[] compressed = compressor.compress(bytes, 3, bytes.length - 5);
+        byte[] decompressed = new byte[bytes.length];
+        compressor.decompress(compressed, decompressed, 3, bytes.length - 5);
+
+        assertArrayEquals(Arrays.copyOfRange(bytes, 3, bytes.length - 2),
+                Arrays.copyOfRange(decompressed, 3, bytes.length - 2));
+    }
+
+    @Test
+    public void testRoundTrip_withDictionary_thenCompressBetter() {
+        byte[] bytes = JSON.getBytes();
+
+        byte[] withoutDictionary = assertRoundTrip(new LZValueCompressor(), bytes);
+        byte[] withDictionary = assertRoundTrip(new LZValueCompressor(DICTIONARY), bytes);
+
+        assertTrue(withDictionary.length < withoutDictionary.length);
+    }
+
+    @Test
+    public void testRoundTrip_withDictionary_whenRandom() {
+        LZValueCompressor compressor = new LZValueCompressor(DICTIONARY);
+        for (int i = 0; i < 100; i++) {
+            byte[] bytes = new byte[random.nextInt(1000)];
+            random.nextBytes(bytes);
+            assertRoundTrip(compressor, bytes);
+        }
+    }
+
+    @Test(expected = HazelcastSerializationException.class)
+    public void testDecompress_whenMalformed_thenThrowException() {
+        LZValueCompressor compressor = new LZValueCompressor();
+        byte[] bytes = (JSON + JSON).getBytes();
+        byte[] compressed = compressor.compress(bytes, 0, bytes.length);
+
+        compressor.decompress(Arrays.copyOf(compressed, compressed.length - 1), new byte[bytes.length], 0, bytes.length);
+    }
+
+    private static byte[] assertRoundTrip(LZValueCompressor compressor, byte[] bytes) {
+        byte[] compressed = compressor.compress(bytes, 0, bytes.length);
+        assertTrue(compressed.length <= LZValueCompressor.maxCompressedLength(bytes.length));
+
+        byte[] decompressed = new byte[bytes.length];
+        compressor.decompress(compressed, decompressed, 0, bytes.length);
+
+        assertArrayEquals(bytes, decompressed);
+        return compressed;
+    }
+}
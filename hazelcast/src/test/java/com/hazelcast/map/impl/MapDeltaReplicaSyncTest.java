@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.map.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+import com.hazelcast.internal.partition.impl.InternalPartitionServiceImpl;
+import com.hazelcast.map.impl.recordstore.RecordStore;
+import com.hazelcast.nio.Address;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.spi.properties.GroupProperty;
+import com.hazelcast.test.AssertTask;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelTest.class})
+public class MapDeltaReplicaSyncTest extends HazelcastTestSupport {
+
+    private static final int SEGMENT_COUNT = 16;
+    private static final int ENTRY_COUNT = 100;
+
+    @Test
+    public void testDifferingSegments() {
+        long[] replicaHashes = new long[]{1, 2, 3, 4};
+        MapReplicaDigest digest = new MapReplicaDigest(4, Collections.singletonMap("map", replicaHashes));
+
+        assertArrayEquals(new int[0], digest.getDifferingSegments("map", new long[]{1, 2, 3, 4}));
+        assertArrayEquals(new int[]{1, 3}, digest.getDifferingSegments("map", new long[]{1, 5, 3, 6}));
+        assertArrayEquals(new int[]{0, 1, 2, 3}, digest.getDifferingSegments("otherMap", new long[]{1, 2, 3, 4}));
+    }
+
+    @Test
+    public void testStaleBackupReplica_isRepaired() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        Config config = new Config();
+        config.setProperty(GroupProperty.PARTITION_COUNT.getName(), "1");
+        config.setProperty(GroupProperty.PARTITION_REPLICA_SYNC_DELTA_SEGMENT_COUNT.getName(),
+                String.valueOf(SEGMENT_COUNT));
+        HazelcastInstance hz1 = factory.newHazelcastInstance(config);
+        HazelcastInstance hz2 = factory.newHazelcastInstance(config);
+        waitAllForSafeState(hz1, hz2);
+
+        final String mapName = randomMapName();
+        IMap<Integer, Integer> map = hz1.getMap(mapName);
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, i);
+        }
+        waitAllForSafeState(hz1, hz2);
+
+        Address owner = getPartitionService(hz1).getPartition(0).getOwnerOrNull();
+        HazelcastInstance backup = owner.equals(getAddress(hz1)) ? hz2 : hz1;
+        final RecordStore recordStore = getRecordStore(backup, mapName);
+        final Data missingKey = getSerializationService(backup).toData(0);
+        final Data staleKey = getSerializationService(backup).toData(ENTRY_COUNT);
+        recordStore.removeBackup(missingKey);
+        recordStore.putBackup(staleKey, getSerializationService(backup).toData(ENTRY_COUNT));
+
+        InternalPartitionServiceImpl partitionService = (InternalPartitionServiceImpl) getPartitionService(backup);
+        partitionService.getReplicaManager().triggerPartitionReplicaSync(0, 1, 0);
+
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() throws Exception {
+                assertEquals(ENTRY_COUNT, recordStore.size());
+                assertNotNull(recordStore.getRecord(missingKey));
+                assertNull(recordStore.getRecord(staleKey));
+            }
+        });
+    }
+
+    private static RecordStore getRecordStore(HazelcastInstance hz, String mapName) {
+        MapService mapService = getNodeEngineImpl(hz).getService(MapService.SERVICE_NAME);
+        return mapService.getMapServiceContext().getPartitionContainer(0).getRecordStore(mapName);
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.map.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.map.impl.record.RecordInfo;
+import com.hazelcast.map.impl.record.RecordReplicationInfo;
+import com.hazelcast.nio.Address;
+import com.hazelcast.nio.IOUtil;
+import com.hazelcast.spi.PartitionMigrationEvent;
+import com.hazelcast.spi.PartitionReplicationEvent;
+import com.hazelcast.spi.properties.GroupProperty;
+import com.hazelcast.spi.serialization.SerializationService;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static com.hazelcast.spi.partition.MigrationEndpoint.DESTINATION;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelTest.class})
+public class MapSnapshotRestartTest extends HazelcastTestSupport {
+
+    private static final int PARTITION_COUNT = 11;
+    private static final int SEGMENT_COUNT = 16;
+    private static final int ENTRY_COUNT = 1000;
+
+    private File baseDir;
+
+    @Before
+    public void setUp() {
+        baseDir = new File(System.getProperty("java.io.tmpdir"), "map-snapshot-" + randomString());
+    }
+
+    @After
+    public void tearDown() {
+        IOUtil.delete(baseDir);
+    }
+
+    @Test
+    public void testSnapshotStore_writeAndRead() throws Exception {
+        InternalSerializationService serializationService = new DefaultSerializationServiceBuilder().build();
+        Config config = new Config();
+        config.getHotRestartPersistenceConfig().setEnabled(true).setBaseDir(baseDir);
+        MapSnapshotStore snapshotStore = new MapSnapshotStore(config.getHotRestartPersistenceConfig(), SEGMENT_COUNT,
+                serializationService);
+
+        RecordReplicationInfo record = new RecordReplicationInfo(serializationService.toData("key"),
+                serializationService.toData("value"), new RecordInfo());
+        Map<String, Collection<RecordReplicationInfo>> records
+                = Collections.<String, Collection<RecordReplicationInfo>>singletonMap("map", Collections.singletonList(record));
+        snapshotStore.write(1, records, true);
+
+        assertTrue(snapshotStore.hasSnapshot(1));
+        assertFalse(snapshotStore.hasSnapshot(2));
+        List<RecordReplicationInfo> readRecords = snapshotStore.read(1).get("map");
+        assertEquals(1, readRecords.size());
+        assertEquals("key", serializationService.toObject(readRecords.get(0).getKey()));
+        assertEquals("value", serializationService.toObject(readRecords.get(0).getValue()));
+        assertTrue(snapshotStore.read(2).isEmpty());
+
+        snapshotStore.delete(1);
+        assertFalse(snapshotStore.hasSnapshot(1));
+    }
+
+    @Test
+    public void testSnapshotStore_disabledWithoutDeltaSegments() {
+        InternalSerializationService serializationService = new DefaultSerializationServiceBuilder().build();
+        Config config = new Config();
+        config.getHotRestartPersistenceConfig().setEnabled(true).setBaseDir(baseDir);
+
+        assertFalse(new MapSnapshotStore(config.getHotRestartPersistenceConfig(), 0, serializationService).isEnabled());
+        assertTrue(new MapSnapshotStore(config.getHotRestartPersistenceConfig(), SEGMENT_COUNT, serializationService)
+                .isEnabled());
+    }
+
+    @Test
+    public void testReplicaDigest_whenReplicaEmpty() {
+        HazelcastInstance hz = createHazelcastInstance(createConfig(baseDir));
+        MapMigrationAwareService migrationAwareService = new MapMigrationAwareService(getMapServiceContext(hz));
+
+        assertNull(migrationAwareService.prepareReplicaDigest(new PartitionReplicationEvent(0, 1), SEGMENT_COUNT));
+    }
+
+    @Test
+    public void testReplicaDigest_stagesSnapshot_untilMigrationCommitted() throws Exception {
+        HazelcastInstance hz = createHazelcastInstance(createConfig(baseDir));
+        MapServiceContext mapServiceContext = getMapServiceContext(hz);
+        MapMigrationAwareService migrationAwareService = new MapMigrationAwareService(mapServiceContext);
+        MapSnapshotStore snapshotStore = mapServiceContext.getSnapshotStore();
+        SerializationService serializationService = getSerializationService(hz);
+        RecordReplicationInfo record = new RecordReplicationInfo(serializationService.toData("key"),
+                serializationService.toData("value"), new RecordInfo());
+        String mapName = "persistent-" + randomMapName();
+        snapshotStore.write(0, Collections.<String, Collection<RecordReplicationInfo>>singletonMap(mapName,
+                Collections.singletonList(record)), false);
+
+        Object digest = migrationAwareService.prepareReplicaDigest(new PartitionReplicationEvent(0, 1), SEGMENT_COUNT);
+
+        assertNotNull(digest);
+        assertEquals(0, mapServiceContext.getPartitionContainer(0).getMaps().size());
+
+        migrationAwareService.rollbackMigration(new PartitionMigrationEvent(DESTINATION, 0, -1, 1));
+        assertTrue(snapshotStore.hasSnapshot(0));
+        assertNull(snapshotStore.unstage(0));
+
+        migrationAwareService.prepareReplicaDigest(new PartitionReplicationEvent(0, 1), SEGMENT_COUNT);
+        migrationAwareService.commitMigration(new PartitionMigrationEvent(DESTINATION, 0, -1, 1));
+        assertFalse(snapshotStore.hasSnapshot(0));
+        assertNull(snapshotStore.unstage(0));
+    }
+
+    @Test
+    public void testRestartedMember_receivesChangesMadeWhileDown() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(3);
+        HazelcastInstance hz1 = factory.newHazelcastInstance(createConfig(new File(baseDir, "hz1")));
+        Config config2 = createConfig(new File(baseDir, "hz2"));
+        HazelcastInstance hz2 = factory.newHazelcastInstance(config2);
+        Address address2 = getAddress(hz2);
+
+        String mapName = "persistent-" + randomMapName();
+        IMap<Integer, Integer> map = hz1.getMap(mapName);
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, i);
+        }
+        waitAllForSafeState(hz1, hz2);
+
+        hz2.shutdown();
+        File snapshotDir = new File(new File(baseDir, "hz2"), "map-snapshots");
+        assertEquals(PARTITION_COUNT, snapshotDir.list().length);
+
+        for (int i = 0; i < ENTRY_COUNT / 2; i++) {
+            map.put(i, -i);
+        }
+        map.remove(ENTRY_COUNT - 1);
+
+        hz2 = factory.newHazelcastInstance(address2, config2);
+        waitAllForSafeState(hz1, hz2);
+        assertEquals(0, snapshotDir.list().length);
+
+        hz1.getLifecycleService().terminate();
+        IMap<Integer, Integer> restartedMap = hz2.getMap(mapName);
+        assertEquals(ENTRY_COUNT - 1, restartedMap.size());
+        for (int i = 0; i < ENTRY_COUNT - 1; i++) {
+            assertEquals(i < ENTRY_COUNT / 2 ? -i : i, (int) restartedMap.get(i));
+        }
+        assertNull(restartedMap.get(ENTRY_COUNT - 1));
+    }
+
+    private static MapServiceContext getMapServiceContext(HazelcastInstance hz) {
+        MapService mapService = getNodeEngineImpl(hz).getService(MapService.SERVICE_NAME);
+        return mapService.getMapServiceContext();
+    }
+
+    private static Config createConfig(File memberBaseDir) {
+        Config config = new Config();
+        config.setProperty(GroupProperty.PARTITION_COUNT.getName(), String.valueOf(PARTITION_COUNT));
+        config.setProperty(GroupProperty.PARTITION_REPLICA_SYNC_DELTA_SEGMENT_COUNT.getName(),
+                String.valueOf(SEGMENT_COUNT));
+        config.getHotRestartPersistenceConfig().setEnabled(true).setBaseDir(memberBaseDir);
+        config.getMapConfig("persistent-*").getHotRestartConfig().setEnabled(true);
+        return config;
+    }
+}
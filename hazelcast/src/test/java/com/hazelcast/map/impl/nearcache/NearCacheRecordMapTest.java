@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.map.impl.nearcache;
+
+import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.internal.eviction.EvictionListener;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelTest.class})
+public class NearCacheRecordMapTest {
+
+    @Test
+    public void evict_whenLFU_thenLeastFrequentlyUsedRecordsAreEvictedFirst() {
+        NearCacheRecordMap<Integer> map = new NearCacheRecordMap<Integer>(EvictionPolicy.LFU);
+        // fewer records than the sample size, so every sample sees all of them
+        for (int i = 0; i < 10; i++) {
+            NearCacheRecord record = new NearCacheRecord(i, i);
+            for (int k = 0; k < i; k++) {
+                record.access();
+            }
+            map.put(i, record);
+        }
+
+        int evicted = map.evict(3, null);
+
+        assertEquals(3, evicted);
+        assertEquals(7, map.size());
+        for (int i = 0; i < 3; i++) {
+            assertFalse(map.containsKey(i));
+        }
+        for (int i = 3; i < 10; i++) {
+            assertTrue(map.containsKey(i));
+        }
+    }
+
+    @Test
+    public void evict_notifiesListener() {
+        NearCacheRecordMap<Integer> map = newPopulatedMap(EvictionPolicy.RANDOM, 100);
+        final AtomicInteger notified = new AtomicInteger();
+
+        map.evict(20, new EvictionListener<Integer, NearCacheRecord>() {
+            @Override
+            public void onEvict(Integer key, NearCacheRecord record) {
+                assertEquals(key, record.getKey());
+                notified.incrementAndGet();
+            }
+        });
+
+        assertEquals(20, notified.get());
+        assertEquals(80, map.size());
+    }
+
+    @Test
+    public void evict_whenMoreThanSize_thenEvictsAll() {
+        NearCacheRecordMap<Integer> map = newPopulatedMap(EvictionPolicy.LRU, 10);
+
+        int evicted = map.evict(20, null);
+
+        assertEquals(10, evicted);
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void evict_whenPolicyNone_thenNothingEvicted() {
+        NearCacheRecordMap<Integer> map = newPopulatedMap(EvictionPolicy.NONE, 10);
+
+        int evicted = map.evict(5, null);
+
+        assertEquals(0, evicted);
+        assertEquals(10, map.size());
+    }
+
+    private static NearCacheRecordMap<Integer> newPopulatedMap(EvictionPolicy evictionPolicy, int size) {
+        NearCacheRecordMap<Integer> map = new NearCacheRecordMap<Integer>(evictionPolicy);
+        for (int i = 0; i < size; i++) {
+            map.put(i, new NearCacheRecord(i, i));
+        }
+        return map;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.record;
+
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.map.compression.LZValueCompressor;
+import com.hazelcast.map.compression.ValueCompressor;
+import com.hazelcast.nio.Bits;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Random;
+
+import static com.hazelcast.internal.serialization.impl.HeapData.DATA_OFFSET;
+import static com.hazelcast.internal.serialization.impl.HeapData.PARTITION_HASH_OFFSET;
+import static com.hazelcast.internal.serialization.impl.HeapData.TYPE_OFFSET;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelTest.class})
+public class CompressedDataTest extends HazelcastTestSupport {
+
+    private static final int TYPE = 42;
+
+    private final ValueCompressor compressor = new LZValueCompressor();
+
+    @Test
+    public void testCompress_whenSmall_thenReturnSameData() {
+        Data data = newData(0, repetitivePayload(CompressedData.MIN_COMPRESSIBLE_SIZE - 1));
+
+        assertSame(data, CompressedData.compress(data, compressor));
+    }
+
+    @Test
+    public void testCompress_whenIncompressible_thenReturnSameData() {
+        byte[] payload = new byte[1000];
+        new Random().nextBytes(payload);
+        Data data = newData(0, payload);
+
+        assertSame(data, CompressedData.compress(data, compressor));
+    }
+
+    @Test
+    public void testCompress_whenAlreadyCompressed_thenReturnSameData() {
+        Data compressed = CompressedData.compress(newData(0, repetitivePayload(1000)), compressor);
+
+        assertSame(compressed, CompressedData.compress(compressed, compressor));
+    }
+
+    @Test
+    public void testCompress_whenCompressible_thenBehaveLikeOriginalData() {
+        Data data = newData(0, repetitivePayload(1000));
+
+        Data compressed = CompressedData.compress(data, compressor);
+
+        assertInstanceOf(CompressedData.class, compressed);
+        assertTrue(compressed.getHeapCost() < data.getHeapCost());
+        assertArrayEquals(data.toByteArray(), compressed.toByteArray());
+        assertEquals(data.getType(), compressed.getType());
+        assertEquals(data.totalSize(), compressed.totalSize());
+        assertEquals(data.dataSize(), compressed.dataSize());
+        assertEquals(data.hashCode(), compressed.hashCode());
+        assertEquals(data.hash64(), compressed.hash64());
+        assertEquals(data.getPartitionHash(), compressed.getPartitionHash());
+        assertFalse(compressed.hasPartitionHash());
+        assertFalse(compressed.isPortable());
+        assertEquals(data, compressed);
+        assertEquals(compressed, data);
+    }
+
+    @Test
+    public void testCompress_whenPartitionHashSet_thenKeepIt() {
+        Data data = newData(123, repetitivePayload(1000));
+
+        Data compressed = CompressedData.compress(data, compressor);
+
+        assertTrue(compressed.hasPartitionHash());
+        assertEquals(123, compressed.getPartitionHash());
+        assertArrayEquals(data.toByteArray(), compressed.toByteArray());
+    }
+
+    @Test
+    public void testEquals_whenPayloadDiffers_thenNotEqual() {
+        byte[] payload = repetitivePayload(1000);
+        Data compressed = CompressedData.compress(newData(0, payload), compressor);
+        payload[500]++;
+        Data other = newData(0, payload);
+
+        assertNotEquals(compressed, other);
+        assertNotEquals(other, compressed);
+        assertNotEquals(compressed, CompressedData.compress(other, compressor));
+    }
+
+    private static byte[] repetitivePayload(int length) {
+        byte[] payload = new byte[length];
+        for (int i = 0; i < length; i++) {
+            payload[i] = (byte) (i % 10);
+        }
+        return payload;
+    }
+
+    private static Data newData(int partitionHash, byte[] payload) {
+        byte[] bytes = new byte[DATA_OFFSET + payload.length];
+        Bits.writeIntB(bytes, PARTITION_HASH_OFFSET, partitionHash);
+        Bits.writeIntB(bytes, TYPE_OFFSET, TYPE);
+        System.arraycopy(payload, 0, bytes, DATA_OFFSET, payload.length);
+        return new HeapData(bytes);
+    }
+}
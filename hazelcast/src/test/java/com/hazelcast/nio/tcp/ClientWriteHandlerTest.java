@@ -1,6 +1,7 @@
 package com.hazelcast.nio.tcp;
 
 import com.hazelcast.client.impl.protocol.ClientMessage;
+import com.hazelcast.client.impl.protocol.ClientMessageBatch;
 import com.hazelcast.client.impl.protocol.util.SafeBuffer;
 import com.hazelcast.test.HazelcastParallelClassRunner;
 import com.hazelcast.test.HazelcastTestSupport;
@@ -12,6 +13,8 @@ import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
@@ -43,4 +46,34 @@ public class ClientWriteHandlerTest extends HazelcastTestSupport {
         assertEquals(message.getPartitionId(), clone.getPartitionId());
         assertEquals(message.getMessageType(), clone.getMessageType());
     }
+
+    @Test
+    public void testBatch_writtenOverMultipleCalls() throws Exception {
+        List<ClientMessage> messages = new ArrayList<ClientMessage>();
+        for (int i = 0; i < 3; i++) {
+            messages.add(ClientMessage.createForEncode(100)
+                    .setPartitionId(i)
+                    .setMessageType(i + 1));
+        }
+        ClientMessageBatch batch = new ClientMessageBatch(messages);
+
+        ByteBuffer written = ByteBuffer.allocate(1000);
+        ByteBuffer bb = ByteBuffer.allocate(8);
+        boolean result;
+        do {
+            result = writeHandler.onWrite(batch, bb);
+            bb.flip();
+            written.put(bb);
+            bb.clear();
+        } while (!result);
+
+        int offset = 0;
+        for (ClientMessage message : messages) {
+            ClientMessage clone = ClientMessage.createForDecode(new SafeBuffer(written.array()), offset);
+            assertEquals(message.getPartitionId(), clone.getPartitionId());
+            assertEquals(message.getMessageType(), clone.getMessageType());
+            offset += clone.getFrameLength();
+        }
+        assertEquals(written.position(), offset);
+    }
 }
@@ -227,6 +227,37 @@ public class FieldGetterTest {
         assertNull(result);
     }
 
+    @Test
+    public void getValue_whenPrimitiveField_thenReturnBoxedValue() throws Exception {
+        Primitives primitives = new Primitives();
+
+        assertEquals(primitives.intValue, getPrimitive(primitives, "intValue"));
+        assertEquals(primitives.longValue, getPrimitive(primitives, "longValue"));
+        assertEquals(primitives.doubleValue, getPrimitive(primitives, "doubleValue"));
+        assertEquals(primitives.floatValue, getPrimitive(primitives, "floatValue"));
+        assertEquals(primitives.shortValue, getPrimitive(primitives, "shortValue"));
+        assertEquals(primitives.byteValue, getPrimitive(primitives, "byteValue"));
+        assertEquals(primitives.charValue, getPrimitive(primitives, "charValue"));
+        assertEquals(primitives.booleanValue, getPrimitive(primitives, "booleanValue"));
+        assertEquals(primitives.volatileIntValue, getPrimitive(primitives, "volatileIntValue"));
+    }
+
+    @Test
+    public void getValue_whenFieldIsInheritedAndTargetIsSubclass_thenReturnTheValue() throws Exception {
+        Field field = Limb.class.getDeclaredField("name");
+        FieldGetter getter = new FieldGetter(null, field, null, null);
+
+        assertEquals("finger", getter.getValue(new Finger("finger")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void getValue_whenTargetIsNotInstanceOfDeclaringClass_thenThrowIllegalArgumentException() throws Exception {
+        Field field = Limb.class.getDeclaredField("name");
+        FieldGetter getter = new FieldGetter(null, field, null, null);
+
+        getter.getValue(redNail);
+    }
+
     @Test
     public void getReturnType_whenSetExplicitly_thenReturnIt() {
         FieldGetter getter = new FieldGetter(null, limbCollectionField, "[any]", Limb.class);
@@ -259,6 +290,11 @@ public class FieldGetterTest {
         assertEquals(Limb[].class, returnType);
     }
 
+    private static Object getPrimitive(Primitives primitives, String fieldName) throws Exception {
+        Field field = Primitives.class.getDeclaredField(fieldName);
+        return new FieldGetter(null, field, null, null).getValue(primitives);
+    }
+
     private void assertContainsInAnyOrder(MultiResult multiResult, Object... items) {
         List results = multiResult.getResults();
         if (results.size() != items.length) {
@@ -295,6 +331,25 @@ public class FieldGetterTest {
         }
     }
 
+    static class Finger extends Limb {
+
+        Finger(String name) {
+            super(name);
+        }
+    }
+
+    static class Primitives {
+        int intValue = Integer.MIN_VALUE;
+        long longValue = Long.MAX_VALUE;
+        double doubleValue = 1.5d;
+        float floatValue = -2.5f;
+        short shortValue = Short.MIN_VALUE;
+        byte byteValue = Byte.MAX_VALUE;
+        char charValue = 'z';
+        boolean booleanValue = true;
+        volatile int volatileIntValue = 42;
+    }
+
     static class Nail {
         String colour;
 
@@ -16,19 +16,42 @@
 
 package com.hazelcast.query.impl.predicates;
 
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.query.impl.QueryEntry;
+import com.hazelcast.query.impl.getters.Extractors;
 import com.hazelcast.test.HazelcastParallelClassRunner;
 import com.hazelcast.test.annotation.ParallelTest;
 import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 
+import static com.hazelcast.mock.MockUtil.delegateTo;
+import static com.hazelcast.query.QueryConstants.KEY_ATTRIBUTE_NAME;
+import static com.hazelcast.query.QueryConstants.THIS_ATTRIBUTE_NAME;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @RunWith(HazelcastParallelClassRunner.class)
 @Category({QuickTest.class, ParallelTest.class})
 public class EqualPredicateTest {
 
+    private InternalSerializationService serializationService;
+
+    @Before
+    public void setup() {
+        // delegating mock, so we can verify that nothing gets deserialized
+        serializationService = mock(InternalSerializationService.class,
+                delegateTo(new DefaultSerializationServiceBuilder().build()));
+    }
+
     @Test
     public void negate_thenReturnNotEqualPredicate() {
         EqualPredicate equalPredicate = new EqualPredicate("foo", 1);
@@ -37,4 +60,51 @@ public class EqualPredicateTest {
         assertEquals("foo", negate.attributeName);
         assertEquals(1, negate.value);
     }
+
+    @Test
+    public void apply_whenKeyEqual_thenMatchesWithoutDeserialization() {
+        QueryEntry entry = entry(5, "foo");
+
+        assertTrue(new EqualPredicate(KEY_ATTRIBUTE_NAME.value(), 5).apply(entry));
+        assertFalse(new EqualPredicate(KEY_ATTRIBUTE_NAME.value(), 6).apply(entry));
+        verify(serializationService, never()).toObject(any());
+    }
+
+    @Test
+    public void apply_whenBinaryValueEqual_thenMatchesWithoutDeserialization() {
+        QueryEntry entry = entry(5, "foo");
+
+        assertTrue(new EqualPredicate(THIS_ATTRIBUTE_NAME.value(), "foo").apply(entry));
+        assertFalse(new EqualPredicate(THIS_ATTRIBUTE_NAME.value(), "bar").apply(entry));
+        verify(serializationService, never()).toObject(any());
+    }
+
+    @Test
+    public void apply_whenTypesDiffer_thenFallsBackToConversion() {
+        QueryEntry entry = entry(5L, "foo");
+
+        assertTrue(new EqualPredicate(KEY_ATTRIBUTE_NAME.value(), 5).apply(entry));
+        assertFalse(new EqualPredicate(KEY_ATTRIBUTE_NAME.value(), 6).apply(entry));
+    }
+
+    @Test
+    public void apply_whenValueInObjectForm() {
+        QueryEntry entry = new QueryEntry(serializationService, serializationService.toData(5), "foo", Extractors.empty());
+
+        assertTrue(new EqualPredicate(THIS_ATTRIBUTE_NAME.value(), "foo").apply(entry));
+        assertFalse(new EqualPredicate(THIS_ATTRIBUTE_NAME.value(), "bar").apply(entry));
+    }
+
+    @Test
+    public void apply_whenNotEqualPredicate_thenNegatesSerializedComparison() {
+        QueryEntry entry = entry(5, "foo");
+
+        assertFalse(new NotEqualPredicate(THIS_ATTRIBUTE_NAME.value(), "foo").apply(entry));
+        assertTrue(new NotEqualPredicate(THIS_ATTRIBUTE_NAME.value(), "bar").apply(entry));
+    }
+
+    private QueryEntry entry(Object key, Object value) {
+        return new QueryEntry(serializationService, serializationService.toData(key), serializationService.toData(value),
+                Extractors.empty());
+    }
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.spi.impl.operationservice.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+import com.hazelcast.spi.properties.GroupProperty;
+import com.hazelcast.test.AssertTask;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static java.util.concurrent.TimeUnit.HOURS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelTest.class})
+public class BackupLagTrackerTest extends HazelcastTestSupport {
+
+    private static final int MAX_LAG = 10;
+
+    @Test
+    public void whenDisabled() {
+        HazelcastInstance hz = createHazelcastInstance();
+        BackupLagTracker tracker = ((OperationServiceImpl) getOperationService(hz)).getBackupLagTracker();
+
+        assertFalse(tracker.isEnabled());
+        assertEquals(0, tracker.getMaxLag());
+    }
+
+    @Test
+    public void whenLagExceeded_thenBackupsForcedSync_andLagAcknowledgedEventually() {
+        Config config = new Config()
+                .setProperty(GroupProperty.BACKUP_ASYNC_MAX_LAG.getName(), String.valueOf(MAX_LAG))
+                .setProperty(GroupProperty.BACKUP_ASYNC_ACK_INTERVAL_MILLIS.getName(), "1000");
+        config.getMapConfig("default").setBackupCount(0).setAsyncBackupCount(1);
+        HazelcastInstance[] cluster = createHazelcastInstanceFactory(2).newInstances(config);
+        warmUpPartitions(cluster);
+        HazelcastInstance local = cluster[0];
+
+        String key = generateKeyOwnedBy(local);
+        IMap<String, Integer> map = local.getMap(randomMapName());
+        for (int i = 0; i < MAX_LAG * MAX_LAG; i++) {
+            map.put(key, i);
+        }
+
+        final BackupLagTracker tracker = ((OperationServiceImpl) getOperationService(local)).getBackupLagTracker();
+        assertTrue(tracker.forcedSyncCount.get() > 0);
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() throws Exception {
+                assertEquals(0, tracker.getMaxLag());
+            }
+        });
+    }
+
+    @Test
+    public void whenBackupReplicaGone_thenLagReset() {
+        Config config = new Config()
+                .setProperty(GroupProperty.BACKUP_ASYNC_MAX_LAG.getName(), String.valueOf(MAX_LAG))
+                .setProperty(GroupProperty.BACKUP_ASYNC_ACK_INTERVAL_MILLIS.getName(), String.valueOf(HOURS.toMillis(1)));
+        config.getMapConfig("default").setBackupCount(0).setAsyncBackupCount(1);
+        HazelcastInstance[] cluster = createHazelcastInstanceFactory(2).newInstances(config);
+        warmUpPartitions(cluster);
+        HazelcastInstance local = cluster[0];
+
+        String key = generateKeyOwnedBy(local);
+        IMap<String, Integer> map = local.getMap(randomMapName());
+        for (int i = 0; i < MAX_LAG / 2; i++) {
+            map.put(key, i);
+        }
+
+        final BackupLagTracker tracker = ((OperationServiceImpl) getOperationService(local)).getBackupLagTracker();
+        assertTrue(tracker.getMaxLag() > 0);
+
+        cluster[1].shutdown();
+
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() throws Exception {
+                assertEquals(0, tracker.getMaxLag());
+            }
+        });
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2008-2016, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.util;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelTest.class})
+public class SpaceSavingCounterTest extends HazelcastTestSupport {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructor_whenCapacityZero() {
+        new SpaceSavingCounter<String>(0);
+    }
+
+    @Test
+    public void testAdd_whenWithinCapacity_thenExactCounts() {
+        SpaceSavingCounter<String> counter = new SpaceSavingCounter<String>(3);
+        counter.add("a");
+        counter.add("b");
+        counter.add("b");
+        counter.add("c");
+        counter.add("b");
+        counter.add("a");
+
+        List<SpaceSavingCounter.Entry<String>> entries = counter.getEntries();
+
+        assertEquals(3, entries.size());
+        assertEntry(entries.get(0), "b", 3, 0);
+        assertEntry(entries.get(1), "a", 2, 0);
+        assertEntry(entries.get(2), "c", 1, 0);
+    }
+
+    @Test
+    public void testAdd_whenCapacityExceeded_thenMinimumReplaced() {
+        SpaceSavingCounter<String> counter = new SpaceSavingCounter<String>(2);
+        counter.add("a");
+        counter.add("a");
+        counter.add("a");
+        counter.add("b");
+        counter.add("c");
+
+        List<SpaceSavingCounter.Entry<String>> entries = counter.getEntries();
+
+        assertEquals(2, entries.size());
+        assertEntry(entries.get(0), "a", 3, 0);
+        assertEntry(entries.get(1), "c", 2, 1);
+    }
+
+    @Test
+    public void testAdd_whenSkewedStream_thenHeavyHittersFound() {
+        SpaceSavingCounter<Integer> counter = new SpaceSavingCounter<Integer>(10);
+        for (int i = 0; i < 10000; i++) {
+            counter.add(i % 5 == 0 ? -1 : i);
+            if (i % 10 == 0) {
+                counter.add(-2);
+            }
+        }
+
+        List<SpaceSavingCounter.Entry<Integer>> entries = counter.getEntries();
+
+        SpaceSavingCounter.Entry<Integer> first = entries.get(0);
+        assertEquals(-1, (int) first.getItem());
+        assertTrue(first.getCount() - first.getError() <= 2000);
+        assertTrue(first.getCount() >= 2000);
+        SpaceSavingCounter.Entry<Integer> second = entries.get(1);
+        assertEquals(-2, (int) second.getItem());
+        assertTrue(second.getCount() >= 1000);
+    }
+
+    @Test
+    public void testDrain() {
+        SpaceSavingCounter<String> counter = new SpaceSavingCounter<String>(2);
+        counter.add("a");
+
+        List<SpaceSavingCounter.Entry<String>> entries = counter.drain();
+
+        assertEquals(1, entries.size());
+        assertTrue(counter.getEntries().isEmpty());
+    }
+
+    @Test
+    public void testAdd_whenCapacityExceeded_thenCountsSumToStreamLength() {
+        SpaceSavingCounter<Integer> counter = new SpaceSavingCounter<Integer>(4);
+        for (int i = 0; i < 1000; i++) {
+            counter.add(i % 3 == 0 ? -1 : i % 13);
+        }
+
+        List<SpaceSavingCounter.Entry<Integer>> entries = counter.getEntries();
+
+        assertEquals(4, entries.size());
+        long sum = 0;
+        for (int i = 0; i < entries.size(); i++) {
+            sum += entries.get(i).getCount();
+            if (i > 0) {
+                assertTrue(entries.get(i - 1).getCount() >= entries.get(i).getCount());
+            }
+        }
+        assertEquals(1000, sum);
+        assertEquals(-1, (int) entries.get(0).getItem());
+    }
+
+    @Test
+    public void testAdd_afterDrain() {
+        SpaceSavingCounter<String> counter = new SpaceSavingCounter<String>(1);
+        counter.add("a");
+        counter.add("a");
+        counter.drain();
+        counter.add("b");
+
+        List<SpaceSavingCounter.Entry<String>> entries = counter.getEntries();
+
+        assertEquals(1, entries.size());
+        assertEntry(entries.get(0), "b", 1, 0);
+    }
+
+    private static <T> void assertEntry(SpaceSavingCounter.Entry<T> entry, T item, long count, long error) {
+        assertEquals(item, entry.getItem());
+        assertEquals(count, entry.getCount());
+        assertEquals(error, entry.getError());
+    }
+}